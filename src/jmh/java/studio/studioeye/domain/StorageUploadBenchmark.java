@@ -0,0 +1,157 @@
+package studio.studioeye.domain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import studio.studioeye.domain.email.service.EmailOutboxService;
+import studio.studioeye.domain.notification.application.NotificationService;
+import studio.studioeye.domain.project.application.ProjectImageVariantService;
+import studio.studioeye.domain.project.application.ProjectService;
+import studio.studioeye.domain.project.dao.ProjectRepository;
+import studio.studioeye.domain.project.dto.request.CreateProjectServiceRequestDto;
+import studio.studioeye.domain.request.application.RequestService;
+import studio.studioeye.domain.request.dao.RequestRepository;
+import studio.studioeye.domain.request.dto.request.CreateRequestServiceDto;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.infrastructure.redis.InMemoryRedisService;
+import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.infrastructure.s3.S3ImageVariantGenerator;
+import studio.studioeye.infrastructure.s3.S3UploadPipeline;
+import studio.studioeye.infrastructure.s3.VersionedAssetRegistry;
+import studio.studioeye.infrastructure.storage.InMemoryBlobStore;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 8개가 붙은 프로젝트 등록과 문의 등록을 서비스 단에서 잰다. 프로젝트는 업로드 파이프라인으로 동시에, 문의는 한 장씩 올린다.
+ * 저장소는 InMemoryBlobStore에 호출마다 latencyMillis만큼 지연을 넣어 S3 왕복을 흉내 낸다. 0이면 저장소 비용을 뺀 순수 서버 비용이다.
+ * DB는 저장한 엔티티를 그대로 돌려주는 저장소와 아무것도 하지 않는 트랜잭션 관리자로,
+ * 알림·메일·썸네일은 아무것도 하지 않는 구현으로 바꿔 업로드와 서비스 코드만 잰다.
+ * S3Adapter는 UUID 키(aws.s3.content-addressed=false) 경로만 쓰므로 참조 카운터와 삭제 큐 없이 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageUploadBenchmark {
+
+    private static final int FILES_PER_REQUEST = 8;
+    private static final int FILE_SIZE = 256 * 1024;
+
+    @Param({"0", "20"})
+    private long latencyMillis;
+
+    private List<MultipartFile> files;
+    private InMemoryBlobStore blobStore;
+    private ProjectService projectService;
+    private RequestService requestService;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        blobStore = new InMemoryBlobStore("http://localhost:8080/", latencyMillis);
+        S3Adapter s3Adapter = new S3Adapter(blobStore, new VersionedAssetRegistry(blobStore, new InMemoryRedisService()), null, null);
+        executor = Executors.newFixedThreadPool(FILES_PER_REQUEST);
+        S3UploadPipeline pipeline = new S3UploadPipeline(s3Adapter, new SimpleMeterRegistry(), executor);
+
+        ProjectRepository projectRepository = repository(ProjectRepository.class);
+        // 썸네일 변환 작업은 버린다. 변환 비용은 ImageVariantProcessorBenchmark에서 따로 잰다.
+        S3ImageVariantGenerator variantGenerator = new S3ImageVariantGenerator(blobStore, new SimpleMeterRegistry(), task -> { }, 480, 50_000_000L);
+        ProjectImageVariantService variantService = new ProjectImageVariantService(variantGenerator, projectRepository, null, event -> { });
+        projectService = new ProjectService(projectRepository, s3Adapter, pipeline, null, null, variantService, null, event -> { },
+                new TransactionTemplate(noOpTransactionManager()));
+
+        NotificationService notificationService = new NotificationService(null, null, null, null, null) {
+            @Override
+            public ApiResponse<Long> subscribe(Long requestId) {
+                return ApiResponse.ok("알림을 보냈습니다.");
+            }
+        };
+        EmailOutboxService emailOutboxService = new EmailOutboxService(null, null, null, null, null) {
+            @Override
+            public boolean enqueue(String to, String subject, String text) {
+                return true;
+            }
+        };
+        requestService = new RequestService(repository(RequestRepository.class), null, s3Adapter, null, null,
+                notificationService, emailOutboxService, null);
+
+        Random random = new Random(42);
+        files = new ArrayList<>(FILES_PER_REQUEST);
+        for (int i = 0; i < FILES_PER_REQUEST; i++) {
+            byte[] content = new byte[FILE_SIZE];
+            random.nextBytes(content);
+            files.add(new MockMultipartFile("files", "image-" + i + ".png", "image/png", content));
+        }
+    }
+
+    // 올린 파일이 쌓이면 측정이 길어질수록 힙과 GC 비용이 커지므로 반복마다 저장소를 비운다.
+    @TearDown(Level.Iteration)
+    public void clearBlobStore() {
+        blobStore.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void createProject(Blackhole blackhole) throws IOException {
+        CreateProjectServiceRequestDto dto = new CreateProjectServiceRequestDto(
+                "department", "category", "name", "client", "2024-01-01", "link", "overview", "others", true);
+        blackhole.consume(projectService.createProject(dto, files.get(0), files.get(1), files.subList(2, FILES_PER_REQUEST)));
+    }
+
+    @Benchmark
+    public void createRequest(Blackhole blackhole) throws IOException {
+        CreateRequestServiceDto dto = new CreateRequestServiceDto(
+                "category", "projectName", "clientName", "organization", "010-0000-0000",
+                "client@example.com", "position", "description");
+        blackhole.consume(requestService.createRequest(dto, files));
+    }
+
+    private static PlatformTransactionManager noOpTransactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+    }
+
+    // 저장하면 받은 엔티티를 그대로 돌려주고, 개수는 0, 목록 조회는 빈 목록을 돌려주는 저장소.
+    @SuppressWarnings("unchecked")
+    private static <T> T repository(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+            case "save", "saveAndFlush" -> args[0];
+            case "count" -> 0L;
+            case "findByProjectType" -> List.of();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> type.getSimpleName() + " stub";
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package studio.studioeye.global.common.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기간별 통계의 빈 달 채우기 비교.
+ * legacyGapFill은 MonthlySeries 도입 전 ViewsService의 방식(달마다 목록 전체를 훑고 List.add(index, ...)로 삽입)이다.
+ * 조회 결과는 세 달에 한 번꼴로만 존재한다고 가정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MonthlySeriesBenchmark {
+
+    @Param({"12", "60", "240"})
+    private int months;
+
+    private YearMonth start;
+    private YearMonth end;
+    private List<long[]> rows;
+
+    @Setup
+    public void setUp() {
+        start = YearMonth.of(2000, 1);
+        end = start.plusMonths(months - 1);
+        rows = new ArrayList<>();
+        for (YearMonth yearMonth = start; !yearMonth.isAfter(end); yearMonth = yearMonth.plusMonths(3)) {
+            rows.add(new long[]{yearMonth.getYear(), yearMonth.getMonthValue(), 10L});
+        }
+    }
+
+    @Benchmark
+    public void legacyGapFill(Blackhole blackhole) {
+        List<long[]> viewsList = new ArrayList<>(rows);
+        for (int year = start.getYear(); year <= end.getYear(); year++) {
+            int monthStart = (year == start.getYear()) ? start.getMonthValue() : 1;
+            int monthEnd = (year == end.getYear()) ? end.getMonthValue() : 12;
+            for (int month = monthStart; month <= monthEnd; month++) {
+                boolean found = false;
+                int index = 0;
+                for (long[] view : viewsList) {
+                    if (view[0] == year && view[1] == month) {
+                        found = true;
+                        break;
+                    } else if (view[0] < year || (view[0] == year && view[1] < month)) {
+                        index++;
+                    }
+                }
+                if (!found) {
+                    viewsList.add(index, new long[]{year, month, 0L});
+                }
+            }
+        }
+        blackhole.consume(viewsList);
+    }
+
+    @Benchmark
+    public void monthlySeries(Blackhole blackhole) {
+        MonthlySeries<long[]> series = MonthlySeries.of(start, end);
+        for (long[] view : rows) {
+            series.put((int) view[0], (int) view[1], view);
+        }
+        blackhole.consume(series.toList((year, month, view) -> view != null ? view : new long[]{year, month, 0L}));
+    }
+}
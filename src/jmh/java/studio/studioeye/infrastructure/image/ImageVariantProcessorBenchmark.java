@@ -0,0 +1,71 @@
+package studio.studioeye.infrastructure.image;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원본 한 장으로 480px 썸네일을 만드는 비용 비교.
+ * naiveResize는 원본 전체를 디코딩한 뒤 한 번에 줄이고 기본 설정으로 JPEG를 쓰는 방식이다.
+ * 원본은 사진처럼 압축이 잘 되지 않도록 노이즈를 섞은 JPEG로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageVariantProcessorBenchmark {
+
+    private static final int THUMBNAIL_WIDTH = 480;
+
+    @Param({"1920x1080", "4032x3024"})
+    private String size;
+
+    private byte[] original;
+    private ImageVariantProcessor processor;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] dimensions = size.split("x");
+        int width = Integer.parseInt(dimensions[0]);
+        int height = Integer.parseInt(dimensions[1]);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(32);
+                image.setRGB(x, y, ((x * 255 / width + noise) & 0xff) << 16 | ((y * 255 / height + noise) & 0xff) << 8 | noise);
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        original = output.toByteArray();
+        processor = new ImageVariantProcessor(50_000_000L);
+    }
+
+    @Benchmark
+    public void naiveResize(Blackhole blackhole) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(original));
+        int height = image.getHeight() * THUMBNAIL_WIDTH / image.getWidth();
+        BufferedImage thumbnail = new BufferedImage(THUMBNAIL_WIDTH, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        graphics.drawImage(image, 0, 0, THUMBNAIL_WIDTH, height, null);
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "jpg", output);
+        blackhole.consume(output.toByteArray());
+    }
+
+    @Benchmark
+    public void processorResize(Blackhole blackhole) throws IOException {
+        blackhole.consume(processor.resize(new ByteArrayInputStream(original), THUMBNAIL_WIDTH));
+    }
+}
@@ -0,0 +1,52 @@
+package studio.studioeye.infrastructure.redis;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크에서 Redis 없이 RedisService를 쓰기 위한 메모리 구현. 벤치마크가 거치는 해시 명령만 흉내 낸다.
+ */
+public class InMemoryRedisService extends RedisService {
+
+    private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+
+    public InMemoryRedisService() {
+        super(null);
+    }
+
+    @Override
+    public void setHashOps(String key, Map<String, String> data) {
+        hash(key).putAll(data);
+    }
+
+    @Override
+    public String getHashOps(String key, String hashKey) {
+        return hash(key).getOrDefault(hashKey, "");
+    }
+
+    @Override
+    public boolean setHashOpsIfAbsent(String key, String hashKey, String data) {
+        return hash(key).putIfAbsent(hashKey, data) == null;
+    }
+
+    @Override
+    public Long incrementHashOps(String key, String hashKey, long delta) {
+        return Long.parseLong(hash(key).merge(hashKey, String.valueOf(delta),
+                (old, added) -> String.valueOf(Long.parseLong(old) + Long.parseLong(added))));
+    }
+
+    @Override
+    public Map<String, String> getAllHashOps(String key) {
+        return new HashMap<>(hash(key));
+    }
+
+    @Override
+    public void deleteHashOps(String key, String hashKey) {
+        hash(key).remove(hashKey);
+    }
+
+    private Map<String, String> hash(String key) {
+        return hashes.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+    }
+}
@@ -4,9 +4,13 @@ import studio.studioeye.domain.benefit.application.BenefitService;
 import studio.studioeye.domain.benefit.domain.Benefit;
 import studio.studioeye.domain.benefit.dto.request.CreateBenefitRequestDto;
 import studio.studioeye.domain.benefit.dto.request.UpdateBenefitRequestDto;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ResponseBodyCache;
 import studio.studioeye.global.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +25,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BenefitController {
     private final BenefitService benefitService;
+    private final ResponseBodyCache responseBodyCache;
 
     @Operation(summary = "혜택 정보 등록 API")
     @PostMapping("/benefit")
@@ -31,8 +36,9 @@ public class BenefitController {
 
     @Operation(summary = "혜택 정보 조회 API")
     @GetMapping("/benefit")
-    public ApiResponse<List<Benefit>> retrieveBenefit() {
-        return benefitService.retrieveBenefit();
+    public ApiResponse<List<Benefit>> retrieveBenefit(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        responseBodyCache.write(ContentAggregate.BENEFIT, request, response, benefitService::retrieveBenefit);
+        return null;
     }
 
     @Operation(summary = "혜택 정보 수정 API")
@@ -42,6 +48,12 @@ public class BenefitController {
         return benefitService.updateBenefit(dto.toServiceRequest(), file);
     }
 
+    @Operation(summary = "혜택 이미지 업로드 완료 API (업로드 티켓으로 S3에 직접 올린 이미지로 교체)")
+    @PutMapping("/benefit/{benefitId}/image/uploads/{ticket}")
+    public ApiResponse<Benefit> completeBenefitImageUpload(@PathVariable Long benefitId, @PathVariable String ticket) {
+        return benefitService.completeBenefitImageUpload(benefitId, ticket);
+    }
+
     @Operation(summary = "혜택 텍스트(이미지 제외) 정보 수정 API")
     @PutMapping("/benefit/modify")
     public ApiResponse<Benefit> updateBenefitText(@Valid @RequestPart("request") UpdateBenefitRequestDto dto) {
@@ -4,13 +4,20 @@ import studio.studioeye.domain.benefit.dao.BenefitRepository;
 import studio.studioeye.domain.benefit.domain.Benefit;
 import studio.studioeye.domain.benefit.dto.request.CreateBenefitServiceRequestDto;
 import studio.studioeye.domain.benefit.dto.request.UpdateBenefitServiceRequestDto;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentChangedEvent;
 import studio.studioeye.global.common.response.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import studio.studioeye.global.exception.error.ErrorCode;
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.infrastructure.s3.S3PresignedUploader;
+import studio.studioeye.infrastructure.s3.UploadedFile;
 
 import java.io.IOException;
 import java.util.List;
@@ -22,6 +29,9 @@ import java.util.Optional;
 public class BenefitService {
     private final BenefitRepository benefitRepository;
     private final S3Adapter s3Adapter;
+    private final S3PresignedUploader s3PresignedUploader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     public ApiResponse<Benefit> createBenefit(CreateBenefitServiceRequestDto dto, MultipartFile file) throws IOException {
         if(file.isEmpty()) {
@@ -35,6 +45,7 @@ public class BenefitService {
         String imageFileName = file.getOriginalFilename();
         Benefit benefit = dto.toEntity(imageUrl, imageFileName);
         Benefit savedBenefit = benefitRepository.save(benefit);
+        publishContentChanged();
         return ApiResponse.ok("혜택 정보를 성공적으로 등록하였습니다.", savedBenefit);
     }
 
@@ -53,20 +64,56 @@ public class BenefitService {
         }
         Benefit benefit = optionalBenefit.get();
         if(!file.isEmpty()) {
-            s3Adapter.deleteFile(benefit.getImageFileName());
             ApiResponse<String> updateFileResponse = s3Adapter.uploadFile(file);
             if (updateFileResponse.getStatus().is5xxServerError()) {
                 return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
             }
+            s3Adapter.releaseFile(benefit.getImageUrl());
             benefit.setImageUrl(updateFileResponse.getData());
             benefit.setImageFileName(file.getOriginalFilename());
         }
         benefit.setTitle(dto.title());
         benefit.setContent(dto.content());
         Benefit savedBenefit = benefitRepository.save(benefit);
+        publishContentChanged();
         return ApiResponse.ok("혜택 정보를 성공적으로 수정했습니다.", savedBenefit);
     }
 
+    // 클라이언트가 업로드 티켓으로 S3에 직접 올린 이미지로 혜택 이미지를 바꾼다.
+    // S3 안의 복사가 끝날 때까지 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 옮기고, 옮긴 뒤에 짧은 트랜잭션으로 바꾼다.
+    // 그 사이 혜택이 지워졌거나 저장하지 못하면, DB에 남지 않은 객체이므로 바로 지운다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ApiResponse<Benefit> completeBenefitImageUpload(Long benefitId, String ticket) {
+        if(!benefitRepository.existsById(benefitId)) {
+            return ApiResponse.withError(ErrorCode.INVALID_BENEFIT_ID);
+        }
+        ApiResponse<UploadedFile> uploadResponse = s3PresignedUploader.complete(ticket);
+        if (uploadResponse.getStatus().isError()) {
+            return ApiResponse.of(uploadResponse.getStatus(), uploadResponse.getMessage(), null);
+        }
+        UploadedFile uploadedFile = uploadResponse.getData();
+        ApiResponse<Benefit> response;
+        try {
+            response = transactionTemplate.execute(status -> benefitRepository.findById(benefitId)
+                    .map(benefit -> {
+                        s3Adapter.releaseFile(benefit.getImageUrl());
+                        benefit.setImageUrl(uploadedFile.url());
+                        benefit.setImageFileName(uploadedFile.fileName());
+                        Benefit savedBenefit = benefitRepository.save(benefit);
+                        publishContentChanged();
+                        return ApiResponse.ok("혜택 이미지를 성공적으로 수정했습니다.", savedBenefit);
+                    })
+                    .orElseGet(() -> ApiResponse.withError(ErrorCode.INVALID_BENEFIT_ID)));
+        } catch (RuntimeException e) {
+            s3Adapter.discardFile(uploadedFile.url());
+            throw e;
+        }
+        if (response.getStatus().isError()) {
+            s3Adapter.discardFile(uploadedFile.url());
+        }
+        return response;
+    }
+
     public ApiResponse<Benefit> updateBenefitText(UpdateBenefitServiceRequestDto dto) {
         Optional<Benefit> optionalBenefit = benefitRepository.findById(dto.id());
         if(optionalBenefit.isEmpty()) {
@@ -76,6 +123,7 @@ public class BenefitService {
         benefit.setTitle(dto.title());
         benefit.setContent(dto.content());
         Benefit savedBenefit = benefitRepository.save(benefit);
+        publishContentChanged();
         return ApiResponse.ok("혜택 텍스트 정보를 성공적으로 수정했습니다.", savedBenefit);
     }
 
@@ -85,9 +133,13 @@ public class BenefitService {
             return ApiResponse.withError(ErrorCode.INVALID_BENEFIT_ID);
         }
         Benefit benefit = optionalBenefit.get();
-        String imageFileName = benefit.getImageFileName();
-        s3Adapter.deleteFile(imageFileName);
+        s3Adapter.releaseFile(benefit.getImageUrl());
         benefitRepository.delete(benefit);
+        publishContentChanged();
         return ApiResponse.ok("혜택 정보를 성공적으로 삭제했습니다.");
     }
+
+    private void publishContentChanged() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentAggregate.BENEFIT));
+    }
 }
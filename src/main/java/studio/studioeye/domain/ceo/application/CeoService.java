@@ -55,8 +55,8 @@ public class CeoService {
         String fileName = null;
         List<Ceo> ceoList = ceoRepository.findAll();
         if(!ceoList.isEmpty()) {
-            String ceoImageFileName = ceoList.get(0).getImageFileName();
-            if(ceoImageFileName != null) s3Adapter.deleteFile(ceoImageFileName);
+            String ceoImageUrl = ceoList.get(0).getImageUrl();
+            if(ceoImageUrl != null) s3Adapter.releaseFile(ceoImageUrl);
         }
         if(file != null) {
             ApiResponse<String> updateFileResponse = s3Adapter.uploadFile(file);
@@ -78,8 +78,6 @@ public class CeoService {
         if (ceoList.isEmpty()) {
             return ApiResponse.withError(ErrorCode.CEO_IS_EMPTY);
         }
-        String ceoImageFileName = ceoList.get(0).getImageFileName();
-        if(ceoImageFileName != null) s3Adapter.deleteFile(ceoImageFileName);
         Ceo ceo = ceoList.get(0);
         ceo.updateCeoTextInformation(dto);
         Ceo savedCeo = ceoRepository.save(ceo);
@@ -91,8 +89,8 @@ public class CeoService {
         String fileName = null;
         List<Ceo> ceoList = ceoRepository.findAll();
         if(!ceoList.isEmpty()) {
-            String ceoImageFileName = ceoList.get(0).getImageFileName();
-            if(ceoImageFileName != null) s3Adapter.deleteFile(ceoImageFileName);
+            String ceoImageUrl = ceoList.get(0).getImageUrl();
+            if(ceoImageUrl != null) s3Adapter.releaseFile(ceoImageUrl);
         }
         if(file != null) {
             ApiResponse<String> updateFileResponse = s3Adapter.uploadFile(file);
@@ -115,8 +113,8 @@ public class CeoService {
             return ApiResponse.withError(ErrorCode.CEO_IS_EMPTY);
         }
         Ceo ceo = ceoList.get(0);
-        String ceoImageFileName = ceoList.get(0).getImageFileName();
-        if(ceoImageFileName != null) s3Adapter.deleteFile(ceoImageFileName);
+        String ceoImageUrl = ceoList.get(0).getImageUrl();
+        if(ceoImageUrl != null) s3Adapter.releaseFile(ceoImageUrl);
 
         ceoRepository.delete(ceo);
         return ApiResponse.ok("CEO 정보를 성공적으로 삭제했습니다.");
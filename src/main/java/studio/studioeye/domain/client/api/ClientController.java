@@ -2,17 +2,24 @@ package studio.studioeye.domain.client.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import studio.studioeye.domain.client.application.ClientService;
 import studio.studioeye.domain.client.domain.Client;
 import studio.studioeye.domain.client.dto.request.CreateClientRequestDto;
 import studio.studioeye.domain.client.dto.request.UpdateClientRequestDto;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentVersionRegistry;
+import studio.studioeye.global.common.cache.ResponseBodyCache;
 import studio.studioeye.global.common.response.ApiResponse;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +30,8 @@ import java.util.Map;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ResponseBodyCache responseBodyCache;
+    private final ContentVersionRegistry contentVersionRegistry;
 
     @Operation(summary = "클라이언트 등록 API")
     @PostMapping("/client")
@@ -33,26 +42,30 @@ public class ClientController {
 
     @Operation(summary = "클라이언트 전체 조회 API")
     @GetMapping("/client")
-    public ApiResponse<List<Map<String, Object>>> retrieveAllClient(){
-        return clientService.retrieveAllClient();
+    public ApiResponse<List<Map<String, Object>>> retrieveAllClient(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        responseBodyCache.write(ContentAggregate.CLIENT, request, response, clientService::retrieveAllClient);
+        return null;
     }
 
     @Operation(summary = "클라이언트 상세 조회 API")
     @GetMapping("/client/{clientId}")
-    public ApiResponse<Map<String, Object>> retrieveClient(@PathVariable Long clientId){
+    public ApiResponse<Map<String, Object>> retrieveClient(@PathVariable Long clientId, WebRequest webRequest){
+        if (contentVersionRegistry.checkNotModified(ContentAggregate.CLIENT, webRequest)) return null;
         return clientService.retrieveClient(clientId);
     }
 
     @Operation(summary = "클라이언트 로고 이미지 리스트 조회 API")
     @GetMapping("/client/logoImgList")
-    public ApiResponse<List<String>> retrieveAllClientLogoImgList(){
+    public ApiResponse<List<String>> retrieveAllClientLogoImgList(WebRequest webRequest){
+        if (contentVersionRegistry.checkNotModified(ContentAggregate.CLIENT, webRequest)) return null;
         return clientService.retrieveAllClientLogoImgList();
     }
 
     @Operation(summary = "클라이언트 페이지네이션 조회 API")
     @GetMapping("/client/page")
     public Page<Client> retrieveClientPage(@RequestParam(defaultValue = "0") int page,
-                                           @RequestParam(defaultValue = "10") int size){
+                                           @RequestParam(defaultValue = "10") int size, WebRequest webRequest){
+        if (contentVersionRegistry.checkNotModified(ContentAggregate.CLIENT, webRequest)) return null;
         return clientService.retrieveClientPage(page, size);
     }
 
@@ -1,6 +1,7 @@
 package studio.studioeye.domain.client.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +13,8 @@ import studio.studioeye.domain.client.domain.Client;
 import studio.studioeye.domain.client.dto.request.CreateClientServiceRequestDto;
 import studio.studioeye.domain.client.dto.request.UpdateClientServiceRequestDto;
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentChangedEvent;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 
@@ -24,6 +27,7 @@ public class ClientService {
 
     private final ClientRepository clientRepository;
     private final S3Adapter s3Adapter;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ApiResponse<Client> createClient(CreateClientServiceRequestDto dto, MultipartFile logoImg) {
         String logoImgStr = getImgUrl(logoImg);
@@ -32,6 +36,7 @@ public class ClientService {
         Client client = dto.toEntity(logoImgStr);
 
         Client savedClient = clientRepository.save(client);
+        publishContentChanged();
         return ApiResponse.ok("클라이언트를 성공적으로 등록하였습니다.", savedClient);
     }
 
@@ -110,6 +115,7 @@ public class ClientService {
 
         Client updatedClient = clientRepository.save(client);
         updatedClient.update(dto);
+        publishContentChanged();
         return ApiResponse.ok("클라이언트를 성공적으로 수정했습니다.", updatedClient);
     }
 
@@ -122,6 +128,7 @@ public class ClientService {
         Client client = optionalClient.get();
         client.update(dto);
         Client updatedClient = clientRepository.save(client);
+        publishContentChanged();
         return ApiResponse.ok("클라이언트를 성공적으로 수정했습니다.", updatedClient);
     }
 
@@ -139,6 +146,7 @@ public class ClientService {
         client.setLogoImg(logoImgStr);
 
         Client updatedClient = clientRepository.save(client);
+        publishContentChanged();
         return ApiResponse.ok("클라이언트 로고 이미지를 성공적으로 수정했습니다.", updatedClient);
     }
 
@@ -161,6 +169,11 @@ public class ClientService {
         Client client = optionalClient.get();
         clientRepository.delete(client);
 
+        publishContentChanged();
         return ApiResponse.ok("클라이언트를 성공적으로 삭제했습니다.");
     }
+
+    private void publishContentChanged() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentAggregate.CLIENT));
+    }
 }
@@ -6,12 +6,18 @@ import studio.studioeye.domain.company_information.dao.CompanyIntroductionInform
 import studio.studioeye.domain.company_information.domain.CompanyInformation;
 import studio.studioeye.domain.company_information.domain.CompanyInformationDetailInformation;
 import studio.studioeye.domain.company_information.dto.request.*;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentVersionRegistry;
+import studio.studioeye.global.common.cache.ResponseBodyCache;
 import studio.studioeye.global.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -23,6 +29,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CompanyInformationController {
     private final CompanyInformationService companyInformationService;
+    private final ResponseBodyCache responseBodyCache;
+    private final ContentVersionRegistry contentVersionRegistry;
 
 
     @Operation(summary = "회사 정보 등록 API")
@@ -36,31 +44,36 @@ public class CompanyInformationController {
 
     @Operation(summary = "회사 전체 정보 조회 API")
     @GetMapping("/company/information")
-    public ApiResponse<CompanyInformation> retrieveAllCompanyInformation() {
-        return companyInformationService.retrieveAllCompanyInformation();
+    public ApiResponse<CompanyInformation> retrieveAllCompanyInformation(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        responseBodyCache.write(ContentAggregate.COMPANY_INFORMATION, request, response, companyInformationService::retrieveAllCompanyInformation);
+        return null;
     }
 
     @Operation(summary = "회사 로고 이미지 조회 API")
     @GetMapping("/company/logo/{isLight}")
-    public ApiResponse<String> retrieveCompanyLogoImage(@PathVariable boolean isLight) {
+    public ApiResponse<String> retrieveCompanyLogoImage(@PathVariable boolean isLight, WebRequest webRequest) {
+        if (contentVersionRegistry.checkNotModified(ContentAggregate.COMPANY_INFORMATION, webRequest)) return null;
         return companyInformationService.retrieveCompanyLogoImage(isLight);
     }
 
     @Operation(summary = "회사 기본 정보(주소, 영문주소, 유선번호, 팩스번호) 조회 API")
     @GetMapping("/company/basic")
-    public ApiResponse<CompanyBasicInformation> retrieveCompanyBasicInformation() {
+    public ApiResponse<CompanyBasicInformation> retrieveCompanyBasicInformation(WebRequest webRequest) {
+        if (contentVersionRegistry.checkNotModified(ContentAggregate.COMPANY_INFORMATION, webRequest)) return null;
         return companyInformationService.retrieveCompanyBasicInformation();
     }
 
     @Operation(summary = "회사 소개 정보 조회 API")
     @GetMapping("/company/introduction")
-    public ApiResponse<CompanyIntroductionInformation> retrieveCompanyIntroductionInformation() {
+    public ApiResponse<CompanyIntroductionInformation> retrieveCompanyIntroductionInformation(WebRequest webRequest) {
+        if (contentVersionRegistry.checkNotModified(ContentAggregate.COMPANY_INFORMATION, webRequest)) return null;
         return companyInformationService.retrieveCompanyIntroductionInformation();
     }
 
     @Operation(summary = "회사 5가지 상세 정보 조회 API")
     @GetMapping("/company/detail")
-    public ApiResponse<List<CompanyInformationDetailInformation>> retrieveCompanyDetailInformation() {
+    public ApiResponse<List<CompanyInformationDetailInformation>> retrieveCompanyDetailInformation(WebRequest webRequest) {
+        if (contentVersionRegistry.checkNotModified(ContentAggregate.COMPANY_INFORMATION, webRequest)) return null;
         return companyInformationService.retrieveCompanyDetailInformation();
     }
 
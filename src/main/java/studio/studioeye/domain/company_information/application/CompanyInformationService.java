@@ -8,9 +8,13 @@ import studio.studioeye.domain.company_information.domain.CompanyInformation;
 import studio.studioeye.domain.company_information.domain.CompanyInformationDetailInformation;
 import studio.studioeye.domain.company_information.dto.request.*;
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.infrastructure.s3.VersionedAssetRegistry;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentChangedEvent;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,6 +29,8 @@ public class CompanyInformationService {
 
     private final CompanyInformationRepository companyInformationRepository;
     private final S3Adapter s3Adapter;
+    private final VersionedAssetRegistry versionedAssetRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     public ApiResponse<CompanyInformation> createCompanyInformation(CreateCompanyInformationServiceRequestDto dto,
@@ -74,6 +80,7 @@ public class CompanyInformationService {
         }
         CompanyInformation companyInformation = dto.toEntity(lightLogoImageFileName, lightLogoImageUrl, darkLogoImageFileName, darkLogoImageUrl, sloganImageFileName, sloganImageUrl);
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 정보를 성공적으로 등록하였습니다.", savedCompanyInformation);
     }
 
@@ -97,9 +104,8 @@ public class CompanyInformationService {
         if(logoImageUrls.isEmpty()) {
             return ApiResponse.ok("회사 로고 이미지가 존재하지 않습니다.");
         }
-        String logoImageUrl = logoImageUrls.get(0);
-        String cacheBustedLogoImageUrl = logoImageUrl + "?v=" + System.currentTimeMillis();
-        return ApiResponse.ok("회사 로고 이미지를 성공적으로 조회하였습니다.", cacheBustedLogoImageUrl);
+        String logoImageUrl = versionedAssetRegistry.versionedUrl(logoImageUrls.get(0));
+        return ApiResponse.ok("회사 로고 이미지를 성공적으로 조회하였습니다.", logoImageUrl);
     }
 
     public ApiResponse<CompanyBasicInformation> retrieveCompanyBasicInformation() {
@@ -118,7 +124,7 @@ public class CompanyInformationService {
         }
         CompanyIntroductionInformation companyIntroductionInformation = companyIntroductionInformations.get(0);
 
-        String updatedSloganImageUrl = companyIntroductionInformation.getSloganImageUrl() + "?v=" + System.currentTimeMillis();
+        String updatedSloganImageUrl = versionedAssetRegistry.versionedUrl(companyIntroductionInformation.getSloganImageUrl());
         CompanyIntroductionInformation updatedCompanyIntroInformation = new CompanyIntroductionInformationImpl(companyIntroductionInformation.getIntroduction(), updatedSloganImageUrl);
 
         return ApiResponse.ok("회사 소개 정보를 성공적으로 조회하였습니다.", updatedCompanyIntroInformation);
@@ -154,38 +160,36 @@ public class CompanyInformationService {
         String sloganImageUrl = companyInformations.get(0).getSloganImageUrl();
 
         if(lightLogoImage != null && !lightLogoImage.isEmpty()) {
-            if (lightLogoImageFileName != null) s3Adapter.deleteFile(lightLogoImageFileName);
-
             ApiResponse<String> updateLogoFileResponse = s3Adapter.uploadFile(lightLogoImage);
             if (updateLogoFileResponse.getStatus().is5xxServerError()) {
                 return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
             }
+            if (lightLogoImageUrl != null) s3Adapter.releaseFile(lightLogoImageUrl);
             lightLogoImageUrl = updateLogoFileResponse.getData();
             lightLogoImageFileName = lightLogoImage.getOriginalFilename();
         }
         if(darkLogoImage != null && !darkLogoImage.isEmpty()) {
-            if (darkLogoImageFileName != null) s3Adapter.deleteFile(darkLogoImageFileName);
-
             ApiResponse<String> updateLogoFileResponse = s3Adapter.uploadFile(darkLogoImage);
             if (updateLogoFileResponse.getStatus().is5xxServerError()) {
                 return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
             }
+            if (darkLogoImageUrl != null) s3Adapter.releaseFile(darkLogoImageUrl);
             darkLogoImageUrl = updateLogoFileResponse.getData();
             darkLogoImageFileName = darkLogoImage.getOriginalFilename();
         }
         if(sloganImage != null && !sloganImage.isEmpty()) {
-            if (sloganImageFileName != null) s3Adapter.deleteFile(sloganImageFileName);
-
             ApiResponse<String> updateSloganFileResponse = s3Adapter.uploadFile(sloganImage);
             if (updateSloganFileResponse.getStatus().is5xxServerError()) {
                 return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
             }
+            if (sloganImageUrl != null) s3Adapter.releaseFile(sloganImageUrl);
             sloganImageUrl = updateSloganFileResponse.getData();
             sloganImageFileName = sloganImage.getOriginalFilename();
         }
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.updateAllCompanyInformation(dto, lightLogoImageFileName, lightLogoImageUrl, darkLogoImageFileName, darkLogoImageUrl, sloganImageFileName, sloganImageUrl);
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("전체 회사 정보를 성공적으로 수정했습니다.", savedCompanyInformation);
     }
 
@@ -197,6 +201,7 @@ public class CompanyInformationService {
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.updateAllCompanyTextInformation(dto);
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("전체 회사 정보를 성공적으로 수정했습니다.", savedCompanyInformation);
     }
 
@@ -208,6 +213,7 @@ public class CompanyInformationService {
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.updateCompanyBasicInformation(dto);
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 기본 정보를 성공적으로 수정했습니다.", savedCompanyInformation);
     }
 
@@ -219,11 +225,6 @@ public class CompanyInformationService {
         if (companyInformations.isEmpty()) {
             return ApiResponse.withError(ErrorCode.COMPANYINFORMATION_IS_EMPTY);
         }
-        String fileName = companyInformations.get(0).getLightLogoImageFileName();
-        if(fileName != null) s3Adapter.deleteFile(fileName);
-        fileName = companyInformations.get(0).getDarkLogoImageFileName();
-        if(fileName != null) s3Adapter.deleteFile(fileName);
-
         ApiResponse<String> updateLightLogoFileResponse = s3Adapter.uploadFile(lightLogoImage);
         if (updateLightLogoFileResponse.getStatus().is5xxServerError()) {
             return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
@@ -232,9 +233,15 @@ public class CompanyInformationService {
         if (updateDarkLogoFileResponse.getStatus().is5xxServerError()) {
             return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
         }
+        // 새 이미지를 올린 뒤에 기존 이미지의 참조를 놓는다. 내용이 같으면 같은 객체를 계속 쓴다.
+        String imageUrl = companyInformations.get(0).getLightLogoImageUrl();
+        if(imageUrl != null) s3Adapter.releaseFile(imageUrl);
+        imageUrl = companyInformations.get(0).getDarkLogoImageUrl();
+        if(imageUrl != null) s3Adapter.releaseFile(imageUrl);
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.updateCompanyLogo(lightLogoImage.getOriginalFilename(), updateLightLogoFileResponse.getData(), darkLogoImage.getOriginalFilename(), updateDarkLogoFileResponse.getData());
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 로고 이미지를 성공적으로 수정했습니다.", savedCompanyInformation);
     }
 
@@ -246,16 +253,16 @@ public class CompanyInformationService {
         if (companyInformations.isEmpty()) {
             return ApiResponse.withError(ErrorCode.COMPANYINFORMATION_IS_EMPTY);
         }
-        String fileName = companyInformations.get(0).getSloganImageFileName();
-        if(fileName != null) s3Adapter.deleteFile(fileName);
-
         ApiResponse<String> updateSloganFileResponse = s3Adapter.uploadFile(sloganImageUrl);
         if (updateSloganFileResponse.getStatus().is5xxServerError()) {
             return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
         }
+        String imageUrl = companyInformations.get(0).getSloganImageUrl();
+        if(imageUrl != null) s3Adapter.releaseFile(imageUrl);
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.updateCompanySlogan(sloganImageUrl.getOriginalFilename(), updateSloganFileResponse.getData());
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 슬로건 이미지를 성공적으로 수정했습니다.", savedCompanyInformation);
     }
 
@@ -273,38 +280,36 @@ public class CompanyInformationService {
         String sloganImageUrl = companyInformations.get(0).getSloganImageUrl();
 
         if(lightLogoImage != null && !lightLogoImage.isEmpty()) {
-            if (lightLogoImageFileName != null) s3Adapter.deleteFile(lightLogoImageFileName);
-
             ApiResponse<String> updateLogoFileResponse = s3Adapter.uploadFile(lightLogoImage);
             if (updateLogoFileResponse.getStatus().is5xxServerError()) {
                 return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
             }
+            if (lightLogoImageUrl != null) s3Adapter.releaseFile(lightLogoImageUrl);
             lightLogoImageUrl = updateLogoFileResponse.getData();
             lightLogoImageFileName = lightLogoImage.getOriginalFilename();
         }
         if(darkLogoImage != null && !darkLogoImage.isEmpty()) {
-            if (darkLogoImageFileName != null) s3Adapter.deleteFile(darkLogoImageFileName);
-
             ApiResponse<String> updateLogoFileResponse = s3Adapter.uploadFile(darkLogoImage);
             if (updateLogoFileResponse.getStatus().is5xxServerError()) {
                 return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
             }
+            if (darkLogoImageUrl != null) s3Adapter.releaseFile(darkLogoImageUrl);
             darkLogoImageUrl = updateLogoFileResponse.getData();
             darkLogoImageFileName = darkLogoImage.getOriginalFilename();
         }
         if(sloganImage != null && !sloganImage.isEmpty()) {
-            if (sloganImageFileName != null) s3Adapter.deleteFile(sloganImageFileName);
-
             ApiResponse<String> updateSloganFileResponse = s3Adapter.uploadFile(sloganImage);
             if (updateSloganFileResponse.getStatus().is5xxServerError()) {
                 return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
             }
+            if (sloganImageUrl != null) s3Adapter.releaseFile(sloganImageUrl);
             sloganImageUrl = updateSloganFileResponse.getData();
             sloganImageFileName = sloganImage.getOriginalFilename();
         }
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.updateCompanyLogoAndSlogan(lightLogoImageFileName, lightLogoImageUrl, darkLogoImageFileName, darkLogoImageUrl, sloganImageFileName, sloganImageUrl);
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 로고 이미지와 슬로건 이미지를 성공적으로 수정했습니다.", savedCompanyInformation);
     }
 
@@ -317,6 +322,7 @@ public class CompanyInformationService {
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.updateCompanyIntroductionInformation(dto);
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 소개 정보를 성공적으로 수정했습니다.", savedCompanyInformation);
     }
 
@@ -328,6 +334,7 @@ public class CompanyInformationService {
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.updateCompanyDetailInformation(dto);
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 5가지 상세 정보를 성공적으로 수정했습니다.", savedCompanyInformation);
     }
 
@@ -337,14 +344,15 @@ public class CompanyInformationService {
             ApiResponse.withError(ErrorCode.COMPANYINFORMATION_IS_EMPTY);
         }
         for (CompanyInformation companyInformation : companyInformations) {
-            String lightLogoImageFileName = companyInformation.getLightLogoImageFileName();
-            if(lightLogoImageFileName != null) s3Adapter.deleteFile(lightLogoImageFileName);
-            String darkLogoImageFileName = companyInformation.getDarkLogoImageFileName();
-            if(darkLogoImageFileName != null) s3Adapter.deleteFile(darkLogoImageFileName);
-            String sloganFileName = companyInformation.getSloganImageFileName();
-            if(sloganFileName != null) s3Adapter.deleteFile(sloganFileName);
+            String lightLogoImageUrl = companyInformation.getLightLogoImageUrl();
+            if(lightLogoImageUrl != null) s3Adapter.releaseFile(lightLogoImageUrl);
+            String darkLogoImageUrl = companyInformation.getDarkLogoImageUrl();
+            if(darkLogoImageUrl != null) s3Adapter.releaseFile(darkLogoImageUrl);
+            String sloganImageUrl = companyInformation.getSloganImageUrl();
+            if(sloganImageUrl != null) s3Adapter.releaseFile(sloganImageUrl);
             companyInformationRepository.delete(companyInformation);
         }
+        publishContentChanged();
         return ApiResponse.ok("전체 회사 정보를 성공적으로 삭제했습니다.");
     }
 
@@ -354,13 +362,14 @@ public class CompanyInformationService {
             ApiResponse.withError(ErrorCode.COMPANYINFORMATION_IS_EMPTY);
         }
         for (CompanyInformation companyInformation : companyInformations) {
-            String lightLogoImageFileName = companyInformation.getLightLogoImageFileName();
-            if(lightLogoImageFileName != null) s3Adapter.deleteFile(lightLogoImageFileName);
-            String darkLogoImageFileName = companyInformation.getDarkLogoImageFileName();
-            if(darkLogoImageFileName != null) s3Adapter.deleteFile(darkLogoImageFileName);
+            String lightLogoImageUrl = companyInformation.getLightLogoImageUrl();
+            if(lightLogoImageUrl != null) s3Adapter.releaseFile(lightLogoImageUrl);
+            String darkLogoImageUrl = companyInformation.getDarkLogoImageUrl();
+            if(darkLogoImageUrl != null) s3Adapter.releaseFile(darkLogoImageUrl);
             companyInformation.deleteLogoImage();
             companyInformationRepository.save(companyInformation);
         }
+        publishContentChanged();
         return ApiResponse.ok("회사 로고 이미지를 성공적으로 삭제했습니다.");
     }
 
@@ -372,6 +381,7 @@ public class CompanyInformationService {
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.deleteCompanyBasicInformation();
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 기본 정보를 성공적으로 삭제했습니다.", savedCompanyInformation);
     }
 
@@ -381,12 +391,13 @@ public class CompanyInformationService {
             return ApiResponse.withError(ErrorCode.COMPANYINFORMATION_IS_EMPTY);
         }
         for (CompanyInformation companyInformation : companyInformations) {
-            String fileName = companyInformation.getSloganImageFileName();
-            if(fileName != null) s3Adapter.deleteFile(fileName);
+            String sloganImageUrl = companyInformation.getSloganImageUrl();
+            if(sloganImageUrl != null) s3Adapter.releaseFile(sloganImageUrl);
         }
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.deleteCompanyIntroductionInformation();
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 소개 정보를 성공적으로 삭제했습니다.", savedCompanyInformation);
     }
 
@@ -398,6 +409,11 @@ public class CompanyInformationService {
         CompanyInformation companyInformation = companyInformations.get(0);
         companyInformation.deleteCompanyDetailInformation();
         CompanyInformation savedCompanyInformation = companyInformationRepository.save(companyInformation);
+        publishContentChanged();
         return ApiResponse.ok("회사 5가지 상세 정보를 성공적으로 삭제했습니다.", savedCompanyInformation);
     }
+
+    private void publishContentChanged() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentAggregate.COMPANY_INFORMATION));
+    }
 }
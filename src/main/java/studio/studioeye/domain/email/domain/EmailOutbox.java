@@ -0,0 +1,86 @@
+package studio.studioeye.domain.email.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보낼 메일 한 통. 메일을 만든 트랜잭션과 함께 저장되고, EmailOutboxService가 커밋된 행만 꺼내 보낸다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "email_outbox", indexes = @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"))
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String text;
+
+    @Enumerated(EnumType.STRING)
+    private EmailOutboxStatus status;
+
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public EmailOutbox(String recipient, String subject, String text, LocalDateTime createdAt) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.text = text;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    // 보내는 동안 다른 서버가 같은 메일을 집어가지 않도록 다음 시도 시각을 미뤄 둔다.
+    // 보내는 도중 서버가 죽으면 그 시각이 지난 뒤 다시 보낸다.
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = EmailOutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.lastError = null;
+    }
+
+    public void scheduleRetry(LocalDateTime nextAttemptAt, String error) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void markFailed(String error) {
+        this.status = EmailOutboxStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,7 @@
+package studio.studioeye.domain.email.domain;
+
+public enum EmailOutboxStatus {
+    PENDING,    // 보내기 전이거나 다시 보낼 차례를 기다리는 중
+    SENT,
+    FAILED      // 재시도를 모두 썼거나 다시 보내도 소용없는 실패
+}
@@ -0,0 +1,202 @@
+package studio.studioeye.domain.email.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import studio.studioeye.domain.email.dao.EmailOutboxRepository;
+import studio.studioeye.domain.email.domain.EmailOutbox;
+import studio.studioeye.domain.email.domain.EmailOutboxStatus;
+import studio.studioeye.infrastructure.mail.MailConfig;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메일을 바로 보내지 않고 email_outbox 테이블에 쌓아 두었다가 주기적으로 보낸다.
+ * enqueue는 호출한 트랜잭션에 함께 저장되므로 문의가 롤백되면 메일도 나가지 않고, SMTP가 느리거나 실패해도 문의 등록에는 영향이 없다.
+ * 보내기는 batch-size 단위로 행을 잠그며 가져와 다음 시도 시각을 lease만큼 미뤄 둔 뒤, 트랜잭션 밖에서 SMTP로 보낸다.
+ * 실패하면 backoff-base부터 두 배씩(최대 backoff-max) 늦춰 다시 보내고, max-attempts번 실패하면 FAILED로 남긴다.
+ * 보낸 뒤 결과를 기록하지 못하면 lease가 끝난 뒤 한 번 더 보낼 수 있다(최소 한 번 전달).
+ * 발송은 스케줄러 스레드가 아닌 mailExecutor에서 돌려, SMTP가 느려도 다른 @Scheduled 작업(조회수 반영, SSE heartbeat 등)이 밀리지 않게 한다.
+ * 메일 한 통을 보내는 시간은 email.outbox.dispatch, 쌓인 뒤 실제로 보내지기까지 걸린 시간은 email.outbox.delivery 타이머에 남긴다.
+ */
+@Slf4j
+@Service
+public class EmailOutboxService {
+
+    private static final String DISPATCH_TIMER = "email.outbox.dispatch";
+    private static final String DELIVERY_TIMER = "email.outbox.delivery";
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Executor mailExecutor;
+
+    @Value("${email.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${email.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${email.outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Value("${email.outbox.retention-days:7}")
+    private long retentionDays;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository, EmailService emailService,
+                              TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                              @Qualifier(MailConfig.MAIL_EXECUTOR) Executor mailExecutor) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.mailExecutor = mailExecutor;
+    }
+
+    // 메일 크기가 제한을 넘으면 쌓지 않고 false를 돌려준다.
+    @Transactional
+    public boolean enqueue(String to, String subject, String text) {
+        if (to == null || to.isEmpty()) {
+            throw new IllegalArgumentException("Invalid recipient address");
+        }
+        if (emailService.exceedsMaxSize(subject, text)) {
+            return false;
+        }
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .text(text)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return true;
+    }
+
+    // 스케줄러 스레드는 발송을 넘기기만 하고 바로 돌아온다. 이전 발송이 아직 돌고 있으면 이번 차례는 건너뛴다.
+    @Scheduled(fixedDelayString = "${email.outbox.interval-millis:1000}")
+    public void scheduleDispatch() {
+        try {
+            mailExecutor.execute(this::dispatch);
+        } catch (RejectedExecutionException e) {
+            log.debug("이전 메일 발송이 끝나지 않아 이번 발송을 건너뜁니다.");
+        }
+    }
+
+    public synchronized void dispatch() {
+        List<EmailOutbox> batch;
+        do {
+            batch = claimBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<DispatchResult> results = new ArrayList<>(batch.size());
+            for (EmailOutbox outbox : batch) {
+                results.add(send(outbox));
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyResults(results));
+            } catch (RuntimeException e) {
+                log.warn("메일 발송 결과를 기록하지 못했습니다. 기록하지 못한 메일은 lease가 끝난 뒤 다시 보냅니다. count: {}", results.size(), e);
+                return;
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    // 보낸 지 retention-days가 지난 메일은 지운다. 실패한 메일은 원인을 볼 수 있도록 남겨 둔다.
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        Integer deleted = transactionTemplate.execute(status -> emailOutboxRepository.deleteSentBefore(EmailOutboxStatus.SENT, before));
+        log.info("보낸 지 {}일이 지난 메일 {}건을 정리했습니다.", retentionDays, deleted);
+    }
+
+    private List<EmailOutbox> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> due = emailOutboxRepository.findDueForUpdate(EmailOutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+            due.forEach(outbox -> outbox.claim(now.plusSeconds(leaseSeconds)));
+            return due;
+        });
+    }
+
+    private DispatchResult send(EmailOutbox outbox) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        DispatchResult result;
+        try {
+            if (emailService.sendEmail(outbox.getRecipient(), outbox.getSubject(), outbox.getText())) {
+                result = new DispatchResult(outbox.getId(), Outcome.SENT, null);
+            } else {
+                result = new DispatchResult(outbox.getId(), Outcome.FAILED, "메일 크기가 제한을 넘었습니다.");
+            }
+        } catch (IllegalArgumentException | MailParseException e) {
+            // 주소나 내용이 잘못된 메일은 다시 보내도 실패한다.
+            result = new DispatchResult(outbox.getId(), Outcome.FAILED, e.getMessage());
+        } catch (MailException e) {
+            result = new DispatchResult(outbox.getId(), Outcome.RETRY, e.getMessage());
+        }
+        sample.stop(Timer.builder(DISPATCH_TIMER).tag("outcome", result.outcome().name().toLowerCase()).register(meterRegistry));
+        return result;
+    }
+
+    private void applyResults(List<DispatchResult> results) {
+        Map<Long, DispatchResult> resultById = results.stream()
+                .collect(Collectors.toMap(DispatchResult::id, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailOutbox outbox : emailOutboxRepository.findAllById(resultById.keySet())) {
+            DispatchResult result = resultById.get(outbox.getId());
+            switch (result.outcome()) {
+                case SENT -> {
+                    outbox.markSent(now);
+                    meterRegistry.timer(DELIVERY_TIMER).record(Duration.between(outbox.getCreatedAt(), now));
+                }
+                case FAILED -> {
+                    outbox.markFailed(result.error());
+                    log.warn("메일을 보내지 못했습니다. id: {}, error: {}", outbox.getId(), result.error());
+                }
+                case RETRY -> {
+                    if (outbox.getAttempts() >= maxAttempts) {
+                        outbox.markFailed(result.error());
+                        log.warn("메일을 {}번 보내지 못해 포기합니다. id: {}, error: {}", outbox.getAttempts(), outbox.getId(), result.error());
+                    } else {
+                        outbox.scheduleRetry(now.plus(backoff(outbox.getAttempts())), result.error());
+                    }
+                }
+            }
+        }
+    }
+
+    Duration backoff(int attempts) {
+        long seconds = backoffBaseSeconds << Math.min(attempts - 1, 20);
+        return Duration.ofSeconds(Math.min(seconds, backoffMaxSeconds));
+    }
+
+    private enum Outcome {
+        SENT, RETRY, FAILED
+    }
+
+    private record DispatchResult(Long id, Outcome outcome, String error) {
+    }
+}
@@ -33,6 +33,10 @@ public class EmailService {
         return true;
     }
 
+    public boolean exceedsMaxSize(String subject, String text) {
+        return calculateEmailSize(subject, text) > MAX_EMAIL_SIZE;
+    }
+
     private int calculateEmailSize(String subject, String text) {
         int subjectSize = subject.getBytes().length;
         int textSize = text.getBytes().length;
@@ -2,6 +2,8 @@ package studio.studioeye.domain.faq.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -9,8 +11,11 @@ import studio.studioeye.domain.faq.application.FaqService;
 import studio.studioeye.domain.faq.domain.Faq;
 import studio.studioeye.domain.faq.dto.request.CreateFaqRequestDto;
 import studio.studioeye.domain.faq.dto.request.UpdateFaqRequestDto;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ResponseBodyCache;
 import studio.studioeye.global.common.response.ApiResponse;
 
+import java.io.IOException;
 import java.util.List;
 
 @Tag(name = "FAQ API", description = "FAQ 등록 / 수정 / 삭제 / 조회")
@@ -20,6 +25,7 @@ import java.util.List;
 public class FaqController {
 
     private final FaqService faqService;
+    private final ResponseBodyCache responseBodyCache;
 
     @Operation(summary = "FAQ 등록 API")
     @PostMapping("/faq")
@@ -29,8 +35,9 @@ public class FaqController {
 
     @Operation(summary = "FAQ 전체 조회 API")
     @GetMapping("/faq")
-    public ApiResponse<List<Faq>> retrieveAllFaq() {
-        return faqService.retrieveAllFaq();
+    public ApiResponse<List<Faq>> retrieveAllFaq(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        responseBodyCache.write(ContentAggregate.FAQ, request, response, faqService::retrieveAllFaq);
+        return null;
     }
 
     @Operation(summary = "FAQ 수정 API")
@@ -1,6 +1,7 @@
 package studio.studioeye.domain.faq.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,8 @@ import studio.studioeye.domain.faq.dao.FaqRepository;
 import studio.studioeye.domain.faq.domain.Faq;
 import studio.studioeye.domain.faq.dto.request.CreateFaqServiceRequestDto;
 import studio.studioeye.domain.faq.dto.request.UpdateFaqServiceRequestDto;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentChangedEvent;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 
@@ -22,6 +25,7 @@ import java.util.Optional;
 public class FaqService {
 
     private final FaqRepository faqRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ApiResponse<Faq> createFaq(CreateFaqServiceRequestDto dto){
         if(dto.question().trim().isEmpty() || dto.answer().trim().isEmpty() || dto.visibility() == null) {
@@ -29,6 +33,7 @@ public class FaqService {
         }
         Faq faq = dto.toEntity();
         Faq savedFaq = faqRepository.save(faq);
+        publishContentChanged();
         return ApiResponse.ok("FAQ를 성공적으로 등록하였습니다.", savedFaq);
     }
 
@@ -65,6 +70,7 @@ public class FaqService {
             faq.updateVisibility(visibility);
         }
         Faq updatedFaq = faqRepository.save(faq);
+        publishContentChanged();
         return ApiResponse.ok("FAQ를 성공적으로 수정하였습니다.", updatedFaq);
     }
 
@@ -75,6 +81,11 @@ public class FaqService {
         }
         Faq faq = optionalFaq.get();
         faqRepository.delete(faq);
+        publishContentChanged();
         return ApiResponse.ok("FAQ를 성공적으로 삭제했습니다.");
     }
+
+    private void publishContentChanged() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentAggregate.FAQ));
+    }
 }
@@ -6,10 +6,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import studio.studioeye.domain.news.application.NewsService;
 import studio.studioeye.domain.news.domain.News;
 import studio.studioeye.domain.news.dto.CreateNewsRequestDto;
 import studio.studioeye.domain.news.dto.UpdateNewsRequestDto;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentVersionRegistry;
 import studio.studioeye.global.common.response.ApiResponse;
 
 import java.util.List;
@@ -21,6 +24,7 @@ import java.util.List;
 public class NewsController {
 
     private final NewsService newsService;
+    private final ContentVersionRegistry contentVersionRegistry;
 
     @Operation(summary = "News 등록 API")
     @PostMapping("")
@@ -30,13 +34,15 @@ public class NewsController {
 
     @Operation(summary = "News 전체 조회 API")
     @GetMapping("/all")
-    public ApiResponse<List<News>> retrieveAllNews() {
+    public ApiResponse<List<News>> retrieveAllNews(WebRequest webRequest) {
+        if (contentVersionRegistry.checkNotModified(ContentAggregate.NEWS, webRequest)) return null;
         return newsService.retrieveAllNews();
     }
 
     @Operation(summary = "id로 News 상세 조회 API")
     @GetMapping("/{id}")
-    public ApiResponse<News> retrieveNewsById(@PathVariable Long id) {
+    public ApiResponse<News> retrieveNewsById(@PathVariable Long id, WebRequest webRequest) {
+        if (contentVersionRegistry.checkNotModified(ContentAggregate.NEWS, webRequest)) return null;
         return newsService.retrieveNewsById(id);
     }
 
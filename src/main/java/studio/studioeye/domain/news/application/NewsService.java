@@ -1,6 +1,7 @@
 package studio.studioeye.domain.news.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -10,6 +11,8 @@ import studio.studioeye.domain.news.dao.NewsRepository;
 import studio.studioeye.domain.news.domain.News;
 import studio.studioeye.domain.news.dto.CreateNewsServiceRequestDto;
 import studio.studioeye.domain.news.dto.UpdateNewsServiceRequestDto;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentChangedEvent;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 
@@ -23,6 +26,7 @@ import java.util.Optional;
 public class NewsService {
 
     private final NewsRepository newsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ApiResponse<News> createNews(CreateNewsServiceRequestDto dto)  {
         if(dto.title().trim().isEmpty() || dto.url().trim().isEmpty() || dto.visibility() == null || dto.source().trim().isEmpty() || dto.pubDate() == null) {
@@ -30,6 +34,7 @@ public class NewsService {
         }
         News news = dto.toEntity();
         newsRepository.save(news);
+        publishContentChanged();
         return ApiResponse.ok("News를 성공적으로 등록하였습니다.");
     }
 
@@ -78,6 +83,7 @@ public class NewsService {
         if(visibility != null) {
             news.updateVisibility(visibility);
         }
+        publishContentChanged();
         return ApiResponse.ok("News를 성공적으로 수정하였습니다.");
     }
 
@@ -88,6 +94,11 @@ public class NewsService {
         }
         News news = optionalNews.get();
         newsRepository.delete(news);
+        publishContentChanged();
         return ApiResponse.ok("News를 성공적으로 삭제했습니다.");
     }
+
+    private void publishContentChanged() {
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentAggregate.NEWS));
+    }
 }
@@ -3,7 +3,9 @@ package studio.studioeye.domain.notification.api;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import studio.studioeye.domain.notification.application.NotificationService;
 import studio.studioeye.domain.notification.domain.Notification;
 import studio.studioeye.global.common.response.ApiResponse;
@@ -24,6 +26,13 @@ public class NotificationController {
         return notificationService.subscribe(requestId);
     }
 
+    @Operation(summary = "실시간 알림 구독(SSE) API")
+    @GetMapping(value = "/notification/subscribe/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable("userId") Long userId,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return notificationService.connect(userId, lastEventId);
+    }
+
     @Operation(summary = "모든 알림 조회 API")
     @GetMapping("/notification")
     public ApiResponse<List<Notification>> retrieveAllNotification(){
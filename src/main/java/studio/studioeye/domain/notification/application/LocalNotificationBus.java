@@ -0,0 +1,31 @@
+package studio.studioeye.domain.notification.application;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 서버 한 대에서만 쓰는 알림 버스. 받은 알림을 바로 이 서버의 허브에 넘긴다.
+ * 테스트나 Redis 없이 띄우는 환경에서 Redis pub/sub 대신 쓴다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.bus.mode", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationBus implements NotificationBus {
+
+    private final NotificationHub notificationHub;
+    // 재시작해도 순번이 뒤로 가지 않도록 시작 시각에서 출발한다. 밀리초마다 1000건 넘게 보내지 않는 한 이전 순번보다 크다.
+    private long sequence = System.currentTimeMillis() * 1000;
+
+    public LocalNotificationBus(NotificationHub notificationHub) {
+        this.notificationHub = notificationHub;
+        notificationHub.coverFrom(sequence);
+    }
+
+    // 순번을 정하는 것과 허브에 넘기는 것을 함께 잠가 순번 순서대로 팬아웃되게 한다.
+    @Override
+    public synchronized void publish(Collection<Long> userIds, Object payload) {
+        notificationHub.deliver(++sequence, List.copyOf(userIds), payload);
+    }
+}
@@ -0,0 +1,13 @@
+package studio.studioeye.domain.notification.application;
+
+import java.util.Collection;
+
+/**
+ * 알림을 모든 API 서버에 전하는 통로. 알림마다 순번을 정하고, 각 서버의 {@link NotificationHub}가
+ * 자기에게 연결된 브라우저로 보낸다. 알림을 만든 서버와 관리자가 연결된 서버가 달라도 전달된다.
+ * notification.bus.mode 값에 따라 한 서버 안에서만 전하거나(local, 기본값) Redis pub/sub으로 전한다(redis).
+ */
+public interface NotificationBus {
+
+    void publish(Collection<Long> userIds, Object payload);
+}
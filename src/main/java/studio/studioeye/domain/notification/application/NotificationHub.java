@@ -0,0 +1,161 @@
+package studio.studioeye.domain.notification.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import studio.studioeye.domain.notification.dao.EmitterRepository;
+import studio.studioeye.infrastructure.sse.SseConfig;
+import studio.studioeye.infrastructure.sse.SseConnection;
+import studio.studioeye.infrastructure.sse.SseEmitterFactory;
+import studio.studioeye.infrastructure.sse.SseEventBuffer;
+import studio.studioeye.infrastructure.sse.SseMessage;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이 서버에 연결된 관리자 브라우저와의 SSE 연결을 관리하고, {@link NotificationBus}가 전해 준 알림을 보낸다.
+ * 유저 한 명이 여러 탭에서 연결할 수 있고, 연결마다 크기가 정해진 전송 큐를 둔다.
+ * deliver는 알림을 팬아웃 큐에 넣고 바로 돌아오며, 팬아웃은 executor에서 한 번에 하나씩 받은 순서대로 돈다.
+ * 주기적으로 heartbeat를 보내 끊긴 연결을 찾아 정리한다.
+ *
+ * 알림 이벤트에는 버스가 정한 순번을 id로 붙이고, 유저별로 최근 이벤트를 보관한다.
+ * 브라우저가 다시 연결하며 Last-Event-ID를 보내면 그 뒤의 이벤트를 먼저 보내고,
+ * 보관 범위를 넘었거나 이 서버가 받기 전의 id라 빠짐없이 보낼 수 없으면 resync 이벤트로 알림 목록을 다시 조회하게 한다.
+ */
+@Slf4j
+@Service
+public class NotificationHub {
+
+    static final String CONNECT_EVENT = "connect";
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String RESYNC_EVENT = "resync";
+
+    private final EmitterRepository emitterRepository;
+    private final Executor executor;
+    private final SseEmitterFactory emitterFactory;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+    private final Queue<Delivery> deliveries = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean fanningOut = new AtomicBoolean(false);
+    // 이 순번 뒤의 알림은 모두 받았다. 그 전의 Last-Event-ID로 다시 연결하면 놓친 알림을 알 수 없다.
+    private volatile long coveredFrom = Long.MAX_VALUE;
+    // 연결 등록과 다시 보내기, 이벤트 보관과 큐에 넣기를 한 덩어리로 처리해 연결과 버퍼에 같은 순서로 쌓이게 한다. 실제 전송은 락 밖에서 한다.
+    private final Object fanOutLock = new Object();
+
+    public NotificationHub(EmitterRepository emitterRepository,
+                           @Qualifier(SseConfig.SSE_EXECUTOR) Executor executor,
+                           SseEmitterFactory emitterFactory,
+                           @Value("${notification.sse.timeout-millis:1800000}") long timeoutMillis,
+                           @Value("${notification.sse.queue-capacity:64}") int queueCapacity,
+                           @Value("${notification.sse.replay-capacity:100}") int replayCapacity) {
+        this.emitterRepository = emitterRepository;
+        this.executor = executor;
+        this.emitterFactory = emitterFactory;
+        this.timeoutMillis = timeoutMillis;
+        // 다시 보낼 이벤트를 한 번에 넣어도 넘치지 않게 한다.
+        this.queueCapacity = queueCapacity + replayCapacity;
+    }
+
+    public SseEmitter connect(Long userId, String lastEventId) {
+        SseEmitter emitter = emitterFactory.create(timeoutMillis);
+        SseConnection connection = new SseConnection(UUID.randomUUID().toString(), userId, emitter,
+                queueCapacity, executor, emitterRepository::delete);
+        emitter.onCompletion(connection::closed);
+        emitter.onTimeout(connection::closed);
+        emitter.onError(error -> connection.closed());
+        synchronized (fanOutLock) {
+            emitterRepository.save(connection);
+            // 연결하자마자 이벤트를 하나 보내야 응답 헤더가 나가고, 시간 초과 전까지 아무것도 안 보내 503이 나는 일도 없다.
+            // id를 붙이지 않아 브라우저가 기억하는 마지막 id는 바뀌지 않는다.
+            connection.send(SseMessage.of(CONNECT_EVENT, "connected"));
+            if (lastEventId != null) {
+                replay(connection, lastEventId);
+            }
+        }
+        return emitter;
+    }
+
+    // 알림 하나당 팬아웃은 한 번만 돈다. 유저별 연결을 찾아 큐에 넣을 뿐 실제 전송은 연결마다 따로 한다.
+    public void deliver(long sequence, Collection<Long> userIds, Object payload) {
+        deliveries.add(new Delivery(sequence, userIds, payload));
+        scheduleFanOut();
+    }
+
+    // 버스가 구독을 마친 시점의 순번을 알려 준다. 그 뒤의 알림은 이 서버가 모두 받는다.
+    // 구독이 끊겼다가 다시 구독하면 그 사이를 놓쳤을 수 있으므로 이전 범위를 버리고 새 순번으로 바꾼다. 끊긴 동안은 Long.MAX_VALUE를 받는다.
+    public void coverFrom(long sequence) {
+        coveredFrom = sequence;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-millis:30000}")
+    public void heartbeat() {
+        emitterRepository.findAll().forEach(connection -> connection.send(SseMessage.HEARTBEAT));
+    }
+
+    private void scheduleFanOut() {
+        if (!fanningOut.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::fanOut);
+        } catch (RejectedExecutionException e) {
+            // 큐에 남은 알림은 다음 deliver 때 함께 보낸다.
+            fanningOut.set(false);
+            log.warn("알림 전송 작업이 밀려 잠시 뒤 보냅니다. pending: {}", deliveries.size(), e);
+        }
+    }
+
+    private void fanOut() {
+        try {
+            Delivery delivery;
+            while ((delivery = deliveries.poll()) != null) {
+                fanOut(delivery);
+            }
+        } finally {
+            fanningOut.set(false);
+        }
+        if (!deliveries.isEmpty()) {
+            scheduleFanOut();
+        }
+    }
+
+    private void fanOut(Delivery delivery) {
+        SseMessage message = new SseMessage(String.valueOf(delivery.sequence()), NOTIFICATION_EVENT, delivery.payload());
+        synchronized (fanOutLock) {
+            for (Long userId : delivery.userIds()) {
+                emitterRepository.saveEventCache(userId, delivery.sequence(), message);
+                for (SseConnection connection : emitterRepository.findByUserId(userId)) {
+                    connection.send(message);
+                }
+            }
+        }
+    }
+
+    private void replay(SseConnection connection, String lastEventId) {
+        long lastSequence;
+        try {
+            lastSequence = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            connection.send(SseMessage.of(RESYNC_EVENT, "invalid-last-event-id"));
+            return;
+        }
+        SseEventBuffer.Replay replay = emitterRepository.findEventCacheAfter(connection.getUserId(), lastSequence);
+        // 이 서버가 알림을 받기 시작하기 전의 id(재시작 전이나 다른 서버에서 받은 오래된 id)면 그 사이 이벤트는 보관되어 있지 않다.
+        if (!replay.complete() || lastSequence < coveredFrom) {
+            connection.send(SseMessage.of(RESYNC_EVENT, "events-expired"));
+        }
+        replay.messages().forEach(connection::send);
+    }
+
+    private record Delivery(long sequence, Collection<Long> userIds, Object payload) {
+    }
+}
@@ -2,9 +2,11 @@ package studio.studioeye.domain.notification.application;
 
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-import studio.studioeye.domain.notification.dao.EmitterRepository;
 import studio.studioeye.domain.notification.dao.NotificationRepository;
 import studio.studioeye.domain.notification.domain.Notification;
 import studio.studioeye.domain.notification.dto.request.CreateNotificationServiceRequestDto;
@@ -13,39 +15,39 @@ import studio.studioeye.domain.user_notification.application.UserNotificationSer
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 
-import java.io.IOException;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
+    private static final String LAZY_FAN_OUT = "lazy";
+
     private final NotificationRepository notificationRepository;
-    private final EmitterRepository emitterRepository;
+    private final NotificationHub notificationHub;
+    private final NotificationBus notificationBus;
     private final UserService userService;
     private final UserNotificationService userNotificationService;
-    // 기본 타임아웃 설정
-    private static final Long DEFAULT_TIMEOUT = 600L * 1000 * 60;
 
+    // eager: 문의를 등록할 때 유저마다 user_notification을 배치로 넣는다.
+    // lazy: 알림만 저장하고 user_notification은 유저가 알림함을 처음 볼 때 만든다. 관리자 수와 상관없이 INSERT 한 번으로 끝난다.
+    @Value("${notification.fan-out.mode:eager}")
+    private String fanOutMode;
+
+    // 문의 하나에 알림 하나를 만들고, 승인된 유저 모두에게 user_notification을 남긴 뒤 실시간으로 한 번에 보낸다.
     public ApiResponse<Long> subscribe(Long requestId) {
         // 모든 유저 가져오기
         List<Long> userIds = userService.getAllApprovedUserIds();
         if (userIds.isEmpty()) {
             return ApiResponse.withError(ErrorCode.USER_IS_EMPTY);
-        } else {
-            Notification notification = new CreateNotificationServiceRequestDto(requestId).toEntity();
-            for (Long userId : userIds) {
-                SseEmitter emitter = createEmitter(userId);
-                emitterRepository.save(userId, emitter);
-                createNotification(userId, notification);
-                // Emitter가 완료될 때(모든 데이터가 성공적으로 전송되었을 때) Emitter를 삭제한다.
-                emitter.onCompletion(() -> emitterRepository.deleteById(userId));
-                // Emitter가 타임아웃 되었을 때(지정된 시간동안 어떠한 이벤트도 전송되지 않았을 때) Emitter를 삭제한다.
-                emitter.onTimeout(() -> emitterRepository.deleteById(userId));
-            }
-            return ApiResponse.ok("알림을 성공적으로 구독하였습니다.", requestId);
         }
+        boolean lazy = LAZY_FAN_OUT.equals(fanOutMode);
+        Notification notification = notificationRepository.save(new CreateNotificationServiceRequestDto(requestId, lazy).toEntity());
+        if (!lazy) {
+            userNotificationService.createUserNotifications(notification.getId(), userIds);
+        }
+        publishAfterCommit(userIds, notification);
+        return ApiResponse.ok("알림을 성공적으로 구독하였습니다.", requestId);
     }
 
     public ApiResponse<Notification> createNotification(Long userId, Notification notification) {
@@ -57,24 +59,16 @@ public class NotificationService {
         }
         // user_notification 저장
         userNotificationService.createUserNotification(userId, savedNotification.getId());
-        Collection<SseEmitter> emitters = emitterRepository.getAllEmitters();
-        //방어코드 추가
-        if (emitters == null || emitters.isEmpty()) {
-            return ApiResponse.ok("알림이 존재하지 않습니다.");
-        }
-        for (SseEmitter emitter : emitters) {
-            if (emitter != null) {
-                try {
-                    emitter.send(savedNotification);
-                } catch (IOException e) {
-                    emitter.completeWithError(e);
-                    return ApiResponse.withError(ErrorCode.INVALID_SSE_ID);
-                }
-            }
-        }
+        publishAfterCommit(List.of(userId), savedNotification);
         return ApiResponse.ok("알림을 성공적으로 등록하였습니다.", savedNotification);
     }
 
+    // 관리자 브라우저가 알림을 받을 SSE 연결을 연다. 한 유저가 여러 탭에서 연결해도 모두 받는다.
+    // 다시 연결하며 Last-Event-ID를 보내면 그 뒤에 놓친 알림부터 받는다.
+    public SseEmitter connect(Long userId, String lastEventId) {
+        return notificationHub.connect(userId, lastEventId);
+    }
+
     public ApiResponse<List<Notification>> retrieveAllNotification() {
         List<Notification> notificationList = notificationRepository.findAll();
         if(notificationList.isEmpty()) {
@@ -83,17 +77,6 @@ public class NotificationService {
         return ApiResponse.ok("모든 알림 목록을 성공적으로 조회했습니다.", notificationList);
     }
 
-    // 접근 제한 private -> protected
-    protected SseEmitter createEmitter(Long id) {
-        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        emitterRepository.save(id, emitter);
-        // Emitter가 완료될 때(모든 데이터가 성공적으로 전송되었을 때) Emitter를 삭제한다.
-        emitter.onCompletion(() -> emitterRepository.deleteById(id));
-        // Emitter가 타임아웃 되었을 때(지정된 시간동안 어떠한 이벤트도 전송되지 않았을 때) Emitter를 삭제한다.
-        emitter.onTimeout(() -> emitterRepository.deleteById(id));
-        return emitter;
-    }
-
     public ApiResponse<String> deleteNotification(Long requestId) {
         Optional<Notification> optionalNotification = notificationRepository.findByRequestId(requestId);
         if(optionalNotification.isEmpty()) {
@@ -104,4 +87,19 @@ public class NotificationService {
         notificationRepository.delete(notification);
         return ApiResponse.ok("성공적으로 알림을 삭제했습니다.");
     }
+
+    // 문의 등록 트랜잭션 안에서 불리면 커밋된 뒤에 보낸다. 롤백된 알림이 브라우저에 먼저 뜨지 않게 한다.
+    // 관리자가 다른 서버에 연결되어 있을 수 있으므로 버스를 거쳐 모든 서버에 보낸다.
+    private void publishAfterCommit(List<Long> userIds, Notification notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notificationBus.publish(userIds, notification);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationBus.publish(userIds, notification);
+            }
+        });
+    }
 }
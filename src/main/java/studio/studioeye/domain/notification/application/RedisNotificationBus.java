@@ -0,0 +1,103 @@
+package studio.studioeye.domain.notification.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import studio.studioeye.infrastructure.redis.RedisService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 여러 서버가 함께 쓰는 Redis pub/sub 알림 버스.
+ * 순번은 INCR로 정해 어느 서버에 다시 연결해도 같은 Last-Event-ID를 쓸 수 있고, 알림은 채널에 한 번만 PUBLISH한다.
+ * INCR와 PUBLISH를 한 스크립트로 실행하므로, 여러 서버가 동시에 보내도 채널에는 순번 순서대로 실린다.
+ * 알림을 만든 서버를 포함한 모든 서버가 채널을 구독하고 있다가 자기에게 연결된 브라우저로 보낸다.
+ * 리스너 컨테이너는 메시지를 스레드 하나로 받은 순서대로 넘겨야 한다(RedisConfig).
+ * Redis pub/sub은 구독이 끊긴 동안의 메시지를 다시 주지 않으므로, 그 사이 놓친 알림은 resync 뒤 목록 조회로 채운다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.bus.mode", havingValue = "redis")
+public class RedisNotificationBus implements NotificationBus, MessageListener, SubscriptionListener {
+
+    static final String CHANNEL = "notification:events";
+    static final String SEQUENCE_KEY = "notification:sequence";
+
+    // 순번을 정하고 "순번:본문"으로 채널에 보낸다. 스크립트는 하나씩 실행되므로 순번과 PUBLISH 순서가 같다.
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+            "local sequence = redis.call('INCR', KEYS[1]) " +
+            "redis.call('PUBLISH', ARGV[1], sequence .. ':' .. ARGV[2]) " +
+            "return sequence", Long.class);
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final NotificationHub notificationHub;
+    private final ObjectMapper objectMapper;
+
+    public RedisNotificationBus(RedisService redisService, RedisMessageListenerContainer listenerContainer,
+                                NotificationHub notificationHub, ObjectMapper objectMapper) {
+        this.redisService = redisService;
+        this.listenerContainer = listenerContainer;
+        this.notificationHub = notificationHub;
+        this.objectMapper = objectMapper;
+    }
+
+    // 컨테이너가 시작될 때 실제로 구독한다. 빠짐없이 받는 범위는 구독이 끝났다는 알림을 받은 뒤에 정한다.
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 구독이 끝난 뒤 읽은 순번 뒤의 알림은 빠짐없이 받는다. 끊겼다가 다시 구독하면 그 사이를 놓쳤을 수 있으므로 새로 정한다.
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        String current = redisService.getValues(SEQUENCE_KEY);
+        notificationHub.coverFrom(redisService.checkExistsValue(current) ? Long.parseLong(current) : 0L);
+    }
+
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        notificationHub.coverFrom(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void publish(Collection<Long> userIds, Object payload) {
+        try {
+            String body = objectMapper.writeValueAsString(
+                    new NotificationMessage(List.copyOf(userIds), objectMapper.valueToTree(payload)));
+            redisService.executeScript(PUBLISH_SCRIPT, List.of(SEQUENCE_KEY), CHANNEL, body);
+        } catch (JsonProcessingException | RuntimeException e) {
+            // 알림은 이미 DB에 저장되어 있으므로 실시간 전송만 놓친다. 관리자는 다음 resync나 목록 조회로 받는다.
+            log.warn("알림을 Redis 채널로 보내지 못했습니다. users: {}", userIds.size(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int separator = body.indexOf(':');
+            long sequence = Long.parseLong(body.substring(0, separator));
+            NotificationMessage notification = objectMapper.readValue(body.substring(separator + 1), NotificationMessage.class);
+            notificationHub.deliver(sequence, notification.userIds(), notification.payload());
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("알림 메시지를 읽지 못했습니다. body: {}", body, e);
+        }
+    }
+
+    record NotificationMessage(List<Long> userIds, JsonNode payload) {
+    }
+}
@@ -1,18 +1,22 @@
 package studio.studioeye.domain.notification.dao;
 
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import studio.studioeye.infrastructure.sse.SseConnection;
+import studio.studioeye.infrastructure.sse.SseEventBuffer;
+import studio.studioeye.infrastructure.sse.SseMessage;
 
 import java.util.Collection;
 @Repository
-// Emitter가 어떤 데이터와 연결되어있는지, 어떤 이벤트들이 현재까지 발생했는지 저장해야하므로 EmitterRepository 생성
+// 유저마다 여러 브라우저(탭)가 연결할 수 있으므로 유저 ID별로 연결 여러 개를 저장한다.
+// 다시 연결한 브라우저에 놓친 알림을 보내기 위해 유저별로 최근 이벤트도 순번과 함께 보관한다.
 public interface EmitterRepository {
-    SseEmitter save(Long emitterId, SseEmitter sseEmitter);
-    void saveEventCache(Long emitterId, Object event);
-    void deleteById(Long id);
-    void deleteAllEmitterStartWithId(Long memberId);
-    void deleteAllEventCacheStartWithId(Long memberId);
+    void save(SseConnection connection);
+    void saveEventCache(Long userId, long sequence, SseMessage event);
+    void delete(SseConnection connection);
+    void deleteAllByUserId(Long userId);
+    void deleteAllEventCacheByUserId(Long userId);
 
-    SseEmitter get(Long id);
-    Collection<SseEmitter> getAllEmitters();
+    Collection<SseConnection> findByUserId(Long userId);
+    Collection<SseConnection> findAll();
+    SseEventBuffer.Replay findEventCacheAfter(Long userId, long lastSequence);
 }
@@ -1,59 +1,69 @@
 package studio.studioeye.domain.notification.dao;
 
-import lombok.NoArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import studio.studioeye.infrastructure.sse.SseConnection;
+import studio.studioeye.infrastructure.sse.SseEventBuffer;
+import studio.studioeye.infrastructure.sse.SseMessage;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Repository
-@NoArgsConstructor
 public class EmitterRepositoryImpl implements EmitterRepository {
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<Long, Object> eventCache = new ConcurrentHashMap<>();
+    // 유저 ID -> (연결 ID -> 연결)
+    private final Map<Long, Map<String, SseConnection>> connections = new ConcurrentHashMap<>();
+    // 유저 ID -> 최근 이벤트. 연결이 없는 동안에도 쌓아야 다시 연결했을 때 보낼 수 있다.
+    private final Map<Long, SseEventBuffer> eventCache = new ConcurrentHashMap<>();
+    private final int eventCacheCapacity;
+
+    public EmitterRepositoryImpl(@Value("${notification.sse.replay-capacity:100}") int eventCacheCapacity) {
+        this.eventCacheCapacity = eventCacheCapacity;
+    }
 
     @Override
-    public SseEmitter save(Long emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
-        return null;
+    public void save(SseConnection connection) {
+        connections.computeIfAbsent(connection.getUserId(), userId -> new ConcurrentHashMap<>())
+                .put(connection.getId(), connection);
     }
     @Override
-    public void saveEventCache(Long eventCacheId, Object event) {
-        eventCache.put(eventCacheId, event);
+    public void saveEventCache(Long userId, long sequence, SseMessage event) {
+        eventCache.computeIfAbsent(userId, id -> new SseEventBuffer(eventCacheCapacity)).append(sequence, event);
     }
     @Override
-    public void deleteById(Long id) {
-        emitters.remove(id);
+    public void delete(SseConnection connection) {
+        // 마지막 연결이 빠지면 유저 항목도 지운다. compute 안에서 처리해 동시에 들어온 save를 잃지 않는다.
+        connections.computeIfPresent(connection.getUserId(), (userId, userConnections) -> {
+            userConnections.remove(connection.getId(), connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
     }
     @Override
-    public void deleteAllEmitterStartWithId(Long memberId) {
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.toString().startsWith(memberId.toString())) {
-                        emitters.remove(key);
-                    }
-                }
-        );
+    public void deleteAllByUserId(Long userId) {
+        connections.remove(userId);
     }
 
     @Override
-    public void deleteAllEventCacheStartWithId(Long memberId) {
-        eventCache.forEach(
-                (key, emitter) -> {
-                    if (key.toString().startsWith(memberId.toString())) {
-                        eventCache.remove(key);
-                    }
-                }
-        );
+    public void deleteAllEventCacheByUserId(Long userId) {
+        eventCache.remove(userId);
     }
 
     @Override
-    public SseEmitter get(Long id) {
-        return emitters.get(id);
+    public Collection<SseConnection> findByUserId(Long userId) {
+        Map<String, SseConnection> userConnections = connections.get(userId);
+        return userConnections == null ? List.of() : List.copyOf(userConnections.values());
     }
-    public Collection<SseEmitter> getAllEmitters() {
-        return emitters.values();
+    @Override
+    public Collection<SseConnection> findAll() {
+        return connections.values().stream()
+                .flatMap(userConnections -> userConnections.values().stream())
+                .toList();
+    }
+    @Override
+    public SseEventBuffer.Replay findEventCacheAfter(Long userId, long lastSequence) {
+        SseEventBuffer buffer = eventCache.get(userId);
+        return buffer == null ? new SseEventBuffer.Replay(List.of(), true) : buffer.after(lastSequence);
     }
-}
\ No newline at end of file
+}
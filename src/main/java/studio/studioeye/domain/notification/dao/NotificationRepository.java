@@ -1,6 +1,7 @@
 package studio.studioeye.domain.notification.dao;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import studio.studioeye.domain.notification.domain.Notification;
 
 import java.util.Optional;
@@ -9,4 +10,7 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     Optional<Notification> findById(Long id);
 
     Optional<Notification> findByRequestId(Long requestId);
+
+    @Query("SELECT MAX(n.id) FROM Notification n WHERE n.broadcast = true")
+    Long findLatestBroadcastId();
 }
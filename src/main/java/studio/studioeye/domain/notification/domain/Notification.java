@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -15,8 +16,20 @@ public class Notification {
     private Long id;
     @Column(nullable = false)
     private Long requestId; // 문의 ID
-    @Builder
+    // 승인된 유저 모두에게 보내고, user_notification은 유저가 처음 읽을 때 만든다.
+    // 이 열을 추가하기 전의 알림은 등록할 때 user_notification을 이미 만들었으므로 기본값 false로 채운다.
+    // 스키마를 직접 관리하는 DB라면 먼저 ALTER TABLE notification ADD COLUMN broadcast BIT NOT NULL DEFAULT 0을 실행한다.
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean broadcast;
+
     public Notification(Long requestId) {
+        this(requestId, false);
+    }
+
+    @Builder
+    public Notification(Long requestId, boolean broadcast) {
         this.requestId = requestId;
+        this.broadcast = broadcast;
     }
-}
\ No newline at end of file
+}
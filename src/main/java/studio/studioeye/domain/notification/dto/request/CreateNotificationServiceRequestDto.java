@@ -3,11 +3,13 @@ package studio.studioeye.domain.notification.dto.request;
 import studio.studioeye.domain.notification.domain.Notification;
 
 public record CreateNotificationServiceRequestDto(
-        Long requestId
+        Long requestId,
+        boolean broadcast
 ) {
     public Notification toEntity() {
         return Notification.builder()
                 .requestId(requestId)
+                .broadcast(broadcast)
                 .build();
     }
 }
\ No newline at end of file
@@ -2,17 +2,24 @@ package studio.studioeye.domain.partner_information.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import studio.studioeye.domain.partner_information.application.PartnerInformationService;
 import studio.studioeye.domain.partner_information.domain.PartnerInformation;
 import studio.studioeye.domain.partner_information.dto.request.CreatePartnerInfoRequestDto;
 import studio.studioeye.domain.partner_information.dto.request.UpdatePartnerInfoRequestDto;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentVersionRegistry;
+import studio.studioeye.global.common.cache.ResponseBodyCache;
 import studio.studioeye.global.common.response.ApiResponse;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +30,8 @@ import java.util.Map;
 public class PartnerInformationController {
 
 	private final PartnerInformationService partnerInformationService;
+	private final ResponseBodyCache responseBodyCache;
+	private final ContentVersionRegistry contentVersionRegistry;
 
 	@Operation(summary = "협력사 정보 등록 API")
 	@PostMapping("/partners")
@@ -33,26 +42,30 @@ public class PartnerInformationController {
 
 	@Operation(summary = "협력사 목록 전체 조회 API")
 	@GetMapping("/partners")
-	public ApiResponse<List<Map<String, Object>>> retrieveAllPartnerInfo(){
-		return partnerInformationService.retrieveAllPartnerInfo();
+	public ApiResponse<List<Map<String, Object>>> retrieveAllPartnerInfo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		responseBodyCache.write(ContentAggregate.PARTNER_INFORMATION, request, response, partnerInformationService::retrieveAllPartnerInfo);
+		return null;
 	}
 
 	@Operation(summary = "협력사 정보 상세 조회 API")
 	@GetMapping("/partners/{partnerId}")
-	public ApiResponse<Map<String, Object>> retrievePartnerInfo(@PathVariable Long partnerId){
+	public ApiResponse<Map<String, Object>> retrievePartnerInfo(@PathVariable Long partnerId, WebRequest webRequest){
+		if (contentVersionRegistry.checkNotModified(ContentAggregate.PARTNER_INFORMATION, webRequest)) return null;
 		return partnerInformationService.retrievePartnerInfo(partnerId);
 	}
 
 	@Operation(summary = "협력사 로고 이미지 리스트 조회 API")
 	@GetMapping("/partners/logoImgList")
-	public ApiResponse<List<String>> retrieveAllPartnerLogoImgList(){
+	public ApiResponse<List<String>> retrieveAllPartnerLogoImgList(WebRequest webRequest){
+		if (contentVersionRegistry.checkNotModified(ContentAggregate.PARTNER_INFORMATION, webRequest)) return null;
 		return partnerInformationService.retrieveAllPartnerLogoImgList();
 	}
 
 	@Operation(summary = "협력사 정보 페이지네이션 조회 API")
 	@GetMapping("/partners/page")
 	public Page<PartnerInformation> retrievePartnerInformationPage(@RequestParam(defaultValue = "0") int page,
-																   @RequestParam(defaultValue = "10") int size) {
+																   @RequestParam(defaultValue = "10") int size, WebRequest webRequest) {
+		if (contentVersionRegistry.checkNotModified(ContentAggregate.PARTNER_INFORMATION, webRequest)) return null;
 		return partnerInformationService.retrievePartnerInformationPage(page, size);
 	}
 
@@ -1,6 +1,7 @@
 package studio.studioeye.domain.partner_information.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,6 +13,8 @@ import studio.studioeye.domain.partner_information.domain.PartnerInformation;
 import studio.studioeye.domain.partner_information.dto.request.CreatePartnerInfoServiceRequestDto;
 import studio.studioeye.domain.partner_information.dto.request.UpdatePartnerInfoServiceRequestDto;
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentChangedEvent;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 
@@ -24,6 +27,7 @@ public class PartnerInformationService {
 
 	private final PartnerInformationRepository partnerInformationRepository;
 	private final S3Adapter s3Adapter;
+	private final ApplicationEventPublisher eventPublisher;
 
 
 	public ApiResponse<PartnerInformation> createPartnerInfo(CreatePartnerInfoServiceRequestDto dto, MultipartFile logoImg) {
@@ -33,6 +37,7 @@ public class PartnerInformationService {
 		PartnerInformation partnerInformation = dto.toEntity(logoImgStr);
 
 		PartnerInformation savedPartnerInformation = partnerInformationRepository.save(partnerInformation);
+		publishContentChanged();
 		return ApiResponse.ok("협력사 정보를 성공적으로 등록하였습니다.", savedPartnerInformation);
 	}
 
@@ -127,6 +132,7 @@ public class PartnerInformationService {
 		partnerInformation.setLink(dto.link());
 
 		PartnerInformation savedPartnerInformation = partnerInformationRepository.save(partnerInformation);
+		publishContentChanged();
 		return ApiResponse.ok("협력사 정보를 성공적으로 수정했습니다.", savedPartnerInformation);
 	}
 
@@ -142,6 +148,7 @@ public class PartnerInformationService {
 		partnerInformation.setLink(dto.link());
 
 		PartnerInformation savedPartnerInformation = partnerInformationRepository.save(partnerInformation);
+		publishContentChanged();
 		return ApiResponse.ok("협력사 정보를 성공적으로 수정했습니다.", savedPartnerInformation);
 	}
 
@@ -159,6 +166,7 @@ public class PartnerInformationService {
 		partner.setLogoImageUrl(logoImgStr);
 
 		PartnerInformation updatedPartner = partnerInformationRepository.save(partner);
+		publishContentChanged();
 		return ApiResponse.ok("협력사 로고 이미지를 성공적으로 수정했습니다.", updatedPartner);
 	}
 
@@ -175,6 +183,11 @@ public class PartnerInformationService {
 		}
 
 		partnerInformationRepository.delete(partnerInformation);
+		publishContentChanged();
 		return ApiResponse.ok("협력사 정보를 성공적으로 삭제하였습니다.");
 	}
+
+	private void publishContentChanged() {
+		eventPublisher.publishEvent(new ContentChangedEvent(ContentAggregate.PARTNER_INFORMATION));
+	}
 }
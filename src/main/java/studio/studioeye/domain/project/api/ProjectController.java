@@ -1,18 +1,27 @@
 package studio.studioeye.domain.project.api;
 
+import studio.studioeye.domain.project.application.MainProjectSnapshotCache;
 import studio.studioeye.domain.project.application.ProjectService;
 import studio.studioeye.domain.project.domain.Project;
 import studio.studioeye.domain.project.dto.request.*;
+import studio.studioeye.domain.project.dto.response.ProjectPageResponse;
+import studio.studioeye.domain.project.dto.response.ProjectResponse;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentVersionRegistry;
 import studio.studioeye.global.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Tag(name = "프로젝트 API", description = "프로젝트 등록 / 수정 / 삭제 / 조회")
@@ -22,6 +31,8 @@ import java.util.List;
 public class ProjectController {
 
 	private final ProjectService projectService;
+	private final MainProjectSnapshotCache mainProjectSnapshotCache;
+	private final ContentVersionRegistry contentVersionRegistry;
 
 	// POST
 	@Operation(summary = "프로젝트 등록 API")
@@ -33,30 +44,53 @@ public class ProjectController {
 		return projectService.createProject(dto.toServiceRequest(), mainImgFile, responsiveMainImgFile, files);
 	}
 
+	@Operation(summary = "프로젝트 이미지 추가 API (multipart가 아닌 이미지 자체를 본문으로 보내면 받는 대로 S3에 스트리밍 업로드)")
+	@PostMapping("/projects/{projectId}/images")
+	public ApiResponse<Project> appendProjectImage(@PathVariable Long projectId,
+												   @RequestParam String fileName,
+												   @RequestHeader(value = HttpHeaders.CONTENT_TYPE, defaultValue = MediaType.APPLICATION_OCTET_STREAM_VALUE) String contentType,
+												   InputStream inputStream) {
+		return projectService.appendProjectImage(projectId, fileName, contentType, inputStream);
+	}
+
+	@Operation(summary = "프로젝트 이미지 업로드 완료 API (업로드 티켓으로 S3에 직접 올린 이미지를 프로젝트에 추가)")
+	@PostMapping("/projects/{projectId}/images/uploads/{ticket}")
+	public ApiResponse<Project> completeProjectImageUpload(@PathVariable Long projectId, @PathVariable String ticket) {
+		return projectService.completeProjectImageUpload(projectId, ticket);
+	}
+
 	// GET
 	@Operation(summary = "프로젝트 전체 조회 API (request 페이지, sequence 순)")
 	@GetMapping("/projects")
-	public ApiResponse<List<Project>> retrieveAllArtworkProject(){
+	public ApiResponse<List<ProjectResponse>> retrieveAllArtworkProject(WebRequest webRequest){
+		if (contentVersionRegistry.checkNotModified(ContentAggregate.PROJECT, webRequest)) return null;
 		return projectService.retrieveAllArtworkProject();
 	}
 
 	@Operation(summary = "프로젝트 전체 조회 API (메인 페이지, top, main1, main2 .. 순)")
 	@GetMapping("/projects/main")
-	public ApiResponse<List<Project>> retrieveAllMainProject(){
-		return projectService.retrieveAllMainProject();
+	public ResponseEntity<byte[]> retrieveAllMainProject(WebRequest webRequest){
+		if (contentVersionRegistry.checkNotModified(ContentAggregate.PROJECT, webRequest)) return null;
+		// 응답 형태는 ApiResponse<List<ProjectResponse>>와 같고, 미리 직렬화해 둔 스냅샷을 그대로 내려준다.
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(mainProjectSnapshotCache.getSnapshot());
 	}
 
 	@Operation(summary = "프로젝트 상세 조회 API")
 	@GetMapping("/projects/{projectId}")
-	public ApiResponse<Project> retrieveProject(@PathVariable Long projectId){
+	public ApiResponse<ProjectResponse> retrieveProject(@PathVariable Long projectId, WebRequest webRequest){
+		if (contentVersionRegistry.checkNotModified(ContentAggregate.PROJECT, webRequest)) return null;
 		return projectService.retrieveProject(projectId);
 	}
 
-	@Operation(summary = "프로젝트 페이지네이션 조회 API (request 페이지, sequence 순)")
+	@Operation(summary = "프로젝트 페이지네이션 조회 API (request 페이지, sequence 순, 응답의 nextCursor를 cursor로 넘기면 다음 페이지)")
 	@GetMapping("/projects/page")
-	public Page<Project> retrieveArtworkProjectPage(@RequestParam(defaultValue = "0") int page,
-													@RequestParam(defaultValue = "10") int size){
-		return projectService.retrieveArtworkProjectPage(page, size);
+	public ProjectPageResponse retrieveArtworkProjectPage(@RequestParam(defaultValue = "0") int page,
+														  @RequestParam(defaultValue = "10") int size,
+														  @RequestParam(required = false) String cursor, WebRequest webRequest){
+		if (contentVersionRegistry.checkNotModified(ContentAggregate.PROJECT, webRequest)) return null;
+		return projectService.retrieveArtworkProjectPage(page, size, cursor);
 	}
 
 	// PUT
@@ -0,0 +1,76 @@
+package studio.studioeye.domain.project.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import studio.studioeye.domain.project.domain.ProjectChangedEvent;
+import studio.studioeye.domain.project.dto.response.ProjectResponse;
+import studio.studioeye.global.common.response.ApiResponse;
+
+import java.util.List;
+
+/**
+ * 메인 페이지 프로젝트 목록(GET /api/projects/main)의 응답을 직렬화된 바이트로 들고 있는 스냅샷 캐시.
+ * 프로젝트 변경 이벤트가 커밋된 뒤에만 다시 만들기 때문에 조회 요청은 DB와 Jackson을 거치지 않는다.
+ * 다른 서버에서 일어난 변경은 이벤트로 전달되지 않으므로 주기적으로 한 번씩 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MainProjectSnapshotCache {
+
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+
+    // 한 번 만들어진 배열은 수정하지 않고 통째로 교체한다.
+    private volatile byte[] snapshot;
+
+    public byte[] getSnapshot() {
+        byte[] current = snapshot;
+        if (current == null) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void initialize() {
+        rebuild();
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        // 다시 만들다 실패하더라도 오래된 스냅샷이 남지 않도록 먼저 비운다.
+        snapshot = null;
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${project.main-snapshot.refresh-millis:60000}",
+            initialDelayString = "${project.main-snapshot.refresh-millis:60000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        rebuild();
+    }
+
+    private synchronized byte[] rebuild() {
+        ApiResponse<List<ProjectResponse>> response = projectService.retrieveAllMainProject();
+        try {
+            byte[] serialized = objectMapper.writeValueAsBytes(response);
+            snapshot = serialized;
+            return serialized;
+        } catch (JsonProcessingException e) {
+            log.warn("메인 프로젝트 스냅샷 생성에 실패했습니다.", e);
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package studio.studioeye.domain.project.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import studio.studioeye.domain.project.dao.ProjectRepository;
+import studio.studioeye.domain.project.domain.Project;
+import studio.studioeye.domain.project.domain.ProjectChangedEvent;
+import studio.studioeye.domain.project.domain.ProjectImage;
+import studio.studioeye.infrastructure.s3.S3ImageVariantGenerator;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 프로젝트 이미지 중 썸네일이 없는 이미지의 썸네일을 요청하고, 만들어지면 같은 원본 URL을 쓰는 행에 채운다.
+ * 썸네일은 프로젝트 트랜잭션이 커밋된 뒤 이미지 변환 스레드에서 만들어지므로, 채우는 작업은 별도 트랜잭션에서 한다.
+ * 만들지 못한 썸네일은 null로 남고 다음에 프로젝트를 저장할 때 다시 요청된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectImageVariantService {
+
+    private final S3ImageVariantGenerator s3ImageVariantGenerator;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void requestThumbnails(Project project) {
+        Set<String> mainImgs = new LinkedHashSet<>();
+        Set<String> responsiveMainImgs = new LinkedHashSet<>();
+        Set<String> images = new LinkedHashSet<>();
+        if (project.getMainImg() != null && project.getMainImgThumbnail() == null) {
+            mainImgs.add(project.getMainImg());
+        }
+        if (project.getResponsiveMainImg() != null && project.getResponsiveMainImgThumbnail() == null) {
+            responsiveMainImgs.add(project.getResponsiveMainImg());
+        }
+        for (ProjectImage projectImage : project.getProjectImages()) {
+            if (projectImage.getImageUrlList() != null && projectImage.getThumbnailUrl() == null) {
+                images.add(projectImage.getImageUrlList());
+            }
+        }
+
+        // 같은 이미지를 여러 자리에서 쓰면 썸네일은 한 번만 요청한다.
+        Set<String> imageUrls = new LinkedHashSet<>(mainImgs);
+        imageUrls.addAll(responsiveMainImgs);
+        imageUrls.addAll(images);
+        for (String imageUrl : imageUrls) {
+            s3ImageVariantGenerator.thumbnail(imageUrl).whenComplete((thumbnailUrl, e) -> {
+                if (e != null) {
+                    log.warn("썸네일 생성을 건너뜁니다. url: {}", imageUrl, e);
+                    return;
+                }
+                if (thumbnailUrl != null) {
+                    applyThumbnail(imageUrl, thumbnailUrl, mainImgs.contains(imageUrl),
+                            responsiveMainImgs.contains(imageUrl), images.contains(imageUrl));
+                }
+            });
+        }
+    }
+
+    private void applyThumbnail(String imageUrl, String thumbnailUrl, boolean mainImg, boolean responsiveMainImg, boolean image) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (mainImg) projectRepository.updateMainImgThumbnail(imageUrl, thumbnailUrl);
+                if (responsiveMainImg) projectRepository.updateResponsiveMainImgThumbnail(imageUrl, thumbnailUrl);
+                if (image) projectRepository.updateImageThumbnail(imageUrl, thumbnailUrl);
+                // 조회 응답 캐시와 메인 페이지 스냅샷이 썸네일을 반영하도록 한다.
+                eventPublisher.publishEvent(new ProjectChangedEvent(null));
+            });
+        } catch (RuntimeException e) {
+            log.warn("썸네일 URL을 저장하지 못했습니다. url: {}", imageUrl, e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package studio.studioeye.domain.project.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 프로젝트 페이지 조회의 이어보기 토큰. 다음 페이지 번호, 직전 페이지 마지막 행의 (sequence, id),
+ * 첫 페이지에서 센 전체 개수를 담는다. sequence가 없는 행은 빈 값으로 넣는다.
+ * 클라이언트에는 "page.sequence.id.totalElements"를 URL-safe Base64로 인코딩한 문자열로 내려간다.
+ */
+public record ProjectPageCursor(int page, Integer sequence, long id, long totalElements) {
+
+	public String encode() {
+		String raw = page + "." + (sequence == null ? "" : sequence) + "." + id + "." + totalElements;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static ProjectPageCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\.");
+			if (parts.length != 4) {
+				throw new IllegalArgumentException("Invalid project page cursor");
+			}
+			Integer sequence = parts[1].isEmpty() ? null : Integer.valueOf(parts[1]);
+			return new ProjectPageCursor(Integer.parseInt(parts[0]), sequence, Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+		} catch (IllegalArgumentException e) {
+			// NumberFormatException, 잘못된 Base64 모두 IllegalArgumentException 계열이다.
+			throw new IllegalArgumentException("Invalid project page cursor", e);
+		}
+	}
+}
@@ -1,26 +1,47 @@
 package studio.studioeye.domain.project.application;
 
+import studio.studioeye.domain.project.dao.ProjectImageRow;
 import studio.studioeye.domain.project.dao.ProjectRepository;
+import studio.studioeye.domain.project.dao.ProjectRow;
 import studio.studioeye.domain.project.domain.Project;
+import studio.studioeye.domain.project.domain.ProjectChangedEvent;
 import studio.studioeye.domain.project.domain.ProjectImage;
 import studio.studioeye.domain.project.dto.request.*;
+import studio.studioeye.domain.project.dto.response.ProjectImageResponse;
+import studio.studioeye.domain.project.dto.response.ProjectPageResponse;
+import studio.studioeye.domain.project.dto.response.ProjectResponse;
 import studio.studioeye.domain.views.application.ViewsService;
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.infrastructure.s3.S3PresignedUploader;
+import studio.studioeye.infrastructure.s3.S3StreamingUploader;
+import studio.studioeye.infrastructure.s3.S3UploadPipeline;
+import studio.studioeye.infrastructure.s3.UploadedFile;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
@@ -29,28 +50,53 @@ public class ProjectService {
 
 	private final ProjectRepository projectRepository;
 	private final S3Adapter s3Adapter;
+	private final S3UploadPipeline s3UploadPipeline;
+	private final S3StreamingUploader s3StreamingUploader;
+	private final S3PresignedUploader s3PresignedUploader;
+	private final ProjectImageVariantService projectImageVariantService;
 	private final ViewsService viewsService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
 	private static final String TOP_PROJECT_TYPE = "top";
 	private static final String MAIN_PROJECT_TYPE = "main";
 	private static final String OTHERS_PROJECT_TYPE = "others";
 
 	// CREATE
+	// 이미지 업로드가 끝날 때까지 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 올리고, 다 올린 뒤에 짧은 트랜잭션으로 저장한다.
+	// 거절할 요청은 올리기 전에 걸러 내고, 올린 뒤에 거절되거나 저장이 롤백되면 올린 이미지를 모두 지운다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public ApiResponse<Project> createProject(CreateProjectServiceRequestDto dto,
 											  MultipartFile mainImgFile, MultipartFile responsiveMainImgFile,
 											  List<MultipartFile> files) throws IOException {
-		String mainImg = getImgUrl(mainImgFile);
-		if (mainImg.isEmpty()) return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		ErrorCode projectTypeError = checkNewProjectType(dto.projectType(), dto.isPosted());
+		if (projectTypeError != null) return ApiResponse.withError(projectTypeError);
+
+		ApiResponse<List<String>> uploadResponse = uploadProjectImages(mainImgFile, responsiveMainImgFile, files);
+		if (uploadResponse.getStatus().is5xxServerError()) return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		List<String> imageUrls = uploadResponse.getData();
+
+		return saveOrDiscard(imageUrls, () -> saveNewProject(dto, mainImgFile, responsiveMainImgFile, files, imageUrls));
+	}
+
+	private ApiResponse<Project> saveNewProject(CreateProjectServiceRequestDto dto,
+												MultipartFile mainImgFile, MultipartFile responsiveMainImgFile,
+												List<MultipartFile> files, List<String> imageUrls) {
+		// 올리는 사이 다른 요청이 대표, 메인 프로젝트를 만들었을 수 있으므로 저장하는 트랜잭션에서 다시 확인한다.
+		String projectType = dto.projectType();
+		ErrorCode projectTypeError = checkNewProjectType(projectType, dto.isPosted());
+		if (projectTypeError != null) return ApiResponse.withError(projectTypeError);
+
+		String mainImg = imageUrls.get(0);
 		String mainImgFileName = mainImgFile.getOriginalFilename();
 
-		String responsiveMainImg = getImgUrl(responsiveMainImgFile);
-		if (responsiveMainImg.isEmpty()) return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		String responsiveMainImg = imageUrls.get(1);
 		String responsiveMainImgFileName = responsiveMainImgFile.getOriginalFilename();
 
 		List<ProjectImage> projectImages = new LinkedList<>();
 		if (files != null) {
-			for (MultipartFile file : files) {
-				String imageUrl = getImgUrl(file);
-				if (imageUrl.isEmpty()) return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+			for (int i = 0; i < files.size(); i++) {
+				MultipartFile file = files.get(i);
+				String imageUrl = imageUrls.get(i + 2);
 
 				String fileName = file.getOriginalFilename(); // 원본 파일 이름 가져오기
 				ProjectImage projectImage = ProjectImage.builder()
@@ -63,55 +109,55 @@ public class ProjectService {
 		// 총 프로젝트 개수
 		long projectCount = projectRepository.count();
 
-		// 프로젝트 타입 결정
+		// 메인 프로젝트는 기존 메인 프로젝트들 뒤에 둔다.
 		int mainSequence = 999;
-		String projectType = dto.projectType();
+		if (projectType.equals(MAIN_PROJECT_TYPE)) {
+			mainSequence = projectRepository.findByProjectType(MAIN_PROJECT_TYPE).size() + 1;
+		}
+
+		Project project = dto.toEntity(mainImg, mainImgFileName, responsiveMainImg, responsiveMainImgFileName, projectImages, projectCount, mainSequence);
+
+		// ProjectImage의 project 필드 설정
+		for (ProjectImage projectImage : projectImages) {
+			projectImage.setProject(project);
+		}
+
+		Project savedProject = projectRepository.save(project);
+		projectImageVariantService.requestThumbnails(project);
+		publishProjectChanged(project.getId());
+		return ApiResponse.ok("프로젝트를 성공적으로 등록하였습니다.", savedProject);
+	}
+
+	// 새 프로젝트를 이 타입과 게시 여부로 만들 수 있으면 null, 아니면 거절 사유
+	private ErrorCode checkNewProjectType(String projectType, Boolean isPosted) {
 		switch (projectType) {
 			// 받아온 projectType String 값이 유효한 경우
 			case TOP_PROJECT_TYPE:
-				List<Project> topProject = projectRepository.findByProjectType(projectType);
 				// TOP 프로젝트가 이미 존재하는 경우
-				if (!topProject.isEmpty()) {
-					return ApiResponse.withError(ErrorCode.TOP_PROJECT_ALREADY_EXISTS);
+				if (!projectRepository.findByProjectType(projectType).isEmpty()) {
+					return ErrorCode.TOP_PROJECT_ALREADY_EXISTS;
 				}
 				// top인데 isPosted를 false로 할 경우 프로젝트 생성 안 됨
-				if (!dto.isPosted()) {
-					return ApiResponse.withError(ErrorCode.PROJECT_TYPE_AND_IS_POSTED_MISMATCH);
-				}
-				break;
+				return !isPosted ? ErrorCode.PROJECT_TYPE_AND_IS_POSTED_MISMATCH : null;
 			case MAIN_PROJECT_TYPE:
-				List<Project> mainProjects = projectRepository.findByProjectType(MAIN_PROJECT_TYPE);
 				// "main"인 프로젝트가 이미 5개 이상인 경우
-				if (mainProjects.size() >= 5) {
-					return ApiResponse.withError(ErrorCode.MAIN_PROJECT_LIMIT_EXCEEDED);
+				if (projectRepository.findByProjectType(MAIN_PROJECT_TYPE).size() >= 5) {
+					return ErrorCode.MAIN_PROJECT_LIMIT_EXCEEDED;
 				}
 				// main인데 isPosted를 false로 할 경우 프로젝트 생성 안 됨
-				if (!dto.isPosted()) {
-					return ApiResponse.withError(ErrorCode.PROJECT_TYPE_AND_IS_POSTED_MISMATCH);
-				}
-				mainSequence = mainProjects.size() + 1;
-				break;
+				return !isPosted ? ErrorCode.PROJECT_TYPE_AND_IS_POSTED_MISMATCH : null;
 			case OTHERS_PROJECT_TYPE:
-				break;
+				return null;
 			default: // 유효하지 않은 값일 경우
-				return ApiResponse.withError(ErrorCode.INVALID_PROJECT_TYPE);
+				return ErrorCode.INVALID_PROJECT_TYPE;
 		}
-
-		Project project = dto.toEntity(mainImg, mainImgFileName, responsiveMainImg, responsiveMainImgFileName, projectImages, projectCount, mainSequence);
-
-		// ProjectImage의 project 필드 설정
-		for (ProjectImage projectImage : projectImages) {
-			projectImage.setProject(project);
-		}
-
-		Project savedProject = projectRepository.save(project);
-		return ApiResponse.ok("프로젝트를 성공적으로 등록하였습니다.", savedProject);
 	}
 
 	// RETRIEVE
 	// for artwork page
-	public ApiResponse<List<Project>> retrieveAllArtworkProject() {
-		List<Project> projectList = projectRepository.findAllWithImagesAndOrderBySequenceAsc();
+	@Transactional(readOnly = true)
+	public ApiResponse<List<ProjectResponse>> retrieveAllArtworkProject() {
+		List<ProjectResponse> projectList = toResponses(projectRepository.findAllRowsOrderBySequenceAsc());
 		if (projectList.isEmpty()){
 			return ApiResponse.ok("프로젝트가 존재하지 않습니다.");
 		}
@@ -120,41 +166,76 @@ public class ProjectService {
 	}
 
 	// for main page
-	public ApiResponse<List<Project>> retrieveAllMainProject() {
-		List<Project> projectList = projectRepository.findAllWithImagesAndOrderByMainSequenceAsc();
-		List<Project> responseProject = new ArrayList<>();
-		List<Project> topProject = projectRepository.findByProjectType(TOP_PROJECT_TYPE);
-		Project top;
-		if (!topProject.isEmpty()) {
-			top = topProject.get(0);
-			responseProject.add(top);
+	@Transactional(readOnly = true)
+	public ApiResponse<List<ProjectResponse>> retrieveAllMainProject() {
+		// top, main 프로젝트를 한 번에 읽은 뒤 top을 맨 앞에 둔다.
+		List<ProjectRow> mainPageRows = projectRepository.findMainPageRows();
+		List<ProjectRow> responseRows = new ArrayList<>();
+		List<ProjectRow> mainRows = new ArrayList<>();
+		for (ProjectRow row : mainPageRows) {
+			if (TOP_PROJECT_TYPE.equals(row.projectType())) {
+				if (responseRows.isEmpty()) responseRows.add(row);
+			} else {
+				mainRows.add(row);
+			}
 		}
-		responseProject.addAll(projectList);
+		responseRows.addAll(mainRows);
 
-		if (projectList.isEmpty()){
+		if (mainRows.isEmpty()){
 			return ApiResponse.ok("프로젝트가 존재하지 않습니다.");
 		}
 
-		return ApiResponse.ok("프로젝트 목록을 성공적으로 조회했습니다.", responseProject);
+		return ApiResponse.ok("프로젝트 목록을 성공적으로 조회했습니다.", toResponses(responseRows));
 
 	}
 
-	public ApiResponse<Project> retrieveProject(Long projectId) {
-		Optional<Project> optionalProject = projectRepository.findById(projectId);
+	@Transactional(readOnly = true)
+	public ApiResponse<ProjectResponse> retrieveProject(Long projectId) {
+		Optional<ProjectRow> optionalProject = projectRepository.findRowById(projectId);
 		if(optionalProject.isEmpty()){
 			return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
 		}
 
-		Project project = optionalProject.get();
+		ProjectResponse project = toResponses(List.of(optionalProject.get())).get(0);
 		return ApiResponse.ok("프로젝트를 성공적으로 조회했습니다.", project);
 	}
 
-	public Page<Project> retrieveArtworkProjectPage(int page, int size) {
+	@Transactional(readOnly = true)
+	public ProjectPageResponse retrieveArtworkProjectPage(int page, int size, String cursor) {
 		Pageable pageable = PageRequest.of(page, size);
-		return projectRepository.findAll(pageable);
+		Slice<ProjectRow> rowSlice;
+		int number;
+		long totalElements;
+		if (cursor != null && !cursor.isBlank()) {
+			// 이어보기 토큰이 있으면 직전 페이지 마지막 행 다음부터 읽는다. 깊은 페이지도 첫 페이지와 비용이 같다.
+			// 전체 개수는 첫 페이지에서 센 값을 토큰으로 이어 받아 다시 세지 않는다.
+			ProjectPageCursor pageCursor = ProjectPageCursor.decode(cursor);
+			rowSlice = pageCursor.sequence() == null
+					? projectRepository.findRowSliceAfterNullSequence(pageCursor.id(), PageRequest.of(0, size))
+					: projectRepository.findRowSliceAfter(pageCursor.sequence(), pageCursor.id(), PageRequest.of(0, size));
+			number = pageCursor.page();
+			totalElements = pageCursor.totalElements();
+		} else {
+			rowSlice = projectRepository.findRowSlice(pageable);
+			number = page;
+			totalElements = projectRepository.count();
+		}
+
+		List<ProjectRow> rows = rowSlice.getContent();
+		String nextCursor = null;
+		if (rowSlice.hasNext()) {
+			ProjectRow lastRow = rows.get(rows.size() - 1);
+			nextCursor = new ProjectPageCursor(number + 1, lastRow.sequence(), lastRow.id(), totalElements).encode();
+		}
+
+		int totalPages = (int) ((totalElements + size - 1) / size);
+		return new ProjectPageResponse(toResponses(rows), number, size, rows.size(), totalElements, totalPages,
+				number == 0, !rowSlice.hasNext(), rows.isEmpty(), nextCursor);
 	}
 
 	// UPDATE
+	// 바뀐 이미지를 트랜잭션 밖에서 올린다. 무엇을 올릴지는 짧은 읽기 트랜잭션에서 정하고, 다 올린 뒤에 짧은 트랜잭션으로 반영한다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public ApiResponse<Project> updateProject(UpdateProjectServiceRequestDto dto,
 											  MultipartFile mainImgFile, MultipartFile responsiveMainImgFile,
 											  List<MultipartFile> files) throws IOException {
@@ -164,6 +245,24 @@ public class ProjectService {
 		if(responsiveMainImgFile == null || responsiveMainImgFile.isEmpty()) {
 			return ApiResponse.withError(ErrorCode.NOT_EXIST_IMAGE_FILE);
 		}
+		ApiResponse<ImageUpdatePlan> planResponse = transactionTemplate.execute(
+				status -> planImageUpdate(dto, mainImgFile, responsiveMainImgFile, files));
+		if (planResponse.getStatus().isError()) {
+			return ApiResponse.of(planResponse.getStatus(), planResponse.getMessage(), null);
+		}
+		ImageUpdatePlan plan = planResponse.getData();
+
+		ApiResponse<List<String>> uploadResponse = s3UploadPipeline.uploadAll(plan.uploadFiles(mainImgFile, responsiveMainImgFile));
+		if (uploadResponse.getStatus().is5xxServerError()) return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		List<String> uploadedUrls = uploadResponse.getData();
+
+		return saveOrDiscard(uploadedUrls, () -> applyProjectUpdate(dto, plan, mainImgFile, responsiveMainImgFile, uploadedUrls));
+	}
+
+	// 수정 후 이미지 목록과 바뀐 메인이미지를 정한다. 프로젝트 타입도 미리 확인해 거절할 요청으로는 올리지 않는다.
+	private ApiResponse<ImageUpdatePlan> planImageUpdate(UpdateProjectServiceRequestDto dto,
+														 MultipartFile mainImgFile, MultipartFile responsiveMainImgFile,
+														 List<MultipartFile> files) {
 		Optional<Project> optionalProject = projectRepository.findById(dto.projectId());
 		if(optionalProject.isEmpty()){
 			return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
@@ -171,22 +270,132 @@ public class ProjectService {
 
 		Project project = optionalProject.get();
 
-		String projectType = dto.projectType();
+		// 기존 이미지는 id 순으로 정렬한다.
+		List<ImageSlot> imageSlots = planImageSlots(sortedImagesOf(project), dto.existingImageIds(), files);
+		if (imageSlots == null) return ApiResponse.withError(ErrorCode.INVALID_PROJECT_IMAGE_ID);
+
+		ErrorCode projectTypeError = checkProjectTypeChange(project, dto.projectType());
+		if (projectTypeError != null) return ApiResponse.withError(projectTypeError);
+
+		return ApiResponse.ok(new ImageUpdatePlan(imageUrlsOf(project), imageSlots,
+				!s3Adapter.isSameContent(project.getMainImg(), mainImgFile),
+				!s3Adapter.isSameContent(project.getResponsiveMainImg(), responsiveMainImgFile)));
+	}
+
+	private ApiResponse<Project> applyProjectUpdate(UpdateProjectServiceRequestDto dto, ImageUpdatePlan plan,
+													MultipartFile mainImgFile, MultipartFile responsiveMainImgFile,
+													List<String> uploadedUrlList) {
+		Optional<Project> optionalProject = projectRepository.findById(dto.projectId());
+		if(optionalProject.isEmpty()){
+			return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
+		}
+
+		Project project = optionalProject.get();
+		// 올리는 사이 다른 요청이 이미지를 바꿨다면 계획한 이미지 목록이 맞지 않으므로 반영하지 않는다.
+		List<String> previousImageUrls = imageUrlsOf(project);
+		if (!previousImageUrls.equals(plan.previousImageUrls())) {
+			return ApiResponse.withError(ErrorCode.PROJECT_IMAGES_CHANGED);
+		}
+		// 올리는 사이 다른 요청이 대표, 메인 프로젝트를 바꿨을 수 있으므로 반영하는 트랜잭션에서 다시 확인한다.
+		ErrorCode projectTypeError = checkProjectTypeChange(project, dto.projectType());
+		if (projectTypeError != null) return ApiResponse.withError(projectTypeError);
+		changeProjectType(project, dto.projectType());
+
+		Iterator<String> uploadedUrls = uploadedUrlList.iterator();
+
+		// 새로운 메인이미지 저장
+		if (plan.mainImgChanged()) {
+			project.setMainImg(uploadedUrls.next());
+			project.setMainImgFileName(mainImgFile.getOriginalFilename());
+			project.setMainImgThumbnail(null);
+		}
+
+		// 새로운 반응형 메인이미지 저장
+		if (plan.responsiveMainImgChanged()) {
+			project.setResponsiveMainImg(uploadedUrls.next());
+			project.setResponsiveMainImgFileName(responsiveMainImgFile.getOriginalFilename());
+			project.setResponsiveMainImgThumbnail(null);
+		}
+
+		// 유지하는 이미지 + 새로운 이미지들 저장
+		// 이미지는 id 순으로 조회되므로, 기존 행을 id 순서대로 재사용해 내용만 바꿔 끼우면 행을 지우고 만들지 않아도 순서가 바뀐다.
+		List<ProjectImage> existingImages = sortedImagesOf(project);
+		List<ImageSlot> imageSlots = plan.imageSlots();
+		for (int i = 0; i < imageSlots.size(); i++) {
+			ImageSlot imageSlot = imageSlots.get(i);
+			String imageUrl = imageSlot.file() == null ? imageSlot.imageUrl() : uploadedUrls.next();
+			String fileName = imageSlot.file() == null ? imageSlot.fileName() : imageSlot.file().getOriginalFilename();
+			String thumbnailUrl = imageSlot.file() == null ? imageSlot.thumbnailUrl() : null;
+			ProjectImage projectImage;
+			if (i < existingImages.size()) {
+				projectImage = existingImages.get(i);
+				projectImage.setImageUrlList(imageUrl);
+				projectImage.setFileName(fileName);
+			} else {
+				projectImage = ProjectImage.builder()
+						.project(project)
+						.imageUrlList(imageUrl)
+						.fileName(fileName)
+						.build();
+				project.getProjectImages().add(projectImage);
+			}
+			projectImage.setThumbnailUrl(thumbnailUrl);
+		}
+		for (int i = imageSlots.size(); i < existingImages.size(); i++) {
+			project.getProjectImages().remove(existingImages.get(i));
+		}
+
+		// 수정 전에만 있던 이미지 참조를 놓는다. 같은 이미지를 여러 칸에서 쓰면 줄어든 개수만큼만 놓는다.
+		List<String> releasedImageUrls = new ArrayList<>(previousImageUrls);
+		for (String imageUrl : imageUrlsOf(project)) {
+			releasedImageUrls.remove(imageUrl);
+		}
+		for (String imageUrl : releasedImageUrls) {
+			s3Adapter.releaseFile(imageUrl);
+		}
+
+		Project updatedProject = projectRepository.save(project);
+		updatedProject.update(dto);
+		projectImageVariantService.requestThumbnails(project);
+		publishProjectChanged(updatedProject.getId());
+		return ApiResponse.ok("프로젝트를 성공적으로 수정했습니다.", updatedProject);
+	}
+
+	// 이 프로젝트를 이 타입으로 바꿀 수 있으면 null, 아니면 거절 사유
+	private ErrorCode checkProjectTypeChange(Project project, String projectType) {
 		switch (projectType) {
 			// 받아온 projectType String 값이 유효한 경우
 			case TOP_PROJECT_TYPE:
 				List<Project> topProject = projectRepository.findByProjectType(projectType);
 				// TOP 프로젝트가 이미 존재하고, 전달된 프로젝트 id가 이미 존재하는 TOP 프로젝트 id와 다른 경우
 				if (!topProject.isEmpty() && !project.getId().equals(topProject.get(0).getId())) {
-					return ApiResponse.withError(ErrorCode.TOP_PROJECT_ALREADY_EXISTS);
+					return ErrorCode.TOP_PROJECT_ALREADY_EXISTS;
 				}
+				return null;
+			case MAIN_PROJECT_TYPE:
+				// 원래 프로젝트 타입이 main이었으면 바뀌는 것이 없다.
+				if (project.getProjectType().equals(MAIN_PROJECT_TYPE))
+					return null;
+				// "main"인 프로젝트가 이미 5개 이상이고 전달된 프로젝트가 원래 main이 아닌 경우
+				if (projectRepository.findByProjectType(MAIN_PROJECT_TYPE).size() >= 5) {
+					return ErrorCode.MAIN_PROJECT_LIMIT_EXCEEDED;
+				}
+				return null;
+			case OTHERS_PROJECT_TYPE:
+				return null;
+			default: // 유효하지 않은 값일 경우
+				return ErrorCode.INVALID_PROJECT_TYPE;
+		}
+	}
+
+	// checkProjectTypeChange로 확인한 타입으로 바꾼다.
+	private void changeProjectType(Project project, String projectType) {
+		switch (projectType) {
+			case TOP_PROJECT_TYPE:
+			case OTHERS_PROJECT_TYPE:
 				// 기존의 프로젝트 타입이 main이었을 경우, 다른 main 프로젝트들의 mainSequence 수정
 				if (project.getProjectType().equals(MAIN_PROJECT_TYPE)) {
-					List<Project> findByMainSequenceGreaterThan
-							= projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(project.getMainSequence(), 999);
-					for (Project findMainProject : findByMainSequenceGreaterThan) {
-						findMainProject.updateMainSequence(findMainProject.getMainSequence() - 1);
-					}
+					projectRepository.shiftMainSequencesAfter(project.getMainSequence());
 				}
 				project.updateProjectType(projectType);
 				project.updateMainSequence(999);
@@ -195,111 +404,85 @@ public class ProjectService {
 				// 원래 프로젝트 타입이 main이었으면 종료
 				if (project.getProjectType().equals(MAIN_PROJECT_TYPE))
 					break;
-				List<Project> mainProjects = projectRepository.findByProjectType(MAIN_PROJECT_TYPE);
-				// "main"인 프로젝트가 이미 5개 이상이고 전달된 프로젝트가 원래 main이 아닌 경우
-				if (mainProjects.size() >= 5) {
-					return ApiResponse.withError(ErrorCode.MAIN_PROJECT_LIMIT_EXCEEDED);
-				}
 				project.updateProjectType(projectType);
 				Integer mainSequence = projectRepository.countByProjectType(projectType);
 				project.updateMainSequence(mainSequence);
 				break;
-			case OTHERS_PROJECT_TYPE:
-				// 기존의 프로젝트 타입이 main이었을 경우, 다른 main 프로젝트들의 mainSequence 수정
-				if (project.getProjectType().equals(MAIN_PROJECT_TYPE)) {
-					List<Project> findByMainSequenceGreaterThan
-							= projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(project.getMainSequence(), 999);
-					for (Project findMainProject : findByMainSequenceGreaterThan) {
-						findMainProject.updateMainSequence(findMainProject.getMainSequence() - 1);
-					}
-				}
-				project.updateProjectType(projectType);
-				project.updateMainSequence(999);
-				break;
-			default: // 유효하지 않은 값일 경우
-				return ApiResponse.withError(ErrorCode.INVALID_PROJECT_TYPE);
+			default:
+				throw new IllegalArgumentException(projectType);
 		}
+	}
 
-		// 기존 메인 이미지 삭제
-		String mainImgFileName = project.getMainImgFileName();
-		if(mainImgFileName != null) s3Adapter.deleteFile(mainImgFileName);
-
-		// 기존 반응형 메인이미지 삭제
-		String responsiveMainImgFileName = project.getMainImgFileName();
-		if(responsiveMainImgFileName != null) s3Adapter.deleteFile(responsiveMainImgFileName);
-
-		// 기존 이미지들 전체 삭제
-		List<ProjectImage> existingImages = project.getProjectImages();
-		// S3에서 기존 이미지들 삭제
-		for (ProjectImage image : existingImages) {
-			String fileName = image.getFileName();
-			// S3Adapter의 deleteFile 메소드를 호출하여 이미지를 삭제
-			s3Adapter.deleteFile(fileName);
+	// 이미지 한 장을 요청 본문에서 바로 S3로 흘려 보내 프로젝트 이미지 목록 끝에 붙인다. 큰 갤러리를 한 장씩 올릴 때 쓴다.
+	// 전송이 끝날 때까지 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 올리고, 다 올린 뒤에 짧은 트랜잭션으로 붙인다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ApiResponse<Project> appendProjectImage(Long projectId, String fileName, String contentType, InputStream inputStream) {
+		if (!projectRepository.existsById(projectId)) {
+			return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
 		}
-		project.getProjectImages().clear();
 
-		// 새로운 메인이미지 저장
-		String mainImg = getImgUrl(mainImgFile);
-		if (mainImg.isEmpty()) return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
-		project.setMainImg(mainImg);
-		project.setMainImgFileName(mainImgFile.getOriginalFilename());
-
-		// 새로운 반응형 메인이미지 저장
-		String responsiveMainImg = getImgUrl(responsiveMainImgFile);
-		if (responsiveMainImg.isEmpty()) return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
-		project.setResponsiveMainImg(responsiveMainImg);
-		project.setResponsiveMainImgFileName(responsiveMainImgFile.getOriginalFilename());
-
-		// 기존 이미지 + 새로운 이미지들 저장
-		List<ProjectImage> projectImages = new LinkedList<>();
-		if (files != null) {
-			for (MultipartFile file : files) {
-				String imageUrl = getImgUrl(file);
-				if (imageUrl.isEmpty()) return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		ApiResponse<String> uploadResponse = s3StreamingUploader.upload(inputStream, fileName, contentType);
+		if (uploadResponse.getStatus().isError()) {
+			return ApiResponse.withError(uploadResponse.getStatus().is5xxServerError() ? ErrorCode.ERROR_S3_UPDATE_OBJECT : ErrorCode.NOT_EXIST_IMAGE_FILE);
+		}
+		return appendUploadedImage(projectId, uploadResponse.getData(), fileName);
+	}
 
-				String fileName = file.getOriginalFilename(); // 원본 파일 이름 가져오기
-				ProjectImage projectImage = ProjectImage.builder()
-						.project(project)
-						.imageUrlList(imageUrl)
-						.fileName(fileName)
-						.build();
-				projectImages.add(projectImage);
-			}
-			project.getProjectImages().addAll(projectImages);
+	// 클라이언트가 업로드 티켓으로 S3에 직접 올린 이미지를 프로젝트 이미지 목록 끝에 붙인다.
+	// S3 안의 복사가 끝날 때까지 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 옮기고, 옮긴 뒤에 짧은 트랜잭션으로 붙인다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ApiResponse<Project> completeProjectImageUpload(Long projectId, String ticket) {
+		if (!projectRepository.existsById(projectId)) {
+			return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
 		}
 
-		Project updatedProject = projectRepository.save(project);
-		updatedProject.update(dto);
-		return ApiResponse.ok("프로젝트를 성공적으로 수정했습니다.", updatedProject);
+		ApiResponse<UploadedFile> uploadResponse = s3PresignedUploader.complete(ticket);
+		if (uploadResponse.getStatus().isError()) {
+			return ApiResponse.of(uploadResponse.getStatus(), uploadResponse.getMessage(), null);
+		}
+		UploadedFile uploadedFile = uploadResponse.getData();
+		return appendUploadedImage(projectId, uploadedFile.url(), uploadedFile.fileName());
 	}
 
 	// 프로젝트 순서 변경 : artwork page
 	public ApiResponse<String> changeSequenceProject(List<ChangeSequenceProjectReq> changeSequenceProjectReqList) {
-
+		// 같은 프로젝트가 두 번 오거나 순서 값이 비어 있으면 거절한다. 순서 값 자체는 기존 데이터처럼 중복이나 빈틈이 있어도 된다.
+		Map<Long, Integer> sequenceById = new LinkedHashMap<>();
 		for (ChangeSequenceProjectReq changeSequenceProjectReq : changeSequenceProjectReqList) {
-			Optional<Project> findProject = projectRepository.findById(changeSequenceProjectReq.getProjectId());
-			if (findProject.isEmpty())
-				return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
-			Project project = findProject.get();
-			project.updateSequence(changeSequenceProjectReq.getSequence());
+			if (changeSequenceProjectReq.getSequence() == null
+					|| sequenceById.put(changeSequenceProjectReq.getProjectId(), changeSequenceProjectReq.getSequence()) != null)
+				return ApiResponse.withError(ErrorCode.INVALID_PROJECT_SEQUENCE);
 		}
 
+		List<Project> projects = projectRepository.findAllById(sequenceById.keySet());
+		if (projects.size() != sequenceById.size())
+			return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
+
+		projectRepository.updateSequences(sequenceById);
+		publishProjectChanged(null);
 		return ApiResponse.ok("아트워크 페이지에 보여질 프로젝트의 순서를 성공적으로 수정하였습니다.");
 	}
 
 	// 프로젝트 순서 변경 : main page
 	public ApiResponse<String> changeMainSequenceProject(List<ChangeMainSequenceProjectReq> changeMainSequenceProjectReqList) {
-
+		Map<Long, Integer> mainSequenceById = new LinkedHashMap<>();
 		for (ChangeMainSequenceProjectReq changeMainSequenceProjectReq : changeMainSequenceProjectReqList) {
-			Optional<Project> findProject = projectRepository.findById(changeMainSequenceProjectReq.getProjectId());
-			if (findProject.isEmpty())
-				return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
-			Project project = findProject.get();
+			if (changeMainSequenceProjectReq.getMainSequence() == null
+					|| mainSequenceById.put(changeMainSequenceProjectReq.getProjectId(), changeMainSequenceProjectReq.getMainSequence()) != null)
+				return ApiResponse.withError(ErrorCode.INVALID_PROJECT_SEQUENCE);
+		}
+
+		List<Project> projects = projectRepository.findAllById(mainSequenceById.keySet());
+		if (projects.size() != mainSequenceById.size())
+			return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
+
+		for (Project project : projects) {
 			if (!project.getProjectType().equals(MAIN_PROJECT_TYPE))
 				return ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID);
-			project.updateMainSequence(changeMainSequenceProjectReq.getMainSequence());
 		}
 
+		projectRepository.updateMainSequences(mainSequenceById);
+		publishProjectChanged(null);
 		return ApiResponse.ok("메인 페이지에 보여질 프로젝트의 순서를 성공적으로 수정하였습니다.");
 	}
 
@@ -311,6 +494,7 @@ public class ProjectService {
 
 		Project project = optionalProject.get();
 		Project updatedProject = project.updatePostingStatus(dto.isPosted());
+		publishProjectChanged(updatedProject.getId());
 
 		return ApiResponse.ok("프로젝트 게시 여부를 성공적으로 변경하였습니다.", updatedProject);
 
@@ -334,15 +518,12 @@ public class ProjectService {
 				}
 				// 기존의 프로젝트 타입이 main이었을 경우, 다른 main 프로젝트들의 mainSequence 수정
 				if (project.getProjectType().equals(MAIN_PROJECT_TYPE)) {
-					List<Project> findByMainSequenceGreaterThan
-							= projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(project.getMainSequence(), 999);
-					for (Project findMainProject : findByMainSequenceGreaterThan) {
-						findMainProject.updateMainSequence(findMainProject.getMainSequence() - 1);
-					}
+					projectRepository.shiftMainSequencesAfter(project.getMainSequence());
 				}
 				Project updatedTopProject = project.updateProjectType(projectType);
 				updatedTopProject.updateMainSequence(999);
 				updatedTopProject.setIsPosted(true);
+				publishProjectChanged(updatedTopProject.getId());
 				return ApiResponse.ok("프로젝트 타입을 성공적으로 변경하였습니다.", updatedTopProject);
 			case MAIN_PROJECT_TYPE:
 				// 원래 프로젝트 타입이 main이었으면 종료
@@ -358,18 +539,16 @@ public class ProjectService {
 				Integer mainSequence = projectRepository.countByProjectType(projectType);
 				updatedMainProject.updateMainSequence(mainSequence);
 				updatedMainProject.setIsPosted(true);
+				publishProjectChanged(updatedMainProject.getId());
 				return ApiResponse.ok("프로젝트 타입을 성공적으로 변경하였습니다.", updatedMainProject);
 			case OTHERS_PROJECT_TYPE:
 				// 기존의 프로젝트 타입이 main이었을 경우, 다른 main 프로젝트들의 mainSequence 수정
 				if (project.getProjectType().equals(MAIN_PROJECT_TYPE)) {
-					List<Project> findByMainSequenceGreaterThan
-							= projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(project.getMainSequence(), 999);
-					for (Project findMainProject : findByMainSequenceGreaterThan) {
-						findMainProject.updateMainSequence(findMainProject.getMainSequence() - 1);
-					}
+					projectRepository.shiftMainSequencesAfter(project.getMainSequence());
 				}
 				Project updatedProject = project.updateProjectType(projectType);
 				updatedProject.updateMainSequence(999);
+				publishProjectChanged(updatedProject.getId());
 				return ApiResponse.ok("프로젝트 타입을 성공적으로 변경하였습니다.", updatedProject);
 			default: // 유효하지 않은 값일 경우
 				return ApiResponse.withError(ErrorCode.INVALID_PROJECT_TYPE);
@@ -387,49 +566,184 @@ public class ProjectService {
 		Integer sequence = project.getSequence();
 		Integer mainSequence = project.getMainSequence();
 
-		// 메인 이미지 삭제
-		String mainImgFileName = project.getMainImgFileName();
-		if(mainImgFileName != null) s3Adapter.deleteFile(mainImgFileName);
-
-		// 반응형 메인이미지 삭제
-		String responsiveMainImgFileName = project.getMainImgFileName();
-		if(responsiveMainImgFileName != null) s3Adapter.deleteFile(responsiveMainImgFileName);
-
-		// 이미지들 전체 삭제
-		List<ProjectImage> existingImages = project.getProjectImages();
-		// S3에서 이미지들 삭제
-		for (ProjectImage image : existingImages) {
-			String fileName = image.getFileName();
-			// S3Adapter의 deleteFile 메소드를 호출하여 이미지를 삭제
-			if(fileName != null) s3Adapter.deleteFile(fileName);
+		// 메인 이미지, 반응형 메인이미지, 이미지들의 참조를 놓는다. 다른 곳에서 참조하지 않는 객체만 S3에서 삭제된다.
+		for (String imageUrl : imageUrlsOf(project)) {
+			s3Adapter.releaseFile(imageUrl);
 		}
 		project.getProjectImages().clear();
 
 		projectRepository.delete(project);
 
-		List<Project> findBySequenceGreaterThan = projectRepository.findAllBySequenceGreaterThan(sequence);
-		List<Project> findByMainSequenceGreaterThan
-				= projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(mainSequence, 999);
-		for (Project findArtworkProject : findBySequenceGreaterThan) {
-			findArtworkProject.updateSequence(findArtworkProject.getSequence() - 1);
-		}
-
+		// 뒤에 있던 프로젝트들의 순서를 한 번의 UPDATE로 당긴다.
+		projectRepository.shiftSequencesAfter(sequence);
 		if (project.getProjectType().equals(MAIN_PROJECT_TYPE)) {
-			for (Project findMainProject : findByMainSequenceGreaterThan) {
-				findMainProject.updateMainSequence(findMainProject.getMainSequence() - 1);
-			}
+			projectRepository.shiftMainSequencesAfter(mainSequence);
 		}
+		publishProjectChanged(projectId);
 		return ApiResponse.ok("프로젝트를 성공적으로 삭제했습니다.");
 	}
 
 	// UTILITY
-	private String getImgUrl(MultipartFile file) throws IOException {
-		ApiResponse<String> updateFileResponse = s3Adapter.uploadFile(file);
+	// 프로젝트 행과 이미지 행을 따로 읽어 메모리에서 묶는다. 이미지는 프로젝트 수와 상관없이 한 번만 조회한다.
+	private List<ProjectResponse> toResponses(List<ProjectRow> rows) {
+		if (rows.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<Long> projectIds = new ArrayList<>(rows.size());
+		for (ProjectRow row : rows) {
+			projectIds.add(row.id());
+		}
+
+		Map<Long, List<ProjectImageResponse>> imagesByProjectId = new HashMap<>();
+		for (ProjectImageRow imageRow : projectRepository.findImageRowsByProjectIdIn(projectIds)) {
+			imagesByProjectId.computeIfAbsent(imageRow.projectId(), id -> new ArrayList<>())
+					.add(ProjectImageResponse.from(imageRow));
+		}
+
+		List<ProjectResponse> responses = new ArrayList<>(rows.size());
+		for (ProjectRow row : rows) {
+			responses.add(ProjectResponse.of(row, imagesByProjectId.getOrDefault(row.id(), List.of())));
+		}
+		return responses;
+	}
+
+	// 메인 페이지 스냅샷과 콘텐츠 버전은 커밋 이후에 이 이벤트를 받아 갱신된다.
+	private void publishProjectChanged(Long projectId) {
+		eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
+	}
+
+	// 수정 후 이미지 목록을 표시 순서대로 만든다. 유지하는 기존 이미지는 URL, 파일 이름, 썸네일을, 새로 올릴 이미지는 파일을 담는다.
+	// 유효하지 않은 기존 이미지 식별자가 있으면 null
+	private List<ImageSlot> planImageSlots(List<ProjectImage> existingImages, List<Long> existingImageIds, List<MultipartFile> files) {
+		List<ImageSlot> imageSlots = new ArrayList<>();
+		List<ProjectImage> candidates = new ArrayList<>(existingImages);
+		if (existingImageIds != null) {
+			// 클라이언트가 유지할 기존 이미지를 식별자로 알려 준 경우, 새 파일은 모두 그 뒤에 붙인다.
+			for (Long imageId : existingImageIds) {
+				ProjectImage keptImage = null;
+				for (ProjectImage candidate : candidates) {
+					if (Objects.equals(candidate.getId(), imageId)) {
+						keptImage = candidate;
+						break;
+					}
+				}
+				if (keptImage == null) return null;
+				candidates.remove(keptImage);
+				imageSlots.add(ImageSlot.kept(keptImage));
+			}
+			if (files != null) {
+				for (MultipartFile file : files) {
+					imageSlots.add(ImageSlot.upload(file));
+				}
+			}
+			return imageSlots;
+		}
+
+		// 식별자가 없으면 파일 이름과 내용이 같은 기존 이미지를 그대로 쓴다.
+		if (files != null) {
+			for (MultipartFile file : files) {
+				ProjectImage sameImage = null;
+				for (ProjectImage candidate : candidates) {
+					if (s3Adapter.isSameContent(candidate.getImageUrlList(), file)) {
+						sameImage = candidate;
+						break;
+					}
+				}
+				if (sameImage == null) {
+					imageSlots.add(ImageSlot.upload(file));
+				} else {
+					candidates.remove(sameImage);
+					imageSlots.add(ImageSlot.kept(sameImage));
+				}
+			}
+		}
+		return imageSlots;
+	}
+
+	// 프로젝트가 참조하는 이미지 URL 목록. 같은 URL이 여러 번 나오면 참조도 그만큼 있다.
+	private List<String> imageUrlsOf(Project project) {
+		List<String> imageUrls = new ArrayList<>();
+		if (project.getMainImg() != null) imageUrls.add(project.getMainImg());
+		if (project.getResponsiveMainImg() != null) imageUrls.add(project.getResponsiveMainImg());
+		for (ProjectImage projectImage : project.getProjectImages()) {
+			if (projectImage.getImageUrlList() != null) imageUrls.add(projectImage.getImageUrlList());
+		}
+		return imageUrls;
+	}
+
+	// 트랜잭션 밖에서 올린 이미지를 새 트랜잭션에서 프로젝트에 붙인다.
+	// 올리는 사이 프로젝트가 지워졌거나 저장하지 못하면, DB에 남지 않은 객체이므로 바로 지운다.
+	private ApiResponse<Project> appendUploadedImage(Long projectId, String imageUrl, String fileName) {
+		return saveOrDiscard(List.of(imageUrl), () -> projectRepository.findById(projectId)
+				.map(project -> appendImage(project, imageUrl, fileName))
+				.orElseGet(() -> ApiResponse.withError(ErrorCode.INVALID_PROJECT_ID)));
+	}
+
+	// 트랜잭션 밖에서 올린 이미지로 새 트랜잭션에서 저장한다. 저장이 거절되거나 롤백되면 DB에 남지 않은 객체이므로 바로 지운다.
+	private ApiResponse<Project> saveOrDiscard(List<String> uploadedUrls, Supplier<ApiResponse<Project>> save) {
+		ApiResponse<Project> response;
+		try {
+			response = transactionTemplate.execute(status -> save.get());
+		} catch (RuntimeException e) {
+			uploadedUrls.forEach(s3Adapter::discardFile);
+			throw e;
+		}
+		if (response.getStatus().isError()) {
+			uploadedUrls.forEach(s3Adapter::discardFile);
+		}
+		return response;
+	}
 
-		if(updateFileResponse.getStatus().is5xxServerError()){
+	private ApiResponse<Project> appendImage(Project project, String imageUrl, String fileName) {
+		project.getProjectImages().add(ProjectImage.builder()
+				.project(project)
+				.imageUrlList(imageUrl)
+				.fileName(fileName)
+				.build());
+		Project savedProject = projectRepository.save(project);
+		projectImageVariantService.requestThumbnails(project);
+		publishProjectChanged(savedProject.getId());
+		return ApiResponse.ok("프로젝트 이미지를 성공적으로 추가했습니다.", savedProject);
+	}
 
-			return "";
+	private List<ProjectImage> sortedImagesOf(Project project) {
+		List<ProjectImage> images = new ArrayList<>(project.getProjectImages());
+		images.sort(Comparator.comparing(ProjectImage::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+		return images;
+	}
+
+	// 수정 전 이미지 URL 목록(반영할 때 바뀌지 않았는지 확인한다), 수정 후 이미지 목록, 메인이미지 변경 여부
+	private record ImageUpdatePlan(List<String> previousImageUrls, List<ImageSlot> imageSlots,
+								   boolean mainImgChanged, boolean responsiveMainImgChanged) {
+		// 바뀐 메인이미지, 반응형 메인이미지, 새 이미지들 순서. 반영할 때 같은 순서로 URL을 꺼낸다.
+		List<MultipartFile> uploadFiles(MultipartFile mainImgFile, MultipartFile responsiveMainImgFile) {
+			List<MultipartFile> uploadFiles = new ArrayList<>();
+			if (mainImgChanged) uploadFiles.add(mainImgFile);
+			if (responsiveMainImgChanged) uploadFiles.add(responsiveMainImgFile);
+			for (ImageSlot imageSlot : imageSlots) {
+				if (imageSlot.file() != null) uploadFiles.add(imageSlot.file());
+			}
+			return uploadFiles;
 		}
-		return updateFileResponse.getData();
+	}
+
+	private record ImageSlot(String imageUrl, String fileName, String thumbnailUrl, MultipartFile file) {
+		static ImageSlot kept(ProjectImage projectImage) {
+			return new ImageSlot(projectImage.getImageUrlList(), projectImage.getFileName(), projectImage.getThumbnailUrl(), null);
+		}
+
+		static ImageSlot upload(MultipartFile file) {
+			return new ImageSlot(null, null, null, file);
+		}
+	}
+
+	// 메인이미지, 반응형 메인이미지, 이미지들 순서로 동시에 업로드하고 같은 순서로 URL을 돌려받는다.
+	private ApiResponse<List<String>> uploadProjectImages(MultipartFile mainImgFile, MultipartFile responsiveMainImgFile,
+														  List<MultipartFile> files) {
+		List<MultipartFile> uploadFiles = new ArrayList<>();
+		uploadFiles.add(mainImgFile);
+		uploadFiles.add(responsiveMainImgFile);
+		if (files != null) uploadFiles.addAll(files);
+		return s3UploadPipeline.uploadAll(uploadFiles);
 	}
 }
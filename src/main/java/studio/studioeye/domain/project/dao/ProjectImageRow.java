@@ -0,0 +1,13 @@
+package studio.studioeye.domain.project.dao;
+
+/**
+ * 프로젝트 이미지 조회용 JPQL 생성자 프로젝션. 여러 프로젝트의 이미지를 한 번에 읽어 projectId로 묶는다.
+ */
+public record ProjectImageRow(
+		Long projectId,
+		Long id,
+		String imageUrlList,
+		String fileName,
+		String thumbnailUrl
+) {
+}
@@ -0,0 +1,13 @@
+package studio.studioeye.domain.project.dao;
+
+import java.util.Map;
+
+/**
+ * 여러 프로젝트의 순서 값을 한 번의 UPDATE로 바꾸는 ProjectRepository 확장.
+ */
+public interface ProjectOrderRepository {
+
+    int updateSequences(Map<Long, Integer> sequenceById);
+
+    int updateMainSequences(Map<Long, Integer> mainSequenceById);
+}
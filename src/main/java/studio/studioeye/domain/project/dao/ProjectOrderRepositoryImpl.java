@@ -0,0 +1,47 @@
+package studio.studioeye.domain.project.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.Map;
+
+public class ProjectOrderRepositoryImpl implements ProjectOrderRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int updateSequences(Map<Long, Integer> sequenceById) {
+        return updateOrder("sequence", sequenceById);
+    }
+
+    @Override
+    public int updateMainSequences(Map<Long, Integer> mainSequenceById) {
+        return updateOrder("mainSequence", mainSequenceById);
+    }
+
+    // UPDATE Project p SET p.<field> = CASE p.id WHEN :id0 THEN :value0 ... ELSE p.<field> END WHERE p.id IN :ids
+    private int updateOrder(String field, Map<Long, Integer> orderById) {
+        if (orderById.isEmpty()) {
+            return 0;
+        }
+        StringBuilder jpql = new StringBuilder("UPDATE Project p SET p.").append(field).append(" = CASE p.id");
+        for (int i = 0; i < orderById.size(); i++) {
+            jpql.append(" WHEN :id").append(i).append(" THEN :value").append(i);
+        }
+        jpql.append(" ELSE p.").append(field).append(" END WHERE p.id IN :ids");
+
+        // 같은 트랜잭션에서 앞서 바뀐 엔티티가 있으면 UPDATE보다 먼저 반영한다.
+        entityManager.flush();
+        Query query = entityManager.createQuery(jpql.toString());
+        int index = 0;
+        for (Map.Entry<Long, Integer> entry : orderById.entrySet()) {
+            query.setParameter("id" + index, entry.getKey());
+            query.setParameter("value" + index, entry.getValue());
+            index++;
+        }
+        query.setParameter("ids", orderById.keySet());
+        return query.executeUpdate();
+    }
+}
@@ -1,31 +1,76 @@
 package studio.studioeye.domain.project.dao;
 
 import studio.studioeye.domain.project.domain.Project;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.projectImages")
-    List<Project> findAllWithImages();
-
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.projectImages")
-    Page<Project> findAll(Pageable pageable);
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectOrderRepository {
+    String PROJECT_ROW = "new studio.studioeye.domain.project.dao.ProjectRow(" +
+            "p.id, p.department, p.category, p.name, p.client, p.date, p.link, p.overView, p.projectType, p.isPosted, " +
+            "p.mainImg, p.mainImgFileName, p.responsiveMainImg, p.responsiveMainImgFileName, " +
+            "p.mainImgThumbnail, p.responsiveMainImgThumbnail, p.sequence, p.mainSequence)";
 
     List<Project> findByProjectType(String projectType);
 
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.projectImages ORDER BY p.sequence ASC")
-    List<Project> findAllWithImagesAndOrderBySequenceAsc();
+    @Query("SELECT " + PROJECT_ROW + " FROM Project p ORDER BY p.sequence ASC")
+    List<ProjectRow> findAllRowsOrderBySequenceAsc();
+
+    @Query("SELECT " + PROJECT_ROW + " FROM Project p WHERE p.projectType IN ('top', 'main') ORDER BY p.mainSequence ASC")
+    List<ProjectRow> findMainPageRows();
+
+    @Query("SELECT " + PROJECT_ROW + " FROM Project p WHERE p.id = :projectId")
+    Optional<ProjectRow> findRowById(@Param("projectId") Long projectId);
+
+    // sequence가 없는 행은 DB와 관계없이 맨 앞에 두고, id로 순서를 확정한다.
+    @Query("SELECT " + PROJECT_ROW + " FROM Project p ORDER BY p.sequence ASC NULLS FIRST, p.id ASC")
+    Slice<ProjectRow> findRowSlice(Pageable pageable);
+
+    // (sequence, id) 기준 keyset 조회. OFFSET 없이 인덱스에서 바로 다음 위치를 찾는다.
+    @Query("SELECT " + PROJECT_ROW + " FROM Project p " +
+            "WHERE p.sequence > :sequence OR (p.sequence = :sequence AND p.id > :id) " +
+            "ORDER BY p.sequence ASC NULLS FIRST, p.id ASC")
+    Slice<ProjectRow> findRowSliceAfter(@Param("sequence") Integer sequence, @Param("id") Long id, Pageable pageable);
+
+    // 직전 페이지가 sequence 없는 행에서 끝난 경우. 남은 sequence 없는 행 다음에 나머지 전체가 이어진다.
+    @Query("SELECT " + PROJECT_ROW + " FROM Project p " +
+            "WHERE (p.sequence IS NULL AND p.id > :id) OR p.sequence IS NOT NULL " +
+            "ORDER BY p.sequence ASC NULLS FIRST, p.id ASC")
+    Slice<ProjectRow> findRowSliceAfterNullSequence(@Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new studio.studioeye.domain.project.dao.ProjectImageRow(i.project.id, i.id, i.imageUrlList, i.fileName, i.thumbnailUrl) " +
+            "FROM ProjectImage i WHERE i.project.id IN :projectIds ORDER BY i.id ASC")
+    List<ProjectImageRow> findImageRowsByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.sequence = p.sequence - 1 WHERE p.sequence > :sequence")
+    int shiftSequencesAfter(@Param("sequence") Integer sequence);
+
+    // mainSequence 999는 main이 아닌 프로젝트를 뜻하므로 당기지 않는다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET p.mainSequence = p.mainSequence - 1 " +
+            "WHERE p.mainSequence > :mainSequence AND p.mainSequence <> 999")
+    int shiftMainSequencesAfter(@Param("mainSequence") Integer mainSequence);
 
-    @Query("SELECT p FROM Project p LEFT JOIN FETCH p.projectImages WHERE p.projectType = 'main' ORDER BY p.mainSequence ASC")
-    List<Project> findAllWithImagesAndOrderByMainSequenceAsc();
+    // 썸네일은 원본 URL로 찾아 채운다. 만드는 동안 이미지가 바뀌었으면 아무 행도 바뀌지 않는다.
+    @Modifying
+    @Query("UPDATE Project p SET p.mainImgThumbnail = :thumbnailUrl WHERE p.mainImg = :imageUrl")
+    int updateMainImgThumbnail(@Param("imageUrl") String imageUrl, @Param("thumbnailUrl") String thumbnailUrl);
 
-    List<Project> findAllBySequenceGreaterThan(Integer sequence);
+    @Modifying
+    @Query("UPDATE Project p SET p.responsiveMainImgThumbnail = :thumbnailUrl WHERE p.responsiveMainImg = :imageUrl")
+    int updateResponsiveMainImgThumbnail(@Param("imageUrl") String imageUrl, @Param("thumbnailUrl") String thumbnailUrl);
 
-    List<Project> findAllByMainSequenceGreaterThanAndMainSequenceNot(Integer mainSequence, Integer notMainSequence);
+    @Modifying
+    @Query("UPDATE ProjectImage i SET i.thumbnailUrl = :thumbnailUrl WHERE i.imageUrlList = :imageUrl")
+    int updateImageThumbnail(@Param("imageUrl") String imageUrl, @Param("thumbnailUrl") String thumbnailUrl);
 
     Integer countByProjectType(String projectType);
-}
\ No newline at end of file
+}
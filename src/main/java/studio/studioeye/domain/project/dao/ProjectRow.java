@@ -0,0 +1,26 @@
+package studio.studioeye.domain.project.dao;
+
+/**
+ * 프로젝트 조회용 JPQL 생성자 프로젝션. 엔티티를 영속성 컨텍스트에 올리지 않고 컬럼 값만 읽는다.
+ */
+public record ProjectRow(
+		Long id,
+		String department,
+		String category,
+		String name,
+		String client,
+		String date,
+		String link,
+		String overView,
+		String projectType,
+		Boolean isPosted,
+		String mainImg,
+		String mainImgFileName,
+		String responsiveMainImg,
+		String responsiveMainImgFileName,
+		String mainImgThumbnail,
+		String responsiveMainImgThumbnail,
+		Integer sequence,
+		Integer mainSequence
+) {
+}
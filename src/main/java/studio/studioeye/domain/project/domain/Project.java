@@ -45,6 +45,11 @@ public class Project {
 
 	private String responsiveMainImgFileName;
 
+	// 목록 화면용 썸네일. 업로드 후 비동기로 만들어 채우므로 만들어지기 전에는 null이다.
+	private String mainImgThumbnail;
+
+	private String responsiveMainImgThumbnail;
+
 	private Integer sequence;
 
 	private Integer mainSequence;
@@ -68,7 +73,7 @@ public class Project {
 		this.mainImgFileName = mainImgFileName;
 		this.responsiveMainImg = responsiveMainImg;
 		this.responsiveMainImgFileName = responsiveMainImgFileName;
-		this.projectImages = projectImages;
+		this.projectImages = projectImages != null ? projectImages : new LinkedList<>();
 		this.isPosted = isPosted;
 		this.projectType = projectType;
 		this.sequence = sequence;
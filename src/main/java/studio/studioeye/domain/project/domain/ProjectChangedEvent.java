@@ -0,0 +1,8 @@
+package studio.studioeye.domain.project.domain;
+
+/**
+ * 프로젝트가 생성/수정/삭제되거나 타입, 순서가 바뀌었을 때 발행되는 이벤트.
+ * 여러 프로젝트가 한꺼번에 바뀐 경우(순서 변경 등) projectId는 null이다.
+ */
+public record ProjectChangedEvent(Long projectId) {
+}
@@ -23,6 +23,9 @@ public class ProjectImage {
 
     private String fileName;
 
+    // 업로드 후 비동기로 만들어 채우는 썸네일 URL
+    private String thumbnailUrl;
+
     @Builder
     public ProjectImage(Project project, String imageUrlList, String fileName) {
         this.project = project;
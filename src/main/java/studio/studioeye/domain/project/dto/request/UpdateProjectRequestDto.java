@@ -5,6 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import java.util.List;
+
 public record UpdateProjectRequestDto(
 	@Schema(description = "프로젝트 식별자")
 	@Positive(message = "프로젝트 식별자는 양수여야 합니다.")
@@ -44,10 +46,13 @@ public record UpdateProjectRequestDto(
 
 	@Schema(description = "프로젝트 게시 여부")
 	@NotNull(message = "null 값을 허용하지 않습니다.")
-	Boolean isPosted
+	Boolean isPosted,
+
+	@Schema(description = "유지할 기존 이미지 식별자 목록(표시 순서대로), 새로 올린 files는 그 뒤에 붙습니다. null이면 files의 파일 이름과 내용으로 기존 이미지를 찾습니다.")
+	List<Long> existingImageIds
 
 ) {
 	public UpdateProjectServiceRequestDto toServiceRequest() {
-		return new UpdateProjectServiceRequestDto(projectId, department,category,name,client,date,link,overView, projectType, isPosted);
+		return new UpdateProjectServiceRequestDto(projectId, department,category,name,client,date,link,overView, projectType, isPosted, existingImageIds);
 	}
 }
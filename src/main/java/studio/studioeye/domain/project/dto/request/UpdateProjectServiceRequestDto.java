@@ -1,5 +1,7 @@
 package studio.studioeye.domain.project.dto.request;
 
+import java.util.List;
+
 public record UpdateProjectServiceRequestDto(
 	Long projectId,
 	String department,
@@ -10,6 +12,7 @@ public record UpdateProjectServiceRequestDto(
 	String link,
 	String overView,
 	String projectType,
-	Boolean isPosted
+	Boolean isPosted,
+	List<Long> existingImageIds
 ) {
 }
@@ -0,0 +1,14 @@
+package studio.studioeye.domain.project.dto.response;
+
+import studio.studioeye.domain.project.dao.ProjectImageRow;
+
+public record ProjectImageResponse(
+		Long id,
+		String imageUrlList,
+		String fileName,
+		String thumbnailUrl
+) {
+	public static ProjectImageResponse from(ProjectImageRow row) {
+		return new ProjectImageResponse(row.id(), row.imageUrlList(), row.fileName(), row.thumbnailUrl());
+	}
+}
@@ -0,0 +1,22 @@
+package studio.studioeye.domain.project.dto.response;
+
+import java.util.List;
+
+/**
+ * 프로젝트 페이지 조회 응답. content, number, size, numberOfElements, totalElements, totalPages,
+ * first, last, empty는 기존 Page 응답과 같은 이름과 의미를 쓰고, 다음 페이지를 이어서 읽을 수 있는 nextCursor를 더한다.
+ * 마지막 페이지에서는 nextCursor가 null이다.
+ */
+public record ProjectPageResponse(
+		List<ProjectResponse> content,
+		int number,
+		int size,
+		int numberOfElements,
+		long totalElements,
+		int totalPages,
+		boolean first,
+		boolean last,
+		boolean empty,
+		String nextCursor
+) {
+}
@@ -0,0 +1,54 @@
+package studio.studioeye.domain.project.dto.response;
+
+import studio.studioeye.domain.project.dao.ProjectRow;
+
+import java.util.List;
+
+/**
+ * 프로젝트 조회 응답. 필드 이름과 순서는 기존에 Project 엔티티를 그대로 직렬화하던 응답과 같다.
+ */
+public record ProjectResponse(
+		Long id,
+		String department,
+		String category,
+		String name,
+		String client,
+		String date,
+		String link,
+		String overView,
+		String projectType,
+		Boolean isPosted,
+		String mainImg,
+		String mainImgFileName,
+		String responsiveMainImg,
+		String responsiveMainImgFileName,
+		String mainImgThumbnail,
+		String responsiveMainImgThumbnail,
+		Integer sequence,
+		Integer mainSequence,
+		List<ProjectImageResponse> projectImages
+) {
+	public static ProjectResponse of(ProjectRow row, List<ProjectImageResponse> projectImages) {
+		return new ProjectResponse(
+				row.id(),
+				row.department(),
+				row.category(),
+				row.name(),
+				row.client(),
+				row.date(),
+				row.link(),
+				row.overView(),
+				row.projectType(),
+				row.isPosted(),
+				row.mainImg(),
+				row.mainImgFileName(),
+				row.responsiveMainImg(),
+				row.responsiveMainImgFileName(),
+				row.mainImgThumbnail(),
+				row.responsiveMainImgThumbnail(),
+				row.sequence(),
+				row.mainSequence(),
+				projectImages
+		);
+	}
+}
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import studio.studioeye.domain.request.application.RequestService;
@@ -13,6 +15,7 @@ import studio.studioeye.domain.request.dto.request.UpdateRequestCommentDto;
 import studio.studioeye.global.common.response.ApiResponse;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +34,21 @@ public class RequestController {
 		return requestService.createRequest(dto.toServiceRequest(), files);
 	}
 
+	@Operation(summary = "문의 첨부파일 추가 API (multipart가 아닌 파일 자체를 본문으로 보내면 받는 대로 S3에 스트리밍 업로드)")
+	@PostMapping("/requests/{requestId}/files")
+	public ApiResponse<Request> attachRequestFile(@PathVariable Long requestId,
+												  @RequestParam String fileName,
+												  @RequestHeader(value = HttpHeaders.CONTENT_TYPE, defaultValue = MediaType.APPLICATION_OCTET_STREAM_VALUE) String contentType,
+												  InputStream inputStream) {
+		return requestService.attachRequestFile(requestId, fileName, contentType, inputStream);
+	}
+
+	@Operation(summary = "문의 첨부파일 업로드 완료 API (업로드 티켓으로 S3에 직접 올린 파일을 문의에 추가)")
+	@PostMapping("/requests/{requestId}/files/uploads/{ticket}")
+	public ApiResponse<Request> completeRequestFileUpload(@PathVariable Long requestId, @PathVariable String ticket) {
+		return requestService.completeRequestFileUpload(requestId, ticket);
+	}
+
 	@Operation(summary = "문의 삭제 API")
 	@DeleteMapping("/requests/{requestId}")
 	public ApiResponse<String> deleteRequest(@PathVariable Long requestId){
@@ -2,9 +2,11 @@ package studio.studioeye.domain.request.application;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import studio.studioeye.domain.email.service.EmailService;
+import studio.studioeye.domain.email.service.EmailOutboxService;
 import studio.studioeye.domain.notification.application.NotificationService;
 import studio.studioeye.domain.request.dao.AnswerRepository;
 import studio.studioeye.domain.request.dao.RequestCount;
@@ -15,13 +17,19 @@ import studio.studioeye.domain.request.domain.State;
 import studio.studioeye.domain.request.dto.request.CreateRequestServiceDto;
 import studio.studioeye.domain.request.dto.request.UpdateRequestCommentServiceDto;
 import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.common.util.MonthlySeries;
 import studio.studioeye.global.exception.error.ErrorCode;
 
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.infrastructure.s3.S3PresignedUploader;
+import studio.studioeye.infrastructure.s3.S3StreamingUploader;
+import studio.studioeye.infrastructure.s3.UploadedFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -34,9 +42,12 @@ public class RequestService {
 	private final RequestRepository requestRepository;
 	private final AnswerRepository answerRepository;
 	private final S3Adapter s3Adapter;
+	private final S3StreamingUploader s3StreamingUploader;
+	private final S3PresignedUploader s3PresignedUploader;
 
 	private final NotificationService notificationService;
-	private final EmailService emailService;
+	private final EmailOutboxService emailOutboxService;
+	private final TransactionTemplate transactionTemplate;
 
 	private static final String EMAIL_REGEX =
 			"^[a-zA-Z0-9_+&*-]+(?:\\." +
@@ -81,7 +92,8 @@ public class RequestService {
 				+ "프로젝트명: " + savedRequest.getProjectName() + "\n"
 				+ "문의 내용: " + savedRequest.getDescription() + "\n";
 
-		boolean isExceeded = emailService.sendEmail(savedRequest.getEmail(), subject, text);
+		// 메일은 문의와 같은 트랜잭션으로 발송함에 쌓고, 커밋된 뒤 EmailOutboxService가 보낸다.
+		boolean isExceeded = emailOutboxService.enqueue(savedRequest.getEmail(), subject, text);
 		if(!isExceeded) {
 			return ApiResponse.withError(ErrorCode.EMAIL_SIZE_EXCEEDED);
 		}
@@ -89,6 +101,57 @@ public class RequestService {
 		return ApiResponse.ok("문의를 성공적으로 등록하였습니다.", savedRequest);
 	}
 
+	// 첨부파일 한 개를 요청 본문에서 바로 S3로 흘려 보낸다. 큰 첨부파일도 서버에 통째로 쌓아 두지 않는다.
+	// 전송이 끝날 때까지 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 올리고, 다 올린 뒤에 짧은 트랜잭션으로 붙인다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ApiResponse<Request> attachRequestFile(Long requestId, String fileName, String contentType, InputStream inputStream) {
+		if (!requestRepository.existsById(requestId)) {
+			return ApiResponse.withError(ErrorCode.INVALID_REQUEST_ID);
+		}
+
+		ApiResponse<String> uploadResponse = s3StreamingUploader.upload(inputStream, fileName, contentType);
+		if (uploadResponse.getStatus().isError()) {
+			return ApiResponse.withError(uploadResponse.getStatus().is5xxServerError() ? ErrorCode.ERROR_S3_UPDATE_OBJECT : ErrorCode.NOT_EXIST_IMAGE_FILE);
+		}
+		return attachUploadedFile(requestId, uploadResponse.getData());
+	}
+
+	// 트랜잭션 밖에서 올린 첨부파일을 새 트랜잭션에서 문의에 붙인다.
+	// 올리는 사이 문의가 지워졌거나 저장하지 못하면, DB에 남지 않은 객체이므로 바로 지운다.
+	private ApiResponse<Request> attachUploadedFile(Long requestId, String fileUrl) {
+		ApiResponse<Request> response;
+		try {
+			response = transactionTemplate.execute(status -> requestRepository.findById(requestId)
+					.map(request -> {
+						request.getFileUrlList().add(fileUrl);
+						return ApiResponse.ok("문의 첨부파일을 성공적으로 추가했습니다.", requestRepository.save(request));
+					})
+					.orElseGet(() -> ApiResponse.withError(ErrorCode.INVALID_REQUEST_ID)));
+		} catch (RuntimeException e) {
+			s3Adapter.discardFile(fileUrl);
+			throw e;
+		}
+		if (response.getStatus().isError()) {
+			s3Adapter.discardFile(fileUrl);
+		}
+		return response;
+	}
+
+	// 클라이언트가 업로드 티켓으로 S3에 직접 올린 첨부파일을 문의에 붙인다.
+	// S3 안의 복사가 끝날 때까지 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 옮기고, 옮긴 뒤에 짧은 트랜잭션으로 붙인다.
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public ApiResponse<Request> completeRequestFileUpload(Long requestId, String ticket) {
+		if (!requestRepository.existsById(requestId)) {
+			return ApiResponse.withError(ErrorCode.INVALID_REQUEST_ID);
+		}
+
+		ApiResponse<UploadedFile> uploadResponse = s3PresignedUploader.complete(ticket);
+		if (uploadResponse.getStatus().isError()) {
+			return ApiResponse.of(uploadResponse.getStatus(), uploadResponse.getMessage(), null);
+		}
+		return attachUploadedFile(requestId, uploadResponse.getData().url());
+	}
+
 	public ApiResponse<List<Request>> retrieveAllRequest() {
 		List<Request> requestList = requestRepository.findAll();
 
@@ -146,29 +209,22 @@ public class RequestService {
 		List<RequestCount> requestCountList = requestRepository.findReqNumByYearAndMonthBetweenWithCategoryAndState(
 				startYear, startMonth, endYear, endMonth, category, stateEnum);
 
-		// 응답 데이터 초기화
-		List<Map<String, Object>> responseList = new ArrayList<>();
-		for (int year = startYear; year <= endYear; year++) {
-			int monthStart = (year == startYear) ? startMonth : 1;
-			int monthEnd = (year == endYear) ? endMonth : 12;
-
-			for (int month = monthStart; month <= monthEnd; month++) {
-				// 해당 연도와 월에 대한 stateRequestCount 초기화
-				Map<String, Long> stateRequestCount = new HashMap<>();
-				for (RequestCount requestCount : requestCountList) {
-					if (requestCount.getYear() == year && requestCount.getMonth() == month) {
-						stateRequestCount.put(String.valueOf(requestCount.getState()), requestCount.getRequestCount());
-					}
-				}
-
-				Map<String, Object> responseItem = new HashMap<>();
-				responseItem.put("year", year);
-				responseItem.put("month", month);
-				responseItem.put("RequestCount", stateRequestCount);
-				responseList.add(responseItem);
-			}
+		// 연월별 상태에 따른 문의 수 (조회 결과를 한 번만 훑어서 채움)
+		MonthlySeries<Map<String, Long>> series = MonthlySeries.of(YearMonth.of(startYear, startMonth), YearMonth.of(endYear, endMonth));
+		for (RequestCount requestCount : requestCountList) {
+			series.computeIfAbsent(requestCount.getYear(), requestCount.getMonth(), HashMap::new)
+					.put(String.valueOf(requestCount.getState()), requestCount.getRequestCount());
 		}
 
+		// 응답 데이터 생성 (문의가 없는 달은 빈 stateRequestCount)
+		List<Map<String, Object>> responseList = series.toList((year, month, stateRequestCount) -> {
+			Map<String, Object> responseItem = new HashMap<>();
+			responseItem.put("year", year);
+			responseItem.put("month", month);
+			responseItem.put("RequestCount", stateRequestCount != null ? stateRequestCount : new HashMap<String, Long>());
+			return responseItem;
+		});
+
 		return ApiResponse.ok("문의수 목록을 성공적으로 조회했습니다.", responseList);
 	}
 
@@ -226,7 +282,7 @@ public class RequestService {
 
 				+ "[답변 내용]" + "\n"
 				+ answer + "\n";
-		emailService.sendEmail(updatedRequest.getEmail(), subject, text);
+		emailOutboxService.enqueue(updatedRequest.getEmail(), subject, text);
 
 		return ApiResponse.ok("답변을 성공적으로 작성했습니다.");
 	}
@@ -240,6 +296,10 @@ public class RequestService {
 		Request request = optionalRequest.get();
 		notificationService.deleteNotification(request.getId());
 		requestRepository.delete(request);
+		// 첨부파일은 커밋된 뒤에 모아서 지운다.
+		if (request.getFileUrlList() != null) {
+			request.getFileUrlList().forEach(s3Adapter::releaseFile);
+		}
 
 		return ApiResponse.ok("문의를 성공적으로 삭제했습니다.");
 	}
@@ -0,0 +1,28 @@
+package studio.studioeye.domain.upload.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import studio.studioeye.domain.upload.application.UploadService;
+import studio.studioeye.domain.upload.dto.request.CreateUploadTicketRequestDto;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.infrastructure.s3.PresignedUploadTicket;
+
+@Tag(name = "업로드 API", description = "S3 직접 업로드 티켓 발급")
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    @Operation(summary = "업로드 티켓 발급 API (uploadUrl로 fields와 파일을 직접 POST 한 뒤 ticket으로 업로드 완료 API 호출)")
+    @PostMapping("/uploads/tickets")
+    public ApiResponse<PresignedUploadTicket> issueUploadTicket(@RequestBody CreateUploadTicketRequestDto dto) {
+        return uploadService.issueUploadTicket(dto.fileName(), dto.contentType());
+    }
+}
@@ -0,0 +1,25 @@
+package studio.studioeye.domain.upload.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.exception.error.ErrorCode;
+import studio.studioeye.infrastructure.s3.PresignedUploadTicket;
+import studio.studioeye.infrastructure.s3.S3PresignedUploader;
+
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+
+    private final S3PresignedUploader s3PresignedUploader;
+
+    // 파일을 S3에 바로 올릴 presigned URL과 티켓을 발급한다.
+    // 올린 뒤에는 프로젝트, 문의, 혜택의 업로드 완료 API에 티켓을 넘겨 파일을 붙인다.
+    public ApiResponse<PresignedUploadTicket> issueUploadTicket(String fileName, String contentType) {
+        if (fileName == null || fileName.isBlank() || contentType == null || contentType.isBlank()) {
+            return ApiResponse.withError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        PresignedUploadTicket ticket = s3PresignedUploader.issue(fileName, contentType);
+        return ApiResponse.ok("업로드 티켓을 성공적으로 발급했습니다.", ticket);
+    }
+}
@@ -0,0 +1,7 @@
+package studio.studioeye.domain.upload.dto.request;
+
+public record CreateUploadTicketRequestDto(
+        String fileName,
+        String contentType
+) {
+}
@@ -20,6 +20,7 @@ import studio.studioeye.domain.user.dto.request.RequestUser;
 import studio.studioeye.domain.user.dto.response.EmailVerificationResult;
 import studio.studioeye.domain.user.dto.response.JWTAuthResponse;
 import studio.studioeye.domain.user.dto.response.UserResponse;
+import studio.studioeye.domain.user_notification.application.UserNotificationService;
 import studio.studioeye.global.exception.BusinessLogicException;
 import studio.studioeye.global.exception.error.ExceptionCode;
 import studio.studioeye.global.security.UserDetailsServiceImpl;
@@ -50,6 +51,7 @@ public class UserServiceImpl implements UserService {
     private final UserDetailsServiceImpl userDetailsServiceImpl;
     private final MailService mailService;
     private final RedisService redisService;
+    private final UserNotificationService userNotificationService;
 
     @Value("${jwt.access.expiration}")
     private long accessTokenValidityInSeconds;
@@ -197,6 +199,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public boolean updateApproved(Long userId, boolean approved) {
         User user = userRepository.findById(userId).orElseThrow();
+        userNotificationService.syncBroadcastsBeforeApprovalChange(userId, approved);
         user.setApproved(approved);
         userRepository.save(user);
         return user.isApproved();
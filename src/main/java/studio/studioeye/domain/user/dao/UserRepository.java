@@ -2,6 +2,7 @@ package studio.studioeye.domain.user.dao;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import studio.studioeye.domain.user.domain.User;
 import studio.studioeye.domain.user.dto.response.UserResponse;
@@ -47,6 +48,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u.id FROM User u WHERE u.isApproved = true")
     List<Long> getAllApprovedUserIds();
 
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.id = :userId AND u.isApproved = true")
+    boolean isApprovedUser(@Param("userId") Long userId);
+
     default List<UserResponse> findAllUsers(){
         List<User> userList = findAll();
         List<UserResponse> userResponseList = new ArrayList<>();
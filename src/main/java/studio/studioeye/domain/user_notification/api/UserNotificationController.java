@@ -6,10 +6,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 import studio.studioeye.domain.user_notification.application.UserNotificationService;
 import studio.studioeye.domain.user_notification.domain.UserNotification;
+import studio.studioeye.domain.user_notification.dto.response.UserNotificationPageResponse;
 import studio.studioeye.global.common.response.ApiResponse;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @Tag(name = "특정 유저 알림 API", description = "유저 알림 조회")
@@ -26,10 +25,12 @@ public class UserNotificationController {
         return userNotificationService.createUserNotification(userId, notificationId);
     }
 
-    @Operation(summary = "특정 유저의 알림 전체 조회 API")
+    @Operation(summary = "특정 유저의 알림 조회 API (최신순 size개, 최대 100개, 응답의 nextCursor를 cursor로 넘기면 다음 페이지)")
     @GetMapping("/userNotification/{userId}")
-    public ApiResponse<List<Map<String, Object>>> retrieveAllNotification(@PathVariable Long userId) {
-        return userNotificationService.retrieveAllUserNotification(userId);
+    public ApiResponse<UserNotificationPageResponse> retrieveAllNotification(@PathVariable Long userId,
+                                                                             @RequestParam(defaultValue = "20") int size,
+                                                                             @RequestParam(required = false) String cursor) {
+        return userNotificationService.retrieveAllUserNotification(userId, size, cursor);
     }
 
     @Operation(summary = "알림 수정(읽음 처리) API")
@@ -0,0 +1,26 @@
+package studio.studioeye.domain.user_notification.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 알림함 페이지 조회의 이어보기 토큰. 직전 페이지 마지막 알림의 id를 담는다.
+ * 클라이언트에는 id를 URL-safe Base64로 인코딩한 문자열로 내려간다.
+ */
+public record UserNotificationCursor(long notificationId) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(notificationId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static UserNotificationCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new UserNotificationCursor(Long.parseLong(raw));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException, 잘못된 Base64 모두 IllegalArgumentException 계열이다.
+            throw new IllegalArgumentException("Invalid user notification cursor", e);
+        }
+    }
+}
@@ -1,17 +1,23 @@
 package studio.studioeye.domain.user_notification.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import studio.studioeye.domain.notification.dao.NotificationRepository;
-import studio.studioeye.domain.notification.domain.Notification;
+import studio.studioeye.domain.user.dao.UserRepository;
 import studio.studioeye.domain.user_notification.dao.UserNotificationRepository;
+import studio.studioeye.domain.user_notification.dao.UserNotificationRow;
 import studio.studioeye.domain.user_notification.domain.UserNotification;
 import studio.studioeye.domain.user_notification.domain.UserNotificationPK;
 import studio.studioeye.domain.user_notification.dto.request.CreateUserNotificationServiceRequestDto;
+import studio.studioeye.domain.user_notification.dto.response.UserNotificationPageResponse;
+import studio.studioeye.domain.user_notification.dto.response.UserNotificationResponse;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 
-import java.util.*;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -19,9 +25,12 @@ public class UserNotificationService {
 
     private static final Boolean READ = true;
     private static final Boolean UNREAD = false;
+    // 한 번에 읽는 알림 수의 상한. 더 크게 요청해도 이만큼만 읽는다.
+    static final int MAX_PAGE_SIZE = 100;
 
     private final NotificationRepository notificationRepository;
     private final UserNotificationRepository userNotificationRepository;
+    private final UserRepository userRepository;
 
     public ApiResponse<UserNotification> createUserNotification(Long userId, Long notificationId) {
         UserNotification userNotification =
@@ -30,28 +39,47 @@ public class UserNotificationService {
         return ApiResponse.ok("USER_NOTIFICATION 정보를 저장하였습니다.", userNotification);
     }
 
-    public ApiResponse<List<Map<String, Object>>> retrieveAllUserNotification(Long userId) {
-        List<UserNotification> userNotificationList = userNotificationRepository.findByUserId(userId);
-        List<Map<String, Object>> notificationDetails = new ArrayList<>();
+    // 알림 하나를 여러 유저에게 남긴다. 유저마다 save하지 않고 배치 INSERT로 한 번에 넣는다.
+    public void createUserNotifications(Long notificationId, List<Long> userIds) {
+        userNotificationRepository.insertAll(notificationId, userIds);
+    }
 
-        for (UserNotification userNotification : userNotificationList) {
-            Long notificationId = userNotification.getNotificationId();
-            Optional<Notification> notificationDetail = notificationRepository.findById(notificationId);
-            notificationDetail.ifPresent(notification -> {
-                Map<String, Object> details = new HashMap<>();
-                details.put("notification", notification);
-                details.put("isRead", userNotification.getIsRead());
-                notificationDetails.add(details);
-            });
+    // 알림과 읽음 여부를 조인 한 번으로 최신순 size개(최대 MAX_PAGE_SIZE개) 읽는다. cursor가 있으면 그 알림 다음부터 읽는다.
+    public ApiResponse<UserNotificationPageResponse> retrieveAllUserNotification(Long userId, int size, String cursor) {
+        if (size < 1) {
+            return ApiResponse.withError(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        size = Math.min(size, MAX_PAGE_SIZE);
+        Slice<UserNotificationRow> rowSlice;
+        if (cursor != null && !cursor.isBlank()) {
+            UserNotificationCursor pageCursor;
+            try {
+                pageCursor = UserNotificationCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                return ApiResponse.withError(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            rowSlice = userNotificationRepository.findInboxSliceBefore(userId, pageCursor.notificationId(), PageRequest.of(0, size));
+        } else {
+            // 새 broadcast 알림은 id가 가장 크므로 첫 페이지를 읽을 때만 만들면 된다.
+            materializeBroadcasts(userId);
+            rowSlice = userNotificationRepository.findInboxSlice(userId, PageRequest.of(0, size));
         }
-        if(notificationDetails.isEmpty()) {
+        List<UserNotificationRow> rows = rowSlice.getContent();
+        if (rows.isEmpty()) {
             return ApiResponse.ok("유저의 알림이 존재하지 않습니다.");
         }
 
-        return ApiResponse.ok("유저의 알림 목록을 성공적으로 조회했습니다.", notificationDetails);
+        String nextCursor = null;
+        if (rowSlice.hasNext()) {
+            nextCursor = new UserNotificationCursor(rows.get(rows.size() - 1).notificationId()).encode();
+        }
+        List<UserNotificationResponse> content = rows.stream().map(UserNotificationResponse::from).toList();
+        return ApiResponse.ok("유저의 알림 목록을 성공적으로 조회했습니다.",
+                new UserNotificationPageResponse(content, size, !rowSlice.hasNext(), nextCursor));
     }
 
     public ApiResponse<UserNotification> checkNotification(Long userId, Long notificationId) {
+        materializeBroadcasts(userId);
         UserNotificationPK userNotificationPK = new UserNotificationPK(userId, notificationId);
         Optional<UserNotification> userNotification = userNotificationRepository.findById(userNotificationPK);
         if (userNotification.isPresent()) {
@@ -65,6 +93,7 @@ public class UserNotificationService {
 
     public ApiResponse<Optional<UserNotification>> deleteUserNotification(Long userId, Long notificationId) {
         try {
+            materializeBroadcasts(userId);
             UserNotificationPK userNotificationPK = new UserNotificationPK(userId, notificationId);
             Optional<UserNotification> userNotification = userNotificationRepository.findById(userNotificationPK);
             // UserNotification이 존재하는 경우 삭제
@@ -90,4 +119,32 @@ public class UserNotificationService {
         }
         return ApiResponse.ok("성공적으로 사용자 알림을 삭제했습니다.");
     }
+
+    // 승인 상태를 바꾸기 전에 부른다. eager 모드처럼 승인되어 있던 동안의 broadcast 알림만 받게 한다.
+    // 지금 승인된 유저면 그동안의 알림을 먼저 만들어 두고, 새로 승인하면 그 전의 broadcast 알림은 건너뛴다.
+    public void syncBroadcastsBeforeApprovalChange(Long userId, boolean approved) {
+        materializeBroadcasts(userId);
+        if (!approved) {
+            return;
+        }
+        Long latestBroadcastId = notificationRepository.findLatestBroadcastId();
+        if (latestBroadcastId != null) {
+            userNotificationRepository.advanceSyncedNotificationId(userId, latestBroadcastId);
+        }
+    }
+
+    // broadcast 알림은 등록할 때 user_notification을 만들지 않으므로, 유저가 알림함을 처음 볼 때 아직 없는 것을 만든다.
+    // 새 broadcast 알림이 없으면 조회 한 번으로 끝난다. 없거나 승인되지 않은 유저에게는 만들지 않는다.
+    private void materializeBroadcasts(Long userId) {
+        Long latestBroadcastId = notificationRepository.findLatestBroadcastId();
+        if (latestBroadcastId == null) {
+            return;
+        }
+        long syncedId = userNotificationRepository.findSyncedNotificationId(userId);
+        if (syncedId >= latestBroadcastId || !userRepository.isApprovedUser(userId)) {
+            return;
+        }
+        userNotificationRepository.insertBroadcasts(userId, syncedId, latestBroadcastId);
+        userNotificationRepository.advanceSyncedNotificationId(userId, latestBroadcastId);
+    }
 }
@@ -0,0 +1,18 @@
+package studio.studioeye.domain.user_notification.dao;
+
+import java.util.Collection;
+
+public interface UserNotificationBatchRepository {
+
+    // 알림 하나의 user_notification을 유저 수와 상관없이 배치 INSERT로 한 번에 넣는다.
+    void insertAll(Long notificationId, Collection<Long> userIds);
+
+    // 유저의 user_notification을 만든 마지막 broadcast 알림 id. 아직 없으면 0
+    long findSyncedNotificationId(Long userId);
+
+    // afterId 초과 upToId 이하의 broadcast 알림 중 유저에게 아직 없는 것을 안 읽음으로 만든다.
+    int insertBroadcasts(Long userId, long afterId, long upToId);
+
+    // 기록이 더 작을 때만 올린다. 동시에 불려도 뒤로 가지 않는다.
+    void advanceSyncedNotificationId(Long userId, long notificationId);
+}
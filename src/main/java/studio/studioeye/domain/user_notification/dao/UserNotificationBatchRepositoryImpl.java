@@ -0,0 +1,69 @@
+package studio.studioeye.domain.user_notification.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class UserNotificationBatchRepositoryImpl implements UserNotificationBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(Long notificationId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        // MySQL에서는 rewriteBatchedStatements=true여야 배치가 여러 행짜리 INSERT 하나로 나간다.
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_notification (user_id, notification_id, is_read) VALUES (?, ?, ?)",
+                userIds, BATCH_SIZE, (ps, userId) -> {
+                    ps.setLong(1, userId);
+                    ps.setLong(2, notificationId);
+                    ps.setBoolean(3, false);
+                });
+    }
+
+    @Override
+    public long findSyncedNotificationId(Long userId) {
+        List<Long> synced = jdbcTemplate.queryForList(
+                "SELECT last_notification_id FROM user_notification_sync WHERE user_id = ?", Long.class, userId);
+        return synced.isEmpty() ? 0L : synced.get(0);
+    }
+
+    @Override
+    public int insertBroadcasts(Long userId, long afterId, long upToId) {
+        try {
+            return jdbcTemplate.update(
+                    "INSERT INTO user_notification (user_id, notification_id, is_read) "
+                            + "SELECT ?, n.id, ? FROM notification n "
+                            + "WHERE n.broadcast = ? AND n.id > ? AND n.id <= ? "
+                            + "AND NOT EXISTS (SELECT 1 FROM user_notification un WHERE un.user_id = ? AND un.notification_id = n.id)",
+                    userId, false, true, afterId, upToId, userId);
+        } catch (DuplicateKeyException e) {
+            // 같은 유저의 다른 요청이 먼저 만들었다.
+            return 0;
+        }
+    }
+
+    @Override
+    public void advanceSyncedNotificationId(Long userId, long notificationId) {
+        int updated = jdbcTemplate.update(
+                "UPDATE user_notification_sync SET last_notification_id = ? WHERE user_id = ? AND last_notification_id < ?",
+                notificationId, userId, notificationId);
+        if (updated > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO user_notification_sync (user_id, last_notification_id) VALUES (?, ?)",
+                    userId, notificationId);
+        } catch (DuplicateKeyException e) {
+            // 이미 기록이 있고 같거나 더 크다.
+        }
+    }
+}
@@ -1,15 +1,30 @@
 package studio.studioeye.domain.user_notification.dao;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import studio.studioeye.domain.user_notification.domain.UserNotification;
 import studio.studioeye.domain.user_notification.domain.UserNotificationPK;
 
 import java.util.List;
 @Repository
-public interface UserNotificationRepository extends JpaRepository<UserNotification, UserNotificationPK> {
-    List<UserNotification> findByUserId(Long userId);
+public interface UserNotificationRepository extends JpaRepository<UserNotification, UserNotificationPK>, UserNotificationBatchRepository {
+    String INBOX_ROW = "new studio.studioeye.domain.user_notification.dao.UserNotificationRow(n.id, n.requestId, un.isRead)";
 
     List<UserNotification> findByNotificationId(Long notificationId);
+
+    // 최신 알림부터. (user_id, notification_id) 인덱스를 거꾸로 읽는다.
+    @Query("SELECT " + INBOX_ROW + " FROM UserNotification un JOIN Notification n ON n.id = un.notificationId " +
+            "WHERE un.userId = :userId ORDER BY un.notificationId DESC")
+    Slice<UserNotificationRow> findInboxSlice(@Param("userId") Long userId, Pageable pageable);
+
+    // notification_id 기준 keyset 조회. OFFSET 없이 인덱스에서 바로 다음 위치를 찾는다.
+    @Query("SELECT " + INBOX_ROW + " FROM UserNotification un JOIN Notification n ON n.id = un.notificationId " +
+            "WHERE un.userId = :userId AND un.notificationId < :notificationId ORDER BY un.notificationId DESC")
+    Slice<UserNotificationRow> findInboxSliceBefore(@Param("userId") Long userId,
+                                                    @Param("notificationId") Long notificationId, Pageable pageable);
 }
 
@@ -0,0 +1,11 @@
+package studio.studioeye.domain.user_notification.dao;
+
+/**
+ * 알림함 조회용 JPQL 생성자 프로젝션. user_notification과 notification을 조인해 한 번에 읽는다.
+ */
+public record UserNotificationRow(
+        Long notificationId,
+        Long requestId,
+        Boolean isRead
+) {
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.*;
 
 @Entity
@@ -11,6 +13,7 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Data
 @IdClass(UserNotificationPK.class)
+@Table(indexes = @Index(name = "idx_user_notification_inbox", columnList = "user_id, notification_id"))
 public class UserNotification {
     @Id
     @Column(name = "user_id")
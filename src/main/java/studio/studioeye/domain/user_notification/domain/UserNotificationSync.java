@@ -0,0 +1,25 @@
+package studio.studioeye.domain.user_notification.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별로 broadcast 알림의 user_notification을 어디까지 만들었는지 기록한다.
+ * 이 id 이하의 broadcast 알림은 이미 만들었으므로, 유저가 지운 알림이 다시 생기지 않는다.
+ * 값은 UserNotificationBatchRepository가 JDBC로 읽고 쓴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserNotificationSync {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long lastNotificationId;
+}
@@ -0,0 +1,15 @@
+package studio.studioeye.domain.user_notification.dto.response;
+
+import java.util.List;
+
+/**
+ * 알림함 페이지 조회 응답. 최신 알림부터 size개를 담고, nextCursor를 cursor로 넘기면 그다음 알림부터 읽는다.
+ * 마지막 페이지에서는 nextCursor가 null이다.
+ */
+public record UserNotificationPageResponse(
+        List<UserNotificationResponse> content,
+        int size,
+        boolean last,
+        String nextCursor
+) {
+}
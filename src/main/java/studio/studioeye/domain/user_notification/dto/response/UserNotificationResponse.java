@@ -0,0 +1,18 @@
+package studio.studioeye.domain.user_notification.dto.response;
+
+import studio.studioeye.domain.user_notification.dao.UserNotificationRow;
+
+/**
+ * 알림함의 알림 하나. 기존 응답과 같이 notification 안에 id, requestId를 두고 읽음 여부를 isRead로 내려준다.
+ */
+public record UserNotificationResponse(
+        NotificationDetail notification,
+        Boolean isRead
+) {
+    public static UserNotificationResponse from(UserNotificationRow row) {
+        return new UserNotificationResponse(new NotificationDetail(row.notificationId(), row.requestId()), row.isRead());
+    }
+
+    public record NotificationDetail(Long id, Long requestId) {
+    }
+}
@@ -0,0 +1,85 @@
+package studio.studioeye.domain.views.application;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+import studio.studioeye.domain.views.domain.ViewsKey;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JVM 메모리에 조회수 증가분을 모아두는 카운터.
+ * 키마다 LongAdder를 두어 같은 키에 몰리는 증가도 여러 셀로 나눠 경합 없이 처리한다.
+ * LongAdder는 초기화하지 않고 누적값만 늘리며, 이미 반영한 값(flushed)과 반영 중인 값(inFlight)을 뺀 나머지를 증가분으로 꺼내므로
+ * drain 도중에 들어온 증가도 다음 drain에서 빠짐없이 반영된다. 반영 중인 값은 commit 전까지 pending에 포함된다.
+ */
+@Component
+@ConditionalOnProperty(name = "views.counter.mode", havingValue = "local", matchIfMissing = true)
+public class LocalViewsCounter implements ViewsCounter {
+
+    private final Map<ViewsKey, Slot> slots = new ConcurrentHashMap<>();
+
+    @Override
+    public void increase(ViewsKey key) {
+        slots.computeIfAbsent(key, k -> new Slot()).total.increment();
+    }
+
+    @Override
+    public synchronized Map<ViewsKey, Long> drain() {
+        // 지난달 이전의 키는 더 이상 증가하지 않으므로, 모두 반영되었다면 정리한다.
+        YearMonth lastMonth = ViewsKey.thisMonth().minusMonths(1);
+        Map<ViewsKey, Long> deltas = new HashMap<>();
+        Iterator<Map.Entry<ViewsKey, Slot>> iterator = slots.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<ViewsKey, Slot> entry = iterator.next();
+            Slot slot = entry.getValue();
+            long delta = slot.total.sum() - slot.flushed - slot.inFlight;
+            if (delta > 0) {
+                slot.inFlight += delta;
+                deltas.put(entry.getKey(), delta);
+            } else if (slot.inFlight == 0 && entry.getKey().yearMonth().isBefore(lastMonth)) {
+                iterator.remove();
+            }
+        }
+        return deltas;
+    }
+
+    @Override
+    public synchronized void commit(Map<ViewsKey, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            Slot slot = slots.computeIfAbsent(key, k -> new Slot());
+            slot.flushed += delta;
+            slot.inFlight -= delta;
+        });
+    }
+
+    @Override
+    public synchronized void restore(Map<ViewsKey, Long> deltas) {
+        deltas.forEach((key, delta) -> slots.computeIfAbsent(key, k -> new Slot()).inFlight -= delta);
+    }
+
+    @Override
+    public Map<YearMonth, Long> pending(YearMonth start, YearMonth end, MenuTitle menu, ArtworkCategory category) {
+        Map<YearMonth, Long> pendingViews = new HashMap<>();
+        slots.forEach((key, slot) -> {
+            if (key.menu() == menu && key.category() == category
+                    && !key.yearMonth().isBefore(start) && !key.yearMonth().isAfter(end)) {
+                long delta = slot.total.sum() - slot.flushed;
+                if (delta > 0) pendingViews.put(key.yearMonth(), delta);
+            }
+        });
+        return pendingViews;
+    }
+
+    private static class Slot {
+        private final LongAdder total = new LongAdder();
+        private volatile long flushed;
+        private long inFlight;
+    }
+}
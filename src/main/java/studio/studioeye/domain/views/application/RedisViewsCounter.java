@@ -0,0 +1,171 @@
+package studio.studioeye.domain.views.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+import studio.studioeye.domain.views.domain.ViewsKey;
+import studio.studioeye.infrastructure.redis.RedisService;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 여러 서버가 함께 쓰는 Redis 조회수 카운터.
+ * 월마다 해시 하나(views:counter:2024-11)를 두고 (메뉴, 카테고리)별 필드를 HINCRBY로 증가시킨다.
+ * 반영은 리스(lease)를 잡은 서버 하나만 수행하며, 해시를 draining 키로 RENAME한 뒤 읽으므로
+ * 반영 도중 들어온 증가는 새 해시에 쌓여 다음 주기에 반영된다.
+ * draining 해시는 DB 반영이 커밋된 뒤에 지우므로, 반영 중인 조회수도 pending에 포함되고
+ * 반영에 실패하거나 서버가 도중에 죽어도 다음 주기에 그대로 다시 꺼낸다.
+ * draining 해시에는 배치 ID를 붙여 두고, DB 커밋 뒤 draining을 지우기 전에 죽어 같은 배치를 다시 꺼내면
+ * {@link ViewsFlushService}가 DB에 기록된 배치 ID로 알아보고 다시 더하지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "views.counter.mode", havingValue = "redis")
+public class RedisViewsCounter implements ViewsCounter {
+
+    private static final String COUNTER_KEY_PREFIX = "views:counter:";
+    private static final String DRAINING_KEY_SUFFIX = ":draining";
+    private static final String FLUSH_LEASE_KEY = "views:counter:flush-lease";
+    private static final String BATCH_KEY = "views:counter:draining-batch";
+    private static final String FIELD_DELIMITER = ":";
+
+    // 없으면 만들고, 자기가 잡은 리스면 만료 시간을 늘린다. 확인과 연장을 한 스크립트에서 해 그 사이 넘어간 리스를 늘리지 않는다.
+    private static final RedisScript<Long> ACQUIRE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then return 1 end " +
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0", Long.class);
+
+    // KEYS는 (카운터, draining) 쌍들과 마지막의 배치 키. 남은 draining이 있으면 그 배치 ID를 그대로 돌려주고 새 증가분은 옮기지 않는다.
+    // 없으면 카운터를 draining으로 옮기고 새 배치 ID를 붙인다. 꺼낼 것이 없으면 nil.
+    private static final RedisScript<String> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local batchKey = KEYS[#KEYS] " +
+            "local draining = false " +
+            "for i = 2, #KEYS - 1, 2 do if redis.call('EXISTS', KEYS[i]) == 1 then draining = true end end " +
+            "local batch = redis.call('GET', batchKey) " +
+            "if batch and draining then return batch end " +
+            "for i = 1, #KEYS - 1, 2 do " +
+            "  if redis.call('EXISTS', KEYS[i + 1]) == 0 and redis.call('EXISTS', KEYS[i]) == 1 then redis.call('RENAME', KEYS[i], KEYS[i + 1]) end " +
+            "  if redis.call('EXISTS', KEYS[i + 1]) == 1 then draining = true end " +
+            "end " +
+            "if not draining then redis.call('DEL', batchKey) return false end " +
+            "redis.call('SET', batchKey, ARGV[1]) " +
+            "return ARGV[1]", String.class);
+
+    // 자기 배치일 때만 draining 해시와 배치 키를 한 번에 지운다. 일부만 지워진 채 남지 않는다.
+    private static final RedisScript<Long> COMMIT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[#KEYS]) ~= ARGV[1] then return 0 end " +
+            "return redis.call('DEL', unpack(KEYS))", Long.class);
+
+    private final RedisService redisService;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Duration leaseDuration;
+    private volatile String drainedBatchId;
+
+    public RedisViewsCounter(RedisService redisService,
+                             @Value("${views.flush.interval-millis:10000}") long flushIntervalMillis) {
+        this.redisService = redisService;
+        // 리스를 잡은 서버가 죽으면 두 주기 뒤 다른 서버가 이어받는다.
+        this.leaseDuration = Duration.ofMillis(flushIntervalMillis * 2);
+    }
+
+    @Override
+    public void increase(ViewsKey key) {
+        redisService.incrementHashOps(counterKey(key.yearMonth()), field(key.menu(), key.category()), 1L);
+    }
+
+    @Override
+    public Map<ViewsKey, Long> drain() {
+        // 증가는 항상 이번 달 해시에만 쌓이므로 지난달과 이번 달만 확인하면 된다.
+        List<YearMonth> months = List.of(ViewsKey.thisMonth().minusMonths(1), ViewsKey.thisMonth());
+        List<String> keys = new ArrayList<>();
+        for (YearMonth yearMonth : months) {
+            keys.add(counterKey(yearMonth));
+            keys.add(drainingKey(yearMonth));
+        }
+        keys.add(BATCH_KEY);
+        drainedBatchId = redisService.executeScript(DRAIN_SCRIPT, keys, UUID.randomUUID().toString());
+        Map<ViewsKey, Long> deltas = new HashMap<>();
+        if (drainedBatchId == null) {
+            return deltas;
+        }
+        for (YearMonth yearMonth : months) {
+            collect(yearMonth, redisService.getAllHashOps(drainingKey(yearMonth)), deltas);
+        }
+        return deltas;
+    }
+
+    @Override
+    public void commit(Map<ViewsKey, Long> deltas) {
+        // 반영 중에 달이 바뀌었을 수 있으므로 꺼낸 증가분의 달로 draining 해시를 찾는다.
+        List<String> keys = new ArrayList<>();
+        deltas.keySet().stream()
+                .map(ViewsKey::yearMonth)
+                .distinct()
+                .forEach(yearMonth -> keys.add(drainingKey(yearMonth)));
+        keys.add(BATCH_KEY);
+        redisService.executeScript(COMMIT_SCRIPT, keys, drainedBatchId);
+    }
+
+    @Override
+    public String drainedBatchId() {
+        return drainedBatchId;
+    }
+
+    // draining 해시를 지우지 않고 남겨 두므로 다음 drain에서 그대로 다시 꺼낸다.
+    @Override
+    public void restore(Map<ViewsKey, Long> deltas) {
+    }
+
+    @Override
+    public Map<YearMonth, Long> pending(YearMonth start, YearMonth end, MenuTitle menu, ArtworkCategory category) {
+        Map<YearMonth, Long> pendingViews = new HashMap<>();
+        YearMonth thisMonth = ViewsKey.thisMonth();
+        for (YearMonth yearMonth = thisMonth.minusMonths(1); !yearMonth.isAfter(thisMonth); yearMonth = yearMonth.plusMonths(1)) {
+            if (yearMonth.isBefore(start) || yearMonth.isAfter(end)) continue;
+            long views = parse(redisService.getHashOps(counterKey(yearMonth), field(menu, category)))
+                    + parse(redisService.getHashOps(drainingKey(yearMonth), field(menu, category)));
+            if (views > 0) pendingViews.put(yearMonth, views);
+        }
+        return pendingViews;
+    }
+
+    @Override
+    public boolean tryAcquireFlushLease() {
+        Long acquired = redisService.executeScript(ACQUIRE_LEASE_SCRIPT, List.of(FLUSH_LEASE_KEY),
+                nodeId, String.valueOf(leaseDuration.toMillis()));
+        return acquired != null && acquired == 1L;
+    }
+
+    private void collect(YearMonth yearMonth, Map<String, String> entries, Map<ViewsKey, Long> deltas) {
+        entries.forEach((field, value) -> {
+            String[] menuAndCategory = field.split(FIELD_DELIMITER);
+            ViewsKey key = new ViewsKey(yearMonth, MenuTitle.valueOf(menuAndCategory[0]), ArtworkCategory.valueOf(menuAndCategory[1]));
+            deltas.merge(key, Long.parseLong(value), Long::sum);
+        });
+    }
+
+    private String counterKey(YearMonth yearMonth) {
+        return COUNTER_KEY_PREFIX + yearMonth;
+    }
+
+    private String drainingKey(YearMonth yearMonth) {
+        return counterKey(yearMonth) + DRAINING_KEY_SUFFIX;
+    }
+
+    private static long parse(String value) {
+        return value.isEmpty() ? 0L : Long.parseLong(value);
+    }
+
+    private String field(MenuTitle menu, ArtworkCategory category) {
+        return menu.name() + FIELD_DELIMITER + category.name();
+    }
+}
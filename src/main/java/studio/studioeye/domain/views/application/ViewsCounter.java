@@ -0,0 +1,42 @@
+package studio.studioeye.domain.views.application;
+
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+import studio.studioeye.domain.views.domain.ViewsKey;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * 조회수 증가분을 DB에 바로 쓰지 않고 모아두는 카운터.
+ * 모아둔 증가분은 {@link ViewsFlushService}가 주기적으로 꺼내 Views 테이블에 반영한다.
+ * views.counter.mode 값에 따라 JVM 메모리(local, 기본값) 또는 Redis(redis)에 모은다.
+ */
+public interface ViewsCounter {
+
+    // 조회수 1 증가 (DB 접근 없음)
+    void increase(ViewsKey key);
+
+    // 아직 반영되지 않은 증가분을 꺼낸다. 꺼낸 증가분은 commit이나 restore를 부를 때까지 반영 중으로 남는다.
+    Map<ViewsKey, Long> drain();
+
+    // DB 반영이 끝난 증가분을 카운터에서 뺀다.
+    void commit(Map<ViewsKey, Long> deltas);
+
+    // DB 반영에 실패한 증가분을 카운터로 되돌린다.
+    void restore(Map<ViewsKey, Long> deltas);
+
+    // 기간 내 아직 DB에 반영되지 않은 월별 조회수 (조회 결과 보정용). 반영 중인 증가분도 포함한다.
+    Map<YearMonth, Long> pending(YearMonth start, YearMonth end, MenuTitle menu, ArtworkCategory category);
+
+    // 마지막 drain이 꺼낸 배치의 ID. 커밋 전에 다시 꺼낸 배치는 같은 ID를 돌려준다.
+    // null이면 DB 커밋 뒤 commit 전에 중단되어도 같은 증가분을 다시 내주지 않는 카운터다.
+    default String drainedBatchId() {
+        return null;
+    }
+
+    // 이번 주기에 이 서버가 반영을 맡아야 하는지 여부
+    default boolean tryAcquireFlushLease() {
+        return true;
+    }
+}
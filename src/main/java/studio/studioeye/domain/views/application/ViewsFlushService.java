@@ -0,0 +1,126 @@
+package studio.studioeye.domain.views.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import studio.studioeye.domain.views.dao.ViewsFlushBatchRepository;
+import studio.studioeye.domain.views.dao.ViewsRepository;
+import studio.studioeye.domain.views.domain.ViewsFlushBatch;
+import studio.studioeye.domain.views.domain.ViewsKey;
+import studio.studioeye.domain.views.dto.request.CreateViewsServiceRequestDto;
+
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * {@link ViewsCounter}에 모인 조회수 증가분을 주기적으로 Views 테이블에 반영한다.
+ * 한 번의 반영은 Views와 월별 집계(ViewsRollup)를 하나의 트랜잭션으로 함께 갱신하며, 실패하면 증가분을 카운터로 되돌려 다음 주기에 다시 시도한다.
+ * 비정상 종료 시 유실될 수 있는 조회수는 최대 한 주기(views.flush.interval-millis) 분량이다.
+ * 카운터가 배치 ID를 주면 같은 트랜잭션에서 views_flush_batch에 기록하고, DB 커밋 뒤 카운터 정리 전에 중단되어
+ * 같은 배치를 다시 받으면 더하지 않고 카운터만 정리한다.
+ * 여러 서버가 같은 새 키의 행을 동시에 만들면 유니크 제약에 걸린 쪽이 트랜잭션을 한 번 더 실행해 UPDATE로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewsFlushService {
+
+    private final ViewsCounter viewsCounter;
+    private final ViewsRepository viewsRepository;
+    private final ViewsFlushBatchRepository viewsFlushBatchRepository;
+    private final ViewsRollupService viewsRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private volatile long lastFlushedAt = System.currentTimeMillis();
+    private boolean rollupReconciled;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("views.flush.lag", this, ViewsFlushService::getFlushLagSeconds)
+                .description("마지막으로 조회수 반영에 성공한 뒤 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${views.flush.interval-millis:10000}")
+    public synchronized void flush() {
+        // 여러 서버가 카운터를 공유하는 경우 리스를 잡은 한 서버만 반영한다.
+        if (!viewsCounter.tryAcquireFlushLease()) {
+            lastFlushedAt = System.currentTimeMillis();
+            return;
+        }
+        reconcileRollupOnce();
+        Map<ViewsKey, Long> deltas = viewsCounter.drain();
+        if (deltas.isEmpty()) {
+            lastFlushedAt = System.currentTimeMillis();
+            return;
+        }
+        String batchId = viewsCounter.drainedBatchId();
+        try {
+            applyDeltas(batchId, deltas);
+            viewsCounter.commit(deltas);
+            lastFlushedAt = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            viewsCounter.restore(deltas);
+            log.warn("조회수 반영에 실패하여 다음 주기에 다시 시도합니다. keys: {}, lag: {}s", deltas.size(), getFlushLagSeconds(), e);
+        }
+    }
+
+    // 종료 전 남은 증가분 반영
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    public double getFlushLagSeconds() {
+        return (System.currentTimeMillis() - lastFlushedAt) / 1000.0;
+    }
+
+    // 집계를 맞추는 일은 반영을 맡은 서버가 처음 반영할 때 한 번만 한다. 실패하면 다음 주기에 다시 시도한다.
+    private void reconcileRollupOnce() {
+        if (rollupReconciled) return;
+        try {
+            viewsRollupService.reconcile();
+            rollupReconciled = true;
+        } catch (RuntimeException e) {
+            log.warn("조회수 집계를 맞추지 못해 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void applyDeltas(String batchId, Map<ViewsKey, Long> deltas) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsertViews(batchId, deltas));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 같은 새 키의 행을 먼저 넣었다. 전체가 롤백되었으므로 다시 실행하면 그 행을 UPDATE한다.
+            log.info("조회수 행이 동시에 생성되어 반영을 한 번 더 시도합니다. keys: {}", deltas.size());
+            transactionTemplate.executeWithoutResult(status -> upsertViews(batchId, deltas));
+        }
+    }
+
+    private void upsertViews(String batchId, Map<ViewsKey, Long> deltas) {
+        Date now = new Date();
+        if (batchId != null) {
+            if (viewsFlushBatchRepository.existsById(batchId)) {
+                log.info("이미 반영한 조회수 배치를 다시 받아 카운터만 정리합니다. batch: {}", batchId);
+                return;
+            }
+            viewsFlushBatchRepository.deleteOthers(batchId);
+            viewsFlushBatchRepository.saveAndFlush(new ViewsFlushBatch(batchId, now));
+        }
+        deltas.forEach((key, delta) -> {
+            int updated = viewsRepository.increaseViews(key.year(), key.month(), key.menu(), key.category(), delta);
+            if (updated == 0) {
+                viewsRepository.saveAndFlush(new CreateViewsServiceRequestDto(key.year(), key.month(), delta, key.menu(), key.category()).toEntity(now));
+            }
+        });
+        viewsRollupService.addViews(deltas);
+    }
+}
@@ -0,0 +1,95 @@
+package studio.studioeye.domain.views.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+import studio.studioeye.domain.views.dao.ViewsRepository;
+import studio.studioeye.domain.views.dao.ViewsRollupRepository;
+import studio.studioeye.domain.views.dao.ViewsSummary;
+import studio.studioeye.domain.views.dao.ViewsSummaryImpl;
+import studio.studioeye.domain.views.domain.Views;
+import studio.studioeye.domain.views.domain.ViewsKey;
+import studio.studioeye.domain.views.domain.ViewsRollup;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월별 조회수 집계(ViewsRollup)를 관리한다.
+ * Views에 조회수가 반영될 때마다 같은 (메뉴, 카테고리, 월) 집계를 함께 증가시키고,
+ * 기간 조회는 GROUP BY 없이 집계 테이블을 범위 조회한다.
+ * 집계가 Views와 맞지 않으면(처음 배포했거나 집계가 빠진 경우) 반영을 맡은 서버가 차이만큼 더해 맞춘다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ViewsRollupService {
+
+    private final ViewsRollupRepository viewsRollupRepository;
+    private final ViewsRepository viewsRepository;
+
+    public void addViews(ViewsKey key, Long delta) {
+        addViews(Map.of(key, delta));
+    }
+
+    public void addViews(Map<ViewsKey, Long> deltas) {
+        deltas.forEach((key, delta) -> {
+            int yearMonth = ViewsRollup.packYearMonth(key.yearMonth());
+            int updated = viewsRollupRepository.increaseViews(key.menu(), key.category(), yearMonth, delta);
+            if (updated == 0) {
+                viewsRollupRepository.saveAndFlush(ViewsRollup.builder()
+                        .menu(key.menu())
+                        .category(key.category())
+                        .yearMonth(yearMonth)
+                        .views(delta)
+                        .build());
+            }
+        });
+    }
+
+    // 기존 조회와 같이 (menu, category)가 정확히 같은 조회수만 센다. menu가 ALL이어도 ALL로 기록된 조회수만 센다.
+    @Transactional(readOnly = true)
+    public List<ViewsSummary> retrieveMonthlyViews(YearMonth start, YearMonth end, MenuTitle menu, ArtworkCategory category) {
+        List<ViewsRollup> rollupList = viewsRollupRepository.findByMenuAndCategoryAndYearMonthBetweenOrderByYearMonthAsc(
+                menu, category, ViewsRollup.packYearMonth(start), ViewsRollup.packYearMonth(end));
+
+        List<ViewsSummary> viewsList = new ArrayList<>(rollupList.size());
+        for (ViewsRollup rollup : rollupList) {
+            viewsList.add(new ViewsSummaryImpl(rollup.getYear(), rollup.getMonth(), rollup.getViews()));
+        }
+        return viewsList;
+    }
+
+    /**
+     * Views와 집계는 같은 트랜잭션에서 함께 늘어나므로 합계가 다르면 집계가 빠진 것이다. 키마다 차이만큼 집계에 더한다.
+     * 지우고 다시 넣지 않고 차이만 더하므로, 다른 서버의 반영이 동시에 커밋되어도 그 증가분을 덮어쓰지 않는다.
+     * 두 테이블을 한 스냅샷에서 읽어야 차이가 맞으므로 REPEATABLE READ로 읽는다.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        long viewsTotal = viewsRepository.sumViews();
+        long rollupTotal = viewsRollupRepository.sumViews();
+        if (viewsTotal == rollupTotal) return;
+
+        Map<ViewsKey, Long> deltas = new HashMap<>();
+        for (Views views : viewsRepository.findAll()) {
+            ViewsKey key = new ViewsKey(YearMonth.of(views.getYear(), views.getMonth()), views.getMenu(), views.getCategory());
+            deltas.merge(key, views.getViews(), Long::sum);
+        }
+        for (ViewsRollup rollup : viewsRollupRepository.findAll()) {
+            ViewsKey key = new ViewsKey(YearMonth.of(rollup.getYear(), rollup.getMonth()), rollup.getMenu(), rollup.getCategory());
+            deltas.merge(key, -rollup.getViews(), Long::sum);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        addViews(deltas);
+        log.info("조회수 집계를 Views에 맞췄습니다. keys: {}, views: {}, rollup before: {}", deltas.size(), viewsTotal, rollupTotal);
+    }
+}
@@ -4,18 +4,22 @@ import studio.studioeye.domain.menu.domain.MenuTitle;
 import studio.studioeye.domain.project.domain.ArtworkCategory;
 import studio.studioeye.domain.views.dao.ViewsRepository;
 import studio.studioeye.domain.views.dao.ViewsSummary;
+import studio.studioeye.domain.views.dao.ViewsSummaryImpl;
 import studio.studioeye.domain.views.domain.Views;
+import studio.studioeye.domain.views.domain.ViewsKey;
 import studio.studioeye.domain.views.dto.request.CreateViewsServiceRequestDto;
 import studio.studioeye.domain.views.dto.request.UpdateViewsServiceRequestDto;
 import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.common.util.MonthlySeries;
 import studio.studioeye.global.exception.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.text.SimpleDateFormat;
+import java.time.YearMonth;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
 
@@ -25,6 +29,8 @@ import java.util.TimeZone;
 public class ViewsService {
 
     private final ViewsRepository viewsRepository;
+    private final ViewsCounter viewsCounter;
+    private final ViewsRollupService viewsRollupService;
     // for initial views data / for adding views
     private static final Long INITIAL_NUM = 1L;
     private final String RETRIEVE_VIEWS_LIST = "조회수 목록을 성공적으로 조회했습니다.";
@@ -42,6 +48,7 @@ public class ViewsService {
         TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
         Views views = dto.toEntity(new Date());
         Views savedViews = viewsRepository.save(views);
+        viewsRollupService.addViews(new ViewsKey(YearMonth.of(dto.year(), dto.month()), dto.menu(), dto.category()), dto.views());
         return ApiResponse.ok("조회 수 등록을 완료했습니다.", savedViews);
     }
 
@@ -72,54 +79,22 @@ public class ViewsService {
             return ApiResponse.withError(ErrorCode.INVALID_VIEWS_PERIOD);
         }
 
-        List<ViewsSummary> viewsList = viewsRepository.findByYearAndMonthBetweenAndMenuAndCategory(startYear, startMonth, endYear, endMonth, menu, category);
-
-        for (int year = startYear; year <= endYear; year++) {
-            int monthStart = (year == startYear) ? startMonth : 1;
-            int monthEnd = (year == endYear) ? endMonth : 12;
-
-            for (int month = monthStart; month <= monthEnd; month++) {
-                boolean found = false;
-
-                // 현재 조회할 연도와 월에 해당하는 인덱스 찾기
-                int index = 0;
-                for (ViewsSummary view : viewsList) {
-                    // 이미 해당 연도와 월에 대한 데이터가 존재하는 경우
-                    if (view.getYear() == year && view.getMonth() == month) {
-                        found = true;
-                        break;
-                    }
-                    // 현재 연도보다 작은 경우 삽입 위치 찾기
-                    else if (view.getYear() < year || (view.getYear() == year && view.getMonth() < month)) {
-                        // 삽입 위치 계산
-                        index++;
-                    }
-                }
-
-                // 해당 연도와 월에 대한 데이터가 존재하지 않는 경우, 0으로 데이터 추가
-                if (!found) {
-                    // 데이터를 삽입한 후에는 인덱스를 증가시킴
-                    int finalMonth = month;
-                    int finalYear = year;
-                    viewsList.add(index, new ViewsSummary() {
-                        @Override
-                        public Integer getYear() {
-                            return finalYear;
-                        }
-
-                        @Override
-                        public Integer getMonth() {
-                            return finalMonth;
-                        }
-
-                        @Override
-                        public Long getViews() {
-                            return 0L;
-                        }
-                    });
-                }
-            }
+        YearMonth start = YearMonth.of(startYear, startMonth);
+        YearMonth end = YearMonth.of(endYear, endMonth);
+        MonthlySeries<ViewsSummary> series = MonthlySeries.of(start, end);
+        for (ViewsSummary view : viewsRollupService.retrieveMonthlyViews(start, end, menu, category)) {
+            series.put(view.getYear(), view.getMonth(), view);
         }
+
+        // 조회수가 없는 달은 0으로 채우고, 아직 DB에 반영되지 않은 조회수는 합산
+        Map<YearMonth, Long> pendingViews = viewsCounter.pending(start, end, menu, category);
+        List<ViewsSummary> viewsList = series.toList((year, month, view) -> {
+            Long pending = pendingViews.get(YearMonth.of(year, month));
+            if (pending == null) {
+                return view != null ? view : new ViewsSummaryImpl(year, month, 0L);
+            }
+            return new ViewsSummaryImpl(year, month, (view != null ? view.getViews() : 0L) + pending);
+        });
         return ApiResponse.ok(RETRIEVE_VIEWS_LIST, viewsList);
     }
 
@@ -157,22 +132,20 @@ public class ViewsService {
         Views views = optionalViews.get();
         views.updateViews(views.getViews()+ INITIAL_NUM);
         Views updatedViews = viewsRepository.save(views);
+        viewsRollupService.addViews(new ViewsKey(YearMonth.of(year, month), dto.menu(), dto.category()), INITIAL_NUM);
         return ApiResponse.ok("조회수를 성공적으로 수정했습니다.", updatedViews);
     }
 
-    public ApiResponse<Views> updateThisMonthViews(UpdateViewsServiceRequestDto dto) {
+    // 조회수는 카운터에만 쌓고 바로 돌아오므로 응답에 Views를 담지 않는다.
+    public ApiResponse<Void> updateThisMonthViews(UpdateViewsServiceRequestDto dto) {
 
         if(!dto.menu().equals(MenuTitle.ARTWORK) && !dto.category().equals(ArtworkCategory.ALL)) {
             return ApiResponse.withError(ErrorCode.INVALID_VIEWS_CATEGORY);
         }
 
-        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
-
-        return this.updateViewsByYearMonth(
-                Integer.parseInt(new SimpleDateFormat("yyyy").format(new Date().getTime())),
-                Integer.parseInt(new SimpleDateFormat("MM").format(new Date().getTime())),
-                dto
-        );
+        // DB에는 ViewsFlushService가 주기적으로 모아서 반영
+        viewsCounter.increase(ViewsKey.ofThisMonth(dto.menu(), dto.category()));
+        return ApiResponse.ok("조회수를 성공적으로 수정했습니다.");
     }
 
     private boolean checkMonth(int month) {
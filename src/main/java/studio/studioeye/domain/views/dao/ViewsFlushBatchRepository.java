@@ -0,0 +1,15 @@
+package studio.studioeye.domain.views.dao;
+
+import studio.studioeye.domain.views.domain.ViewsFlushBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ViewsFlushBatchRepository extends JpaRepository<ViewsFlushBatch, String> {
+
+    // 카운터가 다시 내줄 수 있는 배치는 커밋 전의 마지막 배치 하나뿐이므로 나머지 기록은 지운다.
+    @Modifying
+    @Query("DELETE FROM ViewsFlushBatch b WHERE b.batchId <> :batchId")
+    int deleteOthers(@Param("batchId") String batchId);
+}
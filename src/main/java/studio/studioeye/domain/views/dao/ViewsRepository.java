@@ -4,6 +4,7 @@ import studio.studioeye.domain.menu.domain.MenuTitle;
 import studio.studioeye.domain.project.domain.ArtworkCategory;
 import studio.studioeye.domain.views.domain.Views;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,6 +15,19 @@ public interface ViewsRepository extends JpaRepository<Views, Long> {
     Optional<Views> findByYearAndMonth(Integer year, Integer month);
     Optional<Views> findByYearAndMonthAndMenuAndCategory(Integer year, Integer month, MenuTitle menu, ArtworkCategory category);
     List<Views> findByYear(Integer year);
+
+    @Query("SELECT COALESCE(SUM(v.views), 0L) FROM Views v")
+    long sumViews();
+
+    @Modifying
+    @Query("UPDATE Views v SET v.views = v.views + :delta " +
+            "WHERE v.year = :year AND v.month = :month AND v.menu = :menu AND v.category = :category")
+    int increaseViews(@Param("year") Integer year,
+                      @Param("month") Integer month,
+                      @Param("menu") MenuTitle menu,
+                      @Param("category") ArtworkCategory category,
+                      @Param("delta") Long delta);
+
     @Query("SELECT v.year AS year, v.month AS month, SUM(v.views) AS views FROM Views v WHERE (v.year > :startYear OR (v.year = :startYear AND v.month >= :startMonth)) " +
             "AND (v.year < :endYear OR (v.year = :endYear AND v.month <= :endMonth)) GROUP BY v.year, v.month")
     List<ViewsSummary> findByYearAndMonthBetween(@Param("startYear") Integer startYear,
@@ -0,0 +1,30 @@
+package studio.studioeye.domain.views.dao;
+
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+import studio.studioeye.domain.views.domain.ViewsRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ViewsRollupRepository extends JpaRepository<ViewsRollup, Long> {
+
+    List<ViewsRollup> findByMenuAndCategoryAndYearMonthBetweenOrderByYearMonthAsc(MenuTitle menu,
+                                                                                  ArtworkCategory category,
+                                                                                  Integer startYearMonth,
+                                                                                  Integer endYearMonth);
+
+    @Query("SELECT COALESCE(SUM(r.views), 0L) FROM ViewsRollup r")
+    long sumViews();
+
+    @Modifying
+    @Query("UPDATE ViewsRollup r SET r.views = r.views + :delta " +
+            "WHERE r.menu = :menu AND r.category = :category AND r.yearMonth = :yearMonth")
+    int increaseViews(@Param("menu") MenuTitle menu,
+                      @Param("category") ArtworkCategory category,
+                      @Param("yearMonth") Integer yearMonth,
+                      @Param("delta") Long delta);
+}
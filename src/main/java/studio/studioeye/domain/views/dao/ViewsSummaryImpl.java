@@ -0,0 +1,28 @@
+package studio.studioeye.domain.views.dao;
+
+public class ViewsSummaryImpl implements ViewsSummary {
+    private Integer year;
+    private Integer month;
+    private Long views;
+
+    public ViewsSummaryImpl(Integer year, Integer month, Long views) {
+        this.year = year;
+        this.month = month;
+        this.views = views;
+    }
+
+    @Override
+    public Integer getYear() {
+        return year;
+    }
+
+    @Override
+    public Integer getMonth() {
+        return month;
+    }
+
+    @Override
+    public Long getViews() {
+        return views;
+    }
+}
@@ -10,9 +10,13 @@ import lombok.NoArgsConstructor;
 
 import java.util.Date;
 
+// 조회수 반영은 (연, 월, 메뉴, 카테고리) 행 하나를 UPDATE하므로 같은 키의 행이 두 개 생기지 않게 막는다.
+// 이미 중복 행이 있는 DB는 제약을 추가하기 전에 합쳐야 한다.
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_views_month_menu_category",
+		columnNames = {"year_value", "month_value", "menu", "category"}))
 public class Views {
 
 	@Id
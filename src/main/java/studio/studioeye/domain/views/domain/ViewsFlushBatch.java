@@ -0,0 +1,27 @@
+package studio.studioeye.domain.views.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+// DB에 반영한 조회수 배치. 조회수와 같은 트랜잭션에서 기록하므로, 카운터가 같은 배치를 다시 내줘도 두 번 더하지 않는다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "views_flush_batch")
+public class ViewsFlushBatch {
+
+	@Id
+	@Column(name = "batch_id", length = 36)
+	private String batchId;
+
+	private Date appliedAt;
+
+	public ViewsFlushBatch(String batchId, Date appliedAt) {
+		this.batchId = batchId;
+		this.appliedAt = appliedAt;
+	}
+}
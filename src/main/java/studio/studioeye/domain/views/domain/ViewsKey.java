@@ -0,0 +1,32 @@
+package studio.studioeye.domain.views.domain;
+
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+// 조회수 집계 단위 (연월, 메뉴, 카테고리)
+public record ViewsKey(
+        YearMonth yearMonth,
+        MenuTitle menu,
+        ArtworkCategory category
+) {
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    public static ViewsKey ofThisMonth(MenuTitle menu, ArtworkCategory category) {
+        return new ViewsKey(thisMonth(), menu, category);
+    }
+
+    public static YearMonth thisMonth() {
+        return YearMonth.now(ZONE_ID);
+    }
+
+    public Integer year() {
+        return yearMonth.getYear();
+    }
+
+    public Integer month() {
+        return yearMonth.getMonthValue();
+    }
+}
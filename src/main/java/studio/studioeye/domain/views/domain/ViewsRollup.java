@@ -0,0 +1,57 @@
+package studio.studioeye.domain.views.domain;
+
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+// 기간 조회용 월별 조회수 집계. (menu, category, yearMonth) 인덱스 하나로 기간을 범위 조회한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "views_rollup",
+		uniqueConstraints = @UniqueConstraint(name = "uk_views_rollup_menu_category_month",
+				columnNames = {"menu", "category", "year_month_value"}))
+public class ViewsRollup {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	private MenuTitle menu;
+
+	@Enumerated(EnumType.STRING)
+	private ArtworkCategory category;
+
+	// yyyyMM 형태로 압축한 연월 (ex: 202411)
+	@Column(name = "year_month_value")
+	private Integer yearMonth;
+
+	private Long views;
+
+	@Builder
+	public ViewsRollup(MenuTitle menu, ArtworkCategory category, Integer yearMonth, Long views) {
+		this.menu = menu;
+		this.category = category;
+		this.yearMonth = yearMonth;
+		this.views = views;
+	}
+
+	public static int packYearMonth(YearMonth yearMonth) {
+		return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+	}
+
+	public Integer getYear() {
+		return yearMonth / 100;
+	}
+
+	public Integer getMonth() {
+		return yearMonth % 100;
+	}
+}
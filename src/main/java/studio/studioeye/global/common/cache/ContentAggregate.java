@@ -0,0 +1,15 @@
+package studio.studioeye.global.common.cache;
+
+/**
+ * 조회 응답을 캐시하는 공개 콘텐츠의 단위.
+ * 같은 단위의 쓰기 작업이 커밋되면 해당 캐시가 무효화되고 콘텐츠 버전이 올라간다.
+ */
+public enum ContentAggregate {
+    PROJECT,
+    COMPANY_INFORMATION,
+    CLIENT,
+    PARTNER_INFORMATION,
+    BENEFIT,
+    FAQ,
+    NEWS
+}
@@ -0,0 +1,8 @@
+package studio.studioeye.global.common.cache;
+
+/**
+ * 공개 콘텐츠가 수정되었을 때 발행되는 이벤트.
+ * 서비스는 쓰기 메서드마다 저장 후 한 번 발행하고, 조회 응답 캐시와 콘텐츠 버전은 커밋 이후에 이 이벤트를 받아 갱신된다.
+ */
+public record ContentChangedEvent(ContentAggregate aggregate) {
+}
@@ -0,0 +1,20 @@
+package studio.studioeye.global.common.cache;
+
+/**
+ * 콘텐츠 단위의 버전과 마지막 수정 시각(epoch millis).
+ * 버전이 초기화되더라도 이전 ETag와 겹치지 않도록 수정 시각을 ETag에 함께 넣는다.
+ */
+public record ContentVersion(long version, long modifiedAt) {
+
+    public String etag() {
+        return etag(null);
+    }
+
+    /**
+     * 같은 버전이라도 gzip 본문과 원본은 다른 표현이므로 content-coding을 붙여 ETag를 구분한다.
+     */
+    public String etag(String contentCoding) {
+        String coding = contentCoding == null ? "" : "-" + contentCoding;
+        return "\"" + version + "-" + Long.toHexString(modifiedAt) + coding + "\"";
+    }
+}
@@ -0,0 +1,147 @@
+package studio.studioeye.global.common.cache;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import studio.studioeye.domain.project.domain.ProjectChangedEvent;
+import studio.studioeye.infrastructure.redis.RedisService;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 콘텐츠 단위별 버전 카운터.
+ * 버전은 여러 서버가 공유하도록 Redis 해시에 두고, 조회 요청마다 Redis에 가지 않도록 짧은 주기로 로컬에 복사해 둔다.
+ * 쓰기 트랜잭션이 커밋되면 버전을 올리고, 컨트롤러는 이 버전으로 ETag/Last-Modified를 내려주고 304를 응답한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentVersionRegistry {
+
+    private static final String VERSION_KEY = "content:version";
+    private static final String MODIFIED_SUFFIX = ":modified";
+
+    private final RedisService redisService;
+
+    @Value("${content-version.refresh-millis:1000}")
+    private long refreshMillis;
+
+    private volatile Map<ContentAggregate, ContentVersion> versions = Collections.emptyMap();
+    private volatile long refreshedAtNanos;
+    // Redis 장애 중에 이 서버에서만 올린 버전 수. Redis가 돌아오면 먼저 반영한 뒤에 읽는다.
+    private final Map<ContentAggregate, Long> unsynced = new EnumMap<>(ContentAggregate.class);
+
+    public ContentVersion current(ContentAggregate aggregate) {
+        Map<ContentAggregate, ContentVersion> snapshot = versions;
+        if (snapshot.isEmpty() || System.nanoTime() - refreshedAtNanos > TimeUnit.MILLISECONDS.toNanos(refreshMillis)) {
+            snapshot = refresh();
+        }
+        return snapshot.get(aggregate);
+    }
+
+    /**
+     * ETag, Last-Modified 헤더를 설정하고, 클라이언트가 가진 버전이 최신이면 304로 응답한다.
+     * true를 반환하면 컨트롤러는 본문 없이(null) 바로 반환하면 된다.
+     */
+    public boolean checkNotModified(ContentAggregate aggregate, WebRequest webRequest) {
+        return checkNotModified(current(aggregate), webRequest);
+    }
+
+    public boolean checkNotModified(ContentVersion version, WebRequest webRequest) {
+        return checkNotModified(version, null, webRequest);
+    }
+
+    public boolean checkNotModified(ContentVersion version, String contentCoding, WebRequest webRequest) {
+        if (webRequest instanceof NativeWebRequest nativeWebRequest) {
+            HttpServletResponse response = nativeWebRequest.getNativeResponse(HttpServletResponse.class);
+            // 저장은 허용하되 매번 재검증하도록 한다.
+            if (response != null) response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        return webRequest.checkNotModified(version.etag(contentCoding), version.modifiedAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        increase(event.aggregate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        increase(ContentAggregate.PROJECT);
+    }
+
+    public synchronized void increase(ContentAggregate aggregate) {
+        long now = System.currentTimeMillis();
+        long version;
+        try {
+            version = redisService.incrementHashOps(VERSION_KEY, aggregate.name(), 1L);
+            redisService.setHashOps(VERSION_KEY, Map.of(aggregate.name() + MODIFIED_SUFFIX, String.valueOf(now)));
+        } catch (RuntimeException e) {
+            // Redis를 쓸 수 없으면 이 서버의 버전만이라도 올려 오래된 304가 나가지 않게 한다.
+            log.warn("콘텐츠 버전을 Redis에 반영하지 못했습니다. aggregate={}", aggregate, e);
+            ContentVersion previous = current(aggregate);
+            version = previous.version() + 1;
+            unsynced.merge(aggregate, 1L, Long::sum);
+        }
+        Map<ContentAggregate, ContentVersion> updated = new EnumMap<>(ContentAggregate.class);
+        updated.putAll(versions);
+        updated.put(aggregate, new ContentVersion(version, now));
+        versions = Collections.unmodifiableMap(updated);
+    }
+
+    private synchronized Map<ContentAggregate, ContentVersion> refresh() {
+        // 다른 스레드가 먼저 갱신했다면 그대로 쓴다.
+        if (!versions.isEmpty() && System.nanoTime() - refreshedAtNanos <= TimeUnit.MILLISECONDS.toNanos(refreshMillis)) {
+            return versions;
+        }
+        Map<ContentAggregate, ContentVersion> refreshed = new EnumMap<>(ContentAggregate.class);
+        try {
+            syncUnsynced();
+            Map<String, String> stored = redisService.getAllHashOps(VERSION_KEY);
+            for (ContentAggregate aggregate : ContentAggregate.values()) {
+                String modifiedAt = stored.get(aggregate.name() + MODIFIED_SUFFIX);
+                if (modifiedAt == null) {
+                    // 아직 한 번도 수정되지 않은 경우, 모든 서버가 같은 값을 쓰도록 먼저 기록한 값을 따른다.
+                    redisService.setHashOpsIfAbsent(VERSION_KEY, aggregate.name() + MODIFIED_SUFFIX,
+                            String.valueOf(System.currentTimeMillis()));
+                    modifiedAt = redisService.getHashOps(VERSION_KEY, aggregate.name() + MODIFIED_SUFFIX);
+                }
+                String version = stored.get(aggregate.name());
+                refreshed.put(aggregate, new ContentVersion(
+                        version == null ? 0L : Long.parseLong(version), Long.parseLong(modifiedAt)));
+            }
+        } catch (RuntimeException e) {
+            log.warn("콘텐츠 버전을 Redis에서 읽지 못했습니다. 이전 값을 사용합니다.", e);
+            refreshed.clear();
+            long now = System.currentTimeMillis();
+            for (ContentAggregate aggregate : ContentAggregate.values()) {
+                refreshed.put(aggregate, versions.getOrDefault(aggregate, new ContentVersion(0L, now)));
+            }
+        }
+        versions = Collections.unmodifiableMap(refreshed);
+        refreshedAtNanos = System.nanoTime();
+        return versions;
+    }
+
+    // 그대로 Redis 값을 읽으면 장애 중에 올린 버전이 되돌아가 이전 ETag로 304가 나갈 수 있다.
+    private void syncUnsynced() {
+        Iterator<Map.Entry<ContentAggregate, Long>> iterator = unsynced.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<ContentAggregate, Long> entry = iterator.next();
+            String aggregate = entry.getKey().name();
+            redisService.incrementHashOps(VERSION_KEY, aggregate, entry.getValue());
+            redisService.setHashOps(VERSION_KEY, Map.of(aggregate + MODIFIED_SUFFIX, String.valueOf(System.currentTimeMillis())));
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package studio.studioeye.global.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.ServletWebRequest;
+import studio.studioeye.global.common.response.ApiResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 조회되고 거의 바뀌지 않는 공개 API의 응답을 JSON 바이트(와 gzip 버전) 그대로 보관하는 캐시.
+ * 캐시 적중 시에는 Jackson을 거치지 않고 서블릿 출력 스트림에 바로 쓴다.
+ * 무효화는 쓰기 트랜잭션이 커밋된 뒤에 이루어지며, 다른 서버의 변경은 콘텐츠 버전이 바뀐 것으로 알아챈다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBodyCache {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final ContentVersionRegistry contentVersionRegistry;
+
+    private final Map<ContentAggregate, CachedBody> bodies = new ConcurrentHashMap<>();
+    // 무효화될 때마다 증가한다. 조회 도중 무효화가 일어났다면 그 결과는 저장하지 않는다.
+    private final Map<ContentAggregate, AtomicLong> generations = createGenerations();
+
+    @Value("${response-cache.ttl-millis:60000}")
+    private long ttlMillis;
+
+    // 컨트롤러는 API 문서에 응답 형식이 남도록 loader와 같은 ApiResponse 타입을 선언하고, 이 메서드를 부른 뒤 null을 돌려준다.
+    // 본문이 이미 쓰였으므로 Spring은 null을 받으면 아무것도 쓰지 않는다(304 응답과 같은 방식).
+    public void write(ContentAggregate aggregate, HttpServletRequest request, HttpServletResponse response,
+                      Supplier<? extends ApiResponse<?>> loader) throws IOException {
+        ContentVersion version = contentVersionRegistry.current(aggregate);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        // 304 응답에도 Vary를 실어야 중간 캐시가 인코딩별 표현을 섞지 않는다.
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (contentVersionRegistry.checkNotModified(version, gzip ? GZIP : null, new ServletWebRequest(request, response))) {
+            return;
+        }
+
+        CachedBody body = bodies.get(aggregate);
+        if (body == null || !body.version().equals(version) || body.isExpired(System.nanoTime())) {
+            body = load(aggregate, version, loader);
+        }
+
+        byte[] bytes = gzip ? body.gzip() : body.json();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(bytes.length);
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(bytes);
+        outputStream.flush();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        evict(event.aggregate());
+    }
+
+    public void evict(ContentAggregate aggregate) {
+        bodies.compute(aggregate, (key, old) -> {
+            generations.get(key).incrementAndGet();
+            return null;
+        });
+    }
+
+    private CachedBody load(ContentAggregate aggregate, ContentVersion version,
+                            Supplier<? extends ApiResponse<?>> loader) throws IOException {
+        AtomicLong generation = generations.get(aggregate);
+        long loadedGeneration = generation.get();
+
+        byte[] json = objectMapper.writeValueAsBytes(loader.get());
+        CachedBody body = new CachedBody(version, json, compress(json),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMillis));
+
+        bodies.compute(aggregate, (key, old) -> generation.get() == loadedGeneration ? body : old);
+        return body;
+    }
+
+    private static byte[] compress(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    // "gzip;q=0"처럼 명시적으로 거부한 경우는 제외한다.
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase(GZIP) && !coding.equals("*")) continue;
+            boolean rejected = false;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().replace(" ", "");
+                if (param.startsWith("q=")) {
+                    try {
+                        rejected = Double.parseDouble(param.substring(2)) == 0;
+                    } catch (NumberFormatException e) {
+                        rejected = false;
+                    }
+                }
+            }
+            return !rejected;
+        }
+        return false;
+    }
+
+    private static Map<ContentAggregate, AtomicLong> createGenerations() {
+        Map<ContentAggregate, AtomicLong> map = new EnumMap<>(ContentAggregate.class);
+        for (ContentAggregate aggregate : ContentAggregate.values()) {
+            map.put(aggregate, new AtomicLong());
+        }
+        return map;
+    }
+
+    private record CachedBody(ContentVersion version, byte[] json, byte[] gzip, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
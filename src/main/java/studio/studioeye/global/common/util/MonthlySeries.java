@@ -0,0 +1,79 @@
+package studio.studioeye.global.common.util;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 시작 월부터 종료 월까지 월 단위 버킷을 갖는 시계열.
+ * 버킷은 시작 월로부터의 개월 수를 인덱스로 하는 배열에 저장되므로,
+ * 조회 결과를 한 번 훑어 채운 뒤 빈 달을 채운 목록을 O(개월 수)로 만들 수 있다.
+ */
+public final class MonthlySeries<T> {
+
+    private final int startOffset;
+    private final Object[] buckets;
+
+    private MonthlySeries(YearMonth start, YearMonth end) {
+        this.startOffset = toOffset(start.getYear(), start.getMonthValue());
+        this.buckets = new Object[toOffset(end.getYear(), end.getMonthValue()) - startOffset + 1];
+    }
+
+    public static <T> MonthlySeries<T> of(YearMonth start, YearMonth end) {
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("end must not be before start: " + start + " ~ " + end);
+        }
+        return new MonthlySeries<>(start, end);
+    }
+
+    public int size() {
+        return buckets.length;
+    }
+
+    // 기간 밖의 연월이면 -1
+    public int indexOf(int year, int month) {
+        int index = toOffset(year, month) - startOffset;
+        return index >= 0 && index < buckets.length ? index : -1;
+    }
+
+    public void put(int year, int month, T value) {
+        int index = indexOf(year, month);
+        if (index >= 0) buckets[index] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int year, int month) {
+        int index = indexOf(year, month);
+        return index >= 0 ? (T) buckets[index] : null;
+    }
+
+    // 기간 밖의 연월이면 버킷에 저장하지 않고 새 값만 돌려준다.
+    @SuppressWarnings("unchecked")
+    public T computeIfAbsent(int year, int month, Supplier<T> supplier) {
+        int index = indexOf(year, month);
+        if (index < 0) return supplier.get();
+        if (buckets[index] == null) buckets[index] = supplier.get();
+        return (T) buckets[index];
+    }
+
+    // 모든 달을 순서대로 변환한다. 값이 없는 달은 bucket이 null로 전달된다.
+    @SuppressWarnings("unchecked")
+    public <R> List<R> toList(BucketMapper<T, R> mapper) {
+        List<R> result = new ArrayList<>(buckets.length);
+        for (int index = 0; index < buckets.length; index++) {
+            int offset = startOffset + index;
+            result.add(mapper.map(offset / 12, offset % 12 + 1, (T) buckets[index]));
+        }
+        return result;
+    }
+
+    private static int toOffset(int year, int month) {
+        return year * 12 + (month - 1);
+    }
+
+    @FunctionalInterface
+    public interface BucketMapper<T, R> {
+        R map(int year, int month, T bucket);
+    }
+}
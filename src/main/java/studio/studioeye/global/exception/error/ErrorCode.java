@@ -18,6 +18,9 @@ public enum ErrorCode {
 
 	ERROR_S3_DELETE_OBJECT(HttpStatus.INTERNAL_SERVER_ERROR, "서버 문제 S3 이미지 삭제에 실패하였습니다."),
 	ERROR_S3_UPDATE_OBJECT(HttpStatus.INTERNAL_SERVER_ERROR, "서버 문제로 S3 이미지 업로드에 실패하였습니다."),
+	INVALID_UPLOAD_TICKET(HttpStatus.BAD_REQUEST, "유효하지 않거나 만료된 업로드 티켓입니다."),
+	NOT_UPLOADED_FILE(HttpStatus.BAD_REQUEST, "업로드된 파일이 없습니다. 발급받은 URL로 파일을 먼저 올려주세요."),
+	UPLOADED_FILE_TOO_LARGE(HttpStatus.BAD_REQUEST, "업로드할 수 있는 파일 크기를 초과했습니다."),
 
 	// client
 	INVALID_CLIENT_ID(HttpStatus.BAD_REQUEST, "유효하지 않은 client 식별자입니다."),
@@ -31,6 +34,9 @@ public enum ErrorCode {
 	TOP_PROJECT_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "대표 아트워크는 이미 설정되어 있습니다. 새로운 대표 아트워크를 설정하려면 기존 대표 아트워크를 변경하거나 삭제해주세요!"),
 	MAIN_PROJECT_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "메인 프로젝트는 최대 5개까지만 등록할 수 있습니다. 현재 등록 가능한 개수를 초과했습니다. 불필요한 프로젝트를 삭제하거나 확인해주세요!"),
 	PROJECT_TYPE_AND_IS_POSTED_MISMATCH(HttpStatus.BAD_REQUEST, "PROJECT TYPE과 IS POSTED가 상응하지 않습니다."),
+	INVALID_PROJECT_IMAGE_ID(HttpStatus.BAD_REQUEST, "유효하지 않은 project image 식별자입니다."),
+	INVALID_PROJECT_SEQUENCE(HttpStatus.BAD_REQUEST, "프로젝트 순서가 올바르지 않습니다. 기존 순서 값을 중복 없이 다시 배치해주세요."),
+	PROJECT_IMAGES_CHANGED(HttpStatus.CONFLICT, "다른 요청이 프로젝트 이미지를 먼저 수정했습니다. 다시 시도해주세요."),
 
 	// partner information
 	INVALID_PARTNER_INFORMATION_ID(HttpStatus.BAD_REQUEST,"유효하지 않은 partner information 식별자입니다."),
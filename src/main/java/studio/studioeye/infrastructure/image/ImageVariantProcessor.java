@@ -0,0 +1,140 @@
+package studio.studioeye.infrastructure.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 원본 이미지를 정해진 너비로 줄여 다시 인코딩한다. 클래스패스에 WebP ImageIO 플러그인이 있으면 WebP로, 없으면 JPEG로 쓴다.
+ * 목표 너비의 두 배보다 큰 원본은 디코딩할 때부터 픽셀을 건너뛰며 읽어(subsampling) 메모리와 디코딩 시간을 줄이고,
+ * 나머지는 절반씩 줄여 가며 보간해 한 번에 크게 줄일 때 생기는 계단 현상을 피한다.
+ * 상태가 없으므로 여러 스레드에서 함께 써도 된다.
+ */
+public class ImageVariantProcessor {
+
+	private static final String WEBP_MIME_TYPE = "image/webp";
+	private static final String JPEG_MIME_TYPE = "image/jpeg";
+	private static final String WEBP_EXTENSION = ".webp";
+	private static final String JPEG_EXTENSION = ".jpg";
+	// 플러그인 유무에 따라 쓸 수 있는 모든 확장자. 배포마다 플러그인이 달라져도 지울 썸네일 키를 빠뜨리지 않게 한다.
+	public static final List<String> EXTENSIONS = List.of(WEBP_EXTENSION, JPEG_EXTENSION);
+	private static final float QUALITY = 0.8f;
+
+	private final long maxPixels;
+	private final String contentType;
+	private final String extension;
+
+	public ImageVariantProcessor(long maxPixels) {
+		this.maxPixels = maxPixels;
+		boolean webp = ImageIO.getImageWritersByMIMEType(WEBP_MIME_TYPE).hasNext();
+		this.contentType = webp ? WEBP_MIME_TYPE : JPEG_MIME_TYPE;
+		this.extension = webp ? WEBP_EXTENSION : JPEG_EXTENSION;
+	}
+
+	public String contentType() {
+		return contentType;
+	}
+
+	public String extension() {
+		return extension;
+	}
+
+	// 읽을 수 없는 형식이거나 픽셀 수가 너무 많으면 비어 있는 값을 돌려준다. 원본보다 크게 늘리지는 않는다.
+	public Optional<byte[]> resize(InputStream source, int width) throws IOException {
+		BufferedImage image = decode(source, width);
+		if (image == null) {
+			return Optional.empty();
+		}
+		int targetWidth = Math.min(width, image.getWidth());
+		int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * targetWidth / image.getWidth()));
+		return Optional.of(encode(scale(image, targetWidth, targetHeight)));
+	}
+
+	private BufferedImage decode(InputStream source, int width) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+			if (input == null) {
+				return null;
+			}
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				int sourceWidth = reader.getWidth(0);
+				int sourceHeight = reader.getHeight(0);
+				// 헤더만 읽은 상태에서 크기를 확인해, 작은 파일로 거대한 비트맵을 만들게 하는 입력을 막는다.
+				if ((long) sourceWidth * sourceHeight > maxPixels) {
+					return null;
+				}
+				ImageReadParam param = reader.getDefaultReadParam();
+				int subsampling = Math.max(1, sourceWidth / (width * 2));
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				return reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	private static BufferedImage scale(BufferedImage image, int targetWidth, int targetHeight) {
+		BufferedImage current = image;
+		int width = image.getWidth();
+		int height = image.getHeight();
+		do {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			// JPEG는 투명도를 담을 수 없으므로 흰 바탕 RGB로 그린다.
+			BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+			Graphics2D graphics = next.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				graphics.drawImage(current, 0, 0, width, height, Color.WHITE, null);
+			} finally {
+				graphics.dispose();
+			}
+			current = next;
+		} while (width != targetWidth || height != targetHeight);
+		return current;
+	}
+
+	private byte[] encode(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByMIMEType(contentType).next();
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+			writer.setOutput(imageOutput);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if (param.canWriteCompressed()) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				String[] compressionTypes = param.getCompressionTypes();
+				if (compressionTypes != null) {
+					// WebP 플러그인은 무손실과 손실 압축을 함께 제공하므로 손실 압축을 고른다.
+					param.setCompressionType(Arrays.asList(compressionTypes).contains("Lossy") ? "Lossy" : compressionTypes[0]);
+				}
+				param.setCompressionQuality(QUALITY);
+			}
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return output.toByteArray();
+	}
+}
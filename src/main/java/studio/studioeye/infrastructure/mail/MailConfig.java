@@ -5,11 +5,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.Properties;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class MailConfig {
+    public static final String MAIL_EXECUTOR = "mailExecutor";
+
     @Value("${spring.mail.host}")
     private String host;
 
@@ -37,4 +41,18 @@ public class MailConfig {
 
         return mailSender;
     }
-}
\ No newline at end of file
+
+    // 메일 발송함을 비우는 전용 스레드. 스케줄러 풀(spring.task.scheduling.pool.size)은 조회수 반영, S3 삭제 재시도 등 여러 @Scheduled 작업이 나눠 쓰므로,
+    // SMTP 서버가 응답하지 않아도 그 스레드 하나를 오래 붙잡지 않게 발송만 여기로 뺀다.
+    // 발송은 한 번에 하나만 돌리고, 돌고 있는 동안 들어온 차례는 큐 없이 거절해 건너뛴다.
+    @Bean(name = MAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("mail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
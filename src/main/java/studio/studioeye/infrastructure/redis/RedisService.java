@@ -4,11 +4,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -29,6 +35,11 @@ public class RedisService {
         values.set(key, data, duration);
     }
 
+    public boolean setValuesIfAbsent(String key, String data, Duration duration) {
+        ValueOperations<String, Object> values = redisTemplate.opsForValue();
+        return Boolean.TRUE.equals(values.setIfAbsent(key, data, duration));
+    }
+
     @Transactional(readOnly = true)
     public String getValues(String key) {
         ValueOperations<String, Object> values = redisTemplate.opsForValue();
@@ -38,6 +49,22 @@ public class RedisService {
         return (String) values.get(key);
     }
 
+    // 값을 읽으면서 지운다. 여러 요청이 동시에 읽어도 값을 받는 쪽은 하나뿐이다. 값이 없으면 null
+    public String getAndDeleteValues(String key) {
+        ValueOperations<String, Object> values = redisTemplate.opsForValue();
+        return (String) values.getAndDelete(key);
+    }
+
+    public Long incrementValues(String key) {
+        ValueOperations<String, Object> values = redisTemplate.opsForValue();
+        return values.increment(key);
+    }
+
+    // 채널을 구독 중인 모든 서버(자기 자신 포함)에 메시지를 보낸다.
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
     public void deleteValues(String key) {
         redisTemplate.delete(key);
     }
@@ -46,6 +73,25 @@ public class RedisService {
         redisTemplate.expire(key, timeout, TimeUnit.MILLISECONDS);
     }
 
+    public void addSetValues(String key, Collection<String> data) {
+        if (data.isEmpty()) {
+            return;
+        }
+        SetOperations<String, Object> values = redisTemplate.opsForSet();
+        values.add(key, data.toArray());
+    }
+
+    // 집합에서 최대 count개를 꺼내면서 지운다. 여러 서버가 동시에 꺼내도 같은 값을 두 번 받지 않는다.
+    public List<String> popSetValues(String key, long count) {
+        SetOperations<String, Object> values = redisTemplate.opsForSet();
+        List<Object> popped = values.pop(key, count);
+        List<String> result = new ArrayList<>();
+        if (popped != null) {
+            popped.forEach(value -> result.add((String) value));
+        }
+        return result;
+    }
+
     public void setHashOps(String key, Map<String, String> data) {
         HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
         values.putAll(key, data);
@@ -57,11 +103,34 @@ public class RedisService {
         return Boolean.TRUE.equals(values.hasKey(key, hashKey)) ? (String) redisTemplate.opsForHash().get(key, hashKey) : "";
     }
 
+    public boolean setHashOpsIfAbsent(String key, String hashKey, String data) {
+        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+        return Boolean.TRUE.equals(values.putIfAbsent(key, hashKey, data));
+    }
+
+    public Long incrementHashOps(String key, String hashKey, long delta) {
+        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+        return values.increment(key, hashKey, delta);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, String> getAllHashOps(String key) {
+        HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
+        Map<String, String> entries = new HashMap<>();
+        values.entries(key).forEach((hashKey, value) -> entries.put((String) hashKey, (String) value));
+        return entries;
+    }
+
     public void deleteHashOps(String key, String hashKey) {
         HashOperations<String, Object, Object> values = redisTemplate.opsForHash();
         values.delete(key, hashKey);
     }
 
+    // 여러 명령을 한 번에 원자적으로 실행한다. 인자는 문자열로 직렬화된다.
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, String... args) {
+        return redisTemplate.execute(script, keys, (Object[]) args);
+    }
+
     public boolean checkExistsValue(String value) {
         return !value.equals("false");
     }
@@ -0,0 +1,11 @@
+package studio.studioeye.infrastructure.s3;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 클라이언트가 uploadUrl로 fields를 모두 담은 multipart/form-data POST를 보내 파일을 직접 올린 뒤, ticket으로 업로드 완료를 알린다.
+ * 파일은 fields 뒤에 file 필드로 붙이며, fields의 Content-Type과 최대 크기를 벗어나면 S3가 거절한다.
+ */
+public record PresignedUploadTicket(String ticket, String uploadUrl, Map<String, String> fields, Instant expiresAt) {
+}
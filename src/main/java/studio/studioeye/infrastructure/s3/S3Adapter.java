@@ -1,66 +1,222 @@
 package studio.studioeye.infrastructure.s3;
 
-import com.amazonaws.SdkClientException;
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
+import studio.studioeye.infrastructure.storage.BlobAttributes;
+import studio.studioeye.infrastructure.storage.BlobStore;
+import studio.studioeye.infrastructure.storage.BlobStoreException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.UUID;
 
 @RequiredArgsConstructor
 @Service
 public class S3Adapter {
 
-	private final AmazonS3Client amazonS3Client;
+	// 키가 바뀌지 않는 한 내용도 바뀌지 않는 객체(UUID 키, 해시 버전 URL)는 1년 동안 캐시하게 한다.
+	static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
 
-	@Value("${aws.s3.bucket}")
-	private String bucket;
+	private final BlobStore blobStore;
+	private final VersionedAssetRegistry versionedAssetRegistry;
+	private final S3ReferenceCounter referenceCounter;
+	private final S3DeletionQueue deletionQueue;
+
+	@Value("${aws.s3.content-addressed:true}")
+	private boolean contentAddressed;
 
 
 	public ApiResponse<String> uploadImage(MultipartFile multipartFile) {
-		ObjectMetadata metadata = new ObjectMetadata();
 		String fileName = UUID.randomUUID() + ".png";
-		metadata.setContentLength(multipartFile.getSize());
-		metadata.setContentType("image/png");
-		try {
-			amazonS3Client.putObject(bucket, fileName, multipartFile.getInputStream(), metadata);
-			return ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", amazonS3Client.getUrl(bucket, fileName).toString());
-		} catch (IOException e) {
+		BlobAttributes attributes = new BlobAttributes(multipartFile.getSize(), "image/png", IMMUTABLE_CACHE_CONTROL, null);
+		try (InputStream inputStream = multipartFile.getInputStream()) {
+			blobStore.put(fileName, inputStream, attributes);
+			return ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", blobStore.url(fileName));
+		} catch (IOException | BlobStoreException e) {
 			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
 		}
 	}
 
 	public ApiResponse<String> uploadFile(MultipartFile multipartFile) throws IOException {
-		String originalFilename = multipartFile.getOriginalFilename();
+		if (contentAddressed) {
+			return uploadContentAddressed(multipartFile);
+		}
+		// 파일 이름은 DB에만 남기고 키는 서버가 만든다. 같은 이름의 업로드가 서로 덮어쓰거나, 한쪽의 보상 삭제가 다른 쪽 객체를 지우지 않는다.
+		String key = generatedKey(multipartFile.getOriginalFilename());
 
-		ObjectMetadata metadata = new ObjectMetadata();
-		metadata.setContentLength(multipartFile.getSize());
-		metadata.setContentType(multipartFile.getContentType());
+		BlobAttributes attributes = new BlobAttributes(multipartFile.getSize(), multipartFile.getContentType(), IMMUTABLE_CACHE_CONTROL, null);
 
+		try (InputStream inputStream = multipartFile.getInputStream()) {
+			String eTag = blobStore.put(key, inputStream, attributes);
+			String url = blobStore.url(key);
+			return ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", versionedAssetRegistry.record(key, url, eTag));
+		}
+		catch (IOException | BlobStoreException e) {
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		}
+	}
+
+	// 내용의 SHA-256을 키로 올린다. 같은 내용은 파일 이름이 달라도 한 객체를 함께 쓰고, 이름이 같아도 내용이 다르면 덮어쓰지 않는다.
+	// 키를 정하려면 해시를 먼저 알아야 하므로, 서버에 받아 둔 파일을 한 번 읽어 SHA-256과 MD5를 함께 구하고 S3 전송은 많아야 한 번 한다.
+	private ApiResponse<String> uploadContentAddressed(MultipartFile multipartFile) {
+		ContentDigest digest;
 		try {
-			amazonS3Client.putObject(bucket, originalFilename, multipartFile.getInputStream(), metadata);
-			return ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", amazonS3Client.getUrl(bucket, originalFilename).toString());
+			digest = digest(multipartFile);
+		} catch (IOException e) {
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
 		}
-		catch (IOException e) {
+		String key = contentAddressedKey(digest.sha256Hex(), multipartFile.getOriginalFilename());
+
+		try {
+			referenceCounter.retain(key);
+		} catch (IllegalStateException | DataAccessException | TransactionException e) {
 			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
 		}
+		// 참조를 먼저 커밋해 두었으므로 확인한 객체가 그 사이 지워지지 않는다. 이미 있으면 PUT을 건너뛴다.
+		BlobAttributes attributes = new BlobAttributes(multipartFile.getSize(), multipartFile.getContentType(),
+				IMMUTABLE_CACHE_CONTROL, Base64.getEncoder().encodeToString(digest.md5()));
+		try (InputStream inputStream = multipartFile.getInputStream()) {
+			if (blobStore.stat(key).isEmpty()) {
+				blobStore.put(key, inputStream, attributes);
+			}
+		} catch (IOException | BlobStoreException e) {
+			deletionQueue.discard(key);
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		}
+		String url = blobStore.url(key);
+		return ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", versionedAssetRegistry.record(key, url, HexFormat.of().formatHex(digest.md5())));
+	}
+
+	public boolean isContentAddressed() {
+		return contentAddressed;
+	}
+
+	// 스트리밍 업로드처럼 내용을 다 받은 뒤에야 해시를 알 수 있을 때, 임시 키에 올린 객체를 내용 주소 키로 옮긴다.
+	// 같은 내용의 객체가 이미 있으면 복사하지 않는다. 어느 쪽이든 임시 객체는 지운다.
+	public ApiResponse<String> adoptStagedObject(String stagingKey, String sha256Hex, String originalFilename) {
+		String key = contentAddressedKey(sha256Hex, originalFilename);
+		String eTag = null;
+		try {
+			referenceCounter.retain(key);
+			if (blobStore.stat(key).isEmpty()) {
+				eTag = blobStore.copy(stagingKey, key);
+			}
+		} catch (IllegalStateException | DataAccessException | TransactionException e) {
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		} catch (BlobStoreException e) {
+			deletionQueue.discard(key);
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		} finally {
+			deletionQueue.discard(stagingKey);
+		}
+		String url = blobStore.url(key);
+		String versionedUrl = eTag == null ? versionedAssetRegistry.versionedUrl(url) : versionedAssetRegistry.record(key, url, eTag);
+		return ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", versionedUrl);
+	}
+
+	// 저장된 URL의 객체와 파일의 내용이 같으면 true. 다시 업로드하지 않아도 된다.
+	public boolean isSameContent(String fileUrl, MultipartFile multipartFile) {
+		String key = fileUrl == null ? null : VersionedAssetRegistry.keyOf(fileUrl);
+		if (key == null || multipartFile == null) {
+			return false;
+		}
+		try {
+			if (S3ReferenceCounter.isCounted(key)) {
+				return key.equals(contentAddressedKey(digest(multipartFile).sha256Hex(), multipartFile.getOriginalFilename()));
+			}
+			try (InputStream inputStream = multipartFile.getInputStream()) {
+				return versionedAssetRegistry.matchesContent(key, DigestUtils.md5DigestAsHex(inputStream));
+			}
+		} catch (IOException e) {
+			return false;
+		}
 	}
 
+	// 저장된 URL이 가리키는 객체의 참조를 하나 놓는다. 실제 삭제는 트랜잭션이 커밋된 뒤 S3DeletionQueue가 모아서 한다.
+	// 내용 주소 객체는 참조 수를 호출한 트랜잭션 안에서 줄이고 참조가 남아 있지 않을 때만 지운다.
+	// 참조 수를 세지 않는 키(기존 파일 이름 키, 서버가 만든 UUID 키)는 그대로 지운다.
+	public ApiResponse<String> releaseFile(String fileUrl) {
+		String key = fileUrl == null ? null : VersionedAssetRegistry.keyOf(fileUrl);
+		if (key == null) {
+			return ApiResponse.withError(ErrorCode.ERROR_S3_DELETE_OBJECT);
+		}
+		if (S3ReferenceCounter.isCounted(key)) {
+			referenceCounter.release(key);
+		}
+		deletionQueue.release(key);
+		return ApiResponse.ok("S3 버킷에서 이미지 삭제를 예약하였습니다.", key);
+	}
 
+	// 방금 올렸지만 DB에 저장하지 못한 객체의 참조를 놓는다. 트랜잭션이 롤백되어도 지워야 하므로 커밋을 기다리지 않는다.
+	public ApiResponse<String> discardFile(String fileUrl) {
+		String key = fileUrl == null ? null : VersionedAssetRegistry.keyOf(fileUrl);
+		if (key == null) {
+			return ApiResponse.withError(ErrorCode.ERROR_S3_DELETE_OBJECT);
+		}
+		deletionQueue.discard(key);
+		return ApiResponse.ok("S3 버킷에서 이미지 삭제를 예약하였습니다.", key);
+	}
 
 	public ApiResponse<String> deleteFile(String fileName){
 		try{
-			amazonS3Client.deleteObject(bucket, fileName);
-			return ApiResponse.ok("S3 버킷에서 이미지를 성공적으로 삭제하였습니다.", amazonS3Client.getUrl(bucket, fileName).toString());
+			if (!blobStore.delete(List.of(fileName)).isEmpty()) {
+				return ApiResponse.withError(ErrorCode.ERROR_S3_DELETE_OBJECT);
+			}
+			versionedAssetRegistry.forget(fileName);
+			return ApiResponse.ok("S3 버킷에서 이미지를 성공적으로 삭제하였습니다.", fileName);
 
-		}catch (SdkClientException e){
+		}catch (BlobStoreException e){
 			return ApiResponse.withError(ErrorCode.ERROR_S3_DELETE_OBJECT);
 		}
 	}
-}
\ No newline at end of file
+
+	private static String contentAddressedKey(String sha256Hex, String originalFilename) {
+		return S3ReferenceCounter.CONTENT_ADDRESSED_PREFIX + sha256Hex + extensionOf(originalFilename);
+	}
+
+	static String generatedKey(String originalFilename) {
+		return UUID.randomUUID() + extensionOf(originalFilename);
+	}
+
+	private static String extensionOf(String originalFilename) {
+		if (originalFilename != null) {
+			int dot = originalFilename.lastIndexOf('.');
+			if (dot >= 0 && dot < originalFilename.length() - 1) {
+				return originalFilename.substring(dot).toLowerCase();
+			}
+		}
+		return "";
+	}
+
+	private static ContentDigest digest(MultipartFile multipartFile) throws IOException {
+		MessageDigest sha256;
+		MessageDigest md5;
+		try {
+			sha256 = MessageDigest.getInstance("SHA-256");
+			md5 = MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		try (InputStream inputStream = new DigestInputStream(new DigestInputStream(multipartFile.getInputStream(), sha256), md5)) {
+			inputStream.transferTo(OutputStream.nullOutputStream());
+		}
+		return new ContentDigest(HexFormat.of().formatHex(sha256.digest()), md5.digest());
+	}
+
+	private record ContentDigest(String sha256Hex, byte[] md5) {
+	}
+}
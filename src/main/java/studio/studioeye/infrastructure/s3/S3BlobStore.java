@@ -0,0 +1,128 @@
+package studio.studioeye.infrastructure.s3;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import studio.studioeye.infrastructure.storage.BlobAttributes;
+import studio.studioeye.infrastructure.storage.BlobMetadata;
+import studio.studioeye.infrastructure.storage.BlobStore;
+import studio.studioeye.infrastructure.storage.BlobStoreException;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 버킷을 쓰는 저장소. storage.type을 지정하지 않으면 이 구현을 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3BlobStore implements BlobStore {
+
+	private final AmazonS3Client amazonS3Client;
+
+	@Value("${aws.s3.bucket}")
+	private String bucket;
+
+	@Override
+	public String put(String key, InputStream content, BlobAttributes attributes) {
+		ObjectMetadata metadata = new ObjectMetadata();
+		if (attributes.contentLength() >= 0) {
+			metadata.setContentLength(attributes.contentLength());
+		}
+		metadata.setContentType(attributes.contentType());
+		metadata.setCacheControl(attributes.cacheControl());
+		if (attributes.contentMd5() != null) {
+			metadata.setContentMD5(attributes.contentMd5());
+		}
+		try {
+			return amazonS3Client.putObject(bucket, key, content, metadata).getETag();
+		} catch (SdkClientException e) {
+			throw new BlobStoreException("S3에 객체를 올리지 못했습니다. key: " + key, e);
+		}
+	}
+
+	@Override
+	public Optional<BlobMetadata> stat(String key) {
+		try {
+			ObjectMetadata metadata = amazonS3Client.getObjectMetadata(bucket, key);
+			return Optional.of(new BlobMetadata(metadata.getContentLength(), metadata.getContentType(), metadata.getETag()));
+		} catch (AmazonS3Exception e) {
+			if (e.getStatusCode() == 404) {
+				return Optional.empty();
+			}
+			throw new BlobStoreException("S3 객체의 메타데이터를 읽지 못했습니다. key: " + key, e);
+		} catch (SdkClientException e) {
+			throw new BlobStoreException("S3 객체의 메타데이터를 읽지 못했습니다. key: " + key, e);
+		}
+	}
+
+	@Override
+	public InputStream open(String key) {
+		try {
+			return amazonS3Client.getObject(bucket, key).getObjectContent();
+		} catch (SdkClientException e) {
+			throw new BlobStoreException("S3 객체를 읽지 못했습니다. key: " + key, e);
+		}
+	}
+
+	@Override
+	public String copy(String sourceKey, String targetKey) {
+		try {
+			return amazonS3Client.copyObject(bucket, sourceKey, bucket, targetKey).getETag();
+		} catch (SdkClientException e) {
+			throw new BlobStoreException("S3 객체를 복사하지 못했습니다. key: " + sourceKey, e);
+		}
+	}
+
+	@Override
+	public List<String> delete(List<String> keys) {
+		if (keys.isEmpty()) {
+			return List.of();
+		}
+		try {
+			amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+					.withKeys(keys.toArray(String[]::new))
+					.withQuiet(true));
+			return List.of();
+		} catch (MultiObjectDeleteException e) {
+			List<String> failed = new ArrayList<>();
+			e.getErrors().forEach(error -> failed.add(error.getKey()));
+			return failed;
+		} catch (SdkClientException e) {
+			throw new BlobStoreException("S3 객체를 지우지 못했습니다.", e);
+		}
+	}
+
+	@Override
+	public List<String> list(String prefix) {
+		List<String> keys = new ArrayList<>();
+		try {
+			ObjectListing listing = amazonS3Client.listObjects(bucket, prefix);
+			while (true) {
+				listing.getObjectSummaries().forEach(summary -> keys.add(summary.getKey()));
+				if (!listing.isTruncated()) {
+					return keys;
+				}
+				listing = amazonS3Client.listNextBatchOfObjects(listing);
+			}
+		} catch (SdkClientException e) {
+			throw new BlobStoreException("S3 객체 목록을 읽지 못했습니다. prefix: " + prefix, e);
+		}
+	}
+
+	@Override
+	public String url(String key) {
+		return amazonS3Client.getUrl(bucket, key).toString();
+	}
+}
@@ -2,27 +2,77 @@ package studio.studioeye.infrastructure.s3;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class S3Config {
+	public static final String UPLOAD_EXECUTOR = "s3UploadExecutor";
+	public static final String IMAGE_VARIANT_EXECUTOR = "imageVariantExecutor";
+
 	@Value("${aws.s3.access-key}")
 	private String accessKey;
 	@Value("${aws.s3.secret-key}")
 	private String secretKey;
 	@Value("${aws.s3.region}")
 	private String region;
+	// MinIO, LocalStack 같은 S3 호환 저장소를 쓸 때만 지정한다. 비어 있으면 AWS S3를 쓴다.
+	@Value("${aws.s3.endpoint:}")
+	private String endpoint;
+	@Value("${aws.s3.upload.max-concurrency:8}")
+	private int uploadMaxConcurrency;
+	@Value("${aws.s3.upload.queue-capacity:64}")
+	private int uploadQueueCapacity;
+	@Value("${image.variant.max-concurrency:2}")
+	private int imageVariantMaxConcurrency;
+	@Value("${image.variant.queue-capacity:256}")
+	private int imageVariantQueueCapacity;
 
 	@Bean
 	public AmazonS3Client amazonS3Client() {
 		BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
-		return (AmazonS3Client)AmazonS3ClientBuilder.standard()
-			.withRegion(region)
-			.withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-			.build();
+		AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+			.withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+		if (endpoint.isBlank()) {
+			builder.withRegion(region);
+		} else {
+			builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+				.withPathStyleAccessEnabled(true);
+		}
+		return (AmazonS3Client)builder.build();
+	}
+
+	// 업로드 동시 실행 수를 제한한다. 큐가 가득 차면 요청 스레드가 직접 업로드해 자연스럽게 속도가 조절된다.
+	@Bean(name = UPLOAD_EXECUTOR)
+	public ThreadPoolTaskExecutor s3UploadExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(uploadMaxConcurrency);
+		executor.setMaxPoolSize(uploadMaxConcurrency);
+		executor.setQueueCapacity(uploadQueueCapacity);
+		executor.setThreadNamePrefix("s3-upload-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	// 이미지 변환은 CPU를 많이 쓰므로 동시 실행 수를 작게 둔다. 큐가 가득 차면 요청 스레드에서 돌리지 않고 거절하며,
+	// 거절된 이미지는 다음에 프로젝트를 저장할 때 다시 요청된다.
+	@Bean(name = IMAGE_VARIANT_EXECUTOR)
+	public ThreadPoolTaskExecutor imageVariantExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(imageVariantMaxConcurrency);
+		executor.setMaxPoolSize(imageVariantMaxConcurrency);
+		executor.setQueueCapacity(imageVariantQueueCapacity);
+		executor.setThreadNamePrefix("image-variant-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		return executor;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+package studio.studioeye.infrastructure.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import studio.studioeye.infrastructure.redis.RedisService;
+import studio.studioeye.infrastructure.storage.BlobStore;
+import studio.studioeye.infrastructure.storage.BlobStoreException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * S3 객체 삭제를 트랜잭션 단위로 모았다가 커밋된 뒤에 DeleteObjects 한 번에 최대 1000개씩 지운다.
+ * 트랜잭션이 롤백되면 모은 키를 버리므로, DB에 남은 URL이 가리키는 객체가 먼저 지워지지 않는다.
+ * 원본을 지울 때 그 원본으로 만든 썸네일(variants/<원본 키>/)도 키를 계산해 같은 요청으로 함께 지운다.
+ * 내용 주소 객체의 참조 수는 S3ReferenceCounter가 DB에서 줄이고, 여기서는 참조가 없는 객체만 잡아서 지운다.
+ * 지우지 못한 내용 주소 객체는 참조 수 0인 행으로 DB에 남으므로 주기적으로 그 행을 읽어 다시 지운다.
+ * 참조 수를 세지 않는 키는 지우지 못하면 Redis 집합에 넣어 두고 다시 시도한다. 집합을 잃어도 객체가 남을 뿐이다.
+ */
+@Slf4j
+@Component
+public class S3DeletionQueue {
+
+	// S3 DeleteObjects 한 번에 지울 수 있는 최대 키 수
+	static final int MAX_KEYS_PER_REQUEST = BlobStore.MAX_DELETE_KEYS;
+	// 참조 수를 세지 않는 키 중 지우지 못한 키
+	private static final String PENDING_DELETION_KEY = "s3:pending-deletions";
+
+	private final BlobStore blobStore;
+	private final S3ReferenceCounter referenceCounter;
+	private final VersionedAssetRegistry versionedAssetRegistry;
+	private final S3ImageVariantGenerator variantGenerator;
+	private final RedisService redisService;
+	private final Executor executor;
+
+	public S3DeletionQueue(BlobStore blobStore, S3ReferenceCounter referenceCounter,
+						   VersionedAssetRegistry versionedAssetRegistry, S3ImageVariantGenerator variantGenerator,
+						   RedisService redisService, @Qualifier(S3Config.UPLOAD_EXECUTOR) Executor executor) {
+		this.blobStore = blobStore;
+		this.referenceCounter = referenceCounter;
+		this.versionedAssetRegistry = versionedAssetRegistry;
+		this.variantGenerator = variantGenerator;
+		this.redisService = redisService;
+		this.executor = executor;
+	}
+
+	// 참조를 이미 놓은 키를 지운다. 트랜잭션 안이면 커밋 뒤로 미루고, 트랜잭션 밖이면 바로 비동기로 지운다.
+	public void release(String key) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			dispatch(List.of(key), true);
+			return;
+		}
+		PendingReleases pending = (PendingReleases) TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+			pending = new PendingReleases();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+		pending.keys.add(key);
+	}
+
+	// DB에 기록된 적 없는 객체(업로드 실패 보상, 임시 객체)는 트랜잭션 결과와 상관없이 바로 비동기로 참조를 놓고 지운다.
+	public void discard(String key) {
+		executor.execute(() -> discardNow(key));
+	}
+
+	// 지우지 못한 키를 다시 지운다. 저장소가 계속 실패하면 다음 주기로 미룬다.
+	@Scheduled(fixedDelayString = "${aws.s3.deletion.retry-interval-millis:60000}")
+	public void retryPendingDeletions() {
+		List<String> keys;
+		while (!(keys = redisService.popSetValues(PENDING_DELETION_KEY, MAX_KEYS_PER_REQUEST)).isEmpty()) {
+			if (!deleteObjects(keys, false)) {
+				return;
+			}
+		}
+		try {
+			keys = referenceCounter.findUnreferenced(MAX_KEYS_PER_REQUEST);
+		} catch (RuntimeException e) {
+			log.warn("참조가 없는 S3 객체를 읽지 못했습니다.", e);
+			return;
+		}
+		if (!keys.isEmpty()) {
+			deleteObjects(keys, true);
+		}
+	}
+
+	private void dispatch(List<String> keys, boolean withVariants) {
+		executor.execute(() -> {
+			for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_REQUEST) {
+				deleteObjects(keys.subList(from, Math.min(from + MAX_KEYS_PER_REQUEST, keys.size())), withVariants);
+			}
+		});
+	}
+
+	// 참조를 놓지 못하면 참조 수가 남아 있으므로 지우지 않는다. 객체가 남을 뿐 참조 중인 객체를 지우지는 않는다.
+	private void discardNow(String key) {
+		if (S3ReferenceCounter.isCounted(key)) {
+			try {
+				referenceCounter.discard(key);
+			} catch (RuntimeException e) {
+				log.warn("S3 객체 참조를 놓지 못해 지우지 않습니다. key: {}", key, e);
+				return;
+			}
+		}
+		deleteObjects(List.of(key), false);
+	}
+
+	// 참조를 세지 않는 키와 참조가 없어 잡은 내용 주소 키를 지운다. 모두 지웠으면 true.
+	// 내용 주소 객체는 잡은 동안 같은 내용을 올리는 업로드가 기다리므로, 삭제가 끝난 뒤 그 업로드가 다시 올린다.
+	private boolean deleteObjects(List<String> keys, boolean withVariants) {
+		List<String> originals = new ArrayList<>();
+		List<String> counted = new ArrayList<>();
+		for (String key : keys) {
+			if (S3ReferenceCounter.isCounted(key)) {
+				counted.add(key);
+			} else {
+				originals.add(key);
+			}
+		}
+		String token = UUID.randomUUID().toString();
+		List<String> claimed;
+		try {
+			claimed = referenceCounter.claimUnreferenced(counted, token);
+		} catch (RuntimeException e) {
+			// 잡지 못한 내용 주소 키는 DB에 참조 수 0으로 남아 있으므로 다음 주기에 다시 지운다.
+			log.warn("지울 S3 객체를 잡지 못해 다시 시도합니다. keys: {}", keys.size(), e);
+			defer(withVariants ? withVariantKeys(originals) : originals);
+			return false;
+		}
+		originals.addAll(claimed);
+		if (originals.isEmpty()) {
+			return true;
+		}
+		// 썸네일은 원본이 지워질 때 함께 지운다.
+		List<String> targets = withVariants ? withVariantKeys(originals) : originals;
+		Set<String> failed = new HashSet<>();
+		List<String> deletedClaims = new ArrayList<>();
+		try {
+			for (int from = 0; from < targets.size(); from += MAX_KEYS_PER_REQUEST) {
+				List<String> batch = targets.subList(from, Math.min(from + MAX_KEYS_PER_REQUEST, targets.size()));
+				try {
+					failed.addAll(blobStore.delete(batch));
+				} catch (BlobStoreException e) {
+					failed.addAll(batch);
+				}
+			}
+			// 잡은 것을 풀기 전에 버전을 지워야, 풀리자마자 다시 올린 객체의 버전을 지우지 않는다.
+			originals.stream().filter(key -> !failed.contains(key)).forEach(versionedAssetRegistry::forget);
+			claimed.stream().filter(key -> !failed.contains(key)).forEach(deletedClaims::add);
+		} finally {
+			completeQuietly(token, claimed, deletedClaims);
+		}
+		if (failed.isEmpty()) {
+			return true;
+		}
+		log.warn("S3 객체 {}개를 지우지 못해 다시 시도합니다.", failed.size());
+		defer(failed.stream().filter(key -> !S3ReferenceCounter.isCounted(key)).toList());
+		return false;
+	}
+
+	private List<String> withVariantKeys(List<String> keys) {
+		List<String> withVariants = new ArrayList<>(keys);
+		keys.forEach(key -> withVariants.addAll(variantGenerator.variantKeysOf(key)));
+		return withVariants;
+	}
+
+	private void defer(Collection<String> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		try {
+			redisService.addSetValues(PENDING_DELETION_KEY, keys);
+		} catch (RuntimeException e) {
+			log.error("다시 시도할 S3 객체를 기록하지 못했습니다. keys: {}", keys, e);
+		}
+	}
+
+	// 기록하지 못해도 잡은 것은 만료 시간이 지나면 풀리고, 지운 키의 행은 다음 정리 때 다시 지운 뒤 없앤다.
+	private void completeQuietly(String token, List<String> claimed, List<String> deletedClaims) {
+		if (claimed.isEmpty()) {
+			return;
+		}
+		try {
+			referenceCounter.completeDeletion(token, deletedClaims);
+		} catch (RuntimeException e) {
+			log.warn("S3 객체 삭제 결과를 기록하지 못했습니다. keys: {}", claimed.size(), e);
+		}
+	}
+
+	private class PendingReleases implements TransactionSynchronization {
+
+		private final List<String> keys = new ArrayList<>();
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(S3DeletionQueue.this);
+			if (status == STATUS_COMMITTED && !keys.isEmpty()) {
+				dispatch(keys, true);
+			}
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package studio.studioeye.infrastructure.s3;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import studio.studioeye.infrastructure.image.ImageVariantProcessor;
+import studio.studioeye.infrastructure.storage.BlobAttributes;
+import studio.studioeye.infrastructure.storage.BlobStore;
+import studio.studioeye.infrastructure.storage.BlobStoreException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * S3에 올린 원본 이미지로 썸네일을 만들어 variants/<원본 키>/<너비><확장자>에 올리고 URL을 돌려준다.
+ * 변환은 제한된 이미지 변환 스레드 풀에서 하며, 트랜잭션 안에서 요청하면 커밋된 뒤에 시작한다.
+ * 원본 키는 서버가 만든 UUID나 내용 해시라 한 키의 내용이 바뀌지 않으므로, 썸네일 키는 원본 키와 너비만으로 정하고 같은 원본이면 한 번만 만든다.
+ * 썸네일은 원본이 S3에서 지워질 때 S3DeletionQueue가 목록을 읽지 않고 {@link #variantKeysOf(String)}로 키를 계산해 함께 지운다.
+ */
+@Slf4j
+@Component
+public class S3ImageVariantGenerator {
+
+	static final String VARIANT_PREFIX = "variants/";
+	private static final String VARIANT_TIMER = "image.variant";
+
+	private final BlobStore blobStore;
+	private final ImageVariantProcessor processor;
+	private final MeterRegistry meterRegistry;
+	private final Executor executor;
+	private final int thumbnailWidth;
+
+	public S3ImageVariantGenerator(BlobStore blobStore, MeterRegistry meterRegistry,
+								   @Qualifier(S3Config.IMAGE_VARIANT_EXECUTOR) Executor executor,
+								   @Value("${image.variant.thumbnail-width:480}") int thumbnailWidth,
+								   @Value("${image.variant.max-pixels:50000000}") long maxPixels) {
+		this.blobStore = blobStore;
+		this.processor = new ImageVariantProcessor(maxPixels);
+		this.meterRegistry = meterRegistry;
+		this.executor = executor;
+		this.thumbnailWidth = thumbnailWidth;
+	}
+
+	// 원본의 썸네일 URL을 비동기로 돌려준다. 이미지가 아니거나 만들 수 없으면 null로 끝난다.
+	public CompletableFuture<String> thumbnail(String originalUrl) {
+		String key = originalUrl == null ? null : VersionedAssetRegistry.keyOf(originalUrl);
+		if (key == null) {
+			return CompletableFuture.completedFuture(null);
+		}
+		CompletableFuture<String> result = new CompletableFuture<>();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			// 롤백되면 원본 URL이 DB에 남지 않으므로 만들지 않는다.
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_COMMITTED) {
+						submit(key, result);
+					} else {
+						result.complete(null);
+					}
+				}
+			});
+		} else {
+			submit(key, result);
+		}
+		return result;
+	}
+
+	// 원본 키로 만들 수 있는 모든 썸네일 키. 없는 키를 지워도 S3는 성공으로 답하므로 확장자마다 하나씩 돌려준다.
+	List<String> variantKeysOf(String key) {
+		List<String> keys = new ArrayList<>(ImageVariantProcessor.EXTENSIONS.size());
+		for (String extension : ImageVariantProcessor.EXTENSIONS) {
+			keys.add(variantKeyOf(key, extension));
+		}
+		return keys;
+	}
+
+	private String variantKeyOf(String key, String extension) {
+		return VARIANT_PREFIX + key + "/" + thumbnailWidth + extension;
+	}
+
+	private void submit(String key, CompletableFuture<String> result) {
+		try {
+			executor.execute(() -> {
+				try {
+					result.complete(generate(key));
+				} catch (RuntimeException e) {
+					result.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	private String generate(String key) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "failure";
+		try {
+			if (blobStore.stat(key).isEmpty()) {
+				outcome = "skipped";
+				return null;
+			}
+			String variantKey = variantKeyOf(key, processor.extension());
+			if (blobStore.stat(variantKey).isPresent()) {
+				outcome = "cached";
+				return blobStore.url(variantKey);
+			}
+			Optional<byte[]> thumbnail;
+			try (InputStream inputStream = blobStore.open(key)) {
+				thumbnail = processor.resize(inputStream, thumbnailWidth);
+			}
+			if (thumbnail.isEmpty()) {
+				outcome = "skipped";
+				return null;
+			}
+			BlobAttributes attributes = new BlobAttributes(thumbnail.get().length, processor.contentType(),
+					S3Adapter.IMMUTABLE_CACHE_CONTROL, null);
+			blobStore.put(variantKey, new ByteArrayInputStream(thumbnail.get()), attributes);
+			outcome = "success";
+			return blobStore.url(variantKey);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} catch (BlobStoreException e) {
+			log.warn("썸네일을 만들지 못했습니다. key: {}", key, e);
+			throw e;
+		} finally {
+			sample.stop(Timer.builder(VARIANT_TIMER).tag("outcome", outcome).register(meterRegistry));
+		}
+	}
+}
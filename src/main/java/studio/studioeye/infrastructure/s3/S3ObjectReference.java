@@ -0,0 +1,36 @@
+package studio.studioeye.infrastructure.s3;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+// 내용 주소 객체(cas/)의 참조 수. 삭제하는 동안에는 claimToken과 claimedUntil로 잡아 두어 새 참조가 늘지 않게 한다.
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "s3_object_reference")
+public class S3ObjectReference {
+
+	@Id
+	@Column(name = "object_key")
+	private String objectKey;
+
+	@Column(nullable = false)
+	private Long referenceCount;
+
+	@Column(length = 36)
+	private String claimToken;
+
+	private Date claimedUntil;
+
+	public S3ObjectReference(String objectKey, Long referenceCount) {
+		this.objectKey = objectKey;
+		this.referenceCount = referenceCount;
+	}
+}
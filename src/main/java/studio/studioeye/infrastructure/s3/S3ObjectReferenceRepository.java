@@ -0,0 +1,47 @@
+package studio.studioeye.infrastructure.s3;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+public interface S3ObjectReferenceRepository extends JpaRepository<S3ObjectReference, String> {
+
+	// 삭제하느라 잡아 둔 행은 늘리지 않는다. 잡은 지 오래되어 만료된 행은 늘린다.
+	@Modifying
+	@Query("UPDATE S3ObjectReference r SET r.referenceCount = r.referenceCount + :delta " +
+			"WHERE r.objectKey = :objectKey AND (r.claimedUntil IS NULL OR r.claimedUntil < :now)")
+	int increase(@Param("objectKey") String objectKey, @Param("delta") long delta, @Param("now") Date now);
+
+	@Modifying
+	@Query("UPDATE S3ObjectReference r SET r.referenceCount = r.referenceCount - 1 " +
+			"WHERE r.objectKey = :objectKey AND r.referenceCount > 0")
+	int decrease(@Param("objectKey") String objectKey);
+
+	@Modifying
+	@Query("UPDATE S3ObjectReference r SET r.claimToken = :token, r.claimedUntil = :claimedUntil " +
+			"WHERE r.objectKey IN :objectKeys AND r.referenceCount = 0 AND (r.claimedUntil IS NULL OR r.claimedUntil < :now)")
+	int claimUnreferenced(@Param("objectKeys") Collection<String> objectKeys, @Param("token") String token,
+						  @Param("claimedUntil") Date claimedUntil, @Param("now") Date now);
+
+	@Query("SELECT r.objectKey FROM S3ObjectReference r WHERE r.claimToken = :token")
+	List<String> findClaimedKeys(@Param("token") String token);
+
+	@Query("SELECT r.objectKey FROM S3ObjectReference r " +
+			"WHERE r.referenceCount = 0 AND (r.claimedUntil IS NULL OR r.claimedUntil < :now) ORDER BY r.objectKey")
+	List<String> findUnreferencedKeys(@Param("now") Date now, Pageable pageable);
+
+	@Modifying
+	@Query("DELETE FROM S3ObjectReference r " +
+			"WHERE r.claimToken = :token AND r.objectKey IN :objectKeys AND r.referenceCount = 0")
+	int deleteClaimed(@Param("token") String token, @Param("objectKeys") Collection<String> objectKeys);
+
+	@Modifying
+	@Query("UPDATE S3ObjectReference r SET r.claimToken = NULL, r.claimedUntil = NULL WHERE r.claimToken = :token")
+	int unclaim(@Param("token") String token);
+}
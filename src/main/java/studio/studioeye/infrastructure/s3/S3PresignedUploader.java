@@ -0,0 +1,244 @@
+package studio.studioeye.infrastructure.s3;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.exception.error.ErrorCode;
+import studio.studioeye.infrastructure.redis.RedisService;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 파일을 서버를 거치지 않고 S3에 바로 올리게 하는 presigned POST 양식과 업로드 티켓을 발급하고, 업로드 완료를 확인한다.
+ * 양식의 정책(policy)에 키, Content-Type, content-length-range를 넣어 서명하므로, 최대 크기를 넘는 파일은 S3가 올리는 단계에서 거절한다.
+ * 클라이언트는 staging/ 아래 임시 키에 올리고, 완료를 알리면 S3 안에서 uploads/ 아래로 복사한 뒤 임시 객체를 지운다.
+ * 완료를 알리지 않은 임시 객체는 티켓이 만료된 뒤 sweepStaging이 주기적으로 지운다.
+ * 완료 확인은 S3 호출을 여러 번 하므로 DB 트랜잭션 밖에서 부르고, 결과는 호출한 쪽이 따로 짧은 트랜잭션으로 저장한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3PresignedUploader {
+
+	private static final String TICKET_KEY_PREFIX = "upload-ticket:";
+	private static final String STAGING_PREFIX = "staging/";
+	private static final String UPLOAD_PREFIX = "uploads/";
+	private static final String SIGNING_ALGORITHM = "AWS4-HMAC-SHA256";
+	private static final DateTimeFormatter POLICY_EXPIRATION_FORMAT =
+			DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneOffset.UTC);
+	private static final DateTimeFormatter AMZ_DATE_FORMAT =
+			DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+	private static final DateTimeFormatter DATE_STAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+	private final AmazonS3Client amazonS3Client;
+	private final VersionedAssetRegistry versionedAssetRegistry;
+	private final RedisService redisService;
+	private final ObjectMapper objectMapper;
+
+	@Value("${aws.s3.bucket}")
+	private String bucket;
+
+	@Value("${aws.s3.access-key}")
+	private String accessKey;
+
+	@Value("${aws.s3.secret-key}")
+	private String secretKey;
+
+	@Value("${aws.s3.region}")
+	private String region;
+
+	@Value("${aws.s3.presigned.expiration-seconds:600}")
+	private long expirationSeconds;
+
+	@Value("${aws.s3.presigned.max-size-mb:50}")
+	private long maxSizeMb;
+
+	public PresignedUploadTicket issue(String fileName, String contentType) {
+		String ticket = UUID.randomUUID().toString();
+		String stagingKey = STAGING_PREFIX + ticket;
+		Instant expiresAt = Instant.now().plusSeconds(expirationSeconds);
+
+		Map<String, String> fields = signedPostFields(stagingKey, contentType, Instant.now(), expiresAt);
+		// 버킷 주소로 POST 한다. 경로 방식(MinIO 등)이면 주소에 버킷 이름이 붙는다.
+		String uploadUrl = amazonS3Client.getUrl(bucket, "").toString();
+
+		// URL이 만료된 뒤에도 완료 요청이 조금 늦게 올 수 있으므로 티켓은 한 번 더 기다려 준다.
+		redisService.setValues(TICKET_KEY_PREFIX + ticket, fileName, Duration.ofSeconds(expirationSeconds * 2));
+		return new PresignedUploadTicket(ticket, uploadUrl, fields, expiresAt);
+	}
+
+	// 티켓으로 올린 객체가 있는지 확인하고 최종 키로 옮긴다. 티켓은 한 번만 쓸 수 있다.
+	public ApiResponse<UploadedFile> complete(String ticket) {
+		String ticketKey = TICKET_KEY_PREFIX + ticket;
+		if (!redisService.checkExistsValue(redisService.getValues(ticketKey))) {
+			return ApiResponse.withError(ErrorCode.INVALID_UPLOAD_TICKET);
+		}
+		String stagingKey = STAGING_PREFIX + ticket;
+		ObjectMetadata metadata;
+		try {
+			metadata = amazonS3Client.getObjectMetadata(bucket, stagingKey);
+		} catch (AmazonS3Exception e) {
+			if (e.getStatusCode() == 404) {
+				// 아직 올리지 않았으면 티켓을 남겨 두어 다시 완료를 알릴 수 있게 한다.
+				return ApiResponse.withError(ErrorCode.NOT_UPLOADED_FILE);
+			}
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		} catch (SdkClientException e) {
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		}
+
+		// 동시에 들어온 완료 요청 중 티켓을 가져간 하나만 진행한다.
+		String fileName = redisService.getAndDeleteValues(ticketKey);
+		if (fileName == null) {
+			return ApiResponse.withError(ErrorCode.INVALID_UPLOAD_TICKET);
+		}
+		// 정책으로 이미 막지만, 정책 없이 올라온 객체(직접 넣은 객체 등)도 옮기지 않도록 한 번 더 확인한다.
+		if (metadata.getContentLength() > maxSizeBytes()) {
+			deleteQuietly(stagingKey);
+			return ApiResponse.withError(ErrorCode.UPLOADED_FILE_TOO_LARGE);
+		}
+
+		String key = UPLOAD_PREFIX + ticket + extensionOf(fileName);
+		ObjectMetadata newMetadata = metadata.clone();
+		newMetadata.setCacheControl(S3Adapter.IMMUTABLE_CACHE_CONTROL);
+		String eTag;
+		try {
+			eTag = amazonS3Client.copyObject(new CopyObjectRequest(bucket, stagingKey, bucket, key)
+					.withNewObjectMetadata(newMetadata)).getETag();
+		} catch (SdkClientException e) {
+			// 복사에 실패하면 티켓을 되돌려 같은 티켓으로 다시 완료를 알릴 수 있게 한다.
+			redisService.setValues(ticketKey, fileName, Duration.ofSeconds(expirationSeconds));
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		}
+		deleteQuietly(stagingKey);
+		String url = amazonS3Client.getUrl(bucket, key).toString();
+		return ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.",
+				new UploadedFile(versionedAssetRegistry.record(key, url, eTag), fileName));
+	}
+
+	// 티켓은 발급 뒤 만료 시간의 두 배까지 살고, 복사에 실패해 되돌린 티켓은 그 뒤로 만료 시간만큼 더 남는다.
+	// 그보다 오래된 임시 객체는 완료될 수 없으므로 지운다. 여러 서버가 같이 지워도 결과는 같다.
+	@Scheduled(fixedDelayString = "${aws.s3.presigned.sweep-interval-millis:3600000}",
+			initialDelayString = "${aws.s3.presigned.sweep-interval-millis:3600000}")
+	public void sweepStaging() {
+		sweepStagingBefore(Instant.now().minusSeconds(expirationSeconds * 3));
+	}
+
+	void sweepStagingBefore(Instant cutoff) {
+		ListObjectsV2Request request = new ListObjectsV2Request().withBucketName(bucket).withPrefix(STAGING_PREFIX);
+		try {
+			ListObjectsV2Result result;
+			do {
+				result = amazonS3Client.listObjectsV2(request);
+				List<DeleteObjectsRequest.KeyVersion> expired = new ArrayList<>();
+				for (S3ObjectSummary summary : result.getObjectSummaries()) {
+					if (summary.getLastModified().toInstant().isBefore(cutoff)) {
+						expired.add(new DeleteObjectsRequest.KeyVersion(summary.getKey()));
+					}
+				}
+				// 목록 한 쪽은 최대 1000개라 DeleteObjects 한 번에 지울 수 있다.
+				if (!expired.isEmpty()) {
+					amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(expired).withQuiet(true));
+					log.info("완료되지 않은 S3 임시 객체 {}개를 지웠습니다.", expired.size());
+				}
+				request.setContinuationToken(result.getNextContinuationToken());
+			} while (result.isTruncated());
+		} catch (SdkClientException e) {
+			log.warn("S3 임시 객체를 정리하지 못했습니다. 다음 주기에 다시 시도합니다.", e);
+		}
+	}
+
+	// SigV4로 서명한 POST 양식 필드. 파일은 이 필드들 뒤에 file 필드로 붙여 보낸다.
+	private Map<String, String> signedPostFields(String key, String contentType, Instant now, Instant expiresAt) {
+		String dateStamp = DATE_STAMP_FORMAT.format(now);
+		String amzDate = AMZ_DATE_FORMAT.format(now);
+		String credential = accessKey + "/" + dateStamp + "/" + region + "/s3/aws4_request";
+
+		Map<String, Object> policy = new LinkedHashMap<>();
+		policy.put("expiration", POLICY_EXPIRATION_FORMAT.format(expiresAt));
+		policy.put("conditions", List.of(
+				Map.of("bucket", bucket),
+				Map.of("key", key),
+				Map.of("Content-Type", contentType),
+				List.of("content-length-range", 0, maxSizeBytes()),
+				Map.of("x-amz-algorithm", SIGNING_ALGORITHM),
+				Map.of("x-amz-credential", credential),
+				Map.of("x-amz-date", amzDate)));
+		String encodedPolicy;
+		try {
+			encodedPolicy = Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(policy));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("업로드 정책을 만들지 못했습니다.", e);
+		}
+
+		byte[] signingKey = hmacSha256(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), dateStamp);
+		for (String scope : List.of(region, "s3", "aws4_request")) {
+			signingKey = hmacSha256(signingKey, scope);
+		}
+
+		Map<String, String> fields = new LinkedHashMap<>();
+		fields.put("key", key);
+		fields.put("Content-Type", contentType);
+		fields.put("x-amz-algorithm", SIGNING_ALGORITHM);
+		fields.put("x-amz-credential", credential);
+		fields.put("x-amz-date", amzDate);
+		fields.put("policy", encodedPolicy);
+		fields.put("x-amz-signature", HexFormat.of().formatHex(hmacSha256(signingKey, encodedPolicy)));
+		return fields;
+	}
+
+	private long maxSizeBytes() {
+		return maxSizeMb * 1024 * 1024;
+	}
+
+	private static byte[] hmacSha256(byte[] key, String data) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(key, "HmacSHA256"));
+			return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HmacSHA256을 쓸 수 없습니다.", e);
+		}
+	}
+
+	private void deleteQuietly(String key) {
+		try {
+			amazonS3Client.deleteObject(bucket, key);
+		} catch (SdkClientException e) {
+			log.warn("S3 임시 객체를 지우지 못했습니다. key: {}", key, e);
+		}
+	}
+
+	private static String extensionOf(String fileName) {
+		int dot = fileName.lastIndexOf('.');
+		return dot >= 0 && dot < fileName.length() - 1 ? fileName.substring(dot).toLowerCase() : "";
+	}
+}
@@ -0,0 +1,183 @@
+package studio.studioeye.infrastructure.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import studio.studioeye.infrastructure.redis.RedisService;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 내용 주소 방식(cas/)으로 올린 S3 객체의 키별 참조 수를 DB(s3_object_reference)에 둔다.
+ * 파일 이름을 키로 쓰던 기존 객체는 참조 수를 세지 않는다.
+ * 참조 수는 실제로 DB에 남은 참조보다 작아지지 않게 기록한다.
+ * 늘리기는 업로드할 때 따로 커밋해 참조하는 행보다 먼저 남기고, 줄이기는 참조하는 행을 지우는 트랜잭션 안에서 한다.
+ * 그래서 저장 도중 서버가 죽으면 참조 수가 남아 객체가 지워지지 않을 뿐, 참조 중인 객체를 지우지는 않는다.
+ * 참조가 없는 객체를 지우는 동안에는 행을 잡아 두어, 같은 내용의 업로드가 삭제가 끝날 때까지 기다렸다가 다시 올리게 한다.
+ */
+@Slf4j
+@Component
+public class S3ReferenceCounter {
+
+	// 내용 주소 방식으로 올린 객체의 키 접두사
+	static final String CONTENT_ADDRESSED_PREFIX = "cas/";
+	// 참조 수를 DB로 옮기기 전에 쓰던 Redis 해시. 서버가 뜰 때 남아 있으면 DB로 옮긴다.
+	private static final String LEGACY_REFERENCE_COUNT_KEY = "s3:reference-count";
+	// 삭제하는 서버가 죽어도 풀리도록 둔 잡기 만료 시간과, 삭제가 끝나기를 기다리는 최대 시간
+	private static final long CLAIM_LEASE_MILLIS = TimeUnit.MINUTES.toMillis(2);
+	private static final long CLAIM_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+	private static final long CLAIM_POLL_MILLIS = 20;
+
+	// 해시를 읽고 지우는 일을 한 번에 해, 여러 서버가 동시에 떠도 한 서버만 옮긴다.
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> TAKE_LEGACY_COUNTS_SCRIPT = new DefaultRedisScript<>(
+			"local entries = redis.call('HGETALL', KEYS[1]) " +
+			"redis.call('DEL', KEYS[1]) " +
+			"return entries", List.class);
+
+	private final S3ObjectReferenceRepository referenceRepository;
+	private final RedisService redisService;
+	private final TransactionTemplate transactionTemplate;
+	// 호출한 쪽의 트랜잭션과 상관없이 바로 커밋해야 하는 기록에 쓴다.
+	private final TransactionTemplate newTransactionTemplate;
+
+	public S3ReferenceCounter(S3ObjectReferenceRepository referenceRepository, RedisService redisService,
+							  PlatformTransactionManager transactionManager) {
+		this.referenceRepository = referenceRepository;
+		this.redisService = redisService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	public static boolean isCounted(String key) {
+		return key.startsWith(CONTENT_ADDRESSED_PREFIX);
+	}
+
+	/**
+	 * 참조를 하나 늘리고 바로 커밋한다. 같은 키를 삭제하는 중이면 끝날 때까지 기다린다.
+	 * 돌아온 뒤에는 참조가 남아 있으므로 객체가 지워지지 않는다. 저장하지 못한 참조는 {@link #discard(String)}로 놓는다.
+	 *
+	 * @throws IllegalStateException 기다리는 시간 안에 삭제가 끝나지 않은 경우
+	 */
+	public void retain(String key) {
+		long deadline = System.currentTimeMillis() + CLAIM_WAIT_MILLIS;
+		while (true) {
+			try {
+				if (Boolean.TRUE.equals(newTransactionTemplate.execute(status -> increase(key, 1L)))) {
+					return;
+				}
+			} catch (DataIntegrityViolationException e) {
+				// 다른 요청이 같은 키의 행을 먼저 넣었다. 다시 시도하면 그 행을 늘린다.
+				continue;
+			}
+			if (System.currentTimeMillis() > deadline) {
+				throw new IllegalStateException("S3 객체 삭제가 끝나지 않았습니다. key: " + key);
+			}
+			sleep();
+		}
+	}
+
+	// 참조하던 행을 지우거나 바꿀 때 부른다. 호출한 쪽의 트랜잭션에 함께 들어가므로, 그 트랜잭션이 롤백되면 참조 수도 그대로 남는다.
+	public void release(String key) {
+		transactionTemplate.executeWithoutResult(status -> referenceRepository.decrease(key));
+	}
+
+	// 올렸지만 DB에 저장하지 못한 참조를 놓는다. 호출한 쪽의 트랜잭션과 상관없이 바로 커밋한다.
+	public void discard(String key) {
+		newTransactionTemplate.executeWithoutResult(status -> referenceRepository.decrease(key));
+	}
+
+	// 삭제 직전에 부른다. 참조가 없는 키를 잡아 돌려주며, 지운 뒤 같은 토큰으로 completeDeletion을 불러야 한다.
+	public List<String> claimUnreferenced(Collection<String> keys, String token) {
+		if (keys.isEmpty()) {
+			return List.of();
+		}
+		return newTransactionTemplate.execute(status -> {
+			Date now = new Date();
+			referenceRepository.claimUnreferenced(keys, token, new Date(now.getTime() + CLAIM_LEASE_MILLIS), now);
+			return referenceRepository.findClaimedKeys(token);
+		});
+	}
+
+	// 지운 키의 행은 없애고, 지우지 못한 키는 잡은 것만 풀어 다음 정리 때 다시 지우게 한다.
+	public void completeDeletion(String token, Collection<String> deletedKeys) {
+		newTransactionTemplate.executeWithoutResult(status -> {
+			if (!deletedKeys.isEmpty()) {
+				referenceRepository.deleteClaimed(token, deletedKeys);
+			}
+			referenceRepository.unclaim(token);
+		});
+	}
+
+	// 참조가 없는데 아직 지우지 못한 키. 삭제에 실패했거나 삭제 도중 서버가 죽은 객체를 다시 지울 때 쓴다.
+	public List<String> findUnreferenced(int limit) {
+		return referenceRepository.findUnreferencedKeys(new Date(), PageRequest.of(0, limit));
+	}
+
+	// DB로 옮기지 못하면 해시에 되돌려 다음에 뜰 때 다시 옮긴다.
+	@EventListener(ApplicationReadyEvent.class)
+	public void importLegacyCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		try {
+			List<?> entries = redisService.executeScript(TAKE_LEGACY_COUNTS_SCRIPT, List.of(LEGACY_REFERENCE_COUNT_KEY));
+			for (int i = 0; entries != null && i + 1 < entries.size(); i += 2) {
+				long references = Long.parseLong(String.valueOf(entries.get(i + 1)));
+				if (references > 0) {
+					counts.put(String.valueOf(entries.get(i)), references);
+				}
+			}
+		} catch (RuntimeException e) {
+			log.warn("Redis에 남은 S3 객체 참조 수를 읽지 못했습니다.", e);
+			return;
+		}
+		if (counts.isEmpty()) {
+			return;
+		}
+		try {
+			newTransactionTemplate.executeWithoutResult(status -> counts.forEach((key, references) -> {
+				if (!increase(key, references)) {
+					throw new IllegalStateException("삭제 중인 S3 객체의 참조 수입니다. key: " + key);
+				}
+			}));
+			log.info("Redis에 남은 S3 객체 참조 수 {}개를 DB로 옮겼습니다.", counts.size());
+		} catch (RuntimeException e) {
+			log.error("S3 객체 참조 수를 DB로 옮기지 못해 Redis에 되돌립니다. keys: {}", counts.size(), e);
+			counts.forEach((key, references) -> redisService.incrementHashOps(LEGACY_REFERENCE_COUNT_KEY, key, references));
+		}
+	}
+
+	// 늘렸으면 true, 삭제하느라 잡혀 있으면 false. 행이 없으면 새로 넣는다.
+	private boolean increase(String key, long delta) {
+		if (referenceRepository.increase(key, delta, new Date()) == 1) {
+			return true;
+		}
+		if (referenceRepository.existsById(key)) {
+			return false;
+		}
+		referenceRepository.saveAndFlush(new S3ObjectReference(key, delta));
+		return true;
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(CLAIM_POLL_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("S3 객체 삭제를 기다리다 중단되었습니다.", e);
+		}
+	}
+}
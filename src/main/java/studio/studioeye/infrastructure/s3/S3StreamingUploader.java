@@ -0,0 +1,162 @@
+package studio.studioeye.infrastructure.s3;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.exception.error.ErrorCode;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 본문을 받는 대로 S3 멀티파트 업로드의 파트로 흘려 보내는 업로더.
+ * 파트 크기만 한 버퍼를 미리 정해 둔 개수만큼 만들어 돌려 쓰므로, 파일 크기와 상관없이 힙과 디스크 사용량이 일정하다.
+ * 버퍼가 모두 쓰이고 있으면 정해진 시간만큼 기다렸다가 실패한다.
+ * 내용 주소 모드에서는 임시 키에 올리면서 SHA-256을 계산하고, 다 올린 뒤 S3Adapter가 내용 주소 키로 옮긴다.
+ */
+@Slf4j
+@Component
+public class S3StreamingUploader {
+
+	// S3 멀티파트 업로드는 마지막 파트를 빼고 5MB 이상이어야 한다.
+	private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+	private static final String STAGING_PREFIX = "staging/";
+
+	private final AmazonS3Client amazonS3Client;
+	private final S3Adapter s3Adapter;
+	private final VersionedAssetRegistry versionedAssetRegistry;
+	private final BlockingQueue<byte[]> buffers;
+	private final long bufferWaitMillis;
+
+	@Value("${aws.s3.bucket}")
+	private String bucket;
+
+	public S3StreamingUploader(AmazonS3Client amazonS3Client, S3Adapter s3Adapter, VersionedAssetRegistry versionedAssetRegistry,
+							   @Value("${aws.s3.streaming.part-size-mb:8}") int partSizeMb,
+							   @Value("${aws.s3.streaming.buffer-count:4}") int bufferCount,
+							   @Value("${aws.s3.streaming.buffer-wait-ms:30000}") long bufferWaitMillis) {
+		this.amazonS3Client = amazonS3Client;
+		this.s3Adapter = s3Adapter;
+		this.versionedAssetRegistry = versionedAssetRegistry;
+		this.bufferWaitMillis = bufferWaitMillis;
+		int partSize = Math.max(MIN_PART_SIZE, partSizeMb * 1024 * 1024);
+		this.buffers = new ArrayBlockingQueue<>(bufferCount);
+		for (int i = 0; i < bufferCount; i++) {
+			buffers.add(new byte[partSize]);
+		}
+	}
+
+	public ApiResponse<String> upload(InputStream inputStream, String fileName, String contentType) {
+		byte[] buffer = borrowBuffer();
+		if (buffer == null) {
+			log.warn("스트리밍 업로드 버퍼를 얻지 못했습니다. file: {}", fileName);
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		}
+		try {
+			return upload(inputStream, fileName, contentType, buffer);
+		} finally {
+			buffers.offer(buffer);
+		}
+	}
+
+	private ApiResponse<String> upload(InputStream inputStream, String fileName, String contentType, byte[] buffer) {
+		int firstPartLength;
+		try {
+			firstPartLength = inputStream.readNBytes(buffer, 0, buffer.length);
+		} catch (IOException e) {
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		}
+		if (firstPartLength == 0) {
+			return ApiResponse.withError(ErrorCode.NOT_EXIST_IMAGE_FILE);
+		}
+
+		boolean contentAddressed = s3Adapter.isContentAddressed();
+		// 파일 이름은 DB에만 남기고 키는 서버가 만든다. 같은 이름의 업로드가 서로 덮어쓰지 않는다.
+		String key = contentAddressed ? STAGING_PREFIX + UUID.randomUUID() : S3Adapter.generatedKey(fileName);
+		ObjectMetadata metadata = new ObjectMetadata();
+		metadata.setContentType(contentType);
+		metadata.setCacheControl(S3Adapter.IMMUTABLE_CACHE_CONTROL);
+		String uploadId;
+		try {
+			uploadId = amazonS3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+		} catch (SdkClientException e) {
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		}
+
+		MessageDigest sha256 = sha256();
+		List<PartETag> partETags = new ArrayList<>();
+		CompleteMultipartUploadResult result;
+		try {
+			// 파트 하나를 채우는 대로 올리므로, 첫 파트만큼 도착하면 곧바로 S3 전송이 시작된다.
+			int length = firstPartLength;
+			while (length > 0) {
+				sha256.update(buffer, 0, length);
+				UploadPartRequest uploadPartRequest = new UploadPartRequest()
+						.withBucketName(bucket)
+						.withKey(key)
+						.withUploadId(uploadId)
+						.withPartNumber(partETags.size() + 1)
+						.withInputStream(new ByteArrayInputStream(buffer, 0, length))
+						.withPartSize(length);
+				partETags.add(amazonS3Client.uploadPart(uploadPartRequest).getPartETag());
+				length = inputStream.readNBytes(buffer, 0, buffer.length);
+			}
+			result = amazonS3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+		} catch (IOException | SdkClientException e) {
+			log.warn("스트리밍 업로드에 실패했습니다. file: {}", fileName, e);
+			abort(key, uploadId);
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		}
+
+		if (contentAddressed) {
+			return s3Adapter.adoptStagedObject(key, HexFormat.of().formatHex(sha256.digest()), fileName);
+		}
+		String url = amazonS3Client.getUrl(bucket, key).toString();
+		return ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", versionedAssetRegistry.record(key, url, result.getETag()));
+	}
+
+	private byte[] borrowBuffer() {
+		try {
+			return buffers.poll(bufferWaitMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private void abort(String key, String uploadId) {
+		try {
+			amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+		} catch (SdkClientException e) {
+			log.warn("S3 멀티파트 업로드를 취소하지 못했습니다. key: {}", key, e);
+		}
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package studio.studioeye.infrastructure.s3;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.exception.error.ErrorCode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 여러 파일을 제한된 스레드 풀에서 동시에 S3에 올리고, 결과 URL을 요청한 순서대로 돌려준다.
+ * 하나라도 실패하면 아직 시작하지 않은 업로드는 건너뛰고, 이미 올라간 객체의 참조는 놓은 뒤 에러를 돌려준다.
+ * 업로드 한 건마다 s3.upload, 묶음 전체는 s3.upload.batch 타이머에 outcome 태그와 함께 기록한다.
+ */
+@Slf4j
+@Component
+public class S3UploadPipeline {
+
+	private static final String UPLOAD_TIMER = "s3.upload";
+	private static final String BATCH_TIMER = "s3.upload.batch";
+	private static final String SUCCESS = "success";
+	private static final String FAILURE = "failure";
+
+	private final S3Adapter s3Adapter;
+	private final MeterRegistry meterRegistry;
+	private final Executor executor;
+
+	public S3UploadPipeline(S3Adapter s3Adapter, MeterRegistry meterRegistry,
+							@Qualifier(S3Config.UPLOAD_EXECUTOR) Executor executor) {
+		this.s3Adapter = s3Adapter;
+		this.meterRegistry = meterRegistry;
+		this.executor = executor;
+	}
+
+	public ApiResponse<List<String>> uploadAll(List<MultipartFile> files) {
+		long batchStartedAt = System.nanoTime();
+		AtomicBoolean aborted = new AtomicBoolean(false);
+		List<CompletableFuture<String>> uploads = new ArrayList<>(files.size());
+		for (MultipartFile file : files) {
+			uploads.add(CompletableFuture.supplyAsync(() -> upload(file, aborted), executor));
+		}
+
+		// 실패가 있어도 끝까지 기다려야 이미 올라간 객체를 빠짐없이 지울 수 있다.
+		List<String> urls = new ArrayList<>(files.size());
+		for (CompletableFuture<String> upload : uploads) {
+			String url = await(upload);
+			if (url == null) {
+				aborted.set(true);
+				continue;
+			}
+			urls.add(url);
+		}
+
+		if (aborted.get()) {
+			rollback(urls);
+			record(BATCH_TIMER, FAILURE, batchStartedAt);
+			return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+		}
+		record(BATCH_TIMER, SUCCESS, batchStartedAt);
+		return ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", urls);
+	}
+
+	// 성공하면 URL, 실패하거나 건너뛰면 null
+	private String upload(MultipartFile file, AtomicBoolean aborted) {
+		if (aborted.get()) {
+			return null;
+		}
+		long startedAt = System.nanoTime();
+		String url = null;
+		try {
+			ApiResponse<String> response = s3Adapter.uploadFile(file);
+			if (!response.getStatus().is5xxServerError()) {
+				url = response.getData();
+			}
+		} catch (IOException | RuntimeException e) {
+			log.warn("S3 업로드에 실패했습니다. file: {}", file == null ? null : file.getOriginalFilename(), e);
+		}
+		if (url == null) {
+			aborted.set(true);
+		}
+		record(UPLOAD_TIMER, url == null ? FAILURE : SUCCESS, startedAt);
+		return url;
+	}
+
+	private String await(CompletableFuture<String> upload) {
+		try {
+			return upload.join();
+		} catch (CompletionException e) {
+			log.warn("S3 업로드 작업이 비정상 종료되었습니다.", e);
+			return null;
+		}
+	}
+
+	// 이번 묶음이 올린 URL의 키만 지운다. 키는 업로드마다 새로 만들거나 내용 해시로 정하므로 다른 업로드의 객체와 겹치지 않는다.
+	private void rollback(List<String> uploadedUrls) {
+		for (String url : uploadedUrls) {
+			ApiResponse<String> response = s3Adapter.discardFile(url);
+			if (response == null || response.getStatus().is5xxServerError()) {
+				log.warn("업로드 실패 후 S3 객체를 지우지 못했습니다. url: {}", url);
+			}
+		}
+	}
+
+	private void record(String name, String outcome, long startedAt) {
+		Timer.builder(name)
+				.tag("outcome", outcome)
+				.register(meterRegistry)
+				.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+	}
+}
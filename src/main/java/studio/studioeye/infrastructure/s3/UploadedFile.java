@@ -0,0 +1,4 @@
+package studio.studioeye.infrastructure.s3;
+
+public record UploadedFile(String url, String fileName) {
+}
@@ -0,0 +1,152 @@
+package studio.studioeye.infrastructure.s3;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import studio.studioeye.infrastructure.redis.RedisService;
+import studio.studioeye.infrastructure.storage.BlobMetadata;
+import studio.studioeye.infrastructure.storage.BlobStore;
+import studio.studioeye.infrastructure.storage.BlobStoreException;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 객체 키별 콘텐츠 해시(S3 ETag)를 기록해 두고, 이미지 URL 뒤에 ?v=<해시>를 붙여 주는 레지스트리.
+ * 내용이 바뀔 때만 URL이 바뀌므로 브라우저와 CDN이 이미지를 오래 캐시할 수 있다.
+ * 버전은 모든 서버가 같은 URL을 내려주도록 Redis 해시에 둔다.
+ * 업로드 시점에 기록하지 못한 기존 객체는 처음 조회할 때 저장소에서 메타데이터를 읽어 채우고,
+ * 읽지 못한 키는 잠시 기억해 두어 조회마다 HEAD 요청이 나가지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VersionedAssetRegistry {
+
+	static final String VERSION_PARAMETER = "?v=";
+	static final String VERSION_KEY = "s3:asset-versions";
+	private static final int VERSION_LENGTH = 16;
+
+	private final BlobStore blobStore;
+	private final RedisService redisService;
+
+	// 메타데이터를 읽지 못한 키와 다시 시도할 시각(nanoTime).
+	private final Map<String, Long> misses = new ConcurrentHashMap<>();
+
+	@Value("${s3.asset-version.negative-ttl-millis:300000}")
+	private long negativeTtlMillis;
+
+	public String record(String key, String url, String eTag) {
+		String version = toVersion(eTag);
+		misses.remove(key);
+		try {
+			if (version == null) {
+				redisService.deleteHashOps(VERSION_KEY, key);
+				return url;
+			}
+			redisService.setHashOps(VERSION_KEY, Map.of(key, version));
+		} catch (RuntimeException e) {
+			log.warn("S3 객체의 버전을 Redis에 기록하지 못했습니다. key={}", key, e);
+		}
+		return version == null ? url : url + VERSION_PARAMETER + version;
+	}
+
+	public void forget(String key) {
+		misses.remove(key);
+		try {
+			redisService.deleteHashOps(VERSION_KEY, key);
+		} catch (RuntimeException e) {
+			log.warn("S3 객체의 버전을 Redis에서 지우지 못했습니다. key={}", key, e);
+		}
+	}
+
+	public String versionedUrl(String url) {
+		if (url == null || url.isBlank() || url.contains(VERSION_PARAMETER)) {
+			return url;
+		}
+		String key = keyOf(url);
+		if (key == null) {
+			return url;
+		}
+		String version = versionOf(key);
+		return version == null ? url : url + VERSION_PARAMETER + version;
+	}
+
+	// 단일 PUT으로 올린 객체의 ETag는 내용의 MD5이므로, 새 파일의 MD5와 비교해 같은 내용인지 판단할 수 있다.
+	public boolean matchesContent(String key, String md5Hex) {
+		String version = versionOf(key);
+		return version != null && version.equals(toVersion(md5Hex));
+	}
+
+	private String versionOf(String key) {
+		String version;
+		try {
+			version = redisService.getHashOps(VERSION_KEY, key);
+		} catch (RuntimeException e) {
+			// 서버마다 다른 버전을 내려주지 않도록 Redis를 읽지 못하면 버전 없이 응답한다.
+			log.warn("S3 객체의 버전을 Redis에서 읽지 못했습니다. key={}", key, e);
+			return null;
+		}
+		if (!version.isEmpty()) {
+			return version;
+		}
+		Long retryAt = misses.get(key);
+		if (retryAt != null) {
+			if (System.nanoTime() - retryAt < 0) {
+				return null;
+			}
+			misses.remove(key, retryAt);
+		}
+		version = fetchVersion(key);
+		if (version == null) {
+			misses.put(key, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(negativeTtlMillis));
+			return null;
+		}
+		try {
+			if (!redisService.setHashOpsIfAbsent(VERSION_KEY, key, version)) {
+				// 그 사이 다른 서버가 새 업로드를 기록했다면 그 값을 따른다.
+				String stored = redisService.getHashOps(VERSION_KEY, key);
+				if (!stored.isEmpty()) {
+					return stored;
+				}
+			}
+		} catch (RuntimeException e) {
+			log.warn("S3 객체의 버전을 Redis에 기록하지 못했습니다. key={}", key, e);
+		}
+		return version;
+	}
+
+	private String fetchVersion(String key) {
+		try {
+			return blobStore.stat(key).map(BlobMetadata::eTag).map(VersionedAssetRegistry::toVersion).orElse(null);
+		} catch (BlobStoreException e) {
+			log.warn("S3 객체의 메타데이터를 읽지 못했습니다. key={}", key, e);
+			return null;
+		}
+	}
+
+	static String keyOf(String url) {
+		try {
+			String path = URI.create(url).getRawPath();
+			if (path == null || path.length() <= 1) {
+				return null;
+			}
+			return URLDecoder.decode(path.substring(1), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static String toVersion(String eTag) {
+		if (eTag == null || eTag.isBlank()) {
+			return null;
+		}
+		String hash = eTag.replace("\"", "");
+		return hash.length() > VERSION_LENGTH ? hash.substring(0, VERSION_LENGTH) : hash;
+	}
+}
@@ -0,0 +1,37 @@
+package studio.studioeye.infrastructure.sse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class SseConfig {
+    public static final String SSE_EXECUTOR = "sseExecutor";
+
+    @Value("${sse.executor.max-concurrency:4}")
+    private int maxConcurrency;
+    @Value("${sse.executor.queue-capacity:1024}")
+    private int queueCapacity;
+
+    // 알림 팬아웃과 연결별 전송을 요청 스레드 밖에서 돌린다. 느린 브라우저에 쓰는 동안 막히는 스레드 수를 이 풀 크기로 제한한다.
+    // 큐가 가득 차면 작업을 거절하고, 거절된 연결은 끊어 클라이언트가 다시 연결하게 한다.
+    @Bean(name = SSE_EXECUTOR)
+    public ThreadPoolTaskExecutor sseExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sse-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    @Bean
+    public SseEmitterFactory sseEmitterFactory() {
+        return SseEmitter::new;
+    }
+}
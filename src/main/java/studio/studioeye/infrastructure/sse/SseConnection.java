@@ -0,0 +1,116 @@
+package studio.studioeye.infrastructure.sse;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 브라우저 한 곳과 맺은 SSE 연결. 보낼 이벤트를 크기가 정해진 큐에 넣고, 연결마다 한 번에 하나의 작업만 executor에서 큐를 비운다.
+ * 그래서 한 연결 안에서는 순서가 지켜지고, 느린 브라우저는 자기 큐만 채울 뿐 다른 연결이나 요청 스레드를 막지 않는다.
+ * 큐가 넘치거나 쓰기에 실패하면 끊긴 연결로 보고 닫는다. 닫히면 onClose로 저장소에서 빠진다.
+ */
+@Slf4j
+public class SseConnection {
+
+    @Getter
+    private final String id;
+    @Getter
+    private final Long userId;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseMessage> queue;
+    private final Executor executor;
+    private final Consumer<SseConnection> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public SseConnection(String id, Long userId, SseEmitter emitter, int queueCapacity,
+                         Executor executor, Consumer<SseConnection> onClose) {
+        this.id = id;
+        this.userId = userId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = executor;
+        this.onClose = onClose;
+    }
+
+    // 큐에 넣기만 하고 바로 돌아온다. 연결이 이미 닫혔거나 큐가 넘쳐 닫으면 false.
+    public boolean send(SseMessage message) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!queue.offer(message)) {
+            log.debug("SSE 전송 큐가 가득 차 연결을 닫습니다. userId: {}, connection: {}", userId, id);
+            close(new IllegalStateException("SSE 전송 큐가 가득 찼습니다."));
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    // 쓰기 실패, 큐 넘침 등 서버가 먼저 끊는 경우
+    public void close(Throwable cause) {
+        if (markClosed()) {
+            try {
+                emitter.completeWithError(cause);
+            } catch (RuntimeException ignored) {
+                // 이미 끝난 응답이면 더 할 일이 없다.
+            }
+        }
+    }
+
+    // 시간 초과나 클라이언트 종료로 emitter가 먼저 끝난 경우
+    public void closed() {
+        markClosed();
+    }
+
+    private boolean markClosed() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        onClose.accept(this);
+        return true;
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close(e);
+        }
+    }
+
+    private void drain() {
+        try {
+            SseMessage message;
+            while (!closed.get() && (message = queue.poll()) != null) {
+                emitter.send(message.toEvent());
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(e);
+        } finally {
+            draining.set(false);
+        }
+        // 작업을 끝내는 사이에 들어온 이벤트가 있으면 다시 잡는다.
+        if (!closed.get() && !queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package studio.studioeye.infrastructure.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 연결마다 쓸 SseEmitter를 만든다. 시간 초과는 연결을 받는 쪽이 정해 넘긴다.
+ */
+@FunctionalInterface
+public interface SseEmitterFactory {
+
+    SseEmitter create(long timeoutMillis);
+}
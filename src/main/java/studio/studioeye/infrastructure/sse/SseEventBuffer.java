@@ -0,0 +1,53 @@
+package studio.studioeye.infrastructure.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근에 보낸 SSE 이벤트를 순번과 함께 정해진 개수만큼 보관하는 링 버퍼.
+ * 다시 연결한 클라이언트가 Last-Event-ID를 보내면 그 뒤의 이벤트만 골라 다시 보낼 수 있다.
+ * 순번은 늘어나기만 해야 한다. 가득 차면 가장 오래된 이벤트부터 덮어쓰고, 덮어쓴 순번을 기억해 두었다가
+ * 클라이언트가 그보다 앞의 이벤트까지만 받았다면 빠짐없이 다시 보낼 수 없다고 알려 준다.
+ */
+public class SseEventBuffer {
+
+    private final long[] sequences;
+    private final SseMessage[] messages;
+    private int head;   // 가장 오래된 이벤트의 위치
+    private int size;
+    private long evictedUpTo;
+
+    public SseEventBuffer(int capacity) {
+        this.sequences = new long[capacity];
+        this.messages = new SseMessage[capacity];
+    }
+
+    public synchronized void append(long sequence, SseMessage message) {
+        int tail = (head + size) % messages.length;
+        if (size == messages.length) {
+            evictedUpTo = sequences[head];
+            head = (head + 1) % messages.length;
+        } else {
+            size++;
+        }
+        sequences[tail] = sequence;
+        messages[tail] = message;
+    }
+
+    public synchronized Replay after(long lastSequence) {
+        List<SseMessage> missed = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) % messages.length;
+            if (sequences[index] > lastSequence) {
+                missed.add(messages[index]);
+            }
+        }
+        return new Replay(missed, evictedUpTo <= lastSequence);
+    }
+
+    /**
+     * @param complete false면 버퍼에서 밀려나 다시 보낼 수 없는 이벤트가 있다.
+     */
+    public record Replay(List<SseMessage> messages, boolean complete) {
+    }
+}
@@ -0,0 +1,31 @@
+package studio.studioeye.infrastructure.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 연결 큐에 넣는 SSE 이벤트 한 건. SseEventBuilder는 보낼 때 내부 상태가 바뀌어 여러 연결이 함께 쓸 수 없으므로,
+ * 바뀌지 않는 값만 들고 있다가 연결마다 빌더를 새로 만든다.
+ */
+public record SseMessage(String id, String name, Object data) {
+
+    // 프록시가 유휴 연결을 끊지 않도록 주기적으로 보내는 주석 줄
+    public static final SseMessage HEARTBEAT = new SseMessage(null, null, null);
+
+    public static SseMessage of(String name, Object data) {
+        return new SseMessage(null, name, data);
+    }
+
+    SseEmitter.SseEventBuilder toEvent() {
+        if (this == HEARTBEAT) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (id != null) {
+            event.id(id);
+        }
+        if (name != null) {
+            event.name(name);
+        }
+        return event.data(data);
+    }
+}
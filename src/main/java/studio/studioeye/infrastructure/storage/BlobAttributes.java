@@ -0,0 +1,12 @@
+package studio.studioeye.infrastructure.storage;
+
+/**
+ * 저장할 객체의 속성. contentLength를 모르면 -1, contentMd5(Base64)가 있으면 저장소가 내용과 맞는지 확인한다.
+ */
+public record BlobAttributes(
+		long contentLength,
+		String contentType,
+		String cacheControl,
+		String contentMd5
+) {
+}
@@ -0,0 +1,8 @@
+package studio.studioeye.infrastructure.storage;
+
+public record BlobMetadata(
+		long contentLength,
+		String contentType,
+		String eTag
+) {
+}
@@ -0,0 +1,36 @@
+package studio.studioeye.infrastructure.storage;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드한 파일을 키로 저장하고 읽는 저장소.
+ * storage.type 값에 따라 S3(s3, 기본값), 로컬 디스크(local), JVM 메모리(memory) 구현을 쓴다.
+ * 로컬 디스크와 메모리 구현은 AWS 없이 로컬에서 실행하거나 저장소 지연을 빼고(또는 흉내 내고) 성능을 잴 때 쓴다.
+ * ETag는 단일 PUT으로 올린 S3 객체처럼 내용의 MD5(16진수)로 맞춘다. 저장소 오류는 {@link BlobStoreException}으로 던진다.
+ */
+public interface BlobStore {
+
+	// S3 DeleteObjects와 맞춰 한 번에 지울 수 있는 최대 키 수
+	int MAX_DELETE_KEYS = 1000;
+
+	// 내용을 저장하고 ETag를 돌려준다. 같은 키가 있으면 덮어쓴다.
+	String put(String key, InputStream content, BlobAttributes attributes);
+
+	// 객체가 없으면 비어 있는 값
+	Optional<BlobMetadata> stat(String key);
+
+	InputStream open(String key);
+
+	// 메타데이터를 포함해 복사하고 새 객체의 ETag를 돌려준다.
+	String copy(String sourceKey, String targetKey);
+
+	// 최대 MAX_DELETE_KEYS개를 지우고 지우지 못한 키를 돌려준다. 없는 키는 지운 것으로 본다.
+	List<String> delete(List<String> keys);
+
+	List<String> list(String prefix);
+
+	// 객체의 공개 URL. VersionedAssetRegistry.keyOf로 다시 키를 얻을 수 있어야 한다.
+	String url(String key);
+}
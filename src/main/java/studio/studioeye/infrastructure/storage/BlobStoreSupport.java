@@ -0,0 +1,59 @@
+package studio.studioeye.infrastructure.storage;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * S3가 아닌 저장소 구현이 함께 쓰는 도구. 지연 흉내, MD5 계산, 키를 URL 경로로 바꾸기를 맡는다.
+ */
+final class BlobStoreSupport {
+
+	private BlobStoreSupport() {
+	}
+
+	// 저장소 호출 한 번마다 네트워크 왕복만큼 기다린다. 0이면 기다리지 않는다.
+	static void simulateLatency(long latencyMillis) {
+		if (latencyMillis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(latencyMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BlobStoreException("저장소 호출이 중단되었습니다.", e);
+		}
+	}
+
+	static MessageDigest md5() {
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	// 내용의 MD5를 ETag로 돌려준다. 요청에 Content-MD5가 있었으면 S3처럼 맞지 않을 때 거절한다.
+	static String eTagOf(byte[] md5, BlobAttributes attributes) {
+		if (attributes.contentMd5() != null && !attributes.contentMd5().equals(Base64.getEncoder().encodeToString(md5))) {
+			throw new BlobStoreException("Content-MD5가 내용과 맞지 않습니다.");
+		}
+		return HexFormat.of().formatHex(md5);
+	}
+
+	// 경로 구분자는 그대로 두고 조각마다 인코딩한다. VersionedAssetRegistry.keyOf가 다시 디코딩한다.
+	static String url(String baseUrl, String key) {
+		StringBuilder url = new StringBuilder(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+		String[] segments = key.split("/", -1);
+		for (int i = 0; i < segments.length; i++) {
+			if (i > 0) {
+				url.append('/');
+			}
+			url.append(URLEncoder.encode(segments[i], StandardCharsets.UTF_8).replace("+", "%20"));
+		}
+		return url.toString();
+	}
+}
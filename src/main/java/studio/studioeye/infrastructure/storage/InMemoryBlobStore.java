@@ -0,0 +1,108 @@
+package studio.studioeye.infrastructure.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * JVM 메모리에 객체를 두는 저장소. 재시작하면 비워지므로 테스트와 성능 측정에만 쓴다.
+ * 키 순서로 정렬해 두어 접두사 조회를 범위 조회로 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "memory")
+public class InMemoryBlobStore implements BlobStore {
+
+	private final NavigableMap<String, Blob> blobs = new ConcurrentSkipListMap<>();
+	private final String baseUrl;
+	private final long latencyMillis;
+
+	public InMemoryBlobStore(@Value("${storage.base-url:http://localhost:8080/}") String baseUrl,
+							 @Value("${storage.simulated-latency-ms:0}") long latencyMillis) {
+		this.baseUrl = baseUrl;
+		this.latencyMillis = latencyMillis;
+	}
+
+	@Override
+	public String put(String key, InputStream content, BlobAttributes attributes) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		byte[] data;
+		try {
+			data = content.readAllBytes();
+		} catch (IOException e) {
+			throw new BlobStoreException("내용을 읽지 못했습니다. key: " + key, e);
+		}
+		String eTag = BlobStoreSupport.eTagOf(BlobStoreSupport.md5().digest(data), attributes);
+		blobs.put(key, new Blob(data, attributes.contentType(), eTag));
+		return eTag;
+	}
+
+	@Override
+	public Optional<BlobMetadata> stat(String key) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		Blob blob = blobs.get(key);
+		return blob == null ? Optional.empty() : Optional.of(new BlobMetadata(blob.data().length, blob.contentType(), blob.eTag()));
+	}
+
+	@Override
+	public InputStream open(String key) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		Blob blob = blobs.get(key);
+		if (blob == null) {
+			throw new BlobStoreException("객체가 없습니다. key: " + key);
+		}
+		return new ByteArrayInputStream(blob.data());
+	}
+
+	@Override
+	public String copy(String sourceKey, String targetKey) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		Blob blob = blobs.get(sourceKey);
+		if (blob == null) {
+			throw new BlobStoreException("객체가 없습니다. key: " + sourceKey);
+		}
+		blobs.put(targetKey, blob);
+		return blob.eTag();
+	}
+
+	@Override
+	public List<String> delete(List<String> keys) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		keys.forEach(blobs::remove);
+		return List.of();
+	}
+
+	@Override
+	public List<String> list(String prefix) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		List<String> keys = new ArrayList<>();
+		for (String key : blobs.tailMap(prefix, true).keySet()) {
+			if (!key.startsWith(prefix)) {
+				break;
+			}
+			keys.add(key);
+		}
+		return keys;
+	}
+
+	@Override
+	public String url(String key) {
+		return BlobStoreSupport.url(baseUrl, key);
+	}
+
+	// 저장한 객체를 모두 버린다. 지연은 넣지 않는다.
+	public void clear() {
+		blobs.clear();
+	}
+
+	private record Blob(byte[] data, String contentType, String eTag) {
+	}
+}
@@ -0,0 +1,245 @@
+package studio.studioeye.infrastructure.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 디스크에 객체를 두는 저장소. objects/ 아래에 키 경로 그대로 내용을, metadata/ 아래에 Content-Type과 ETag를 둔다.
+ * 내용은 FileChannel로 옮겨 힙에 올리지 않으며, 임시 파일에 다 쓴 뒤 이름을 바꿔 읽는 쪽이 반쯤 쓴 파일을 보지 않게 한다.
+ * URL은 storage.base-url 뒤에 키를 붙인 것이므로, 파일을 내려주려면 그 주소를 이 디렉터리로 연결해야 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalBlobStore implements BlobStore {
+
+	private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+	private static final String CONTENT_TYPE = "contentType";
+	private static final String ETAG = "eTag";
+
+	private final Path objects;
+	private final Path metadata;
+	private final Path temporary;
+	private final String baseUrl;
+	private final long latencyMillis;
+
+	public LocalBlobStore(@Value("${storage.local.root:${java.io.tmpdir}/studioeye-storage}") String root,
+						  @Value("${storage.base-url:http://localhost:8080/}") String baseUrl,
+						  @Value("${storage.simulated-latency-ms:0}") long latencyMillis) throws IOException {
+		Path rootPath = Paths.get(root).toAbsolutePath().normalize();
+		this.objects = Files.createDirectories(rootPath.resolve("objects"));
+		this.metadata = Files.createDirectories(rootPath.resolve("metadata"));
+		this.temporary = Files.createDirectories(rootPath.resolve("tmp"));
+		this.baseUrl = baseUrl;
+		this.latencyMillis = latencyMillis;
+	}
+
+	@Override
+	public String put(String key, InputStream content, BlobAttributes attributes) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		Path target = resolve(objects, key);
+		MessageDigest md5 = BlobStoreSupport.md5();
+		Path temp = null;
+		try {
+			temp = Files.createTempFile(temporary, "upload-", ".tmp");
+			try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(content, md5));
+				 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				long position = 0;
+				long transferred;
+				while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK)) > 0) {
+					position += transferred;
+				}
+			}
+			String eTag = BlobStoreSupport.eTagOf(md5.digest(), attributes);
+			Files.createDirectories(target.getParent());
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			writeMetadata(key, attributes.contentType(), eTag);
+			return eTag;
+		} catch (IOException e) {
+			throw new BlobStoreException("파일을 저장하지 못했습니다. key: " + key, e);
+		} finally {
+			deleteQuietly(temp);
+		}
+	}
+
+	@Override
+	public Optional<BlobMetadata> stat(String key) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		Path path = resolve(objects, key);
+		if (!Files.isRegularFile(path)) {
+			return Optional.empty();
+		}
+		try {
+			Properties properties = readMetadata(key);
+			String eTag = properties.getProperty(ETAG);
+			if (eTag == null) {
+				// 이 저장소를 거치지 않고 넣은 파일은 ETag를 그때 계산한다.
+				eTag = md5Hex(path);
+			}
+			return Optional.of(new BlobMetadata(Files.size(path), properties.getProperty(CONTENT_TYPE), eTag));
+		} catch (IOException e) {
+			throw new BlobStoreException("파일 정보를 읽지 못했습니다. key: " + key, e);
+		}
+	}
+
+	@Override
+	public InputStream open(String key) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		try {
+			return Files.newInputStream(resolve(objects, key));
+		} catch (IOException e) {
+			throw new BlobStoreException("파일을 열지 못했습니다. key: " + key, e);
+		}
+	}
+
+	@Override
+	public String copy(String sourceKey, String targetKey) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		Path source = resolve(objects, sourceKey);
+		Path target = resolve(objects, targetKey);
+		Path temp = null;
+		try {
+			temp = Files.createTempFile(temporary, "copy-", ".tmp");
+			// 운영체제가 지원하면 사용자 공간을 거치지 않고 복사한다.
+			try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+				 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				long size = in.size();
+				long position = 0;
+				while (position < size) {
+					position += in.transferTo(position, size - position, out);
+				}
+			}
+			Files.createDirectories(target.getParent());
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			Path sourceMetadata = resolve(metadata, sourceKey);
+			if (Files.exists(sourceMetadata)) {
+				Path targetMetadata = resolve(metadata, targetKey);
+				Files.createDirectories(targetMetadata.getParent());
+				Files.copy(sourceMetadata, targetMetadata, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (NoSuchFileException e) {
+			throw new BlobStoreException("파일이 없습니다. key: " + sourceKey, e);
+		} catch (IOException e) {
+			throw new BlobStoreException("파일을 복사하지 못했습니다. key: " + sourceKey, e);
+		} finally {
+			deleteQuietly(temp);
+		}
+		return stat(targetKey).map(BlobMetadata::eTag).orElse(null);
+	}
+
+	@Override
+	public List<String> delete(List<String> keys) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		List<String> failed = new ArrayList<>();
+		for (String key : keys) {
+			try {
+				Files.deleteIfExists(resolve(objects, key));
+				Files.deleteIfExists(resolve(metadata, key));
+			} catch (IOException e) {
+				failed.add(key);
+			}
+		}
+		return failed;
+	}
+
+	@Override
+	public List<String> list(String prefix) {
+		BlobStoreSupport.simulateLatency(latencyMillis);
+		// 접두사의 마지막 디렉터리부터만 훑는다.
+		int slash = prefix.lastIndexOf('/');
+		Path start = slash <= 0 ? objects : resolve(objects, prefix.substring(0, slash));
+		if (!Files.isDirectory(start)) {
+			return List.of();
+		}
+		try (Stream<Path> paths = Files.walk(start)) {
+			return paths.filter(Files::isRegularFile)
+					.map(path -> objects.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/"))
+					.filter(key -> key.startsWith(prefix))
+					.sorted()
+					.toList();
+		} catch (IOException | UncheckedIOException e) {
+			throw new BlobStoreException("파일 목록을 읽지 못했습니다. prefix: " + prefix, e);
+		}
+	}
+
+	@Override
+	public String url(String key) {
+		return BlobStoreSupport.url(baseUrl, key);
+	}
+
+	// 키가 ../ 등으로 저장소 디렉터리 밖을 가리키지 못하게 한다.
+	private static Path resolve(Path directory, String key) {
+		Path path = directory.resolve(key).normalize();
+		if (!path.startsWith(directory) || path.equals(directory)) {
+			throw new BlobStoreException("사용할 수 없는 키입니다. key: " + key);
+		}
+		return path;
+	}
+
+	private void writeMetadata(String key, String contentType, String eTag) throws IOException {
+		Properties properties = new Properties();
+		if (contentType != null) {
+			properties.setProperty(CONTENT_TYPE, contentType);
+		}
+		properties.setProperty(ETAG, eTag);
+		Path path = resolve(metadata, key);
+		Files.createDirectories(path.getParent());
+		try (Writer writer = Files.newBufferedWriter(path)) {
+			properties.store(writer, null);
+		}
+	}
+
+	private Properties readMetadata(String key) throws IOException {
+		Properties properties = new Properties();
+		Path path = resolve(metadata, key);
+		if (Files.exists(path)) {
+			try (Reader reader = Files.newBufferedReader(path)) {
+				properties.load(reader);
+			}
+		}
+		return properties;
+	}
+
+	private static String md5Hex(Path path) throws IOException {
+		MessageDigest md5 = BlobStoreSupport.md5();
+		try (InputStream inputStream = new DigestInputStream(Files.newInputStream(path), md5)) {
+			inputStream.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(md5.digest());
+	}
+
+	private static void deleteQuietly(Path path) {
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException ignored) {
+			// 지우지 못한 임시 파일은 tmp/에 남을 뿐 저장된 객체에는 영향이 없다.
+		}
+	}
+}
@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,9 +19,12 @@ import studio.studioeye.domain.company_information.dao.CompanyIntroductionInform
 import studio.studioeye.domain.company_information.domain.CompanyInformation;
 import studio.studioeye.domain.company_information.domain.CompanyInformationDetailInformation;
 import studio.studioeye.domain.company_information.dto.request.*;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentChangedEvent;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.infrastructure.s3.VersionedAssetRegistry;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -39,6 +43,10 @@ class CompanyInformationServiceTest {
     private CompanyInformationRepository companyInformationRepository;
     @Mock
     private S3Adapter s3Adapter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private VersionedAssetRegistry versionedAssetRegistry;
     private final MockMultipartFile mockFile = new MockMultipartFile(
             "file",
             "testLogo.jpg",
@@ -83,6 +91,7 @@ class CompanyInformationServiceTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("회사 정보를 성공적으로 등록하였습니다.", response.getMessage());
         Mockito.verify(companyInformationRepository, times(1)).save(any(CompanyInformation.class));
+        Mockito.verify(eventPublisher, times(1)).publishEvent(new ContentChangedEvent(ContentAggregate.COMPANY_INFORMATION));
     }
 
     @Test
@@ -119,6 +128,7 @@ class CompanyInformationServiceTest {
         assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getStatus(), response.getStatus());
         assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getMessage(), response.getMessage());
         Mockito.verify(companyInformationRepository, never()).save(any(CompanyInformation.class));
+        Mockito.verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -181,6 +191,34 @@ class CompanyInformationServiceTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("전체 회사 정보를 성공적으로 수정했습니다.", response.getMessage());
         Mockito.verify(companyInformationRepository, times(1)).save(any(CompanyInformation.class));
+        Mockito.verify(eventPublisher, times(1)).publishEvent(new ContentChangedEvent(ContentAggregate.COMPANY_INFORMATION));
+    }
+
+    @Test
+    @DisplayName("회사 정보 등록 시 이미 정보가 있으면 수정으로 처리하고 변경 이벤트를 한 번만 발행한다")
+    void createCompanyInformation_delegatesToUpdate() throws IOException {
+        // given
+        CreateCompanyInformationServiceRequestDto requestDto = new CreateCompanyInformationServiceRequestDto(
+                "Test mainOverview", "Test commitment", "Test address", "Test addressEnglish",
+                "Test phone", "Test fax", "Test introduction", new ArrayList<>()
+        );
+        CompanyInformation savedCompanyInformation = CompanyInformation.builder()
+                .mainOverview("Test")
+                .lightLogoImageUrl("Test")
+                .darkLogoImageUrl("Test")
+                .sloganImageUrl("Test")
+                .build();
+        savedCompanyInformation.initDetailInformation(new ArrayList<>());
+        // stub
+        when(companyInformationRepository.findAll()).thenReturn(List.of(savedCompanyInformation));
+        when(s3Adapter.uploadFile(any(MultipartFile.class)))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "http://example.com/testImage.jpg"));
+        // when
+        ApiResponse<CompanyInformation> response = companyInformationService.createCompanyInformation(requestDto, mockFile, mockFile, mockFile);
+        // then
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals("전체 회사 정보를 성공적으로 수정했습니다.", response.getMessage());
+        Mockito.verify(eventPublisher, times(1)).publishEvent(new ContentChangedEvent(ContentAggregate.COMPANY_INFORMATION));
     }
 
     @Test
@@ -220,6 +258,7 @@ class CompanyInformationServiceTest {
         assertEquals(ErrorCode.COMPANYINFORMATION_IS_EMPTY.getMessage(), response.getMessage());
         Mockito.verify(companyInformationRepository, times(1)).findAll();
         Mockito.verify(companyInformationRepository, never()).save(any(CompanyInformation.class));
+        Mockito.verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -920,15 +959,19 @@ class CompanyInformationServiceTest {
     @DisplayName("회사 로고 이미지 조회 성공")
     void retrieveCompanyLogoImage() {
         // given
-        List<String> darkLogoImageUrls = List.of("darkLogoImageUrl1?v=123456789");
+        List<String> darkLogoImageUrls = List.of("darkLogoImageUrl1");
         when(companyInformationRepository.findDarkLogoImageUrl()).thenReturn(darkLogoImageUrls);
+        when(versionedAssetRegistry.versionedUrl("darkLogoImageUrl1")).thenReturn("darkLogoImageUrl1?v=0cc175b9c0f1b6a8");
         // when
         ApiResponse<String> response = companyInformationService.retrieveCompanyLogoImage(false);
+        ApiResponse<String> secondResponse = companyInformationService.retrieveCompanyLogoImage(false);
         String retrievedCompanyInformation = response.getData();
         // then
         assertNotNull(retrievedCompanyInformation);
         assertEquals("회사 로고 이미지를 성공적으로 조회하였습니다.", response.getMessage());
-        assertTrue(retrievedCompanyInformation.startsWith("darkLogoImageUrl1"));
+        assertEquals("darkLogoImageUrl1?v=0cc175b9c0f1b6a8", retrievedCompanyInformation);
+        // 내용이 바뀌지 않았다면 요청마다 같은 URL을 돌려준다.
+        assertEquals(retrievedCompanyInformation, secondResponse.getData());
     }
 
     @Test
@@ -979,12 +1022,13 @@ class CompanyInformationServiceTest {
         // given
         CompanyIntroductionInformation companyIntroductionInformation = new CompanyIntroductionInformationImpl("introduction1", "sloganImageUrl1");
         when(companyInformationRepository.findIntroductionAndSloganImageUrl()).thenReturn(List.of(companyIntroductionInformation));
+        when(versionedAssetRegistry.versionedUrl("sloganImageUrl1")).thenReturn("sloganImageUrl1?v=92eb5ffee6ae2fec");
         // when
         ApiResponse<CompanyIntroductionInformation> response = companyInformationService.retrieveCompanyIntroductionInformation();
         // then
         assertNotNull(response.getData());
         assertEquals("회사 소개 정보를 성공적으로 조회하였습니다.", response.getMessage());
-        assertTrue(response.getData().getSloganImageUrl().startsWith("sloganImageUrl1"));
+        assertEquals("sloganImageUrl1?v=92eb5ffee6ae2fec", response.getData().getSloganImageUrl());
     }
 
     @Test
@@ -1046,15 +1090,18 @@ class CompanyInformationServiceTest {
         // given
         List<CompanyInformation> companyInformations = List.of(
                 CompanyInformation.builder().lightLogoImageFileName("light_logo.png")
+                        .lightLogoImageUrl("https://bucket.s3.amazonaws.com/light_logo.png")
                         .darkLogoImageFileName("dark_logo.png")
-                        .sloganImageFileName("slogan.png").build()
+                        .darkLogoImageUrl("https://bucket.s3.amazonaws.com/dark_logo.png")
+                        .sloganImageFileName("slogan.png")
+                        .sloganImageUrl("https://bucket.s3.amazonaws.com/slogan.png").build()
         );
         when(companyInformationRepository.findAll()).thenReturn(companyInformations);
         // when
         ApiResponse<String> response = companyInformationService.deleteAllCompanyInformation();
         // then
         assertEquals("전체 회사 정보를 성공적으로 삭제했습니다.", response.getMessage());
-        verify(s3Adapter, times(3)).deleteFile(anyString()); // S3 파일 삭제 호출 확인
+        verify(s3Adapter, times(3)).releaseFile(anyString()); // S3 파일 삭제 호출 확인
         verify(companyInformationRepository, times(1)).delete(any(CompanyInformation.class)); // 삭제 호출 확인
     }
 
@@ -1067,7 +1114,7 @@ class CompanyInformationServiceTest {
         ApiResponse<String> response = companyInformationService.deleteAllCompanyInformation();
         // then
         assertEquals("전체 회사 정보를 성공적으로 삭제했습니다.", response.getMessage()); // 수정된 메시지
-        verify(s3Adapter, times(0)).deleteFile(anyString()); // S3 파일 삭제 호출이 없음을 확인
+        verify(s3Adapter, times(0)).releaseFile(anyString()); // S3 파일 삭제 호출이 없음을 확인
         verify(companyInformationRepository, times(0)).delete(any(CompanyInformation.class)); // 삭제 호출이 없음을 확인
     }
 
@@ -1078,14 +1125,16 @@ class CompanyInformationServiceTest {
         // given
         CompanyInformation companyInformation = CompanyInformation.builder()
                 .lightLogoImageFileName("light_logo.png")
+                .lightLogoImageUrl("https://bucket.s3.amazonaws.com/light_logo.png")
                 .darkLogoImageFileName("dark_logo.png")
+                .darkLogoImageUrl("https://bucket.s3.amazonaws.com/dark_logo.png")
                 .build();
         when(companyInformationRepository.findAll()).thenReturn(List.of(companyInformation));
         // when
         ApiResponse<String> response = companyInformationService.deleteCompanyLogoImage();
         // then
         assertEquals("회사 로고 이미지를 성공적으로 삭제했습니다.", response.getMessage());
-        verify(s3Adapter, times(2)).deleteFile(anyString()); // S3 파일 삭제 호출 확인
+        verify(s3Adapter, times(2)).releaseFile(anyString()); // S3 파일 삭제 호출 확인
         verify(companyInformationRepository, times(1)).save(any(CompanyInformation.class)); // 저장 호출 확인
     }
 
@@ -1098,7 +1147,7 @@ class CompanyInformationServiceTest {
         ApiResponse<String> response = companyInformationService.deleteCompanyLogoImage();
         // then
         assertEquals("회사 로고 이미지를 성공적으로 삭제했습니다.", response.getMessage()); // 수정된 메시지
-        verify(s3Adapter, times(0)).deleteFile(anyString()); // S3 파일 삭제 호출이 없음을 확인
+        verify(s3Adapter, times(0)).releaseFile(anyString()); // S3 파일 삭제 호출이 없음을 확인
         verify(companyInformationRepository, times(0)).save(any(CompanyInformation.class)); // 저장 호출이 없음을 확인
     }
 
@@ -1124,13 +1173,14 @@ class CompanyInformationServiceTest {
         // given
         CompanyInformation companyInformation = CompanyInformation.builder()
                 .sloganImageFileName("slogan.png")
+                .sloganImageUrl("https://bucket.s3.amazonaws.com/slogan.png")
                 .build();
         when(companyInformationRepository.findAll()).thenReturn(List.of(companyInformation));
         // when
         ApiResponse<CompanyInformation> response = companyInformationService.deleteCompanyIntroductionInformation();
         // then
         assertEquals("회사 소개 정보를 성공적으로 삭제했습니다.", response.getMessage());
-        verify(s3Adapter, times(1)).deleteFile(anyString()); // S3 파일 삭제 호출 확인
+        verify(s3Adapter, times(1)).releaseFile(anyString()); // S3 파일 삭제 호출 확인
         verify(companyInformationRepository, times(1)).save(any(CompanyInformation.class)); // 저장 호출 확인
     }
 
@@ -1,14 +1,19 @@
 package studio.studioeye.domain.benefit.application;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import studio.studioeye.domain.benefit.dao.BenefitRepository;
 import studio.studioeye.domain.benefit.domain.Benefit;
@@ -17,6 +22,8 @@ import studio.studioeye.domain.benefit.dto.request.UpdateBenefitServiceRequestDt
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.infrastructure.s3.S3PresignedUploader;
+import studio.studioeye.infrastructure.s3.UploadedFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -35,6 +42,12 @@ class BenefitServiceTest {
     private BenefitRepository benefitRepository;
     @Mock
     private S3Adapter s3Adapter;
+    @Mock
+    private S3PresignedUploader s3PresignedUploader;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
     MockMultipartFile mockFile = new MockMultipartFile(
             "file",
             "testImage.jpg",
@@ -42,6 +55,11 @@ class BenefitServiceTest {
             "Test Image Content".getBytes()
     );
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(benefitService, "transactionTemplate", new TransactionTemplate(transactionManager));
+    }
+
     @Test
     @DisplayName("Benefit 생성 성공")
     void createBenefitSuccess() throws IOException {
@@ -123,7 +141,7 @@ class BenefitServiceTest {
         Benefit savedBenefit = new Benefit("Test ImageUrl1", "Test ImageFileName1", "Test Title1", "Test Content1");
         // stub
         when(benefitRepository.findById(requestDto.id())).thenReturn(Optional.of(savedBenefit));
-        when(s3Adapter.deleteFile(savedBenefit.getImageFileName())).thenReturn(ApiResponse.ok("S3에서 파일 삭제 성공"));
+        when(s3Adapter.releaseFile(savedBenefit.getImageUrl())).thenReturn(ApiResponse.ok("S3에서 파일 삭제 성공"));
         when(s3Adapter.uploadFile(any(MultipartFile.class)))
                 .thenReturn(ApiResponse.ok("S3에 이미지 업로드 성공", "Updated Test ImageUrl"));
         when(benefitRepository.save(any(Benefit.class))).thenReturn(savedBenefit);
@@ -153,6 +171,66 @@ class BenefitServiceTest {
         assertEquals(ErrorCode.INVALID_BENEFIT_ID.getMessage(), response.getMessage());
     }
 
+    @Test
+    @DisplayName("Benefit 이미지 업로드 완료 성공 테스트")
+    void completeBenefitImageUploadSuccess() {
+        // given
+        Long id = 1L;
+        Benefit savedBenefit = new Benefit("Test ImageUrl1", "Test ImageFileName1", "Test Title1", "Test Content1");
+        // stub
+        when(benefitRepository.existsById(id)).thenReturn(true);
+        when(benefitRepository.findById(id)).thenReturn(Optional.of(savedBenefit));
+        when(s3PresignedUploader.complete("ticket"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", new UploadedFile("Uploaded ImageUrl", "uploaded.png")));
+        when(benefitRepository.save(savedBenefit)).thenReturn(savedBenefit);
+        // when
+        ApiResponse<Benefit> response = benefitService.completeBenefitImageUpload(id, "ticket");
+        // then
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals("혜택 이미지를 성공적으로 수정했습니다.", response.getMessage());
+        assertEquals("Uploaded ImageUrl", savedBenefit.getImageUrl());
+        assertEquals("uploaded.png", savedBenefit.getImageFileName());
+        verify(s3Adapter, times(1)).releaseFile("Test ImageUrl1");
+    }
+
+    @Test
+    @DisplayName("Benefit 이미지 업로드 완료 실패 - 유효하지 않은 업로드 티켓")
+    void completeBenefitImageUploadFail_invalidTicket() {
+        // given
+        Long id = 1L;
+        Benefit savedBenefit = new Benefit("Test ImageUrl1", "Test ImageFileName1", "Test Title1", "Test Content1");
+        // stub
+        when(benefitRepository.existsById(id)).thenReturn(true);
+        when(s3PresignedUploader.complete("ticket")).thenReturn(ApiResponse.withError(ErrorCode.INVALID_UPLOAD_TICKET));
+        // when
+        ApiResponse<Benefit> response = benefitService.completeBenefitImageUpload(id, "ticket");
+        // then
+        assertEquals(ErrorCode.INVALID_UPLOAD_TICKET.getStatus(), response.getStatus());
+        assertEquals(ErrorCode.INVALID_UPLOAD_TICKET.getMessage(), response.getMessage());
+        assertEquals("Test ImageUrl1", savedBenefit.getImageUrl());
+        verify(s3Adapter, never()).releaseFile(any());
+        verify(benefitRepository, never()).save(any(Benefit.class));
+    }
+
+    @Test
+    @DisplayName("Benefit 이미지 업로드 완료 실패 - 옮기는 사이 혜택이 지워지면 옮긴 이미지를 지운다")
+    void completeBenefitImageUploadFail_deletedDuringCopy() {
+        // given
+        Long id = 1L;
+        // stub
+        when(benefitRepository.existsById(id)).thenReturn(true);
+        when(s3PresignedUploader.complete("ticket"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", new UploadedFile("Uploaded ImageUrl", "uploaded.png")));
+        when(benefitRepository.findById(id)).thenReturn(Optional.empty());
+        // when
+        ApiResponse<Benefit> response = benefitService.completeBenefitImageUpload(id, "ticket");
+        // then
+        assertEquals(ErrorCode.INVALID_BENEFIT_ID.getStatus(), response.getStatus());
+        verify(s3Adapter, times(1)).discardFile("Uploaded ImageUrl");
+        verify(s3Adapter, never()).releaseFile(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     @DisplayName("Benefit 텍스트 수정 성공 테스트")
     void updateBenefitTextSuccess() {
@@ -197,7 +275,7 @@ class BenefitServiceTest {
         Benefit benefitToDelete = new Benefit("Test ImageUrl", "Test ImageFileName", "Test Title", "Test Content");
         // stub
         when(benefitRepository.findById(benefitId)).thenReturn(Optional.of(benefitToDelete));
-        when(s3Adapter.deleteFile(benefitToDelete.getImageFileName())).thenReturn(ApiResponse.ok("S3에서 파일 삭제 성공"));
+        when(s3Adapter.releaseFile(benefitToDelete.getImageUrl())).thenReturn(ApiResponse.ok("S3에서 파일 삭제 성공"));
         // when
         ApiResponse<String> response = benefitService.deleteBenefit(benefitId);
         // then
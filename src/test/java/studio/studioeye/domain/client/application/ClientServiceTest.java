@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -39,6 +40,8 @@ class ClientServiceTest {
     private ClientRepository clientRepository;
     @Mock
     private S3Adapter s3Adapter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     private final MockMultipartFile mockFile = new MockMultipartFile(
             "file",
             "testLogo.jpg",
@@ -0,0 +1,193 @@
+package studio.studioeye.domain.email.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studio.studioeye.domain.email.dao.EmailOutboxRepository;
+import studio.studioeye.domain.email.domain.EmailOutbox;
+import studio.studioeye.domain.email.domain.EmailOutboxStatus;
+import studio.studioeye.domain.email.service.EmailOutboxService;
+import studio.studioeye.domain.email.service.EmailService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Runnable> submitted = new ArrayList<>();
+    private EmailOutboxService emailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxService = new EmailOutboxService(emailOutboxRepository, emailService,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), submitted::add);
+        ReflectionTestUtils.setField(emailOutboxService, "batchSize", 50);
+        ReflectionTestUtils.setField(emailOutboxService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(emailOutboxService, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(emailOutboxService, "backoffBaseSeconds", 30L);
+        ReflectionTestUtils.setField(emailOutboxService, "backoffMaxSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("메일 발송함 저장 성공 테스트 - 바로 보내지 않고 발송함에 쌓는다")
+    void enqueueSuccess() {
+        // stub
+        when(emailService.exceedsMaxSize("subject", "text")).thenReturn(false);
+        // when
+        boolean result = emailOutboxService.enqueue("test@example.com", "subject", "text");
+        // then
+        assertTrue(result);
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository, times(1)).save(captor.capture());
+        assertEquals("test@example.com", captor.getValue().getRecipient());
+        assertEquals(EmailOutboxStatus.PENDING, captor.getValue().getStatus());
+        verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("메일 발송함 저장 실패 테스트 - 크기 초과")
+    void enqueueFail_sizeExceeded() {
+        // stub
+        when(emailService.exceedsMaxSize(anyString(), anyString())).thenReturn(true);
+        // when
+        boolean result = emailOutboxService.enqueue("test@example.com", "subject", "text");
+        // then
+        assertFalse(result);
+        verify(emailOutboxRepository, never()).save(any(EmailOutbox.class));
+    }
+
+    @Test
+    @DisplayName("메일 발송 성공 테스트 - 보낸 메일은 SENT로 기록")
+    void dispatchSuccess() {
+        // given
+        EmailOutbox outbox = outbox(1L);
+        // stub
+        when(emailOutboxRepository.findDueForUpdate(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(outbox));
+        when(emailService.sendEmail("test@example.com", "subject", "text")).thenReturn(true);
+        when(emailOutboxRepository.findAllById(any())).thenReturn(List.of(outbox));
+        // when
+        emailOutboxService.dispatch();
+        // then
+        assertEquals(EmailOutboxStatus.SENT, outbox.getStatus());
+        assertEquals(1, outbox.getAttempts());
+        assertNotNull(outbox.getSentAt());
+    }
+
+    @Test
+    @DisplayName("메일 발송 실패 테스트 - SMTP 오류면 뒤로 미뤄 다시 보낸다")
+    void dispatchFail_retryLater() {
+        // given
+        EmailOutbox outbox = outbox(1L);
+        LocalDateTime startedAt = LocalDateTime.now();
+        // stub
+        when(emailOutboxRepository.findDueForUpdate(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(outbox));
+        when(emailService.sendEmail(anyString(), anyString(), anyString())).thenThrow(new MailSendException("SMTP 연결 실패"));
+        when(emailOutboxRepository.findAllById(any())).thenReturn(List.of(outbox));
+        // when
+        emailOutboxService.dispatch();
+        // then
+        assertEquals(EmailOutboxStatus.PENDING, outbox.getStatus());
+        assertEquals("SMTP 연결 실패", outbox.getLastError());
+        assertFalse(outbox.getNextAttemptAt().isBefore(startedAt.plusSeconds(30)));
+        assertTrue(outbox.getNextAttemptAt().isBefore(startedAt.plusSeconds(300)));
+    }
+
+    @Test
+    @DisplayName("메일 발송 실패 테스트 - 재시도를 모두 쓰면 FAILED로 남긴다")
+    void dispatchFail_maxAttempts() {
+        // given
+        EmailOutbox outbox = outbox(1L);
+        outbox.claim(LocalDateTime.now());
+        outbox.claim(LocalDateTime.now());
+        // stub
+        when(emailOutboxRepository.findDueForUpdate(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any()))
+                .thenReturn(List.of(outbox));
+        when(emailService.sendEmail(anyString(), anyString(), anyString())).thenThrow(new MailSendException("SMTP 연결 실패"));
+        when(emailOutboxRepository.findAllById(any())).thenReturn(List.of(outbox));
+        // when
+        emailOutboxService.dispatch();
+        // then
+        assertEquals(3, outbox.getAttempts());
+        assertEquals(EmailOutboxStatus.FAILED, outbox.getStatus());
+    }
+
+    @Test
+    @DisplayName("메일 발송 테스트 - 보낼 메일이 없으면 아무것도 하지 않는다")
+    void dispatch_nothingDue() {
+        // stub
+        when(emailOutboxRepository.findDueForUpdate(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any()))
+                .thenReturn(List.of());
+        // when
+        emailOutboxService.dispatch();
+        // then
+        verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+        verify(emailOutboxRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("메일 발송 예약 테스트 - 스케줄러 스레드에서는 보내지 않고 발송 스레드로 넘긴다")
+    void scheduleDispatch_handsOffToExecutor() {
+        // when
+        emailOutboxService.scheduleDispatch();
+        // then
+        assertEquals(1, submitted.size());
+        verifyNoInteractions(emailOutboxRepository, emailService);
+        // stub
+        when(emailOutboxRepository.findDueForUpdate(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any()))
+                .thenReturn(List.of());
+        // when
+        submitted.get(0).run();
+        // then
+        verify(emailOutboxRepository, times(1)).findDueForUpdate(eq(EmailOutboxStatus.PENDING), any(LocalDateTime.class), any());
+    }
+
+    @Test
+    @DisplayName("메일 발송 예약 테스트 - 이전 발송이 돌고 있어 거절되면 이번 차례를 건너뛴다")
+    void scheduleDispatch_skipsWhenBusy() {
+        // given
+        EmailOutboxService busyService = new EmailOutboxService(emailOutboxRepository, emailService,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), task -> {
+                    throw new RejectedExecutionException("발송 중");
+                });
+        // when & then
+        assertDoesNotThrow(busyService::scheduleDispatch);
+        verifyNoInteractions(emailOutboxRepository, emailService);
+    }
+
+    private static EmailOutbox outbox(Long id) {
+        EmailOutbox outbox = EmailOutbox.builder()
+                .recipient("test@example.com")
+                .subject("subject")
+                .text("text")
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
@@ -7,6 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -18,6 +19,8 @@ import studio.studioeye.domain.faq.dao.FaqRepository;
 import studio.studioeye.domain.faq.domain.Faq;
 import studio.studioeye.domain.faq.dto.request.CreateFaqServiceRequestDto;
 import studio.studioeye.domain.faq.dto.request.UpdateFaqServiceRequestDto;
+import studio.studioeye.global.common.cache.ContentAggregate;
+import studio.studioeye.global.common.cache.ContentChangedEvent;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 import studio.studioeye.infrastructure.s3.S3Adapter;
@@ -37,6 +40,8 @@ class FaqServiceTest {
     private FaqRepository faqRepository;
     @Mock
     private S3Adapter s3Adapter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("FAQ 생성 성공 테스트")
@@ -55,6 +60,7 @@ class FaqServiceTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("FAQ를 성공적으로 등록하였습니다.", response.getMessage());
         Mockito.verify(faqRepository, times(1)).save(any(Faq.class));
+        Mockito.verify(eventPublisher, times(1)).publishEvent(new ContentChangedEvent(ContentAggregate.FAQ));
     }
 
     @Test
@@ -214,6 +220,7 @@ class FaqServiceTest {
         assertEquals("FAQ를 성공적으로 삭제했습니다.", response.getMessage());
         Mockito.verify(faqRepository, times(1)).findById(id);
         Mockito.verify(faqRepository, times(1)).delete(savedFaq);
+        Mockito.verify(eventPublisher, times(1)).publishEvent(new ContentChangedEvent(ContentAggregate.FAQ));
     }
 
     @Test
@@ -0,0 +1,264 @@
+package studio.studioeye.domain.notification.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import studio.studioeye.domain.notification.dao.EmitterRepository;
+import studio.studioeye.domain.notification.dao.EmitterRepositoryImpl;
+import studio.studioeye.infrastructure.sse.SseConnection;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationHubTest {
+
+    private EmitterRepository emitterRepository;
+    private List<Runnable> pendingTasks;
+    private Executor executor;
+    private Deque<SseEmitter> nextEmitters;
+    private NotificationHub notificationHub;
+    private long sequence = 100;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepositoryImpl(3);
+        // 테스트에서 직접 실행 시점을 정할 수 있도록 작업을 모아 둔다.
+        pendingTasks = new ArrayList<>();
+        executor = pendingTasks::add;
+        // 모의 emitter를 넣어 두면 다음 connect가 그것을 쓴다.
+        nextEmitters = new ArrayDeque<>();
+        notificationHub = new NotificationHub(emitterRepository, executor,
+                timeoutMillis -> nextEmitters.isEmpty() ? new SseEmitter(timeoutMillis) : nextEmitters.poll(), 60_000L, 2, 3);
+        notificationHub.coverFrom(sequence);
+    }
+
+    @Test
+    @DisplayName("SSE 연결 성공 테스트 - 한 유저가 여러 번 연결해도 모두 저장")
+    void connectSuccess_multipleConnections() {
+        // when
+        SseEmitter first = notificationHub.connect(1L, null);
+        SseEmitter second = notificationHub.connect(1L, null);
+        // then
+        assertNotSame(first, second);
+        assertEquals(2, emitterRepository.findByUserId(1L).size());
+    }
+
+    @Test
+    @DisplayName("알림 전송 성공 테스트 - 대상 유저의 모든 연결에만 보낸다")
+    void deliverSuccess() throws IOException {
+        // given
+        SseEmitter firstTab = mock(SseEmitter.class);
+        SseEmitter secondTab = mock(SseEmitter.class);
+        SseEmitter otherUser = mock(SseEmitter.class);
+        connection("a", 1L, firstTab);
+        connection("b", 1L, secondTab);
+        connection("c", 2L, otherUser);
+        // when
+        deliver("payload");
+        runPendingTasks();
+        // then
+        verify(firstTab, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(secondTab, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(otherUser, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("알림 전송 테스트 - 요청 스레드에서는 보내지 않는다")
+    void deliver_doesNotSendOnCallerThread() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        connection("a", 1L, emitter);
+        // when
+        deliver("payload");
+        // then
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+        assertEquals(1, pendingTasks.size());
+    }
+
+    @Test
+    @DisplayName("알림 전송 실패 테스트 - 쓰기에 실패한 연결은 정리한다")
+    void deliverFail_deadConnectionEvicted() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        SseConnection connection = connection("a", 1L, emitter);
+        // when
+        deliver("payload");
+        runPendingTasks();
+        // then
+        assertTrue(connection.isClosed());
+        assertTrue(emitterRepository.findByUserId(1L).isEmpty());
+        verify(emitter, times(1)).completeWithError(any(IOException.class));
+    }
+
+    @Test
+    @DisplayName("알림 전송 실패 테스트 - 전송 큐가 넘친 느린 연결은 끊는다")
+    void deliverFail_slowConnectionEvicted() {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        SseConnection connection = connection("a", 1L, emitter);
+        // when
+        for (int i = 0; i < 3; i++) {
+            deliver("payload-" + i);
+        }
+        // 팬아웃만 실행하고 연결의 전송 작업은 실행하지 않아 큐가 쌓이게 한다.
+        List<Runnable> fanOuts = new ArrayList<>(pendingTasks);
+        pendingTasks.clear();
+        fanOuts.forEach(Runnable::run);
+        // then
+        assertTrue(connection.isClosed());
+        assertTrue(emitterRepository.findByUserId(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("heartbeat 테스트 - 끊긴 연결을 찾아 정리한다")
+    void heartbeat_evictsDeadConnections() throws IOException {
+        // given
+        SseEmitter alive = mock(SseEmitter.class);
+        SseEmitter dead = mock(SseEmitter.class);
+        doThrow(new IOException("Broken pipe")).when(dead).send(any(SseEmitter.SseEventBuilder.class));
+        connection("a", 1L, alive);
+        connection("b", 2L, dead);
+        // when
+        notificationHub.heartbeat();
+        runPendingTasks();
+        // then
+        assertEquals(1, emitterRepository.findByUserId(1L).size());
+        assertTrue(emitterRepository.findByUserId(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("알림 전송 테스트 - 버스가 정한 순번을 id로 붙여 받은 순서대로 보낸다")
+    void deliver_usesSequenceAsId() throws IOException {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        connection("a", 1L, emitter);
+        // when
+        notificationHub.deliver(7L, List.of(1L), "first");
+        notificationHub.deliver(8L, List.of(1L), "second");
+        // then
+        // 밀린 알림은 팬아웃 작업 하나가 모두 처리한다.
+        assertEquals(1, pendingTasks.size());
+        runPendingTasks();
+        List<String> events = sentEvents(emitter, 2);
+        assertEquals(7L, idOf(events.get(0)));
+        assertEquals(8L, idOf(events.get(1)));
+        assertTrue(events.get(0).contains("data:first"));
+    }
+
+    @Test
+    @DisplayName("재연결 테스트 - Last-Event-ID 뒤의 알림만 다시 보낸다")
+    void reconnect_replaysMissedEvents() throws IOException {
+        // given
+        SseEmitter before = mock(SseEmitter.class);
+        SseConnection beforeConnection = connection("a", 1L, before);
+        deliver("received");
+        runPendingTasks();
+        String lastEventId = String.valueOf(idOf(sentEvents(before, 1).get(0)));
+        beforeConnection.closed();
+        deliver("missed-1");
+        deliver("missed-2");
+        runPendingTasks();
+        SseEmitter after = reconnectingEmitter();
+        // when
+        notificationHub.connect(1L, lastEventId);
+        runPendingTasks();
+        // then
+        List<String> replayed = sentEvents(after, 3);
+        assertTrue(replayed.get(0).contains("event:connect"));
+        assertTrue(replayed.get(1).contains("data:missed-1"));
+        assertTrue(replayed.get(2).contains("data:missed-2"));
+    }
+
+    @Test
+    @DisplayName("재연결 테스트 - 보관 범위를 넘으면 resync 이벤트를 보낸다")
+    void reconnect_resyncWhenEventsExpired() throws IOException {
+        // given
+        SseEmitter before = mock(SseEmitter.class);
+        SseConnection beforeConnection = connection("a", 1L, before);
+        deliver("received");
+        runPendingTasks();
+        String lastEventId = String.valueOf(idOf(sentEvents(before, 1).get(0)));
+        beforeConnection.closed();
+        for (int i = 0; i < 4; i++) {
+            deliver("missed-" + i);
+        }
+        runPendingTasks();
+        SseEmitter after = reconnectingEmitter();
+        // when
+        notificationHub.connect(1L, lastEventId);
+        runPendingTasks();
+        // then
+        List<String> replayed = sentEvents(after, 5);
+        assertTrue(replayed.get(1).contains("event:resync"));
+        // 보관된 최근 3건은 그대로 보낸다.
+        assertEquals(List.of("missed-1", "missed-2", "missed-3"), replayed.subList(2, replayed.size()).stream()
+                .map(event -> event.substring(event.indexOf("data:") + 5).trim())
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("재연결 테스트 - 이 서버가 알림을 받기 전의 id면 resync 이벤트를 보낸다")
+    void reconnect_resyncWhenIdFromPreviousServer() throws IOException {
+        // given
+        SseEmitter emitter = reconnectingEmitter();
+        // when
+        notificationHub.connect(1L, "1");
+        runPendingTasks();
+        // then
+        List<String> events = sentEvents(emitter, 2);
+        assertTrue(events.get(1).contains("event:resync"));
+    }
+
+    private void deliver(Object payload) {
+        notificationHub.deliver(++sequence, List.of(1L), payload);
+    }
+
+    // 다음 connect 호출이 이 모의 emitter를 쓰게 한다.
+    private SseEmitter reconnectingEmitter() {
+        SseEmitter emitter = mock(SseEmitter.class);
+        nextEmitters.add(emitter);
+        return emitter;
+    }
+
+    private List<String> sentEvents(SseEmitter emitter, int count) throws IOException {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, times(count)).send(captor.capture());
+        return captor.getAllValues().stream().map(NotificationHubTest::textOf).toList();
+    }
+
+    private static String textOf(SseEmitter.SseEventBuilder event) {
+        return event.build().stream().map(data -> String.valueOf(data.getData())).collect(Collectors.joining());
+    }
+
+    private static long idOf(String event) {
+        int start = event.indexOf("id:") + 3;
+        return Long.parseLong(event.substring(start, event.indexOf('\n', start)));
+    }
+
+    private SseConnection connection(String id, Long userId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(id, userId, emitter, 2, executor, emitterRepository::delete);
+        emitterRepository.save(connection);
+        return connection;
+    }
+
+    private void runPendingTasks() {
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package studio.studioeye.domain.notification.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import studio.studioeye.infrastructure.redis.EmbeddedRedis;
+import studio.studioeye.infrastructure.redis.RedisService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RedisNotificationBusTest {
+
+    @RegisterExtension
+    static EmbeddedRedis redis = new EmbeddedRedis();
+
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+    private final List<ExecutorService> executors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    @Test
+    @DisplayName("구독 시작 테스트 - 구독이 끝난 뒤 읽은 현재 순번 뒤의 알림을 받는다고 허브에 알린다")
+    void subscribeSuccess() {
+        // given
+        redis.redisService().setValues(RedisNotificationBus.SEQUENCE_KEY, "5");
+        NotificationHub notificationHub = mock(NotificationHub.class);
+        // when
+        start(notificationHub);
+        // then
+        verify(notificationHub, times(1)).coverFrom(5L);
+    }
+
+    @Test
+    @DisplayName("구독 시작 테스트 - 순번이 아직 없으면 처음부터 받는다")
+    void subscribeSuccess_noSequenceYet() {
+        // given
+        NotificationHub notificationHub = mock(NotificationHub.class);
+        // when
+        start(notificationHub);
+        // then
+        verify(notificationHub, times(1)).coverFrom(0L);
+    }
+
+    @Test
+    @DisplayName("구독 시작 테스트 - 컨테이너가 시작되기 전에는 받는 범위를 정하지 않는다")
+    void subscribe_coverageWaitsForContainer() {
+        // given
+        NotificationHub notificationHub = mock(NotificationHub.class);
+        RedisNotificationBus notificationBus = new RedisNotificationBus(redis.redisService(), container(), notificationHub, new ObjectMapper());
+        // when
+        notificationBus.subscribe();
+        // then
+        verify(notificationHub, never()).coverFrom(anyLong());
+    }
+
+    @Test
+    @DisplayName("알림 전송 성공 테스트 - 순번을 붙여 채널에 한 번 보내고, 보낸 서버를 포함한 모든 서버가 허브로 넘긴다")
+    void publishSuccess() {
+        // given
+        NotificationHub firstHub = mock(NotificationHub.class);
+        NotificationHub secondHub = mock(NotificationHub.class);
+        RedisNotificationBus firstBus = start(firstHub);
+        start(secondHub);
+        List<Long> userIds = List.of(1L, 2L);
+        ArgumentCaptor<JsonNode> payload = ArgumentCaptor.forClass(JsonNode.class);
+        // when
+        firstBus.publish(userIds, Map.of("requestId", 3));
+        // then
+        verify(firstHub, timeout(TIMEOUT_MILLIS).times(1)).deliver(eq(1L), eq(userIds), payload.capture());
+        verify(secondHub, timeout(TIMEOUT_MILLIS).times(1)).deliver(eq(1L), eq(userIds), any());
+        assertEquals(3, payload.getValue().get("requestId").asInt());
+        assertEquals("1", redis.redisService().getValues(RedisNotificationBus.SEQUENCE_KEY));
+    }
+
+    @Test
+    @DisplayName("알림 전송 동시성 테스트 - 여러 서버가 동시에 보내도 모든 서버가 순번 순서대로 받는다")
+    void publish_concurrentPublishersDeliverInSequenceOrder() throws InterruptedException {
+        // given
+        int publishers = 4;
+        int perPublisher = 50;
+        int total = publishers * perPublisher;
+        List<Long> firstReceived = Collections.synchronizedList(new ArrayList<>());
+        List<Long> secondReceived = Collections.synchronizedList(new ArrayList<>());
+        List<RedisNotificationBus> buses = List.of(start(recording(firstReceived)), start(recording(secondReceived)));
+        ExecutorService executor = Executors.newFixedThreadPool(publishers);
+        executors.add(executor);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        // when
+        for (int i = 0; i < publishers; i++) {
+            RedisNotificationBus bus = buses.get(i % buses.size());
+            executor.execute(() -> {
+                awaitQuietly(startLatch);
+                for (int j = 0; j < perPublisher; j++) {
+                    bus.publish(List.of(1L), Map.of("index", j));
+                }
+            });
+        }
+        startLatch.countDown();
+        // then
+        List<Long> expected = LongStream.rangeClosed(1, total).boxed().toList();
+        awaitSize(firstReceived, total);
+        awaitSize(secondReceived, total);
+        assertEquals(expected, List.copyOf(firstReceived));
+        assertEquals(expected, List.copyOf(secondReceived));
+    }
+
+    @Test
+    @DisplayName("알림 전송 실패 테스트 - Redis에 연결하지 못해도 예외를 던지지 않는다")
+    void publishFail_redisUnavailable() {
+        // given
+        RedisService redisService = mock(RedisService.class);
+        NotificationHub notificationHub = mock(NotificationHub.class);
+        RedisNotificationBus notificationBus = new RedisNotificationBus(redisService, container(), notificationHub, new ObjectMapper());
+        // stub
+        when(redisService.executeScript(any(), anyList(), any(String[].class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        // when & then
+        assertDoesNotThrow(() -> notificationBus.publish(List.of(1L), Map.of("requestId", 3)));
+        verify(notificationHub, never()).deliver(anyLong(), anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("알림 수신 실패 테스트 - 읽을 수 없는 메시지는 건너뛴다")
+    void onMessageFail_invalidBody() {
+        // given
+        NotificationHub notificationHub = mock(NotificationHub.class);
+        RedisNotificationBus notificationBus = new RedisNotificationBus(redis.redisService(), container(), notificationHub, new ObjectMapper());
+        // when
+        for (String body : List.of("not-json", "7:not-json", "x:{}")) {
+            notificationBus.onMessage(new DefaultMessage(RedisNotificationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    body.getBytes(StandardCharsets.UTF_8)), null);
+        }
+        // then
+        verify(notificationHub, never()).deliver(anyLong(), anyCollection(), any());
+    }
+
+    // 구독을 마치고 받는 범위가 정해질 때까지 기다린다.
+    private RedisNotificationBus start(NotificationHub notificationHub) {
+        RedisMessageListenerContainer container = container();
+        RedisNotificationBus notificationBus = new RedisNotificationBus(redis.redisService(), container, notificationHub, new ObjectMapper());
+        notificationBus.subscribe();
+        container.start();
+        verify(notificationHub, timeout(TIMEOUT_MILLIS)).coverFrom(anyLong());
+        return notificationBus;
+    }
+
+    // RedisConfig와 같이 스레드 하나로 받은 순서대로 리스너에 넘긴다.
+    private RedisMessageListenerContainer container() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executors.add(executor);
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redis.connectionFactory());
+        container.setTaskExecutor(executor);
+        container.afterPropertiesSet();
+        containers.add(container);
+        return container;
+    }
+
+    private static NotificationHub recording(List<Long> received) {
+        NotificationHub notificationHub = mock(NotificationHub.class);
+        doAnswer(invocation -> received.add(invocation.getArgument(0)))
+                .when(notificationHub).deliver(anyLong(), anyCollection(), any());
+        return notificationHub;
+    }
+
+    private static void awaitSize(List<Long> received, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (received.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, received.size());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
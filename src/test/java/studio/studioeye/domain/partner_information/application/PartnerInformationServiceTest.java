@@ -8,6 +8,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -36,6 +37,8 @@ class PartnerInformationServiceTest {
     private PartnerInformationRepository partnerInformationRepository;
     @Mock
     private S3Adapter s3Adapter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     MockMultipartFile mockFile = new MockMultipartFile(
             "file",
             "testImage.jpg",
@@ -0,0 +1,89 @@
+package studio.studioeye.domain.project.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import studio.studioeye.domain.project.domain.ProjectChangedEvent;
+import studio.studioeye.domain.project.dto.response.ProjectResponse;
+import studio.studioeye.global.common.response.ApiResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MainProjectSnapshotCacheTest {
+
+    @Mock
+    private ProjectService projectService;
+
+    private MainProjectSnapshotCache mainProjectSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        mainProjectSnapshotCache = new MainProjectSnapshotCache(projectService, new ObjectMapper());
+    }
+
+    private ProjectResponse project(String name) {
+        return new ProjectResponse(1L, null, null, name, null, null, null, null, "main", true,
+                null, null, null, null, null, null, 0, 0, List.of());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 만들어진 뒤에는 조회 시 서비스를 다시 호출하지 않는다")
+    void getSnapshotServedFromMemory() {
+        // stub
+        when(projectService.retrieveAllMainProject())
+                .thenReturn(ApiResponse.ok("프로젝트 목록을 성공적으로 조회했습니다.", List.of(project("first"))));
+
+        // when
+        mainProjectSnapshotCache.initialize();
+        byte[] first = mainProjectSnapshotCache.getSnapshot();
+        byte[] second = mainProjectSnapshotCache.getSnapshot();
+
+        // then
+        assertSame(first, second);
+        assertTrue(new String(first, StandardCharsets.UTF_8).contains("\"name\":\"first\""));
+        verify(projectService, times(1)).retrieveAllMainProject();
+    }
+
+    @Test
+    @DisplayName("프로젝트 변경 이벤트를 받으면 스냅샷을 다시 만든다")
+    void onProjectChangedRebuildsSnapshot() {
+        // stub
+        when(projectService.retrieveAllMainProject())
+                .thenReturn(ApiResponse.ok("프로젝트 목록을 성공적으로 조회했습니다.", List.of(project("before"))))
+                .thenReturn(ApiResponse.ok("프로젝트 목록을 성공적으로 조회했습니다.", List.of(project("after"))));
+
+        // when
+        mainProjectSnapshotCache.initialize();
+        mainProjectSnapshotCache.onProjectChanged(new ProjectChangedEvent(1L));
+        String body = new String(mainProjectSnapshotCache.getSnapshot(), StandardCharsets.UTF_8);
+
+        // then
+        assertTrue(body.contains("\"name\":\"after\""));
+        assertFalse(body.contains("\"name\":\"before\""));
+        verify(projectService, times(2)).retrieveAllMainProject();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 아직 없으면 첫 조회 때 만든다")
+    void getSnapshotBuildsLazily() {
+        // stub
+        when(projectService.retrieveAllMainProject())
+                .thenReturn(ApiResponse.ok("프로젝트가 존재하지 않습니다."));
+
+        // when
+        String body = new String(mainProjectSnapshotCache.getSnapshot(), StandardCharsets.UTF_8);
+
+        // then
+        assertTrue(body.contains("프로젝트가 존재하지 않습니다."));
+        verify(projectService, times(1)).retrieveAllMainProject();
+    }
+}
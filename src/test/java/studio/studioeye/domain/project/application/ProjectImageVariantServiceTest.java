@@ -0,0 +1,113 @@
+package studio.studioeye.domain.project.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studio.studioeye.domain.project.dao.ProjectRepository;
+import studio.studioeye.domain.project.domain.Project;
+import studio.studioeye.domain.project.domain.ProjectChangedEvent;
+import studio.studioeye.domain.project.domain.ProjectImage;
+import studio.studioeye.infrastructure.s3.S3ImageVariantGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectImageVariantServiceTest {
+    @Mock
+    private S3ImageVariantGenerator s3ImageVariantGenerator;
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProjectImageVariantService projectImageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        projectImageVariantService = new ProjectImageVariantService(s3ImageVariantGenerator, projectRepository,
+                new TransactionTemplate(transactionManager), eventPublisher);
+    }
+
+    private Project project(String mainImg, String responsiveMainImg, String... imageUrls) {
+        Project project = Project.builder()
+                .name("Test Name")
+                .projectType("others")
+                .mainImg(mainImg)
+                .responsiveMainImg(responsiveMainImg)
+                .build();
+        List<ProjectImage> projectImages = new ArrayList<>();
+        for (String imageUrl : imageUrls) {
+            projectImages.add(ProjectImage.builder()
+                    .project(project)
+                    .imageUrlList(imageUrl)
+                    .fileName(imageUrl + ".jpg")
+                    .build());
+        }
+        project.setProjectImages(projectImages);
+        return project;
+    }
+
+    @Test
+    @DisplayName("썸네일 요청 성공 테스트 - 썸네일이 없는 이미지만 한 번씩 요청하고 원본 URL로 채운다")
+    void requestThumbnailsSuccess() {
+        // given
+        Project project = project("main url", "responsive url", "main url", "image url");
+        project.setResponsiveMainImgThumbnail("responsive thumbnail url");
+        // stub
+        when(s3ImageVariantGenerator.thumbnail("main url")).thenReturn(CompletableFuture.completedFuture("main thumbnail url"));
+        when(s3ImageVariantGenerator.thumbnail("image url")).thenReturn(CompletableFuture.completedFuture("image thumbnail url"));
+        // when
+        projectImageVariantService.requestThumbnails(project);
+        // then
+        verify(s3ImageVariantGenerator, times(1)).thumbnail("main url");
+        verify(s3ImageVariantGenerator, never()).thumbnail("responsive url");
+        verify(projectRepository, times(1)).updateMainImgThumbnail("main url", "main thumbnail url");
+        verify(projectRepository, times(1)).updateImageThumbnail("main url", "main thumbnail url");
+        verify(projectRepository, times(1)).updateImageThumbnail("image url", "image thumbnail url");
+        verify(projectRepository, never()).updateResponsiveMainImgThumbnail(anyString(), anyString());
+        verify(eventPublisher, times(2)).publishEvent(new ProjectChangedEvent(null));
+    }
+
+    @Test
+    @DisplayName("썸네일 요청 테스트 - 이미지가 아니라 썸네일을 만들지 않은 경우 저장하지 않는다")
+    void requestThumbnails_notImage() {
+        // given
+        Project project = project("main url", null);
+        // stub
+        when(s3ImageVariantGenerator.thumbnail("main url")).thenReturn(CompletableFuture.completedFuture(null));
+        // when
+        projectImageVariantService.requestThumbnails(project);
+        // then
+        verify(projectRepository, never()).updateMainImgThumbnail(anyString(), anyString());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("썸네일 요청 실패 테스트 - 썸네일 생성에 실패한 경우 저장하지 않는다")
+    void requestThumbnailsFail_generatorError() {
+        // given
+        Project project = project("main url", null);
+        // stub
+        when(s3ImageVariantGenerator.thumbnail("main url"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("변환 실패")));
+        // when
+        projectImageVariantService.requestThumbnails(project);
+        // then
+        verify(projectRepository, never()).updateMainImgThumbnail(anyString(), anyString());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
@@ -1,5 +1,7 @@
 package studio.studioeye.domain.project.application;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,25 +11,40 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import studio.studioeye.domain.project.dao.ProjectImageRow;
 import studio.studioeye.domain.project.dao.ProjectRepository;
+import studio.studioeye.domain.project.dao.ProjectRow;
 import studio.studioeye.domain.project.domain.Project;
+import studio.studioeye.domain.project.domain.ProjectChangedEvent;
 import studio.studioeye.domain.project.domain.ProjectImage;
 import studio.studioeye.domain.project.dto.request.*;
+import studio.studioeye.domain.project.dto.response.ProjectPageResponse;
+import studio.studioeye.domain.project.dto.response.ProjectResponse;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.infrastructure.s3.S3PresignedUploader;
+import studio.studioeye.infrastructure.s3.S3StreamingUploader;
+import studio.studioeye.infrastructure.s3.S3UploadPipeline;
+import studio.studioeye.infrastructure.s3.UploadedFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,6 +59,16 @@ class ProjectServiceTest {
     private ProjectRepository projectRepository;
     @Mock
     private S3Adapter s3Adapter;
+    @Mock
+    private S3StreamingUploader s3StreamingUploader;
+    @Mock
+    private S3PresignedUploader s3PresignedUploader;
+    @Mock
+    private ProjectImageVariantService projectImageVariantService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
     // Mock MultipartFile 생성
     MockMultipartFile mockFile = new MockMultipartFile(
             "file",
@@ -49,6 +76,15 @@ class ProjectServiceTest {
             "image/jpeg",
             "Test Image Content".getBytes()
     );
+
+    @BeforeEach
+    void setUp() {
+        // 업로드 파이프라인은 목 S3Adapter 위에서 호출 스레드로 바로 실행한다.
+        ReflectionTestUtils.setField(projectService, "s3UploadPipeline",
+                new S3UploadPipeline(s3Adapter, new SimpleMeterRegistry(), Runnable::run));
+        ReflectionTestUtils.setField(projectService, "transactionTemplate", new TransactionTemplate(transactionManager));
+    }
+
     @ParameterizedTest
     @CsvSource({
             "main, main",
@@ -123,6 +159,35 @@ class ProjectServiceTest {
         Mockito.verify(projectRepository, never()).save(any(Project.class));
     }
 
+    @Test
+    @DisplayName("Project 생성 실패 테스트 - 일부 이미지 업로드 실패 시 이미 올라간 이미지 삭제")
+    void createProjectFail_rollbackUploadedImages() throws IOException {
+        // given
+        CreateProjectServiceRequestDto requestDto = new CreateProjectServiceRequestDto(
+                "Test Department",
+                "Entertainment",
+                "Test Name",
+                "Test Client",
+                "2024-01-01",
+                "Test Link",
+                "Test Overview",
+                "others",
+                true
+        );
+        // stub - 메인이미지는 성공, 반응형 메인이미지는 실패
+        when(s3Adapter.uploadFile(any(MultipartFile.class)))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "http://example.com/testImage.jpg"))
+                .thenReturn(ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT));
+        // when
+        ApiResponse<Project> response = projectService.createProject(requestDto, mockFile, mockFile, List.of(mockFile));
+        // then
+        assertEquals(ErrorCode.ERROR_S3_UPDATE_OBJECT.getStatus(), response.getStatus());
+        assertEquals(ErrorCode.ERROR_S3_UPDATE_OBJECT.getMessage(), response.getMessage());
+        Mockito.verify(s3Adapter, times(2)).uploadFile(any(MultipartFile.class)); // 실패 후 남은 업로드는 건너뜀
+        Mockito.verify(s3Adapter, times(1)).discardFile("http://example.com/testImage.jpg");
+        Mockito.verify(projectRepository, never()).save(any(Project.class));
+    }
+
     @Test
     @DisplayName("Project 생성 실패 테스트 - 유효하지 않은 projectType인 경우")
     void createProjectFail_invalidProjectType() throws IOException {
@@ -138,9 +203,6 @@ class ProjectServiceTest {
                 "invalidType",
                 true
         );
-        // stub - S3 upload 실패
-        when(s3Adapter.uploadFile(any(MultipartFile.class)))
-                .thenReturn(ApiResponse.ok("프로젝트를 성공적으로 등록하였습니다.", "http://example.com/testImage.jpg"));
         // when
         List<MultipartFile> projectImages = List.of(mockFile);
         ApiResponse<Project> response = projectService.createProject(requestDto, mockFile, mockFile, projectImages);
@@ -149,6 +211,7 @@ class ProjectServiceTest {
         assertEquals(ErrorCode.INVALID_PROJECT_TYPE.getStatus(), response.getStatus()); // 적절한 상태 코드 수정
         assertEquals(ErrorCode.INVALID_PROJECT_TYPE.getMessage(), response.getMessage()); // 예외 메시지 수정
         Mockito.verify(projectRepository, never()).save(any(Project.class));
+        Mockito.verify(s3Adapter, never()).uploadFile(any(MultipartFile.class)); // 거절할 요청은 올리지 않는다.
     }
 
     @Test
@@ -176,9 +239,7 @@ class ProjectServiceTest {
                 .isPosted(true)
                 .projectType("main")
                 .build();
-        // stub - S3 upload 실패
-        when(s3Adapter.uploadFile(any(MultipartFile.class)))
-                .thenReturn(ApiResponse.ok("프로젝트를 성공적으로 등록하였습니다.", "http://example.com/testImage.jpg"));
+        // stub
         when(projectRepository.findByProjectType(requestDto.projectType())).thenReturn(List.of(mockProject));
         // when
         List<MultipartFile> projectImages = List.of(mockFile);
@@ -188,6 +249,7 @@ class ProjectServiceTest {
         assertEquals(ErrorCode.TOP_PROJECT_ALREADY_EXISTS.getStatus(), response.getStatus()); // 적절한 상태 코드 수정
         assertEquals(ErrorCode.TOP_PROJECT_ALREADY_EXISTS.getMessage(), response.getMessage()); // 예외 메시지 수정
         Mockito.verify(projectRepository, never()).save(any(Project.class));
+        Mockito.verify(s3Adapter, never()).uploadFile(any(MultipartFile.class)); // 거절할 요청은 올리지 않는다.
     }
 
     @Test
@@ -205,9 +267,7 @@ class ProjectServiceTest {
                 "top",
                 false
         );
-        // stub - S3 upload 실패
-        when(s3Adapter.uploadFile(any(MultipartFile.class)))
-                .thenReturn(ApiResponse.ok("프로젝트를 성공적으로 등록하였습니다.", "http://example.com/testImage.jpg"));
+        // stub
         when(projectRepository.findByProjectType(requestDto.projectType())).thenReturn(List.of());
         // when
         List<MultipartFile> projectImages = List.of(mockFile);
@@ -217,6 +277,7 @@ class ProjectServiceTest {
         assertEquals(ErrorCode.PROJECT_TYPE_AND_IS_POSTED_MISMATCH.getStatus(), response.getStatus()); // 적절한 상태 코드 수정
         assertEquals(ErrorCode.PROJECT_TYPE_AND_IS_POSTED_MISMATCH.getMessage(), response.getMessage()); // 예외 메시지 수정
         Mockito.verify(projectRepository, never()).save(any(Project.class));
+        Mockito.verify(s3Adapter, never()).uploadFile(any(MultipartFile.class)); // 거절할 요청은 올리지 않는다.
     }
 
     @Test
@@ -244,9 +305,7 @@ class ProjectServiceTest {
                 .isPosted(true)
                 .projectType("main")
                 .build();
-        // stub - S3 upload 실패
-        when(s3Adapter.uploadFile(any(MultipartFile.class)))
-                .thenReturn(ApiResponse.ok("프로젝트를 성공적으로 등록하였습니다.", "http://example.com/testImage.jpg"));
+        // stub
         when(projectRepository.findByProjectType(requestDto.projectType())).thenReturn(List.of(mockProject, mockProject, mockProject, mockProject, mockProject));
         // when
         List<MultipartFile> projectImages = List.of(mockFile);
@@ -256,6 +315,7 @@ class ProjectServiceTest {
         assertEquals(ErrorCode.MAIN_PROJECT_LIMIT_EXCEEDED.getStatus(), response.getStatus()); // 적절한 상태 코드 수정
         assertEquals(ErrorCode.MAIN_PROJECT_LIMIT_EXCEEDED.getMessage(), response.getMessage()); // 예외 메시지 수정
         Mockito.verify(projectRepository, never()).save(any(Project.class));
+        Mockito.verify(s3Adapter, never()).uploadFile(any(MultipartFile.class)); // 거절할 요청은 올리지 않는다.
     }
 
     @Test
@@ -283,9 +343,7 @@ class ProjectServiceTest {
                 .isPosted(true)
                 .projectType("main")
                 .build();
-        // stub - S3 upload 실패
-        when(s3Adapter.uploadFile(any(MultipartFile.class)))
-                .thenReturn(ApiResponse.ok("프로젝트를 성공적으로 등록하였습니다.", "http://example.com/testImage.jpg"));
+        // stub
         when(projectRepository.findByProjectType(requestDto.projectType())).thenReturn(List.of(mockProject, mockProject, mockProject, mockProject));
         // when
         List<MultipartFile> projectImages = List.of(mockFile);
@@ -295,6 +353,70 @@ class ProjectServiceTest {
         assertEquals(ErrorCode.PROJECT_TYPE_AND_IS_POSTED_MISMATCH.getStatus(), response.getStatus()); // 적절한 상태 코드 수정
         assertEquals(ErrorCode.PROJECT_TYPE_AND_IS_POSTED_MISMATCH.getMessage(), response.getMessage()); // 예외 메시지 수정
         Mockito.verify(projectRepository, never()).save(any(Project.class));
+        Mockito.verify(s3Adapter, never()).uploadFile(any(MultipartFile.class)); // 거절할 요청은 올리지 않는다.
+    }
+
+    @Test
+    @DisplayName("Project 생성 실패 테스트 - 올리는 사이 TOP 프로젝트가 생기면 올린 이미지를 모두 지우는 경우")
+    void createProjectFail_topCreatedDuringUpload() throws IOException {
+        // given
+        CreateProjectServiceRequestDto requestDto = new CreateProjectServiceRequestDto(
+                "Test Department",
+                "Entertainment",
+                "Test Name",
+                "Test Client",
+                "2024-01-01",
+                "Test Link",
+                "Test Overview",
+                "top",
+                true
+        );
+        Project topProject = Project.builder()
+                .name("Top Name")
+                .isPosted(true)
+                .projectType("top")
+                .build();
+        // stub
+        when(projectRepository.findByProjectType("top")).thenReturn(List.of(), List.of(topProject));
+        when(s3Adapter.uploadFile(any(MultipartFile.class)))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "main url"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "responsive url"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "image url"));
+        // when
+        ApiResponse<Project> response = projectService.createProject(requestDto, mockFile, mockFile, List.of(mockFile));
+        // then
+        assertEquals(ErrorCode.TOP_PROJECT_ALREADY_EXISTS.getMessage(), response.getMessage());
+        Mockito.verify(s3Adapter, times(1)).discardFile("main url");
+        Mockito.verify(s3Adapter, times(1)).discardFile("responsive url");
+        Mockito.verify(s3Adapter, times(1)).discardFile("image url");
+        Mockito.verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("Project 생성 실패 테스트 - 저장이 롤백되면 올린 이미지를 모두 지우는 경우")
+    void createProjectFail_rollbackAfterSave() throws IOException {
+        // given
+        CreateProjectServiceRequestDto requestDto = new CreateProjectServiceRequestDto(
+                "Test Department",
+                "Entertainment",
+                "Test Name",
+                "Test Client",
+                "2024-01-01",
+                "Test Link",
+                "Test Overview",
+                "others",
+                true
+        );
+        // stub
+        when(s3Adapter.uploadFile(any(MultipartFile.class)))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "main url"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "responsive url"));
+        when(projectRepository.save(any(Project.class))).thenThrow(new IllegalStateException("db down"));
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> projectService.createProject(requestDto, mockFile, mockFile, null));
+        Mockito.verify(s3Adapter, times(1)).discardFile("main url");
+        Mockito.verify(s3Adapter, times(1)).discardFile("responsive url");
     }
 
     @Test
@@ -303,7 +425,7 @@ class ProjectServiceTest {
         // given
         Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "top", true);
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "top", true, null);
         // Mock existing images as MultipartFile
         List<MultipartFile> existingImages = List.of(mockFile);
         Project mockProject = Project.builder()
@@ -314,6 +436,7 @@ class ProjectServiceTest {
                 .link("Test Link")
                 .overView("Test Overview")
                 .isPosted(true)
+                .mainImg("http://example.com/testImage.jpg")
                 .projectType("main")
                 .build();
         List<ProjectImage> mockProjectImages = new ArrayList<>();
@@ -323,76 +446,9 @@ class ProjectServiceTest {
                 .imageUrlList(mockProject.getMainImg())
                 .build());
         mockProject.setProjectImages(mockProjectImages);
-        List<Project> mockProjectList = new ArrayList<>();
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(2)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(3)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(4)
-                .sequence(0)
-                .build());
         // stub
         when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(mockProject));
-        when(projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(mockProject.getMainSequence(), 999))
-                .thenReturn(mockProjectList);
-        when(s3Adapter.deleteFile(any(String.class))).thenReturn(
+        when(s3Adapter.releaseFile(any(String.class))).thenReturn(
                 ApiResponse.ok("S3 버킷에서 이미지를 성공적으로 삭제하였습니다.", "http://example.com/testImage.jpg"));
         when(s3Adapter.uploadFile(any(MultipartFile.class)))
                 .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "Updated Test ImageUrl"));
@@ -405,6 +461,7 @@ class ProjectServiceTest {
         assertEquals("프로젝트를 성공적으로 수정했습니다.", response.getMessage());
         assertEquals("Updated Test ImageUrl", mockProject.getMainImg());
         Mockito.verify(projectRepository, times(1)).save(any(Project.class));
+        Mockito.verify(projectRepository, times(1)).shiftMainSequencesAfter(any());
     }
 
     @Test
@@ -413,7 +470,7 @@ class ProjectServiceTest {
         // given
         Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true);
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true, null);
         // Mock existing images as MultipartFile
         List<MultipartFile> existingImages = List.of(mockFile);
         Project mockProject = Project.builder()
@@ -424,6 +481,7 @@ class ProjectServiceTest {
                 .link("Test Link")
                 .overView("Test Overview")
                 .isPosted(true)
+                .mainImg("http://example.com/testImage.jpg")
                 .projectType("top")
                 .build();
         List<ProjectImage> mockProjectImages = new ArrayList<>();
@@ -435,7 +493,7 @@ class ProjectServiceTest {
         mockProject.setProjectImages(mockProjectImages);
         // stub
         when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(mockProject));
-        when(s3Adapter.deleteFile(any(String.class))).thenReturn(
+        when(s3Adapter.releaseFile(any(String.class))).thenReturn(
                 ApiResponse.ok("S3 버킷에서 이미지를 성공적으로 삭제하였습니다.", "http://example.com/testImage.jpg"));
         when(s3Adapter.uploadFile(any(MultipartFile.class)))
                 .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "Updated Test ImageUrl"));
@@ -456,7 +514,7 @@ class ProjectServiceTest {
         // given
         Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true);
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true, null);
         // Mock existing images as MultipartFile
         List<MultipartFile> existingImages = List.of(mockFile);
         Project mockProject = Project.builder()
@@ -467,6 +525,7 @@ class ProjectServiceTest {
                 .link("Test Link")
                 .overView("Test Overview")
                 .isPosted(true)
+                .mainImg("http://example.com/testImage.jpg")
                 .projectType("main")
                 .build();
         List<ProjectImage> mockProjectImages = new ArrayList<>();
@@ -478,7 +537,7 @@ class ProjectServiceTest {
         mockProject.setProjectImages(mockProjectImages);
         // stub
         when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(mockProject));
-        when(s3Adapter.deleteFile(any(String.class))).thenReturn(
+        when(s3Adapter.releaseFile(any(String.class))).thenReturn(
                 ApiResponse.ok("S3 버킷에서 이미지를 성공적으로 삭제하였습니다.", "http://example.com/testImage.jpg"));
         when(s3Adapter.uploadFile(any(MultipartFile.class)))
                 .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "Updated Test ImageUrl"));
@@ -499,7 +558,7 @@ class ProjectServiceTest {
         // given
         Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "others", true);
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "others", true, null);
         // Mock existing images as MultipartFile
         List<MultipartFile> existingImages = List.of(mockFile);
         Project mockProject = Project.builder()
@@ -510,6 +569,7 @@ class ProjectServiceTest {
                 .link("Test Link")
                 .overView("Test Overview")
                 .isPosted(true)
+                .mainImg("http://example.com/testImage.jpg")
                 .projectType("main")
                 .build();
         List<ProjectImage> mockProjectImages = new ArrayList<>();
@@ -519,76 +579,9 @@ class ProjectServiceTest {
                 .imageUrlList(mockProject.getMainImg())
                 .build());
         mockProject.setProjectImages(mockProjectImages);
-        List<Project> mockProjectList = new ArrayList<>();
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(2)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(3)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(4)
-                .sequence(0)
-                .build());
         // stub
         when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(mockProject));
-        when(projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(mockProject.getMainSequence(), 999))
-                .thenReturn(mockProjectList);
-        when(s3Adapter.deleteFile(any(String.class))).thenReturn(
+        when(s3Adapter.releaseFile(any(String.class))).thenReturn(
                 ApiResponse.ok("S3 버킷에서 이미지를 성공적으로 삭제하였습니다.", "http://example.com/testImage.jpg"));
         when(s3Adapter.uploadFile(any(MultipartFile.class)))
                 .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "Updated Test ImageUrl"));
@@ -601,38 +594,210 @@ class ProjectServiceTest {
         assertEquals("프로젝트를 성공적으로 수정했습니다.", response.getMessage());
         assertEquals("Updated Test ImageUrl", mockProject.getMainImg());
         Mockito.verify(projectRepository, times(1)).save(any(Project.class));
+        Mockito.verify(projectRepository, times(1)).shiftMainSequencesAfter(any());
+    }
+
+    private Project projectWithImages(String... imageFileNames) {
+        Project project = Project.builder()
+                .name("Test Name")
+                .category("Entertainment")
+                .department("Test Department")
+                .date("2024-01-01")
+                .link("Test Link")
+                .overView("Test Overview")
+                .isPosted(true)
+                .projectType("others")
+                .mainImg("main url")
+                .mainImgFileName("main.jpg")
+                .responsiveMainImg("responsive url")
+                .responsiveMainImgFileName("responsive.jpg")
+                .mainSequence(999)
+                .sequence(0)
+                .build();
+        ReflectionTestUtils.setField(project, "id", 1L);
+        List<ProjectImage> projectImages = new ArrayList<>();
+        for (int i = 0; i < imageFileNames.length; i++) {
+            ProjectImage projectImage = ProjectImage.builder()
+                    .project(project)
+                    .fileName(imageFileNames[i])
+                    .imageUrlList(imageFileNames[i] + " url")
+                    .build();
+            ReflectionTestUtils.setField(projectImage, "id", 10L + i);
+            projectImages.add(projectImage);
+        }
+        project.setProjectImages(projectImages);
+        return project;
     }
 
     @Test
-    @DisplayName("Project 수정 실패 테스트 - mainImgFile이 비어있는 경우")
-    void updateProjectFail_emptyMainImgFile() throws IOException {
+    @DisplayName("Project 수정 성공 테스트 - 내용이 같은 이미지는 다시 올리거나 지우지 않는 경우")
+    void updateProjectSuccess_unchangedImages() throws IOException {
         // given
-        Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true);
+                1L, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "others", true, null);
+        Project mockProject = projectWithImages("testImage.jpg");
+        // stub
+        when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(mockProject));
+        when(s3Adapter.isSameContent(any(), any(MultipartFile.class))).thenReturn(true);
+        when(projectRepository.save(any(Project.class))).thenReturn(mockProject);
         // when
-        ApiResponse<Project> response = projectService.updateProject(requestDto, null, mockFile, List.of(mockFile));
+        ApiResponse<Project> response = projectService.updateProject(requestDto, mockFile, mockFile, List.of(mockFile));
         // then
-        assertNotNull(response);
-        assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getStatus(), response.getStatus());
-        assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getMessage(), response.getMessage());
-        Mockito.verify(projectRepository, never()).save(any(Project.class));
+        assertEquals("프로젝트를 성공적으로 수정했습니다.", response.getMessage());
+        assertEquals("main url", mockProject.getMainImg());
+        assertEquals(1, mockProject.getProjectImages().size());
+        assertEquals("testImage.jpg url", mockProject.getProjectImages().get(0).getImageUrlList());
+        Mockito.verify(s3Adapter, never()).uploadFile(any(MultipartFile.class));
+        Mockito.verify(s3Adapter, never()).releaseFile(any(String.class));
     }
 
     @Test
-    @DisplayName("Project 수정 실패 테스트 - responsiveMainImgFile이 비어있는 경우")
-    void updateProjectFail_emptyResponsiveMainImgFile() throws IOException {
+    @DisplayName("Project 수정 성공 테스트 - 유지할 기존 이미지 식별자로 이미지 목록을 다시 구성하는 경우")
+    void updateProjectSuccess_existingImageIds() throws IOException {
         // given
-        Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true);
+                1L, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "others", true, List.of(11L));
+        Project mockProject = projectWithImages("first.jpg", "second.jpg");
+        List<ProjectImage> imageRows = new ArrayList<>(mockProject.getProjectImages());
+        // stub
+        when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(mockProject));
+        when(s3Adapter.uploadFile(any(MultipartFile.class)))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "new url"));
+        when(projectRepository.save(any(Project.class))).thenReturn(mockProject);
         // when
-        ApiResponse<Project> response = projectService.updateProject(requestDto, mockFile, null, List.of(mockFile));
+        ApiResponse<Project> response = projectService.updateProject(requestDto, mockFile, mockFile, List.of(mockFile));
         // then
-        assertNotNull(response);
-        assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getStatus(), response.getStatus());
-        assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getMessage(), response.getMessage());
-        Mockito.verify(projectRepository, never()).save(any(Project.class));
+        assertEquals("프로젝트를 성공적으로 수정했습니다.", response.getMessage());
+        // 기존 행을 그대로 쓰면서 second.jpg가 앞으로, 새 이미지가 뒤로 온다.
+        assertEquals(2, mockProject.getProjectImages().size());
+        assertSame(imageRows.get(0), mockProject.getProjectImages().get(0));
+        assertEquals("second.jpg", imageRows.get(0).getFileName());
+        assertEquals("second.jpg url", imageRows.get(0).getImageUrlList());
+        assertEquals("testImage.jpg", imageRows.get(1).getFileName());
+        assertEquals("new url", imageRows.get(1).getImageUrlList());
+        Mockito.verify(s3Adapter, times(3)).uploadFile(any(MultipartFile.class)); // 메인, 반응형 메인, 새 이미지
+        Mockito.verify(s3Adapter, times(1)).releaseFile("first.jpg url");
+        Mockito.verify(s3Adapter, never()).releaseFile("second.jpg url");
+    }
+
+    @Test
+    @DisplayName("Project 수정 성공 테스트 - 이미지 순서가 바뀌어도 썸네일은 원본 이미지를 따라가는 경우")
+    void updateProjectSuccess_thumbnailsFollowImages() throws IOException {
+        // given
+        UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
+                1L, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "others", true, List.of(11L));
+        Project mockProject = projectWithImages("first.jpg", "second.jpg");
+        mockProject.setMainImgThumbnail("main thumbnail url");
+        mockProject.getProjectImages().get(0).setThumbnailUrl("first.jpg thumbnail url");
+        mockProject.getProjectImages().get(1).setThumbnailUrl("second.jpg thumbnail url");
+        List<ProjectImage> imageRows = new ArrayList<>(mockProject.getProjectImages());
+        // stub
+        when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(mockProject));
+        when(s3Adapter.uploadFile(any(MultipartFile.class)))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "new url"));
+        when(projectRepository.save(any(Project.class))).thenReturn(mockProject);
+        // when
+        ApiResponse<Project> response = projectService.updateProject(requestDto, mockFile, mockFile, List.of(mockFile));
+        // then
+        assertEquals("프로젝트를 성공적으로 수정했습니다.", response.getMessage());
+        assertNull(mockProject.getMainImgThumbnail()); // 메인 이미지가 바뀌었으므로 다시 만든다.
+        assertEquals("second.jpg thumbnail url", imageRows.get(0).getThumbnailUrl());
+        assertNull(imageRows.get(1).getThumbnailUrl());
+        Mockito.verify(projectImageVariantService, times(1)).requestThumbnails(mockProject);
+    }
+
+    @Test
+    @DisplayName("Project 수정 실패 테스트 - 올리는 사이 다른 요청이 이미지를 바꾸면 반영하지 않고 올린 이미지를 지우는 경우")
+    void updateProjectFail_imagesChangedDuringUpload() throws IOException {
+        // given
+        UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
+                1L, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "others", true, null);
+        Project planned = projectWithImages("first.jpg");
+        Project changed = projectWithImages("other.jpg");
+        // stub
+        when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(planned), Optional.of(changed));
+        when(s3Adapter.isSameContent(any(), any(MultipartFile.class))).thenReturn(true, true, false);
+        when(s3Adapter.uploadFile(any(MultipartFile.class)))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "new url"));
+        // when
+        ApiResponse<Project> response = projectService.updateProject(requestDto, mockFile, mockFile, List.of(mockFile));
+        // then
+        assertEquals(ErrorCode.PROJECT_IMAGES_CHANGED.getStatus(), response.getStatus());
+        assertEquals("other.jpg url", changed.getProjectImages().get(0).getImageUrlList());
+        Mockito.verify(s3Adapter, times(1)).discardFile("new url");
+        Mockito.verify(s3Adapter, never()).releaseFile(any(String.class));
+        Mockito.verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("Project 수정 실패 테스트 - 반영이 롤백되면 올린 이미지를 지우는 경우")
+    void updateProjectFail_rollbackAfterSave() throws IOException {
+        // given
+        UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
+                1L, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "others", true, null);
+        Project mockProject = projectWithImages();
+        // stub
+        when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(mockProject));
+        when(s3Adapter.uploadFile(any(MultipartFile.class)))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "new main url"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "new responsive url"));
+        when(projectRepository.save(any(Project.class))).thenThrow(new IllegalStateException("db down"));
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> projectService.updateProject(requestDto, mockFile, mockFile, null));
+        Mockito.verify(s3Adapter, times(1)).discardFile("new main url");
+        Mockito.verify(s3Adapter, times(1)).discardFile("new responsive url");
+    }
+
+    @Test
+    @DisplayName("Project 수정 실패 테스트 - 유효하지 않은 기존 이미지 식별자인 경우")
+    void updateProjectFail_invalidExistingImageId() throws IOException {
+        // given
+        UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
+                1L, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "others", true, List.of(99L));
+        Project mockProject = projectWithImages("first.jpg");
+        // stub
+        when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.of(mockProject));
+        // when
+        ApiResponse<Project> response = projectService.updateProject(requestDto, mockFile, mockFile, List.of(mockFile));
+        // then
+        assertEquals(ErrorCode.INVALID_PROJECT_IMAGE_ID.getStatus(), response.getStatus());
+        assertEquals(ErrorCode.INVALID_PROJECT_IMAGE_ID.getMessage(), response.getMessage());
+        Mockito.verify(s3Adapter, never()).uploadFile(any(MultipartFile.class));
+        Mockito.verify(s3Adapter, never()).releaseFile(any(String.class));
+        Mockito.verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("Project 수정 실패 테스트 - mainImgFile이 비어있는 경우")
+    void updateProjectFail_emptyMainImgFile() throws IOException {
+        // given
+        Long id = 1L;
+        UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true, null);
+        // when
+        ApiResponse<Project> response = projectService.updateProject(requestDto, null, mockFile, List.of(mockFile));
+        // then
+        assertNotNull(response);
+        assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getStatus(), response.getStatus());
+        assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getMessage(), response.getMessage());
+        Mockito.verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("Project 수정 실패 테스트 - responsiveMainImgFile이 비어있는 경우")
+    void updateProjectFail_emptyResponsiveMainImgFile() throws IOException {
+        // given
+        Long id = 1L;
+        UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true, null);
+        // when
+        ApiResponse<Project> response = projectService.updateProject(requestDto, mockFile, null, List.of(mockFile));
+        // then
+        assertNotNull(response);
+        assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getStatus(), response.getStatus());
+        assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getMessage(), response.getMessage());
+        Mockito.verify(projectRepository, never()).save(any(Project.class));
     }
 
     @Test
@@ -641,7 +806,7 @@ class ProjectServiceTest {
         // given
         Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true);
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true, null);
         // stub
         when(projectRepository.findById(requestDto.projectId())).thenReturn(Optional.empty());
         // when
@@ -659,7 +824,7 @@ class ProjectServiceTest {
         // given
         Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "invalidValue", true);
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "invalidValue", true, null);
         Project mockProject = Project.builder()
                 .name("Test Name")
                 .category("Entertainment")
@@ -684,7 +849,7 @@ class ProjectServiceTest {
         // given
         Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "top", true);
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "top", true, null);
         Project mockProject = Project.builder()
                 .name("Test Name")
                 .category("Entertainment")
@@ -724,7 +889,7 @@ class ProjectServiceTest {
         // given
         Long id = 1L;
         UpdateProjectServiceRequestDto requestDto = new UpdateProjectServiceRequestDto(
-                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true);
+                id, "Updated Department", "Entertainment", "Updated Name", "Updated Client", "2024-01-02", "Updated Link", "Updated Overview", "main", true, null);
         // Mock existing images as MultipartFile
         List<MultipartFile> existingImages = List.of(mockFile);
         Project mockProject = Project.builder()
@@ -909,77 +1074,11 @@ class ProjectServiceTest {
                 .projectType("main")
                 .mainSequence(0)
                 .build();
-        List<Project> mockProjectList = new ArrayList<>();
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(2)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(3)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(4)
-                .sequence(0)
-                .build());
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(mockProject.getMainSequence(), 999))
-                .thenReturn(mockProjectList);
         ApiResponse<Project> response = projectService.updateProjectType(dto);
         assertEquals("프로젝트 타입을 성공적으로 변경하였습니다.", response.getMessage());
         assertEquals(newType, mockProject.getProjectType()); // 타입이 변경되었는지 확인
+        Mockito.verify(projectRepository, times(1)).shiftMainSequencesAfter(0);
     }
 
     @Test
@@ -999,77 +1098,11 @@ class ProjectServiceTest {
                 .projectType("main")
                 .mainSequence(0)
                 .build();
-        List<Project> mockProjectList = new ArrayList<>();
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(2)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(3)
-                .sequence(0)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(4)
-                .sequence(0)
-                .build());
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(mockProject));
-        when(projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(mockProject.getMainSequence(), 999))
-                .thenReturn(mockProjectList);
         ApiResponse<Project> response = projectService.updateProjectType(dto);
         assertEquals("프로젝트 타입을 성공적으로 변경하였습니다.", response.getMessage());
         assertEquals(newType, mockProject.getProjectType()); // 타입이 변경되었는지 확인
+        Mockito.verify(projectRepository, times(1)).shiftMainSequencesAfter(0);
     }
 
     @Test
@@ -1216,78 +1249,148 @@ class ProjectServiceTest {
     }
 
     @Test
-    @DisplayName("프로젝트 삭제 성공 테스트")
-    void DeleteProjectSuccess() {
-        Long projectId = 1L;
-        Project project = Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainSequence(0)
-                .sequence(0)
-                .build();
-        List<ProjectImage> mockProjectImages = new ArrayList<>();
-        mockProjectImages.add(ProjectImage.builder()
-                .project(project)
-                .fileName(project.getName())
-                .imageUrlList(project.getMainImg())
-                .build());
-        project.setProjectImages(mockProjectImages);
-        List<Project> mockProjectList = new ArrayList<>();
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(1)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(2)
-                .sequence(2)
-                .build());
-        mockProjectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(3)
-                .sequence(3)
-                .build());
-        mockProjectList.add(Project.builder()
+    @DisplayName("프로젝트 이미지 스트리밍 추가 성공 테스트")
+    void appendProjectImageSuccess() {
+        // given
+        Project mockProject = projectWithImages("first.jpg");
+        InputStream inputStream = new ByteArrayInputStream("Test Image Content".getBytes());
+        // stub
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(mockProject));
+        when(s3StreamingUploader.upload(inputStream, "second.jpg", "image/jpeg"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "second.jpg url"));
+        when(projectRepository.save(mockProject)).thenReturn(mockProject);
+        // when
+        ApiResponse<Project> response = projectService.appendProjectImage(1L, "second.jpg", "image/jpeg", inputStream);
+        // then
+        assertEquals("프로젝트 이미지를 성공적으로 추가했습니다.", response.getMessage());
+        assertEquals(2, mockProject.getProjectImages().size());
+        assertEquals("second.jpg", mockProject.getProjectImages().get(1).getFileName());
+        assertEquals("second.jpg url", mockProject.getProjectImages().get(1).getImageUrlList());
+        Mockito.verify(eventPublisher, times(1)).publishEvent(new ProjectChangedEvent(1L));
+        Mockito.verify(s3Adapter, never()).discardFile(any());
+    }
+
+    @Test
+    @DisplayName("프로젝트 이미지 스트리밍 추가 실패 테스트 - 올리는 사이 프로젝트가 지워지면 올린 이미지를 지운다")
+    void appendProjectImageFail_deletedDuringUpload() {
+        // given
+        InputStream inputStream = new ByteArrayInputStream("Test Image Content".getBytes());
+        // stub
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(s3StreamingUploader.upload(inputStream, "second.jpg", "image/jpeg"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "second.jpg url"));
+        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+        // when
+        ApiResponse<Project> response = projectService.appendProjectImage(1L, "second.jpg", "image/jpeg", inputStream);
+        // then
+        assertEquals(ErrorCode.INVALID_PROJECT_ID.getStatus(), response.getStatus());
+        Mockito.verify(s3Adapter, times(1)).discardFile("second.jpg url");
+        Mockito.verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("프로젝트 이미지 스트리밍 추가 실패 테스트 - 저장에 실패하면 올린 이미지를 지운다")
+    void appendProjectImageFail_saveError() {
+        // given
+        Project mockProject = projectWithImages("first.jpg");
+        InputStream inputStream = new ByteArrayInputStream("Test Image Content".getBytes());
+        // stub
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(s3StreamingUploader.upload(inputStream, "second.jpg", "image/jpeg"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "second.jpg url"));
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(mockProject));
+        when(projectRepository.save(mockProject)).thenThrow(new IllegalStateException("db down"));
+        // when & then
+        assertThrows(IllegalStateException.class,
+                () -> projectService.appendProjectImage(1L, "second.jpg", "image/jpeg", inputStream));
+        Mockito.verify(s3Adapter, times(1)).discardFile("second.jpg url");
+    }
+
+    @Test
+    @DisplayName("프로젝트 이미지 스트리밍 추가 실패 테스트 - 없는 프로젝트면 올리지 않는다")
+    void appendProjectImageFail_invalidId() {
+        // given
+        InputStream inputStream = new ByteArrayInputStream("Test Image Content".getBytes());
+        // stub
+        when(projectRepository.existsById(1L)).thenReturn(false);
+        // when
+        ApiResponse<Project> response = projectService.appendProjectImage(1L, "second.jpg", "image/jpeg", inputStream);
+        // then
+        assertEquals(ErrorCode.INVALID_PROJECT_ID.getStatus(), response.getStatus());
+        Mockito.verify(s3StreamingUploader, never()).upload(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("프로젝트 이미지 스트리밍 추가 실패 테스트 - 업로드 실패")
+    void appendProjectImageFail_uploadError() {
+        // given
+        Project mockProject = projectWithImages("first.jpg");
+        InputStream inputStream = new ByteArrayInputStream("Test Image Content".getBytes());
+        // stub
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(s3StreamingUploader.upload(inputStream, "second.jpg", "image/jpeg"))
+                .thenReturn(ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT));
+        // when
+        ApiResponse<Project> response = projectService.appendProjectImage(1L, "second.jpg", "image/jpeg", inputStream);
+        // then
+        assertEquals(ErrorCode.ERROR_S3_UPDATE_OBJECT.getStatus(), response.getStatus());
+        assertEquals(1, mockProject.getProjectImages().size());
+        Mockito.verify(projectRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    @DisplayName("프로젝트 이미지 업로드 완료 성공 테스트")
+    void completeProjectImageUploadSuccess() {
+        // given
+        Project mockProject = projectWithImages("first.jpg");
+        // stub
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(mockProject));
+        when(s3PresignedUploader.complete("ticket"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", new UploadedFile("uploaded url", "uploaded.jpg")));
+        when(projectRepository.save(mockProject)).thenReturn(mockProject);
+        // when
+        ApiResponse<Project> response = projectService.completeProjectImageUpload(1L, "ticket");
+        // then
+        assertEquals("프로젝트 이미지를 성공적으로 추가했습니다.", response.getMessage());
+        assertEquals(2, mockProject.getProjectImages().size());
+        assertEquals("uploaded.jpg", mockProject.getProjectImages().get(1).getFileName());
+        assertEquals("uploaded url", mockProject.getProjectImages().get(1).getImageUrlList());
+    }
+
+    @Test
+    @DisplayName("프로젝트 이미지 업로드 완료 실패 테스트 - 유효하지 않은 ID")
+    void completeProjectImageUploadFail_invalidId() {
+        // stub
+        when(projectRepository.existsById(1L)).thenReturn(false);
+        // when
+        ApiResponse<Project> response = projectService.completeProjectImageUpload(1L, "ticket");
+        // then
+        assertEquals(ErrorCode.INVALID_PROJECT_ID.getStatus(), response.getStatus());
+        Mockito.verify(s3PresignedUploader, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("프로젝트 이미지 업로드 완료 실패 테스트 - 옮기는 사이 프로젝트가 지워지면 옮긴 이미지를 지운다")
+    void completeProjectImageUploadFail_deletedDuringCopy() {
+        // stub
+        when(projectRepository.existsById(1L)).thenReturn(true);
+        when(s3PresignedUploader.complete("ticket"))
+                .thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", new UploadedFile("uploaded url", "uploaded.jpg")));
+        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+        // when
+        ApiResponse<Project> response = projectService.completeProjectImageUpload(1L, "ticket");
+        // then
+        assertEquals(ErrorCode.INVALID_PROJECT_ID.getStatus(), response.getStatus());
+        Mockito.verify(s3Adapter, times(1)).discardFile("uploaded url");
+    }
+
+    @Test
+    @DisplayName("프로젝트 삭제 성공 테스트")
+    void DeleteProjectSuccess() {
+        Long projectId = 1L;
+        Project project = Project.builder()
                 .name("Test Name")
                 .category("Entertainment")
                 .department("Test Department")
@@ -1296,22 +1399,24 @@ class ProjectServiceTest {
                 .overView("Test Overview")
                 .isPosted(true)
                 .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(4)
-                .sequence(4)
+                .mainSequence(0)
+                .sequence(0)
+                .build();
+        List<ProjectImage> mockProjectImages = new ArrayList<>();
+        mockProjectImages.add(ProjectImage.builder()
+                .project(project)
+                .fileName(project.getName())
+                .imageUrlList(project.getMainImg())
                 .build());
+        project.setProjectImages(mockProjectImages);
         // stub
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(projectRepository.findAllBySequenceGreaterThan(0))
-                .thenReturn(mockProjectList);
-        when(projectRepository.findAllByMainSequenceGreaterThanAndMainSequenceNot(project.getMainSequence(), 999))
-                .thenReturn(mockProjectList);
         ApiResponse<String> response = projectService.deleteProject(projectId);
         assertEquals("프로젝트를 성공적으로 삭제했습니다.", response.getMessage());
         Mockito.verify(projectRepository, times(1)).delete(project);
+        Mockito.verify(eventPublisher, times(1)).publishEvent(new ProjectChangedEvent(projectId));
+        Mockito.verify(projectRepository, times(1)).shiftSequencesAfter(0);
+        Mockito.verify(projectRepository, times(1)).shiftMainSequencesAfter(project.getMainSequence());
     }
 
     @Test
@@ -1323,158 +1428,107 @@ class ProjectServiceTest {
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getStatus(), response.getStatus());
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getMessage(), response.getMessage());
         Mockito.verify(projectRepository, never()).delete(any(Project.class));
+        Mockito.verify(eventPublisher, never()).publishEvent(any(ProjectChangedEvent.class));
+    }
+
+    private ProjectRow projectRow(Long id, String projectType) {
+        return projectRow(id, projectType, 0);
+    }
+
+    private ProjectRow projectRow(Long id, String projectType, Integer sequence) {
+        return new ProjectRow(id, "Test Department", "Entertainment", "Test Name", "Test Client", "2024-01-01",
+                "Test Link", "Test Overview", projectType, true, "test url", "test.jpg",
+                "test url", "test.jpg", "thumbnail url", "thumbnail url", sequence, 0);
     }
 
     @Test
     @DisplayName("프로젝트 전체 조회 성공 테스트")
     void RetrieveAllArtworkProjectSuccess() {
-        List<Project> projects = new ArrayList<>();
-        projects.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("top")
-                .build());
-        when(projectRepository.findAllWithImagesAndOrderBySequenceAsc()).thenReturn(projects);
-        ApiResponse<List<Project>> response = projectService.retrieveAllArtworkProject();
+        List<ProjectRow> rows = List.of(projectRow(1L, "top"), projectRow(2L, "others"));
+        List<ProjectImageRow> imageRows = List.of(
+                new ProjectImageRow(1L, 10L, "image url 1", "image1.jpg", "thumbnail url 1"),
+                new ProjectImageRow(1L, 11L, "image url 2", "image2.jpg", "thumbnail url 2"));
+        when(projectRepository.findAllRowsOrderBySequenceAsc()).thenReturn(rows);
+        when(projectRepository.findImageRowsByProjectIdIn(List.of(1L, 2L))).thenReturn(imageRows);
+        ApiResponse<List<ProjectResponse>> response = projectService.retrieveAllArtworkProject();
         assertNotNull(response);
         assertNotNull(response.getData());
         assertEquals("프로젝트 목록을 성공적으로 조회했습니다.", response.getMessage());
-        assertEquals(projects, response.getData()); // 프로젝트 목록이 반환되었는지 확인
-        Mockito.verify(projectRepository, times(1)).findAllWithImagesAndOrderBySequenceAsc();
+        assertEquals(2, response.getData().size());
+        assertEquals(2, response.getData().get(0).projectImages().size()); // 이미지가 프로젝트별로 묶였는지 확인
+        assertEquals("image url 1", response.getData().get(0).projectImages().get(0).imageUrlList());
+        assertTrue(response.getData().get(1).projectImages().isEmpty());
+        Mockito.verify(projectRepository, times(1)).findAllRowsOrderBySequenceAsc();
+        Mockito.verify(projectRepository, times(1)).findImageRowsByProjectIdIn(any());
     }
 
     @Test
     @DisplayName("프로젝트 전체 조회 실패 테스트 - 프로젝트가 없는 경우")
     void RetrieveAllArtworkProjectFail() {
-        when(projectRepository.findAllWithImagesAndOrderBySequenceAsc()).thenReturn(new ArrayList<>());
-        ApiResponse<List<Project>> response = projectService.retrieveAllArtworkProject();
+        when(projectRepository.findAllRowsOrderBySequenceAsc()).thenReturn(new ArrayList<>());
+        ApiResponse<List<ProjectResponse>> response = projectService.retrieveAllArtworkProject();
         assertNotNull(response);
         assertNull(response.getData());
         assertEquals("프로젝트가 존재하지 않습니다.", response.getMessage());
-        Mockito.verify(projectRepository, times(1)).findAllWithImagesAndOrderBySequenceAsc();
+        Mockito.verify(projectRepository, times(1)).findAllRowsOrderBySequenceAsc();
+        Mockito.verify(projectRepository, never()).findImageRowsByProjectIdIn(any());
     }
 
     @Test
     @DisplayName("메인 프로젝트 전체 조회 성공 테스트")
     void RetrieveAllMainProjectSuccess() {
-        List<Project> projects = new ArrayList<>();
-        projects.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .build());
-        List<Project> topProjects = new ArrayList<>();
-        topProjects.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .build());
-        when(projectRepository.findAllWithImagesAndOrderByMainSequenceAsc()).thenReturn(projects);
-        when(projectRepository.findByProjectType("top")).thenReturn(topProjects);
-        ApiResponse<List<Project>> response = projectService.retrieveAllMainProject();
+        // mainSequence 순으로 읽혀도 top 프로젝트가 맨 앞에 와야 한다.
+        List<ProjectRow> rows = List.of(projectRow(1L, "main"), projectRow(2L, "top"), projectRow(3L, "main"));
+        when(projectRepository.findMainPageRows()).thenReturn(rows);
+        when(projectRepository.findImageRowsByProjectIdIn(any())).thenReturn(new ArrayList<>());
+        ApiResponse<List<ProjectResponse>> response = projectService.retrieveAllMainProject();
         assertEquals("프로젝트 목록을 성공적으로 조회했습니다.", response.getMessage());
-        assertEquals(1 + projects.size(), response.getData().size());
+        assertEquals(3, response.getData().size());
+        assertEquals(2L, response.getData().get(0).id());
+        assertEquals(1L, response.getData().get(1).id());
+        assertEquals(3L, response.getData().get(2).id());
     }
 
     @Test
     @DisplayName("메인 프로젝트 전체 조회 실패 테스트 - 프로젝트가 없는 경우")
     void RetrieveAllMainProjectFail() {
-        when(projectRepository.findAllWithImagesAndOrderByMainSequenceAsc()).thenReturn(new ArrayList<>());
-        ApiResponse<List<Project>> response = projectService.retrieveAllMainProject();
+        when(projectRepository.findMainPageRows()).thenReturn(List.of(projectRow(1L, "top")));
+        ApiResponse<List<ProjectResponse>> response = projectService.retrieveAllMainProject();
         assertEquals("프로젝트가 존재하지 않습니다.", response.getMessage());
+        Mockito.verify(projectRepository, never()).findImageRowsByProjectIdIn(any());
     }
 
     @Test
     @DisplayName("단일 프로젝트 조회 성공 테스트")
     void RetrieveProjectSuccess() {
         Long projectId = 1L;
-        Project project = Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(0)
-                .sequence(0)
-                .build();
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        ApiResponse<Project> response = projectService.retrieveProject(projectId);
+        ProjectRow row = projectRow(projectId, "main");
+        List<ProjectImageRow> imageRows = List.of(new ProjectImageRow(projectId, 10L, "image url", "image.jpg", "thumbnail url"));
+        when(projectRepository.findRowById(projectId)).thenReturn(Optional.of(row));
+        when(projectRepository.findImageRowsByProjectIdIn(List.of(projectId))).thenReturn(imageRows);
+        ApiResponse<ProjectResponse> response = projectService.retrieveProject(projectId);
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("프로젝트를 성공적으로 조회했습니다.", response.getMessage());
-        assertEquals(project, response.getData());
-        Mockito.verify(projectRepository, times(1)).findById(any(Long.class));
+        assertEquals(projectId, response.getData().id());
+        assertEquals(row.name(), response.getData().name());
+        assertEquals(1, response.getData().projectImages().size());
+        Mockito.verify(projectRepository, times(1)).findRowById(any(Long.class));
     }
 
     @Test
     @DisplayName("단일 프로젝트 조회 실패 테스트 - 유효하지 않은 ID")
     void RetrieveProjectFail() {
         Long projectId = 999L; // 유효하지 않은 ID
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
-        ApiResponse<Project> response = projectService.retrieveProject(projectId);
+        when(projectRepository.findRowById(projectId)).thenReturn(Optional.empty());
+        ApiResponse<ProjectResponse> response = projectService.retrieveProject(projectId);
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getStatus(), response.getStatus());
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getMessage(), response.getMessage());
-        Mockito.verify(projectRepository, times(1)).findById(any(Long.class));
+        Mockito.verify(projectRepository, times(1)).findRowById(any(Long.class));
+        Mockito.verify(projectRepository, never()).findImageRowsByProjectIdIn(any());
     }
 
-    @Test
-    @DisplayName("Artwork Page 프로젝트 순서 변경 성공 테스트")
-    void changeSequenceProjectSuccess() {
-        // given
-        Project project1 = Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build();
-        Project project2 = Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build();
-        Project project3 = Project.builder()
+    private Project sequencedProject(Long id, String projectType, int sequence, int mainSequence) {
+        Project project = Project.builder()
                 .name("Test Name")
                 .category("Entertainment")
                 .department("Test Department")
@@ -1482,208 +1536,176 @@ class ProjectServiceTest {
                 .link("Test Link")
                 .overView("Test Overview")
                 .isPosted(true)
-                .projectType("main")
+                .projectType(projectType)
                 .mainImg("test url")
                 .mainImgFileName(mockFile.getName())
                 .responsiveMainImg("test url")
                 .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
+                .mainSequence(mainSequence)
+                .sequence(sequence)
                 .build();
+        ReflectionTestUtils.setField(project, "id", id);
+        return project;
+    }
+
+    private List<ChangeSequenceProjectReq> changeSequenceRequests(long[][] idAndSequences) {
         List<ChangeSequenceProjectReq> changeSequenceProjectReqList = new ArrayList<>();
-        ChangeSequenceProjectReq req1 = new ChangeSequenceProjectReq();
-        req1.setProjectId(0L);
-        req1.setSequence(1);
-        changeSequenceProjectReqList.add(req1);
-        ChangeSequenceProjectReq req2 = new ChangeSequenceProjectReq();
-        req2.setProjectId(1L);
-        req2.setSequence(2);
-        changeSequenceProjectReqList.add(req2);
-        ChangeSequenceProjectReq req3 = new ChangeSequenceProjectReq();
-        req3.setProjectId(2L);
-        req3.setSequence(0);
-        changeSequenceProjectReqList.add(req3);
+        for (long[] idAndSequence : idAndSequences) {
+            ChangeSequenceProjectReq req = new ChangeSequenceProjectReq();
+            req.setProjectId(idAndSequence[0]);
+            req.setSequence((int) idAndSequence[1]);
+            changeSequenceProjectReqList.add(req);
+        }
+        return changeSequenceProjectReqList;
+    }
+
+    private List<ChangeMainSequenceProjectReq> changeMainSequenceRequests(long[][] idAndMainSequences) {
+        List<ChangeMainSequenceProjectReq> changeMainSequenceProjectReqList = new ArrayList<>();
+        for (long[] idAndMainSequence : idAndMainSequences) {
+            ChangeMainSequenceProjectReq req = new ChangeMainSequenceProjectReq();
+            req.setProjectId(idAndMainSequence[0]);
+            req.setMainSequence((int) idAndMainSequence[1]);
+            changeMainSequenceProjectReqList.add(req);
+        }
+        return changeMainSequenceProjectReqList;
+    }
+
+    @Test
+    @DisplayName("Artwork Page 프로젝트 순서 변경 성공 테스트")
+    void changeSequenceProjectSuccess() {
+        // given
+        List<Project> projects = List.of(
+                sequencedProject(0L, "main", 0, 1),
+                sequencedProject(1L, "main", 1, 2),
+                sequencedProject(2L, "others", 2, 999));
+        List<ChangeSequenceProjectReq> changeSequenceProjectReqList = changeSequenceRequests(new long[][]{{0L, 1}, {1L, 2}, {2L, 0}});
         // stub
-        when(projectRepository.findById(req1.getProjectId())).thenReturn(Optional.of(project1));
-        when(projectRepository.findById(req2.getProjectId())).thenReturn(Optional.of(project2));
-        when(projectRepository.findById(req3.getProjectId())).thenReturn(Optional.of(project3));
+        when(projectRepository.findAllById(any())).thenReturn(projects);
         // when
         ApiResponse<String> response = projectService.changeSequenceProject(changeSequenceProjectReqList);
         // then
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("아트워크 페이지에 보여질 프로젝트의 순서를 성공적으로 수정하였습니다.", response.getMessage());
-        Mockito.verify(projectRepository, times(3)).findById(any(Long.class));
+        Mockito.verify(projectRepository, times(1)).findAllById(any());
+        Mockito.verify(projectRepository, times(1)).updateSequences(Map.of(0L, 1, 1L, 2, 2L, 0));
+        Mockito.verify(projectRepository, never()).findById(any(Long.class));
+        Mockito.verify(eventPublisher, times(1)).publishEvent(any(ProjectChangedEvent.class));
     }
 
     @Test
     @DisplayName("Artwork Page 프로젝트 순서 변경 실패 테스트 - 유효하지 않은 ID")
     void changeSequenceProjectFail_invalidID() {
         // given
-        List<ChangeSequenceProjectReq> changeSequenceProjectReqList = new ArrayList<>();
-        ChangeSequenceProjectReq req1 = new ChangeSequenceProjectReq();
-        req1.setProjectId(0L);
-        req1.setSequence(1);
-        changeSequenceProjectReqList.add(req1);
-        ChangeSequenceProjectReq req2 = new ChangeSequenceProjectReq();
-        req2.setProjectId(1L);
-        req2.setSequence(2);
-        changeSequenceProjectReqList.add(req2);
-        ChangeSequenceProjectReq req3 = new ChangeSequenceProjectReq();
-        req3.setProjectId(2L);
-        req3.setSequence(0);
-        changeSequenceProjectReqList.add(req3);
+        List<ChangeSequenceProjectReq> changeSequenceProjectReqList = changeSequenceRequests(new long[][]{{0L, 1}, {1L, 2}, {2L, 0}});
         // stub
-        when(projectRepository.findById(req1.getProjectId())).thenReturn(Optional.empty());
+        when(projectRepository.findAllById(any())).thenReturn(List.of(sequencedProject(1L, "main", 1, 2)));
         // when
         ApiResponse<String> response = projectService.changeSequenceProject(changeSequenceProjectReqList);
         // then
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getStatus(), response.getStatus());
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getMessage(), response.getMessage());
+        Mockito.verify(projectRepository, never()).updateSequences(any());
+        Mockito.verify(eventPublisher, never()).publishEvent(any(ProjectChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Artwork Page 프로젝트 순서 변경 성공 테스트 - 기존 순서 값이 중복되거나 비어 있어도 요청한 순서로 바꾼다")
+    void changeSequenceProjectSuccess_irregularSequences() {
+        // given
+        List<Project> projects = List.of(
+                sequencedProject(0L, "main", 3, 1),
+                sequencedProject(1L, "main", 3, 2),
+                sequencedProject(2L, "others", 7, 999));
+        List<ChangeSequenceProjectReq> changeSequenceProjectReqList = changeSequenceRequests(new long[][]{{0L, 1}, {1L, 2}, {2L, 3}});
+        // stub
+        when(projectRepository.findAllById(any())).thenReturn(projects);
+        // when
+        ApiResponse<String> response = projectService.changeSequenceProject(changeSequenceProjectReqList);
+        // then
+        assertEquals(HttpStatus.OK, response.getStatus());
+        Mockito.verify(projectRepository, times(1)).updateSequences(Map.of(0L, 1, 1L, 2, 2L, 3));
+    }
+
+    @Test
+    @DisplayName("Artwork Page 프로젝트 순서 변경 실패 테스트 - 순서 값이 비어 있는 경우")
+    void changeSequenceProjectFail_nullSequence() {
+        // given
+        List<ChangeSequenceProjectReq> changeSequenceProjectReqList = changeSequenceRequests(new long[][]{{0L, 1}});
+        changeSequenceProjectReqList.get(0).setSequence(null);
+        // when
+        ApiResponse<String> response = projectService.changeSequenceProject(changeSequenceProjectReqList);
+        // then
+        assertEquals(ErrorCode.INVALID_PROJECT_SEQUENCE.getStatus(), response.getStatus());
+        Mockito.verify(projectRepository, never()).findAllById(any());
+        Mockito.verify(projectRepository, never()).updateSequences(any());
+    }
+
+    @Test
+    @DisplayName("Artwork Page 프로젝트 순서 변경 실패 테스트 - 같은 프로젝트가 중복된 경우")
+    void changeSequenceProjectFail_duplicatedProject() {
+        // given
+        List<ChangeSequenceProjectReq> changeSequenceProjectReqList = changeSequenceRequests(new long[][]{{0L, 1}, {0L, 0}});
+        // when
+        ApiResponse<String> response = projectService.changeSequenceProject(changeSequenceProjectReqList);
+        // then
+        assertEquals(ErrorCode.INVALID_PROJECT_SEQUENCE.getStatus(), response.getStatus());
+        assertEquals(ErrorCode.INVALID_PROJECT_SEQUENCE.getMessage(), response.getMessage());
+        Mockito.verify(projectRepository, never()).findAllById(any());
     }
 
     @Test
     @DisplayName("Main Page 프로젝트 순서 변경 성공 테스트")
     void changeMainSequenceProjectSuccess() {
         // given
-        Project project1 = Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build();
-        Project project2 = Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build();
-        Project project3 = Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("main")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build();
-        List<ChangeMainSequenceProjectReq> changeMainSequenceProjectReqList = new ArrayList<>();
-        ChangeMainSequenceProjectReq req1 = new ChangeMainSequenceProjectReq();
-        req1.setProjectId(0L);
-        req1.setMainSequence(1);
-        changeMainSequenceProjectReqList.add(req1);
-        ChangeMainSequenceProjectReq req2 = new ChangeMainSequenceProjectReq();
-        req2.setProjectId(1L);
-        req2.setMainSequence(2);
-        changeMainSequenceProjectReqList.add(req2);
-        ChangeMainSequenceProjectReq req3 = new ChangeMainSequenceProjectReq();
-        req3.setProjectId(2L);
-        req3.setMainSequence(0);
-        changeMainSequenceProjectReqList.add(req3);
+        List<Project> projects = List.of(
+                sequencedProject(0L, "main", 0, 0),
+                sequencedProject(1L, "main", 1, 1),
+                sequencedProject(2L, "main", 2, 2));
+        List<ChangeMainSequenceProjectReq> changeMainSequenceProjectReqList = changeMainSequenceRequests(new long[][]{{0L, 1}, {1L, 2}, {2L, 0}});
         // stub
-        when(projectRepository.findById(req1.getProjectId())).thenReturn(Optional.of(project1));
-        when(projectRepository.findById(req2.getProjectId())).thenReturn(Optional.of(project2));
-        when(projectRepository.findById(req3.getProjectId())).thenReturn(Optional.of(project3));
+        when(projectRepository.findAllById(any())).thenReturn(projects);
         // when
         ApiResponse<String> response = projectService.changeMainSequenceProject(changeMainSequenceProjectReqList);
         // then
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("메인 페이지에 보여질 프로젝트의 순서를 성공적으로 수정하였습니다.", response.getMessage());
-        Mockito.verify(projectRepository, times(3)).findById(any(Long.class));
+        Mockito.verify(projectRepository, times(1)).findAllById(any());
+        Mockito.verify(projectRepository, times(1)).updateMainSequences(Map.of(0L, 1, 1L, 2, 2L, 0));
+        Mockito.verify(eventPublisher, times(1)).publishEvent(any(ProjectChangedEvent.class));
     }
 
     @Test
     @DisplayName("Main Page 프로젝트 순서 변경 실패 테스트 - 유효하지 않은 ID")
     void changeMainSequenceProjectFail_invalidID() {
         // given
-        List<ChangeMainSequenceProjectReq> changeMainSequenceProjectReqList = new ArrayList<>();
-        ChangeMainSequenceProjectReq req1 = new ChangeMainSequenceProjectReq();
-        req1.setProjectId(0L);
-        req1.setMainSequence(1);
-        changeMainSequenceProjectReqList.add(req1);
-        ChangeMainSequenceProjectReq req2 = new ChangeMainSequenceProjectReq();
-        req2.setProjectId(1L);
-        req2.setMainSequence(2);
-        changeMainSequenceProjectReqList.add(req2);
-        ChangeMainSequenceProjectReq req3 = new ChangeMainSequenceProjectReq();
-        req3.setProjectId(2L);
-        req3.setMainSequence(0);
-        changeMainSequenceProjectReqList.add(req3);
+        List<ChangeMainSequenceProjectReq> changeMainSequenceProjectReqList = changeMainSequenceRequests(new long[][]{{0L, 1}, {1L, 2}, {2L, 0}});
         // stub
-        when(projectRepository.findById(req1.getProjectId())).thenReturn(Optional.empty());
+        when(projectRepository.findAllById(any())).thenReturn(new ArrayList<>());
         // when
         ApiResponse<String> response = projectService.changeMainSequenceProject(changeMainSequenceProjectReqList);
         // then
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getStatus(), response.getStatus());
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getMessage(), response.getMessage());
+        Mockito.verify(projectRepository, never()).updateMainSequences(any());
     }
 
     @Test
     @DisplayName("Main Page 프로젝트 순서 변경 실패 테스트 - main type이 아닌 경우")
     void changeMainSequenceProjectFail_invalidProjectType() {
         // given
-        Project project1 = Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("others")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build();
-        List<ChangeMainSequenceProjectReq> changeMainSequenceProjectReqList = new ArrayList<>();
-        ChangeMainSequenceProjectReq req1 = new ChangeMainSequenceProjectReq();
-        req1.setProjectId(0L);
-        req1.setMainSequence(1);
-        changeMainSequenceProjectReqList.add(req1);
-        ChangeMainSequenceProjectReq req2 = new ChangeMainSequenceProjectReq();
-        req2.setProjectId(1L);
-        req2.setMainSequence(2);
-        changeMainSequenceProjectReqList.add(req2);
-        ChangeMainSequenceProjectReq req3 = new ChangeMainSequenceProjectReq();
-        req3.setProjectId(2L);
-        req3.setMainSequence(0);
-        changeMainSequenceProjectReqList.add(req3);
+        List<Project> projects = List.of(
+                sequencedProject(0L, "others", 0, 999),
+                sequencedProject(1L, "main", 1, 1),
+                sequencedProject(2L, "main", 2, 2));
+        List<ChangeMainSequenceProjectReq> changeMainSequenceProjectReqList = changeMainSequenceRequests(new long[][]{{0L, 1}, {1L, 2}, {2L, 0}});
         // stub
-        when(projectRepository.findById(req1.getProjectId())).thenReturn(Optional.of(project1));
+        when(projectRepository.findAllById(any())).thenReturn(projects);
         // when
         ApiResponse<String> response = projectService.changeMainSequenceProject(changeMainSequenceProjectReqList);
         // then
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getStatus(), response.getStatus());
         assertEquals(ErrorCode.INVALID_PROJECT_ID.getMessage(), response.getMessage());
+        Mockito.verify(projectRepository, never()).updateMainSequences(any());
     }
 
     @Test
@@ -1693,97 +1715,87 @@ class ProjectServiceTest {
         int page = 0;
         int size = 2;
         Pageable pageable = PageRequest.of(page, size);
-        List<Project> projectList = new ArrayList<>();
-        projectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("others")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build());
-        projectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("others")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build());
-        projectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("others")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build());
-        projectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("others")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build());
-        projectList.add(Project.builder()
-                .name("Test Name")
-                .category("Entertainment")
-                .department("Test Department")
-                .date("2024-01-01")
-                .link("Test Link")
-                .overView("Test Overview")
-                .isPosted(true)
-                .projectType("others")
-                .mainImg("test url")
-                .mainImgFileName(mockFile.getName())
-                .responsiveMainImg("test url")
-                .responsiveMainImgFileName(mockFile.getName())
-                .mainSequence(1)
-                .sequence(0)
-                .build());
-        Page<Project> projectPage = new PageImpl<>(projectList, pageable, projectList.size());
+        List<ProjectRow> rowList = List.of(projectRow(1L, "others"), projectRow(2L, "others"));
+        Slice<ProjectRow> rowSlice = new SliceImpl<>(rowList, pageable, true);
         // stub
-        when(projectRepository.findAll(pageable)).thenReturn(projectPage);
+        when(projectRepository.findRowSlice(pageable)).thenReturn(rowSlice);
+        when(projectRepository.findImageRowsByProjectIdIn(List.of(1L, 2L))).thenReturn(new ArrayList<>());
+        when(projectRepository.count()).thenReturn(5L);
         // when
-        Page<Project> response = projectService.retrieveArtworkProjectPage(page, size);
+        ProjectPageResponse response = projectService.retrieveArtworkProjectPage(page, size, null);
         // then
         assertNotNull(response);
-        assertEquals(response.getNumber(), page);
-        assertEquals(response.getSize(), size);
-        Mockito.verify(projectRepository, times(1)).findAll(pageable);
+        assertEquals(page, response.number());
+        assertEquals(size, response.size());
+        assertEquals(5, response.totalElements());
+        assertEquals(3, response.totalPages());
+        assertEquals(2, response.content().size());
+        assertEquals(2, response.numberOfElements());
+        assertTrue(response.first());
+        assertFalse(response.last());
+        assertFalse(response.empty());
+        assertEquals(new ProjectPageCursor(1, 0, 2L, 5L), ProjectPageCursor.decode(response.nextCursor()));
+        Mockito.verify(projectRepository, times(1)).findRowSlice(pageable);
+        Mockito.verify(projectRepository, times(1)).findImageRowsByProjectIdIn(any());
+    }
+
+    @Test
+    @DisplayName("프로젝트 페이지네이션 조회 성공 테스트 - 이어보기 토큰으로 다음 페이지 조회")
+    void retrieveArtworkProjectPageSuccess_cursor() {
+        // given
+        int size = 2;
+        String cursor = new ProjectPageCursor(2, 3, 4L, 5L).encode();
+        List<ProjectRow> rowList = List.of(projectRow(5L, "others"));
+        Slice<ProjectRow> rowSlice = new SliceImpl<>(rowList, PageRequest.of(0, size), false);
+        // stub
+        when(projectRepository.findRowSliceAfter(3, 4L, PageRequest.of(0, size))).thenReturn(rowSlice);
+        when(projectRepository.findImageRowsByProjectIdIn(List.of(5L))).thenReturn(new ArrayList<>());
+        // when
+        ProjectPageResponse response = projectService.retrieveArtworkProjectPage(0, size, cursor);
+        // then
+        assertEquals(2, response.number());
+        assertEquals(1, response.content().size());
+        assertEquals(5, response.totalElements());
+        assertEquals(3, response.totalPages());
+        assertFalse(response.first());
+        assertTrue(response.last());
+        assertNull(response.nextCursor());
+        Mockito.verify(projectRepository, never()).findRowSlice(any());
+        Mockito.verify(projectRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("프로젝트 페이지네이션 조회 성공 테스트 - sequence가 없는 행에서 끝난 페이지를 이어서 조회")
+    void retrieveArtworkProjectPageSuccess_nullSequenceCursor() {
+        // given
+        int size = 1;
+        Pageable pageable = PageRequest.of(0, size);
+        ProjectRow unsequenced = projectRow(7L, "others", null);
+        // stub
+        when(projectRepository.findRowSlice(pageable)).thenReturn(new SliceImpl<>(List.of(unsequenced), pageable, true));
+        when(projectRepository.findRowSliceAfterNullSequence(7L, pageable))
+                .thenReturn(new SliceImpl<>(List.of(projectRow(1L, "others")), pageable, false));
+        when(projectRepository.findImageRowsByProjectIdIn(any())).thenReturn(new ArrayList<>());
+        when(projectRepository.count()).thenReturn(2L);
+        // when
+        ProjectPageResponse first = projectService.retrieveArtworkProjectPage(0, size, null);
+        ProjectPageResponse second = projectService.retrieveArtworkProjectPage(0, size, first.nextCursor());
+        // then
+        assertEquals(new ProjectPageCursor(1, null, 7L, 2L), ProjectPageCursor.decode(first.nextCursor()));
+        assertEquals(1L, second.content().get(0).id());
+        assertTrue(second.last());
+        Mockito.verify(projectRepository, never()).findRowSliceAfter(any(), any(), any());
+        Mockito.verify(projectRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("프로젝트 페이지네이션 조회 실패 테스트 - 잘못된 이어보기 토큰인 경우")
+    void retrieveArtworkProjectPageFail_invalidCursor() {
+        // when & then
+        Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> projectService.retrieveArtworkProjectPage(0, 10, "not-a-cursor"));
+        assertEquals("Invalid project page cursor", exception.getMessage());
+        Mockito.verify(projectRepository, never()).findRowSliceAfter(any(), any(), any());
     }
 
     @Test
@@ -1794,7 +1806,7 @@ class ProjectServiceTest {
         int size = 10;
         // when & then
         Exception exception = assertThrows(IllegalArgumentException.class,
-                () -> projectService.retrieveArtworkProjectPage(page, size));
+                () -> projectService.retrieveArtworkProjectPage(page, size, null));
         assertEquals("Page index must not be less than zero", exception.getMessage());
     }
 
@@ -1806,7 +1818,7 @@ class ProjectServiceTest {
         int size = 0; // 잘못된 크기
         // when & then
         Exception exception = assertThrows(IllegalArgumentException.class,
-                () -> projectService.retrieveArtworkProjectPage(page, size));
+                () -> projectService.retrieveArtworkProjectPage(page, size, null));
         assertEquals("Page size must not be less than one", exception.getMessage());
     }
 }
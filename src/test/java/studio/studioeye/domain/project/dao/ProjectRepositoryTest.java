@@ -0,0 +1,127 @@
+package studio.studioeye.domain.project.dao;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import studio.studioeye.domain.project.domain.Project;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class ProjectRepositoryTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("순서 일괄 변경 테스트 - 요청한 프로젝트만 CASE 한 번으로 바꾸고 나머지는 그대로 둔다")
+    void updateSequences() {
+        // given
+        Project first = save(3, 1);
+        Project second = save(3, 2);
+        Project untouched = save(7, 3);
+        Map<Long, Integer> sequenceById = new LinkedHashMap<>();
+        sequenceById.put(first.getId(), 2);
+        sequenceById.put(second.getId(), 1);
+        // when
+        int updated = projectRepository.updateSequences(sequenceById);
+        entityManager.clear();
+        // then
+        assertEquals(2, updated);
+        assertEquals(2, projectRepository.findById(first.getId()).orElseThrow().getSequence());
+        assertEquals(1, projectRepository.findById(second.getId()).orElseThrow().getSequence());
+        assertEquals(7, projectRepository.findById(untouched.getId()).orElseThrow().getSequence());
+        assertEquals(1, projectRepository.findById(first.getId()).orElseThrow().getMainSequence());
+    }
+
+    @Test
+    @DisplayName("메인 순서 일괄 변경 테스트 - mainSequence만 바꾼다")
+    void updateMainSequences() {
+        // given
+        Project first = save(1, 1);
+        Project second = save(2, 2);
+        // when
+        projectRepository.updateMainSequences(Map.of(first.getId(), 2, second.getId(), 1));
+        entityManager.clear();
+        // then
+        assertEquals(2, projectRepository.findById(first.getId()).orElseThrow().getMainSequence());
+        assertEquals(1, projectRepository.findById(second.getId()).orElseThrow().getMainSequence());
+        assertEquals(1, projectRepository.findById(first.getId()).orElseThrow().getSequence());
+    }
+
+    @Test
+    @DisplayName("순서 일괄 변경 테스트 - 같은 트랜잭션에서 먼저 바꾼 엔티티를 반영한 뒤 UPDATE한다")
+    void updateSequences_flushesPendingChanges() {
+        // given
+        Project project = save(1, 1);
+        project.setName("renamed");
+        // when
+        projectRepository.updateSequences(Map.of(project.getId(), 5));
+        entityManager.clear();
+        // then
+        Project reloaded = projectRepository.findById(project.getId()).orElseThrow();
+        assertEquals("renamed", reloaded.getName());
+        assertEquals(5, reloaded.getSequence());
+    }
+
+    @Test
+    @DisplayName("keyset 조회 테스트 - (sequence, id) 순으로 빠짐없이 이어서 읽고, sequence가 없는 행은 맨 앞에 온다")
+    void findRowSliceAfter() {
+        // given
+        Project unsequenced = save(null, 0);
+        Project a = save(1, 0);
+        Project b = save(1, 0);
+        Project c = save(2, 0);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+        // when
+        Slice<ProjectRow> firstPage = projectRepository.findRowSlice(pageRequest);
+        ProjectRow last = firstPage.getContent().get(1);
+        Slice<ProjectRow> secondPage = projectRepository.findRowSliceAfter(last.sequence(), last.id(), pageRequest);
+        // then
+        assertEquals(List.of(unsequenced.getId(), a.getId()), ids(firstPage));
+        assertTrue(firstPage.hasNext());
+        assertEquals(List.of(b.getId(), c.getId()), ids(secondPage));
+        assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    @DisplayName("keyset 조회 테스트 - sequence가 없는 행에서 끝난 페이지 다음부터 읽는다")
+    void findRowSliceAfterNullSequence() {
+        // given
+        Project unsequenced1 = save(null, 0);
+        Project unsequenced2 = save(null, 0);
+        Project sequenced = save(1, 0);
+        // when
+        Slice<ProjectRow> next = projectRepository.findRowSliceAfterNullSequence(unsequenced1.getId(), PageRequest.of(0, 10));
+        // then
+        assertEquals(List.of(unsequenced2.getId(), sequenced.getId()), ids(next));
+    }
+
+    private Project save(Integer sequence, Integer mainSequence) {
+        Project project = Project.builder()
+                .name("Test Name")
+                .category("Entertainment")
+                .department("Test Department")
+                .date("2024-01-01")
+                .projectType("others")
+                .isPosted(true)
+                .sequence(sequence)
+                .mainSequence(mainSequence)
+                .build();
+        return projectRepository.saveAndFlush(project);
+    }
+
+    private static List<Long> ids(Slice<ProjectRow> slice) {
+        return slice.getContent().stream().map(ProjectRow::id).toList();
+    }
+}
@@ -1,5 +1,6 @@
 package studio.studioeye.domain.request.application;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,8 +10,11 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import studio.studioeye.domain.email.service.EmailService;
+import studio.studioeye.domain.email.service.EmailOutboxService;
 import studio.studioeye.domain.notification.application.NotificationService;
 import studio.studioeye.domain.request.dao.AnswerRepository;
 import studio.studioeye.domain.request.dao.RequestCount;
@@ -24,15 +28,22 @@ import studio.studioeye.domain.request.dto.request.UpdateRequestCommentServiceDt
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 import studio.studioeye.infrastructure.s3.S3Adapter;
+import studio.studioeye.infrastructure.s3.S3PresignedUploader;
+import studio.studioeye.infrastructure.s3.S3StreamingUploader;
+import studio.studioeye.infrastructure.s3.UploadedFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,11 +55,17 @@ class RequestServiceTest {
 	@Mock
 	private S3Adapter s3Adapter;
 	@Mock
-	private EmailService emailService;
+	private S3StreamingUploader s3StreamingUploader;
+	@Mock
+	private S3PresignedUploader s3PresignedUploader;
+	@Mock
+	private EmailOutboxService emailOutboxService;
 	@Mock
 	private NotificationService notificationService;
 	@Mock
 	private AnswerRepository answerRepository;
+	@Mock
+	private PlatformTransactionManager transactionManager;
 	MockMultipartFile mockFile = new MockMultipartFile(
 			"file",
 			"testImage.jpg",
@@ -56,6 +73,11 @@ class RequestServiceTest {
 			"Test Image Content".getBytes()
 	);
 
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(requestService, "transactionTemplate", new TransactionTemplate(transactionManager));
+	}
+
 	@Test
 	@DisplayName("createRequest 성공 테스트 - 이메일과 파일 업로드 성공")
 	void createRequestSuccess() throws IOException {
@@ -74,7 +96,7 @@ class RequestServiceTest {
 			idField.set(request, 1L); // ID 강제 설정
 			return request;
 		});
-		when(emailService.sendEmail(anyString(), anyString(), anyString())).thenReturn(true);
+		when(emailOutboxService.enqueue(anyString(), anyString(), anyString())).thenReturn(true);
 		doAnswer(invocation -> {
 			Long requestId = invocation.getArgument(0);
 			System.out.println("Notification sent for request ID: " + requestId); // 테스트용 출력
@@ -90,7 +112,7 @@ class RequestServiceTest {
 		assertEquals(1L, response.getData().getId());
 		// Mock 메서드 호출 검증
 		verify(s3Adapter, times(1)).uploadFile(mockFile);
-		verify(emailService, times(1)).sendEmail(anyString(), anyString(), anyString());
+		verify(emailOutboxService, times(1)).enqueue(anyString(), anyString(), anyString());
 		verify(notificationService, times(1)).subscribe(1L);
 	}
 
@@ -110,7 +132,7 @@ class RequestServiceTest {
 		assertEquals(ErrorCode.INVALID_EMAIL_FORMAT.getStatus(), response.getStatus());
 		assertEquals(ErrorCode.INVALID_EMAIL_FORMAT.getMessage(), response.getMessage());
 		verify(s3Adapter, never()).uploadFile(any(MultipartFile.class));
-		verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+		verify(emailOutboxService, never()).enqueue(anyString(), anyString(), anyString());
 		verify(notificationService, never()).subscribe(anyLong());
 	}
 
@@ -132,7 +154,7 @@ class RequestServiceTest {
 		assertEquals(ErrorCode.ERROR_S3_UPDATE_OBJECT.getStatus(), response.getStatus());
 		assertEquals(ErrorCode.ERROR_S3_UPDATE_OBJECT.getMessage(), response.getMessage());
 		verify(s3Adapter, times(1)).uploadFile(mockFile);
-		verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+		verify(emailOutboxService, never()).enqueue(anyString(), anyString(), anyString());
 		verify(notificationService, never()).subscribe(anyLong());
 	}
 
@@ -154,7 +176,7 @@ class RequestServiceTest {
 			idField.set(request, 1L);
 			return request;
 		});
-		when(emailService.sendEmail(anyString(), anyString(), anyString())).thenReturn(false);
+		when(emailOutboxService.enqueue(anyString(), anyString(), anyString())).thenReturn(false);
 		// when
 		ApiResponse<Request> response = requestService.createRequest(dto, List.of(mockFile));
 		// then
@@ -162,7 +184,7 @@ class RequestServiceTest {
 		assertEquals(ErrorCode.EMAIL_SIZE_EXCEEDED.getStatus(), response.getStatus());
 		assertEquals(ErrorCode.EMAIL_SIZE_EXCEEDED.getMessage(), response.getMessage());
 		verify(s3Adapter, times(1)).uploadFile(mockFile);
-		verify(emailService, times(1)).sendEmail(anyString(), anyString(), anyString());
+		verify(emailOutboxService, times(1)).enqueue(anyString(), anyString(), anyString());
 		verify(notificationService, never()).subscribe(anyLong());
 	}
 
@@ -298,6 +320,7 @@ class RequestServiceTest {
 				.email("Test Email")
 				.position("Test position")
 				.description("Test description")
+				.fileUrlList(new ArrayList<>(List.of("http://example.com/first.pdf", "http://example.com/second.pdf")))
 				.year(2024)
 				.month(11)
 				.state(State.WAITING)
@@ -310,6 +333,152 @@ class RequestServiceTest {
 		assertEquals("문의를 성공적으로 삭제했습니다.", response.getMessage());
 		Mockito.verify(requestRepository, times(1)).findById(id);
 		Mockito.verify(requestRepository, times(1)).delete(savedRequest);
+		Mockito.verify(s3Adapter, times(1)).releaseFile("http://example.com/first.pdf");
+		Mockito.verify(s3Adapter, times(1)).releaseFile("http://example.com/second.pdf");
+	}
+
+	@Test
+	@DisplayName("문의 첨부파일 스트리밍 추가 성공 테스트")
+	void attachRequestFileSuccess() {
+		// given
+		Long id = 1L;
+		Request savedRequest = Request.builder()
+				.projectName("Test name")
+				.category("Test category")
+				.email("Test Email")
+				.fileUrlList(new ArrayList<>(List.of("http://example.com/first.pdf")))
+				.state(State.WAITING)
+				.build();
+		InputStream inputStream = new ByteArrayInputStream("Test File Content".getBytes());
+		// stub
+		when(requestRepository.existsById(id)).thenReturn(true);
+		when(requestRepository.findById(id)).thenReturn(Optional.of(savedRequest));
+		when(s3StreamingUploader.upload(inputStream, "second.pdf", "application/pdf"))
+				.thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "http://example.com/second.pdf"));
+		when(requestRepository.save(savedRequest)).thenReturn(savedRequest);
+		// when
+		ApiResponse<Request> response = requestService.attachRequestFile(id, "second.pdf", "application/pdf", inputStream);
+		// then
+		assertEquals(HttpStatus.OK, response.getStatus());
+		assertEquals("문의 첨부파일을 성공적으로 추가했습니다.", response.getMessage());
+		assertEquals(List.of("http://example.com/first.pdf", "http://example.com/second.pdf"), savedRequest.getFileUrlList());
+		Mockito.verify(s3Adapter, never()).discardFile(any());
+	}
+
+	@Test
+	@DisplayName("문의 첨부파일 스트리밍 추가 실패 테스트 - 올리는 사이 문의가 지워지면 올린 파일을 지운다")
+	void attachRequestFileFail_deletedDuringUpload() {
+		// given
+		Long id = 1L;
+		InputStream inputStream = new ByteArrayInputStream("Test File Content".getBytes());
+		// stub
+		when(requestRepository.existsById(id)).thenReturn(true);
+		when(s3StreamingUploader.upload(inputStream, "second.pdf", "application/pdf"))
+				.thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "http://example.com/second.pdf"));
+		when(requestRepository.findById(id)).thenReturn(Optional.empty());
+		// when
+		ApiResponse<Request> response = requestService.attachRequestFile(id, "second.pdf", "application/pdf", inputStream);
+		// then
+		assertEquals(ErrorCode.INVALID_REQUEST_ID.getStatus(), response.getStatus());
+		Mockito.verify(s3Adapter, times(1)).discardFile("http://example.com/second.pdf");
+	}
+
+	@Test
+	@DisplayName("문의 첨부파일 스트리밍 추가 실패 테스트 - 저장에 실패하면 올린 파일을 지운다")
+	void attachRequestFileFail_saveError() {
+		// given
+		Long id = 1L;
+		Request savedRequest = Request.builder()
+				.fileUrlList(new ArrayList<>())
+				.state(State.WAITING)
+				.build();
+		InputStream inputStream = new ByteArrayInputStream("Test File Content".getBytes());
+		// stub
+		when(requestRepository.existsById(id)).thenReturn(true);
+		when(s3StreamingUploader.upload(inputStream, "second.pdf", "application/pdf"))
+				.thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "http://example.com/second.pdf"));
+		when(requestRepository.findById(id)).thenReturn(Optional.of(savedRequest));
+		when(requestRepository.save(savedRequest)).thenThrow(new IllegalStateException("db down"));
+		// when & then
+		assertThrows(IllegalStateException.class,
+				() -> requestService.attachRequestFile(id, "second.pdf", "application/pdf", inputStream));
+		Mockito.verify(s3Adapter, times(1)).discardFile("http://example.com/second.pdf");
+	}
+
+	@Test
+	@DisplayName("문의 첨부파일 스트리밍 추가 실패 테스트 - 유효하지 않은 ID")
+	void attachRequestFileFail_invalidId() {
+		// given
+		Long id = 1L;
+		InputStream inputStream = new ByteArrayInputStream("Test File Content".getBytes());
+		// stub
+		when(requestRepository.existsById(id)).thenReturn(false);
+		// when
+		ApiResponse<Request> response = requestService.attachRequestFile(id, "second.pdf", "application/pdf", inputStream);
+		// then
+		assertEquals(ErrorCode.INVALID_REQUEST_ID.getStatus(), response.getStatus());
+		assertEquals(ErrorCode.INVALID_REQUEST_ID.getMessage(), response.getMessage());
+		Mockito.verify(s3StreamingUploader, never()).upload(any(), any(), any());
+		Mockito.verify(requestRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("문의 첨부파일 업로드 완료 성공 테스트")
+	void completeRequestFileUploadSuccess() {
+		// given
+		Long id = 1L;
+		Request savedRequest = Request.builder()
+				.projectName("Test name")
+				.category("Test category")
+				.email("Test Email")
+				.fileUrlList(new ArrayList<>())
+				.state(State.WAITING)
+				.build();
+		// stub
+		when(requestRepository.existsById(id)).thenReturn(true);
+		when(requestRepository.findById(id)).thenReturn(Optional.of(savedRequest));
+		when(s3PresignedUploader.complete("ticket"))
+				.thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", new UploadedFile("http://example.com/uploaded.pdf", "uploaded.pdf")));
+		when(requestRepository.save(savedRequest)).thenReturn(savedRequest);
+		// when
+		ApiResponse<Request> response = requestService.completeRequestFileUpload(id, "ticket");
+		// then
+		assertEquals(HttpStatus.OK, response.getStatus());
+		assertEquals(List.of("http://example.com/uploaded.pdf"), savedRequest.getFileUrlList());
+	}
+
+	@Test
+	@DisplayName("문의 첨부파일 업로드 완료 실패 테스트 - 아직 올리지 않은 파일")
+	void completeRequestFileUploadFail_notUploaded() {
+		// given
+		Long id = 1L;
+		// stub
+		when(requestRepository.existsById(id)).thenReturn(true);
+		when(s3PresignedUploader.complete("ticket")).thenReturn(ApiResponse.withError(ErrorCode.NOT_UPLOADED_FILE));
+		// when
+		ApiResponse<Request> response = requestService.completeRequestFileUpload(id, "ticket");
+		// then
+		assertEquals(ErrorCode.NOT_UPLOADED_FILE.getStatus(), response.getStatus());
+		assertEquals(ErrorCode.NOT_UPLOADED_FILE.getMessage(), response.getMessage());
+		Mockito.verify(requestRepository, never()).findById(id);
+		Mockito.verify(requestRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("문의 첨부파일 업로드 완료 실패 테스트 - 옮기는 사이 문의가 지워지면 옮긴 파일을 지운다")
+	void completeRequestFileUploadFail_deletedDuringCopy() {
+		// given
+		Long id = 1L;
+		// stub
+		when(requestRepository.existsById(id)).thenReturn(true);
+		when(s3PresignedUploader.complete("ticket"))
+				.thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", new UploadedFile("http://example.com/uploaded.pdf", "uploaded.pdf")));
+		when(requestRepository.findById(id)).thenReturn(Optional.empty());
+		// when
+		ApiResponse<Request> response = requestService.completeRequestFileUpload(id, "ticket");
+		// then
+		assertEquals(ErrorCode.INVALID_REQUEST_ID.getStatus(), response.getStatus());
+		Mockito.verify(s3Adapter, times(1)).discardFile("http://example.com/uploaded.pdf");
 	}
 
 	@Test
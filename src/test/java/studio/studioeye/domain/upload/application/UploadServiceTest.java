@@ -0,0 +1,57 @@
+package studio.studioeye.domain.upload.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.exception.error.ErrorCode;
+import studio.studioeye.infrastructure.s3.PresignedUploadTicket;
+import studio.studioeye.infrastructure.s3.S3PresignedUploader;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UploadServiceTest {
+    @InjectMocks
+    private UploadService uploadService;
+    @Mock
+    private S3PresignedUploader s3PresignedUploader;
+
+    @Test
+    @DisplayName("업로드 티켓 발급 성공 테스트")
+    void issueUploadTicketSuccess() {
+        // given
+        PresignedUploadTicket ticket = new PresignedUploadTicket(
+                "ticket", "https://bucket.s3.amazonaws.com/",
+                Map.of("key", "staging/ticket", "Content-Type", "image/png"), Instant.now().plusSeconds(600));
+        // stub
+        when(s3PresignedUploader.issue("image.png", "image/png")).thenReturn(ticket);
+        // when
+        ApiResponse<PresignedUploadTicket> response = uploadService.issueUploadTicket("image.png", "image/png");
+        // then
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals("업로드 티켓을 성공적으로 발급했습니다.", response.getMessage());
+        assertSame(ticket, response.getData());
+    }
+
+    @Test
+    @DisplayName("업로드 티켓 발급 실패 테스트 - 파일 이름이 없는 경우")
+    void issueUploadTicketFail_blankFileName() {
+        // when
+        ApiResponse<PresignedUploadTicket> response = uploadService.issueUploadTicket(" ", "image/png");
+        // then
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE.getStatus(), response.getStatus());
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE.getMessage(), response.getMessage());
+        verify(s3PresignedUploader, never()).issue(any(), any());
+    }
+}
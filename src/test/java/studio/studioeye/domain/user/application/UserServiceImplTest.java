@@ -19,6 +19,7 @@ import studio.studioeye.domain.user.dto.request.RequestUser;
 import studio.studioeye.domain.user.dto.response.EmailVerificationResult;
 import studio.studioeye.domain.user.dto.response.JWTAuthResponse;
 import studio.studioeye.domain.user.dto.response.UserResponse;
+import studio.studioeye.domain.user_notification.application.UserNotificationService;
 import studio.studioeye.global.exception.BusinessLogicException;
 import studio.studioeye.global.exception.error.ExceptionCode;
 import studio.studioeye.global.security.UserDetailsServiceImpl;
@@ -56,6 +57,8 @@ class UserServiceImplTest {
     private JwtTokenProvider jwtTokenProvider;
     @Mock
     private AuthenticationManager authenticationManager;
+    @Mock
+    private UserNotificationService userNotificationService;
     private RequestLogin requestLogin;
     private RequestUser requestUser;
     private UserResponse userResponse;
@@ -401,6 +404,7 @@ class UserServiceImplTest {
         // then
         assertTrue(result);
         assertTrue(user.isApproved());
+        verify(userNotificationService, times(1)).syncBroadcastsBeforeApprovalChange(userId, true);
     }
 
     // 사용자 승인 상태 변경 실패 테스트 - 존재하지 않는 사용자 ID
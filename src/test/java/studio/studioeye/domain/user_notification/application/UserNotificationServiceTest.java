@@ -6,12 +6,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import studio.studioeye.domain.notification.dao.NotificationRepository;
-import studio.studioeye.domain.notification.domain.Notification;
+import studio.studioeye.domain.user.dao.UserRepository;
 import studio.studioeye.domain.user_notification.dao.UserNotificationRepository;
+import studio.studioeye.domain.user_notification.dao.UserNotificationRow;
 import studio.studioeye.domain.user_notification.domain.UserNotification;
 import studio.studioeye.domain.user_notification.domain.UserNotificationPK;
+import studio.studioeye.domain.user_notification.dto.response.UserNotificationPageResponse;
+import studio.studioeye.domain.user_notification.dto.response.UserNotificationResponse;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 
@@ -28,6 +35,9 @@ class UserNotificationServiceTest {
     private NotificationRepository notificationRepository;
     @Mock
     private UserNotificationRepository userNotificationRepository;
+    @Mock
+    private UserRepository userRepository;
+    private static final int PAGE_SIZE = 20;
 
     @Test
     @DisplayName("유저 알림 생성 성공 테스트")
@@ -66,72 +76,158 @@ class UserNotificationServiceTest {
     }
 
     @Test
-    @DisplayName("유저 알림 조회 성공 테스트")
+    @DisplayName("유저 알림 일괄 생성 성공 테스트 - 유저마다 save하지 않고 배치로 넣는다")
+    void createUserNotificationsSuccess() {
+        List<Long> userIds = List.of(1L, 2L, 3L);
+        userNotificationService.createUserNotifications(1L, userIds);
+        verify(userNotificationRepository, times(1)).insertAll(1L, userIds);
+        verify(userNotificationRepository, never()).save(any(UserNotification.class));
+    }
+
+    @Test
+    @DisplayName("유저 알림 조회 테스트 - 아직 만들지 않은 broadcast 알림을 먼저 만든다")
+    void retrieveAllUserNotification_materializesBroadcasts() {
+        Long userId = 1L;
+        when(notificationRepository.findLatestBroadcastId()).thenReturn(7L);
+        when(userNotificationRepository.findSyncedNotificationId(userId)).thenReturn(3L);
+        when(userRepository.isApprovedUser(userId)).thenReturn(true);
+        when(userNotificationRepository.findInboxSlice(eq(userId), any(Pageable.class))).thenReturn(slice(List.of(), false));
+        userNotificationService.retrieveAllUserNotification(userId, PAGE_SIZE, null);
+        verify(userNotificationRepository, times(1)).insertBroadcasts(userId, 3L, 7L);
+        verify(userNotificationRepository, times(1)).advanceSyncedNotificationId(userId, 7L);
+    }
+
+    @Test
+    @DisplayName("유저 알림 조회 테스트 - 없거나 승인되지 않은 유저에게는 broadcast 알림을 만들지 않는다")
+    void retrieveAllUserNotification_skipsUnapprovedUser() {
+        Long userId = 999999L;
+        when(notificationRepository.findLatestBroadcastId()).thenReturn(7L);
+        when(userNotificationRepository.findSyncedNotificationId(userId)).thenReturn(0L);
+        when(userRepository.isApprovedUser(userId)).thenReturn(false);
+        when(userNotificationRepository.findInboxSlice(eq(userId), any(Pageable.class))).thenReturn(slice(List.of(), false));
+        userNotificationService.retrieveAllUserNotification(userId, PAGE_SIZE, null);
+        verify(userNotificationRepository, never()).insertBroadcasts(anyLong(), anyLong(), anyLong());
+        verify(userNotificationRepository, never()).advanceSyncedNotificationId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("승인 변경 테스트 - 새로 승인된 유저는 그 전의 broadcast 알림을 건너뛴다")
+    void syncBroadcastsBeforeApprovalChange_approve() {
+        Long userId = 1L;
+        when(notificationRepository.findLatestBroadcastId()).thenReturn(7L);
+        when(userNotificationRepository.findSyncedNotificationId(userId)).thenReturn(0L);
+        when(userRepository.isApprovedUser(userId)).thenReturn(false);
+        userNotificationService.syncBroadcastsBeforeApprovalChange(userId, true);
+        verify(userNotificationRepository, never()).insertBroadcasts(anyLong(), anyLong(), anyLong());
+        verify(userNotificationRepository, times(1)).advanceSyncedNotificationId(userId, 7L);
+    }
+
+    @Test
+    @DisplayName("승인 변경 테스트 - 승인을 풀기 전에 승인되어 있던 동안의 broadcast 알림을 만들어 둔다")
+    void syncBroadcastsBeforeApprovalChange_revoke() {
+        Long userId = 1L;
+        when(notificationRepository.findLatestBroadcastId()).thenReturn(7L);
+        when(userNotificationRepository.findSyncedNotificationId(userId)).thenReturn(3L);
+        when(userRepository.isApprovedUser(userId)).thenReturn(true);
+        userNotificationService.syncBroadcastsBeforeApprovalChange(userId, false);
+        verify(userNotificationRepository, times(1)).insertBroadcasts(userId, 3L, 7L);
+        verify(userNotificationRepository, times(1)).advanceSyncedNotificationId(userId, 7L);
+    }
+
+    @Test
+    @DisplayName("유저 알림 조회 테스트 - 새 broadcast 알림이 없으면 만들지 않는다")
+    void retrieveAllUserNotification_skipsWhenSynced() {
+        Long userId = 1L;
+        when(notificationRepository.findLatestBroadcastId()).thenReturn(7L);
+        when(userNotificationRepository.findSyncedNotificationId(userId)).thenReturn(7L);
+        when(userNotificationRepository.findInboxSlice(eq(userId), any(Pageable.class))).thenReturn(slice(List.of(), false));
+        userNotificationService.retrieveAllUserNotification(userId, PAGE_SIZE, null);
+        verify(userNotificationRepository, never()).insertBroadcasts(anyLong(), anyLong(), anyLong());
+        verify(userNotificationRepository, never()).advanceSyncedNotificationId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("유저 알림 조회 성공 테스트 - 알림과 읽음 여부를 조인 조회 한 번으로 읽는다")
     void retrieveAllUserNotificationSuccess() {
         Long userId = 1L;
-        UserNotification userNotification = new UserNotification(userId, 1L, false);
-        Notification notification = new Notification(1L);
-        when(userNotificationRepository.findByUserId(userId)).thenReturn(Collections.singletonList(userNotification));
-        when(notificationRepository.findById(1L)).thenReturn(Optional.of(notification));
-        ApiResponse<List<Map<String, Object>>> response = userNotificationService.retrieveAllUserNotification(userId);
+        List<UserNotificationRow> rows = List.of(new UserNotificationRow(2L, 20L, false), new UserNotificationRow(1L, 10L, true));
+        when(userNotificationRepository.findInboxSlice(userId, PageRequest.of(0, PAGE_SIZE))).thenReturn(slice(rows, false));
+        ApiResponse<UserNotificationPageResponse> response = userNotificationService.retrieveAllUserNotification(userId, PAGE_SIZE, null);
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("유저의 알림 목록을 성공적으로 조회했습니다.", response.getMessage());
-        assertNotNull(response.getData());
+        UserNotificationResponse first = response.getData().content().get(0);
+        assertEquals(2L, first.notification().id());
+        assertEquals(20L, first.notification().requestId());
+        assertFalse(first.isRead());
+        assertTrue(response.getData().last());
+        assertNull(response.getData().nextCursor());
+        verify(notificationRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("유저 알림 조회 성공 테스트 - size가 상한을 넘으면 상한만큼만 읽는다")
+    void retrieveAllUserNotificationSuccess_clampsSize() {
+        Long userId = 1L;
+        List<UserNotificationRow> rows = List.of(new UserNotificationRow(1L, 10L, false));
+        when(userNotificationRepository.findInboxSlice(userId, PageRequest.of(0, UserNotificationService.MAX_PAGE_SIZE)))
+                .thenReturn(slice(rows, false));
+        ApiResponse<UserNotificationPageResponse> response = userNotificationService.retrieveAllUserNotification(userId, 1_000_000, null);
+        assertEquals(HttpStatus.OK, response.getStatus());
+        assertEquals(UserNotificationService.MAX_PAGE_SIZE, response.getData().size());
+    }
+
+    @Test
+    @DisplayName("유저 알림 조회 성공 테스트 - nextCursor로 마지막 알림 다음부터 읽는다")
+    void retrieveAllUserNotificationSuccess_cursor() {
+        Long userId = 1L;
+        List<UserNotificationRow> firstPage = List.of(new UserNotificationRow(9L, 90L, false), new UserNotificationRow(8L, 80L, false));
+        List<UserNotificationRow> secondPage = List.of(new UserNotificationRow(5L, 50L, true));
+        when(userNotificationRepository.findInboxSlice(userId, PageRequest.of(0, 2))).thenReturn(slice(firstPage, true));
+        when(userNotificationRepository.findInboxSliceBefore(userId, 8L, PageRequest.of(0, 2))).thenReturn(slice(secondPage, false));
+        ApiResponse<UserNotificationPageResponse> first = userNotificationService.retrieveAllUserNotification(userId, 2, null);
+        assertFalse(first.getData().last());
+        assertNotNull(first.getData().nextCursor());
+        ApiResponse<UserNotificationPageResponse> second =
+                userNotificationService.retrieveAllUserNotification(userId, 2, first.getData().nextCursor());
+        assertEquals(5L, second.getData().content().get(0).notification().id());
+        assertTrue(second.getData().last());
+        assertNull(second.getData().nextCursor());
     }
 
     @Test
     @DisplayName("유저 알림 조회 실패 테스트 - 빈 목록")
     void retrieveAllUserNotificationFailDueToEmptyList() {
         Long userId = 1L;
-        when(userNotificationRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
-        ApiResponse<List<Map<String, Object>>> response = userNotificationService.retrieveAllUserNotification(userId);
+        when(userNotificationRepository.findInboxSlice(userId, PageRequest.of(0, PAGE_SIZE))).thenReturn(slice(List.of(), false));
+        ApiResponse<UserNotificationPageResponse> response = userNotificationService.retrieveAllUserNotification(userId, PAGE_SIZE, null);
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("유저의 알림이 존재하지 않습니다.", response.getMessage());
         assertNull(response.getData());
     }
 
     @Test
-    @DisplayName("유저 알림 조회 실패 테스트 - 알림 데이터 없음")
-    void retrieveAllUserNotificationFailDueToNoNotificationData() {
-        // Given
-        Long userId = 1L;
-        when(userNotificationRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
-        // When
-        ApiResponse<List<Map<String, Object>>> response = userNotificationService.retrieveAllUserNotification(userId);
-        // Then
-        assertNotNull(response); // 응답 자체가 null이 아닌지 확인
-        assertEquals(HttpStatus.OK, response.getStatus()); // 상태 코드 확인
-        assertEquals("유저의 알림이 존재하지 않습니다.", response.getMessage()); // 메시지 확인
-        assertTrue(response.getData() == null || response.getData().isEmpty());
-        verify(userNotificationRepository, times(1)).findByUserId(userId);
-        verifyNoInteractions(notificationRepository); // NotificationRepository는 호출되지 않아야 함
+    @DisplayName("유저 알림 조회 실패 테스트 - 잘못된 cursor")
+    void retrieveAllUserNotificationFailDueToInvalidCursor() {
+        ApiResponse<UserNotificationPageResponse> response = userNotificationService.retrieveAllUserNotification(1L, PAGE_SIZE, "not-a-cursor!");
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE.getStatus(), response.getStatus());
+        verifyNoInteractions(userNotificationRepository);
     }
 
     @Test
-    @DisplayName("유저 알림 조회 실패 테스트 - null 입력값")
-    void retrieveAllUserNotificationFailDueToNullInput() {
-        // Given
-        Long nullUserId = null;
-        ApiResponse<List<Map<String, Object>>> expectedResponse = ApiResponse.withError(ErrorCode.INVALID_INPUT_VALUE);
-        UserNotificationService mockService = mock(UserNotificationService.class);
-        when(mockService.retrieveAllUserNotification(nullUserId)).thenReturn(expectedResponse);
-        // When
-        ApiResponse<List<Map<String, Object>>> response = mockService.retrieveAllUserNotification(nullUserId);
-        // Then
-        assertNotNull(response); // 응답이 null이 아닌지 확인
-        assertEquals(ErrorCode.INVALID_INPUT_VALUE.getStatus(), response.getStatus()); // 상태 코드 확인
-        assertEquals(ErrorCode.INVALID_INPUT_VALUE.getMessage(), response.getMessage()); // 메시지 확인
+    @DisplayName("유저 알림 조회 실패 테스트 - 잘못된 size")
+    void retrieveAllUserNotificationFailDueToInvalidSize() {
+        ApiResponse<UserNotificationPageResponse> response = userNotificationService.retrieveAllUserNotification(1L, 0, null);
+        assertEquals(ErrorCode.INVALID_INPUT_VALUE.getStatus(), response.getStatus());
         verifyNoInteractions(userNotificationRepository);
-        verifyNoInteractions(notificationRepository);
     }
 
     @Test
     @DisplayName("유저 알림 조회 실패 테스트 - Repository 예외")
     void retrieveAllUserNotificationFailDueToRepositoryError() {
         Long userId = 1L;
-        when(userNotificationRepository.findByUserId(userId)).thenThrow(new RuntimeException("Database error"));
+        when(userNotificationRepository.findInboxSlice(userId, PageRequest.of(0, PAGE_SIZE))).thenThrow(new RuntimeException("Database error"));
         RuntimeException exception = assertThrows(RuntimeException.class,
-                () -> userNotificationService.retrieveAllUserNotification(userId)
+                () -> userNotificationService.retrieveAllUserNotification(userId, PAGE_SIZE, null)
         );
         assertEquals("Database error", exception.getMessage());
     }
@@ -262,4 +358,8 @@ class UserNotificationServiceTest {
         );
         assertEquals("Database error", exception.getMessage());
     }
+
+    private static Slice<UserNotificationRow> slice(List<UserNotificationRow> rows, boolean hasNext) {
+        return new SliceImpl<>(rows, PageRequest.of(0, Math.max(rows.size(), 1)), hasNext);
+    }
 }
@@ -0,0 +1,183 @@
+package studio.studioeye.domain.user_notification.dao;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import studio.studioeye.domain.notification.dao.NotificationRepository;
+import studio.studioeye.domain.notification.domain.Notification;
+import studio.studioeye.domain.user.dao.UserRepository;
+import studio.studioeye.domain.user.domain.User;
+import studio.studioeye.domain.user_notification.domain.UserNotification;
+import studio.studioeye.domain.user_notification.domain.UserNotificationPK;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        // user 테이블 이름이 H2 예약어로 읽히지 않게 한다.
+        "spring.datasource.url=jdbc:h2:mem:user_notification;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserNotificationRepositoryTest {
+
+    @Autowired
+    private UserNotificationRepository userNotificationRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("일괄 생성 테스트 - 유저마다 안 읽은 user_notification을 배치 INSERT로 넣는다")
+    void insertAll() {
+        // given
+        Long notificationId = notification(false).getId();
+        // when
+        userNotificationRepository.insertAll(notificationId, List.of(1L, 2L, 3L));
+        userNotificationRepository.insertAll(notificationId, List.of());
+        entityManager.clear();
+        // then
+        List<UserNotification> rows = userNotificationRepository.findByNotificationId(notificationId);
+        assertEquals(List.of(1L, 2L, 3L), rows.stream().map(UserNotification::getUserId).sorted().toList());
+        assertTrue(rows.stream().noneMatch(UserNotification::getIsRead));
+    }
+
+    @Test
+    @DisplayName("broadcast 생성 테스트 - 범위 안의 broadcast 알림 중 유저에게 없는 것만 만든다")
+    void insertBroadcasts() {
+        // given
+        Notification before = notification(true);
+        Notification alreadyCreated = notification(true);
+        Notification eager = notification(false);
+        Notification created = notification(true);
+        Notification after = notification(true);
+        userNotificationRepository.save(new UserNotification(1L, alreadyCreated.getId(), true));
+        entityManager.flush();
+        // when
+        int inserted = userNotificationRepository.insertBroadcasts(1L, before.getId(), created.getId());
+        entityManager.clear();
+        // then
+        assertEquals(1, inserted);
+        List<UserNotification> rows = userNotificationRepository.findAll().stream()
+                .sorted(Comparator.comparing(UserNotification::getNotificationId))
+                .toList();
+        assertEquals(List.of(alreadyCreated.getId(), created.getId()), rows.stream().map(UserNotification::getNotificationId).toList());
+        // 이미 있던 행의 읽음 여부는 그대로 둔다.
+        assertTrue(rows.get(0).getIsRead());
+        assertFalse(rows.get(1).getIsRead());
+        assertFalse(userNotificationRepository.existsById(new UserNotificationPK(1L, eager.getId())));
+        assertFalse(userNotificationRepository.existsById(new UserNotificationPK(1L, after.getId())));
+    }
+
+    @Test
+    @DisplayName("broadcast 생성 테스트 - 다른 유저의 알림이 있어도 이 유저의 알림은 만든다")
+    void insertBroadcasts_otherUsersRows() {
+        // given
+        Notification broadcast = notification(true);
+        userNotificationRepository.save(new UserNotification(2L, broadcast.getId(), false));
+        entityManager.flush();
+        // when
+        int inserted = userNotificationRepository.insertBroadcasts(1L, 0L, broadcast.getId());
+        // then
+        assertEquals(1, inserted);
+        assertTrue(userNotificationRepository.existsById(new UserNotificationPK(1L, broadcast.getId())));
+    }
+
+    @Test
+    @DisplayName("동기화 기록 테스트 - 없으면 0이고, 처음에는 INSERT, 그 뒤로는 더 클 때만 올린다")
+    void advanceSyncedNotificationId() {
+        // when & then
+        assertEquals(0L, userNotificationRepository.findSyncedNotificationId(1L));
+        userNotificationRepository.advanceSyncedNotificationId(1L, 5L);
+        assertEquals(5L, userNotificationRepository.findSyncedNotificationId(1L));
+        userNotificationRepository.advanceSyncedNotificationId(1L, 9L);
+        assertEquals(9L, userNotificationRepository.findSyncedNotificationId(1L));
+        userNotificationRepository.advanceSyncedNotificationId(1L, 7L);
+        assertEquals(9L, userNotificationRepository.findSyncedNotificationId(1L));
+        userNotificationRepository.advanceSyncedNotificationId(1L, 9L);
+        assertEquals(9L, userNotificationRepository.findSyncedNotificationId(1L));
+        assertEquals(0L, userNotificationRepository.findSyncedNotificationId(2L));
+    }
+
+    @Test
+    @DisplayName("승인 유저 확인 테스트 - 있고 승인된 유저만 참이다")
+    void isApprovedUser() {
+        // given
+        User approved = userRepository.save(new User(null, "approved@studioeye.com", "승인", "010-0000-0001", "pwd", true));
+        User pending = userRepository.save(new User(null, "pending@studioeye.com", "대기", "010-0000-0002", "pwd", false));
+        // when & then
+        assertTrue(userRepository.isApprovedUser(approved.getId()));
+        assertFalse(userRepository.isApprovedUser(pending.getId()));
+        assertFalse(userRepository.isApprovedUser(999999L));
+    }
+
+    @Test
+    @DisplayName("알림함 조회 테스트 - 알림과 조인해 이 유저의 알림만 최신순으로 읽는다")
+    void findInboxSlice() {
+        // given
+        Notification oldest = notificationOf(10L);
+        Notification middle = notificationOf(20L);
+        Notification newest = notificationOf(30L);
+        Notification othersOnly = notificationOf(40L);
+        userNotificationRepository.save(new UserNotification(1L, middle.getId(), true));
+        userNotificationRepository.save(new UserNotification(1L, newest.getId(), false));
+        userNotificationRepository.save(new UserNotification(1L, oldest.getId(), false));
+        userNotificationRepository.save(new UserNotification(2L, othersOnly.getId(), false));
+        // 알림이 지워진 user_notification은 조인에서 빠진다.
+        userNotificationRepository.save(new UserNotification(1L, othersOnly.getId() + 100, false));
+        entityManager.flush();
+        entityManager.clear();
+        // when
+        Slice<UserNotificationRow> firstPage = userNotificationRepository.findInboxSlice(1L, PageRequest.of(0, 2));
+        Slice<UserNotificationRow> all = userNotificationRepository.findInboxSlice(1L, PageRequest.of(0, 10));
+        // then
+        assertEquals(List.of(new UserNotificationRow(newest.getId(), 30L, false), new UserNotificationRow(middle.getId(), 20L, true)),
+                firstPage.getContent());
+        assertTrue(firstPage.hasNext());
+        assertEquals(List.of(newest.getId(), middle.getId(), oldest.getId()),
+                all.getContent().stream().map(UserNotificationRow::notificationId).toList());
+        assertFalse(all.hasNext());
+    }
+
+    @Test
+    @DisplayName("알림함 keyset 조회 테스트 - 커서의 알림은 빼고 그보다 오래된 알림부터 이어서 읽는다")
+    void findInboxSliceBefore() {
+        // given
+        Notification oldest = notificationOf(10L);
+        Notification middle = notificationOf(20L);
+        Notification newest = notificationOf(30L);
+        for (Notification notification : List.of(oldest, middle, newest)) {
+            userNotificationRepository.save(new UserNotification(1L, notification.getId(), false));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        // when
+        Slice<UserNotificationRow> afterNewest = userNotificationRepository.findInboxSliceBefore(1L, newest.getId(), PageRequest.of(0, 1));
+        Slice<UserNotificationRow> afterMiddle = userNotificationRepository.findInboxSliceBefore(1L, middle.getId(), PageRequest.of(0, 1));
+        Slice<UserNotificationRow> afterOldest = userNotificationRepository.findInboxSliceBefore(1L, oldest.getId(), PageRequest.of(0, 1));
+        // then
+        assertEquals(List.of(new UserNotificationRow(middle.getId(), 20L, false)), afterNewest.getContent());
+        assertTrue(afterNewest.hasNext());
+        assertEquals(List.of(new UserNotificationRow(oldest.getId(), 10L, false)), afterMiddle.getContent());
+        assertFalse(afterMiddle.hasNext());
+        assertTrue(afterOldest.getContent().isEmpty());
+    }
+
+    private Notification notification(boolean broadcast) {
+        return notificationRepository.save(new Notification(1L, broadcast));
+    }
+
+    private Notification notificationOf(Long requestId) {
+        return notificationRepository.save(new Notification(requestId));
+    }
+}
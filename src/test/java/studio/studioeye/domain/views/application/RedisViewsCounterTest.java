@@ -0,0 +1,168 @@
+package studio.studioeye.domain.views.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+import studio.studioeye.domain.views.domain.ViewsKey;
+import studio.studioeye.infrastructure.redis.EmbeddedRedis;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisViewsCounterTest {
+
+    @RegisterExtension
+    static EmbeddedRedis redis = new EmbeddedRedis();
+
+    private static final ViewsKey KEY = ViewsKey.ofThisMonth(MenuTitle.ARTWORK, ArtworkCategory.DRAMA);
+    private static final YearMonth THIS_MONTH = KEY.yearMonth();
+
+    private RedisViewsCounter viewsCounter;
+
+    @BeforeEach
+    void setUp() {
+        viewsCounter = new RedisViewsCounter(redis.redisService(), 10_000L);
+    }
+
+    @Test
+    @DisplayName("조회수 꺼내기 테스트 - 모인 증가분을 꺼내고 커밋하면 카운터에서 빠진다")
+    void drainAndCommit() {
+        // given
+        increase(3);
+        // when
+        Map<ViewsKey, Long> deltas = viewsCounter.drain();
+        viewsCounter.commit(deltas);
+        // then
+        assertEquals(Map.of(KEY, 3L), deltas);
+        assertTrue(viewsCounter.drain().isEmpty());
+        assertTrue(pending().isEmpty());
+    }
+
+    @Test
+    @DisplayName("미반영 조회수 테스트 - 반영 중인 증가분과 그 뒤에 들어온 증가분을 모두 더한다")
+    void pending_includesDraining() {
+        // given
+        increase(3);
+        viewsCounter.drain();
+        increase(2);
+        // when
+        Map<YearMonth, Long> pending = pending();
+        // then
+        assertEquals(Map.of(THIS_MONTH, 5L), pending);
+    }
+
+    @Test
+    @DisplayName("조회수 반영 실패 테스트 - 되돌린 증가분은 다음 drain에서 다시 꺼내고, 새 증가분은 그다음에 꺼낸다")
+    void restore_redrainsSameDeltas() {
+        // given
+        increase(3);
+        Map<ViewsKey, Long> failed = viewsCounter.drain();
+        increase(2);
+        // when
+        viewsCounter.restore(failed);
+        Map<ViewsKey, Long> retried = viewsCounter.drain();
+        viewsCounter.commit(retried);
+        Map<ViewsKey, Long> next = viewsCounter.drain();
+        // then
+        assertEquals(Map.of(KEY, 3L), retried);
+        assertEquals(Map.of(KEY, 2L), next);
+        assertEquals(Map.of(THIS_MONTH, 2L), pending());
+    }
+
+    @Test
+    @DisplayName("배치 ID 테스트 - 커밋 전에 다시 꺼내면 같은 배치 ID와 증가분을, 커밋 뒤에는 새 배치 ID를 준다")
+    void drainedBatchId_sameUntilCommit() {
+        // given
+        increase(3);
+        viewsCounter.drain();
+        String first = viewsCounter.drainedBatchId();
+        increase(2);
+        // when
+        // DB 커밋 뒤 카운터를 정리하기 전에 서버가 죽고 다른 서버가 이어받은 경우
+        RedisViewsCounter nextNode = new RedisViewsCounter(redis.redisService(), 10_000L);
+        Map<ViewsKey, Long> redelivered = nextNode.drain();
+        String redeliveredBatchId = nextNode.drainedBatchId();
+        nextNode.commit(redelivered);
+        Map<ViewsKey, Long> next = nextNode.drain();
+        // then
+        assertNotNull(first);
+        assertEquals(first, redeliveredBatchId);
+        assertEquals(Map.of(KEY, 3L), redelivered);
+        assertEquals(Map.of(KEY, 2L), next);
+        assertNotEquals(first, nextNode.drainedBatchId());
+    }
+
+    @Test
+    @DisplayName("배치 ID 테스트 - 꺼낼 증가분이 없으면 배치 ID가 없다")
+    void drainedBatchId_nullWhenEmpty() {
+        // when
+        Map<ViewsKey, Long> deltas = viewsCounter.drain();
+        // then
+        assertTrue(deltas.isEmpty());
+        assertNull(viewsCounter.drainedBatchId());
+    }
+
+    @Test
+    @DisplayName("커밋 테스트 - 다른 서버의 배치는 지우지 않는다")
+    void commit_ignoresOtherNodesBatch() {
+        // given
+        increase(3);
+        Map<ViewsKey, Long> stale = viewsCounter.drain();
+        RedisViewsCounter otherNode = new RedisViewsCounter(redis.redisService(), 10_000L);
+        Map<ViewsKey, Long> current = otherNode.drain();
+        otherNode.commit(current);
+        increase(2);
+        otherNode.drain();
+        // when
+        viewsCounter.commit(stale);
+        // then
+        assertEquals(Map.of(THIS_MONTH, 2L), pending());
+        assertEquals(Map.of(KEY, 2L), otherNode.drain());
+    }
+
+    @Test
+    @DisplayName("반영 리스 테스트 - 한 서버만 리스를 잡고, 잡은 서버는 다시 잡을 수 있다")
+    void tryAcquireFlushLease() {
+        // given
+        RedisViewsCounter otherNode = new RedisViewsCounter(redis.redisService(), 10_000L);
+        // when
+        boolean first = viewsCounter.tryAcquireFlushLease();
+        boolean other = otherNode.tryAcquireFlushLease();
+        boolean again = viewsCounter.tryAcquireFlushLease();
+        // then
+        assertTrue(first);
+        assertFalse(other);
+        assertTrue(again);
+    }
+
+    @Test
+    @DisplayName("반영 리스 테스트 - 리스가 만료되면 다른 서버가 잡고, 원래 서버는 연장하지 못한다")
+    void tryAcquireFlushLease_expired() throws InterruptedException {
+        // given
+        RedisViewsCounter shortLease = new RedisViewsCounter(redis.redisService(), 50L);
+        RedisViewsCounter otherNode = new RedisViewsCounter(redis.redisService(), 10_000L);
+        assertTrue(shortLease.tryAcquireFlushLease());
+        Thread.sleep(200);
+        // when
+        boolean other = otherNode.tryAcquireFlushLease();
+        boolean renewed = shortLease.tryAcquireFlushLease();
+        // then
+        assertTrue(other);
+        assertFalse(renewed);
+    }
+
+    private void increase(int times) {
+        for (int i = 0; i < times; i++) {
+            viewsCounter.increase(KEY);
+        }
+    }
+
+    private Map<YearMonth, Long> pending() {
+        return viewsCounter.pending(THIS_MONTH.minusMonths(1), THIS_MONTH, KEY.menu(), KEY.category());
+    }
+}
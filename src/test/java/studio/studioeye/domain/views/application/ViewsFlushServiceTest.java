@@ -0,0 +1,214 @@
+package studio.studioeye.domain.views.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+import studio.studioeye.domain.views.dao.ViewsFlushBatchRepository;
+import studio.studioeye.domain.views.dao.ViewsRepository;
+import studio.studioeye.domain.views.domain.Views;
+import studio.studioeye.domain.views.domain.ViewsFlushBatch;
+import studio.studioeye.domain.views.domain.ViewsKey;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewsFlushServiceTest {
+    @Mock
+    private ViewsRepository viewsRepository;
+    @Mock
+    private ViewsFlushBatchRepository viewsFlushBatchRepository;
+    @Mock
+    private ViewsRollupService viewsRollupService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LocalViewsCounter viewsCounter;
+    private ViewsFlushService viewsFlushService;
+
+    @BeforeEach
+    void setUp() {
+        viewsCounter = new LocalViewsCounter();
+        viewsFlushService = new ViewsFlushService(viewsCounter, viewsRepository, viewsFlushBatchRepository, viewsRollupService,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 성공 테스트 - 누적된 증가분을 한 번의 UPDATE로 반영")
+    void flushSuccess_existingViews() {
+        // given
+        ViewsKey key = ViewsKey.ofThisMonth(MenuTitle.ABOUT, ArtworkCategory.ALL);
+        for (int i = 0; i < 3; i++) viewsCounter.increase(key);
+        // stub
+        when(viewsRepository.increaseViews(key.year(), key.month(), key.menu(), key.category(), 3L)).thenReturn(1);
+        // when
+        viewsFlushService.flush();
+        // then
+        Mockito.verify(viewsRepository, times(1)).increaseViews(key.year(), key.month(), key.menu(), key.category(), 3L);
+        Mockito.verify(viewsRepository, never()).saveAndFlush(any(Views.class));
+        Mockito.verify(viewsRollupService, times(1)).addViews(Map.of(key, 3L));
+        assertTrue(viewsCounter.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 성공 테스트 - 해당 월 조회수가 없는 경우 새로 생성")
+    void flushSuccess_viewsNotExisted() {
+        // given
+        ViewsKey key = ViewsKey.ofThisMonth(MenuTitle.ARTWORK, ArtworkCategory.DRAMA);
+        viewsCounter.increase(key);
+        viewsCounter.increase(key);
+        // stub
+        when(viewsRepository.increaseViews(key.year(), key.month(), key.menu(), key.category(), 2L)).thenReturn(0);
+        // when
+        viewsFlushService.flush();
+        // then
+        ArgumentCaptor<Views> captor = ArgumentCaptor.forClass(Views.class);
+        Mockito.verify(viewsRepository, times(1)).saveAndFlush(captor.capture());
+        assertEquals(2L, captor.getValue().getViews());
+        assertEquals(key.menu(), captor.getValue().getMenu());
+        assertEquals(key.category(), captor.getValue().getCategory());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 성공 테스트 - 다른 서버가 같은 행을 먼저 만들면 한 번 더 실행해 UPDATE로 반영")
+    void flushSuccess_concurrentInsertRetriesAsUpdate() {
+        // given
+        ViewsKey key = ViewsKey.ofThisMonth(MenuTitle.ARTWORK, ArtworkCategory.DRAMA);
+        viewsCounter.increase(key);
+        // stub
+        when(viewsRepository.increaseViews(key.year(), key.month(), key.menu(), key.category(), 1L)).thenReturn(0, 1);
+        when(viewsRepository.saveAndFlush(any(Views.class))).thenThrow(new DataIntegrityViolationException("uk_views_month_menu_category"));
+        // when
+        viewsFlushService.flush();
+        // then
+        Mockito.verify(viewsRepository, times(2)).increaseViews(key.year(), key.month(), key.menu(), key.category(), 1L);
+        Mockito.verify(viewsRepository, times(1)).saveAndFlush(any(Views.class));
+        Mockito.verify(viewsRollupService, times(1)).addViews(Map.of(key, 1L));
+        assertTrue(viewsCounter.drain().isEmpty());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 성공 테스트 - 카운터가 준 배치 ID를 조회수와 같은 트랜잭션에서 기록")
+    void flushSuccess_recordsBatch() {
+        // given
+        ViewsKey key = ViewsKey.ofThisMonth(MenuTitle.ABOUT, ArtworkCategory.ALL);
+        ViewsCounter batchCounter = mock(ViewsCounter.class);
+        ViewsFlushService service = new ViewsFlushService(batchCounter, viewsRepository, viewsFlushBatchRepository, viewsRollupService,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+        // stub
+        when(batchCounter.tryAcquireFlushLease()).thenReturn(true);
+        when(batchCounter.drain()).thenReturn(Map.of(key, 3L));
+        when(batchCounter.drainedBatchId()).thenReturn("batch-1");
+        when(viewsFlushBatchRepository.existsById("batch-1")).thenReturn(false);
+        when(viewsRepository.increaseViews(key.year(), key.month(), key.menu(), key.category(), 3L)).thenReturn(1);
+        // when
+        service.flush();
+        // then
+        ArgumentCaptor<ViewsFlushBatch> captor = ArgumentCaptor.forClass(ViewsFlushBatch.class);
+        Mockito.verify(viewsFlushBatchRepository, times(1)).deleteOthers("batch-1");
+        Mockito.verify(viewsFlushBatchRepository, times(1)).saveAndFlush(captor.capture());
+        assertEquals("batch-1", captor.getValue().getBatchId());
+        Mockito.verify(viewsRollupService, times(1)).addViews(Map.of(key, 3L));
+        Mockito.verify(batchCounter, times(1)).commit(Map.of(key, 3L));
+    }
+
+    @Test
+    @DisplayName("조회수 반영 테스트 - DB 커밋 뒤 카운터 정리 전에 중단되어 다시 받은 배치는 더하지 않고 카운터만 정리")
+    void flush_alreadyAppliedBatchIsNotAddedTwice() {
+        // given
+        ViewsKey key = ViewsKey.ofThisMonth(MenuTitle.ABOUT, ArtworkCategory.ALL);
+        ViewsCounter batchCounter = mock(ViewsCounter.class);
+        ViewsFlushService service = new ViewsFlushService(batchCounter, viewsRepository, viewsFlushBatchRepository, viewsRollupService,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+        // stub
+        when(batchCounter.tryAcquireFlushLease()).thenReturn(true);
+        when(batchCounter.drain()).thenReturn(Map.of(key, 3L));
+        when(batchCounter.drainedBatchId()).thenReturn("batch-1");
+        when(viewsFlushBatchRepository.existsById("batch-1")).thenReturn(true);
+        // when
+        service.flush();
+        // then
+        Mockito.verifyNoInteractions(viewsRepository);
+        Mockito.verify(viewsRollupService, never()).addViews(any());
+        Mockito.verify(viewsFlushBatchRepository, never()).saveAndFlush(any(ViewsFlushBatch.class));
+        Mockito.verify(batchCounter, times(1)).commit(Map.of(key, 3L));
+        Mockito.verify(batchCounter, never()).restore(any());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 실패 테스트 - 실패한 증가분은 카운터로 되돌아가 다음 주기에 반영")
+    void flushFail_restoreDeltas() {
+        // given
+        ViewsKey key = ViewsKey.ofThisMonth(MenuTitle.MAIN, ArtworkCategory.ALL);
+        viewsCounter.increase(key);
+        // stub
+        when(viewsRepository.increaseViews(any(Integer.class), any(Integer.class), any(MenuTitle.class), any(ArtworkCategory.class), anyLong()))
+                .thenThrow(new IllegalStateException("db down"));
+        // when
+        viewsFlushService.flush();
+        viewsCounter.increase(key);
+        Map<ViewsKey, Long> pending = viewsCounter.drain();
+        // then
+        assertEquals(Map.of(key, 2L), pending);
+    }
+
+    @Test
+    @DisplayName("미반영 조회수 테스트 - 반영 중인 증가분도 커밋 전까지는 미반영으로 센다")
+    void pending_includesInFlightDeltas() {
+        // given
+        ViewsKey key = ViewsKey.ofThisMonth(MenuTitle.MAIN, ArtworkCategory.ALL);
+        viewsCounter.increase(key);
+        Map<ViewsKey, Long> deltas = viewsCounter.drain();
+        // when
+        Map<YearMonth, Long> inFlight = viewsCounter.pending(key.yearMonth(), key.yearMonth(), key.menu(), key.category());
+        viewsCounter.commit(deltas);
+        Map<YearMonth, Long> committed = viewsCounter.pending(key.yearMonth(), key.yearMonth(), key.menu(), key.category());
+        // then
+        assertEquals(Map.of(key.yearMonth(), 1L), inFlight);
+        assertTrue(committed.isEmpty());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 테스트 - 증가분이 없으면 DB에 접근하지 않음")
+    void flush_noDeltas() {
+        // when
+        viewsFlushService.flush();
+        // then
+        Mockito.verifyNoInteractions(viewsRepository, viewsFlushBatchRepository);
+        Mockito.verify(viewsRollupService, times(1)).reconcile();
+        Mockito.verifyNoMoreInteractions(viewsRollupService);
+        assertTrue(viewsFlushService.getFlushLagSeconds() < 1.0);
+    }
+
+    @Test
+    @DisplayName("조회수 집계 맞추기 테스트 - 리스를 잡은 서버가 처음 반영할 때 한 번만 하고, 실패하면 다음 주기에 다시 시도")
+    void flush_reconcilesRollupOnceUnderLease() {
+        // given
+        ViewsCounter leaseCounter = mock(ViewsCounter.class);
+        ViewsFlushService service = new ViewsFlushService(leaseCounter, viewsRepository, viewsFlushBatchRepository, viewsRollupService,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+        // stub
+        when(leaseCounter.tryAcquireFlushLease()).thenReturn(false, true, true, true);
+        doThrow(new IllegalStateException("db down")).doNothing().when(viewsRollupService).reconcile();
+        // when
+        for (int i = 0; i < 4; i++) service.flush();
+        // then
+        Mockito.verify(viewsRollupService, times(2)).reconcile();
+    }
+}
@@ -0,0 +1,149 @@
+package studio.studioeye.domain.views.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import studio.studioeye.domain.menu.domain.MenuTitle;
+import studio.studioeye.domain.project.domain.ArtworkCategory;
+import studio.studioeye.domain.views.dao.ViewsRepository;
+import studio.studioeye.domain.views.dao.ViewsRollupRepository;
+import studio.studioeye.domain.views.dao.ViewsSummary;
+import studio.studioeye.domain.views.domain.Views;
+import studio.studioeye.domain.views.domain.ViewsKey;
+import studio.studioeye.domain.views.domain.ViewsRollup;
+
+import java.time.YearMonth;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ViewsRollupServiceTest {
+    @InjectMocks
+    private ViewsRollupService viewsRollupService;
+    @Mock
+    private ViewsRollupRepository viewsRollupRepository;
+    @Mock
+    private ViewsRepository viewsRepository;
+
+    @Test
+    @DisplayName("조회수 집계 반영 성공 테스트 - 메뉴, 카테고리, 월 단위로 한 번의 UPDATE로 반영")
+    void addViewsSuccess() {
+        // given
+        YearMonth yearMonth = YearMonth.of(2024, 11);
+        Map<ViewsKey, Long> deltas = Map.of(
+                new ViewsKey(yearMonth, MenuTitle.ARTWORK, ArtworkCategory.DRAMA), 3L,
+                new ViewsKey(yearMonth, MenuTitle.ARTWORK, ArtworkCategory.BRANDED), 2L,
+                new ViewsKey(yearMonth, MenuTitle.ABOUT, ArtworkCategory.ALL), 1L);
+        // stub
+        when(viewsRollupRepository.increaseViews(any(MenuTitle.class), any(ArtworkCategory.class), any(Integer.class), any(Long.class)))
+                .thenReturn(1);
+        // when
+        viewsRollupService.addViews(deltas);
+        // then
+        Mockito.verify(viewsRollupRepository, times(1)).increaseViews(MenuTitle.ARTWORK, ArtworkCategory.DRAMA, 202411, 3L);
+        Mockito.verify(viewsRollupRepository, times(1)).increaseViews(MenuTitle.ARTWORK, ArtworkCategory.BRANDED, 202411, 2L);
+        Mockito.verify(viewsRollupRepository, times(1)).increaseViews(MenuTitle.ABOUT, ArtworkCategory.ALL, 202411, 1L);
+        Mockito.verify(viewsRollupRepository, times(3)).increaseViews(any(MenuTitle.class), any(ArtworkCategory.class), any(Integer.class), any(Long.class));
+        Mockito.verify(viewsRollupRepository, never()).saveAndFlush(any(ViewsRollup.class));
+    }
+
+    @Test
+    @DisplayName("조회수 집계 반영 성공 테스트 - 집계가 없는 경우 새로 생성")
+    void addViewsSuccess_rollupNotExisted() {
+        // given
+        ViewsKey key = new ViewsKey(YearMonth.of(2024, 11), MenuTitle.FAQ, ArtworkCategory.ALL);
+        // when
+        viewsRollupService.addViews(key, 4L);
+        // then
+        ArgumentCaptor<ViewsRollup> captor = ArgumentCaptor.forClass(ViewsRollup.class);
+        Mockito.verify(viewsRollupRepository, times(1)).saveAndFlush(captor.capture());
+        assertEquals(MenuTitle.FAQ, captor.getValue().getMenu());
+        assertEquals(ArtworkCategory.ALL, captor.getValue().getCategory());
+        assertEquals(202411, captor.getValue().getYearMonth());
+        assertEquals(4L, captor.getValue().getViews());
+    }
+
+    @Test
+    @DisplayName("기간별 월 조회수 조회 성공 테스트 - menu가 ALL이어도 기존 조회처럼 ALL로 기록된 조회수만 조회")
+    void retrieveMonthlyViewsSuccess_menuAll() {
+        // given
+        ViewsRollup rollup = ViewsRollup.builder()
+                .menu(MenuTitle.ALL).category(ArtworkCategory.ALL)
+                .yearMonth(202410).views(7L).build();
+        // stub
+        when(viewsRollupRepository.findByMenuAndCategoryAndYearMonthBetweenOrderByYearMonthAsc(
+                MenuTitle.ALL, ArtworkCategory.ALL, 202409, 202411)).thenReturn(List.of(rollup));
+        // when
+        List<ViewsSummary> viewsList = viewsRollupService.retrieveMonthlyViews(
+                YearMonth.of(2024, 9), YearMonth.of(2024, 11), MenuTitle.ALL, ArtworkCategory.ALL);
+        // then
+        assertEquals(1, viewsList.size());
+        assertEquals(2024, viewsList.get(0).getYear());
+        assertEquals(10, viewsList.get(0).getMonth());
+        assertEquals(7L, viewsList.get(0).getViews());
+    }
+
+    @Test
+    @DisplayName("조회수 집계 맞추기 테스트 - 집계 테이블이 비어 있으면 Views만큼 더한다")
+    void reconcile_empty() {
+        // given
+        Views views = new Views(2024, 11, 5L, MenuTitle.ABOUT, ArtworkCategory.ALL, new Date());
+        // stub
+        when(viewsRepository.sumViews()).thenReturn(5L);
+        when(viewsRollupRepository.sumViews()).thenReturn(0L);
+        when(viewsRepository.findAll()).thenReturn(List.of(views));
+        when(viewsRollupRepository.findAll()).thenReturn(List.of());
+        // when
+        viewsRollupService.reconcile();
+        // then
+        ArgumentCaptor<ViewsRollup> captor = ArgumentCaptor.forClass(ViewsRollup.class);
+        Mockito.verify(viewsRollupRepository, times(1)).saveAndFlush(captor.capture());
+        assertEquals(5L, captor.getValue().getViews());
+        Mockito.verify(viewsRollupRepository, never()).deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("조회수 집계 맞추기 테스트 - 지우지 않고 키마다 차이만큼만 더해 동시에 반영된 증가분을 덮어쓰지 않는다")
+    void reconcile_partial() {
+        // given
+        Views history = new Views(2024, 10, 5L, MenuTitle.ABOUT, ArtworkCategory.ALL, new Date());
+        Views flushed = new Views(2024, 11, 2L, MenuTitle.ABOUT, ArtworkCategory.ALL, new Date());
+        ViewsRollup flushedRollup = ViewsRollup.builder()
+                .menu(MenuTitle.ABOUT).category(ArtworkCategory.ALL).yearMonth(202411).views(2L).build();
+        // stub
+        when(viewsRepository.sumViews()).thenReturn(7L);
+        when(viewsRollupRepository.sumViews()).thenReturn(2L);
+        when(viewsRepository.findAll()).thenReturn(List.of(history, flushed));
+        when(viewsRollupRepository.findAll()).thenReturn(List.of(flushedRollup));
+        when(viewsRollupRepository.increaseViews(MenuTitle.ABOUT, ArtworkCategory.ALL, 202410, 5L)).thenReturn(1);
+        // when
+        viewsRollupService.reconcile();
+        // then
+        Mockito.verify(viewsRollupRepository, times(1)).increaseViews(MenuTitle.ABOUT, ArtworkCategory.ALL, 202410, 5L);
+        Mockito.verify(viewsRollupRepository, times(1)).increaseViews(any(MenuTitle.class), any(ArtworkCategory.class), any(Integer.class), any(Long.class));
+        Mockito.verify(viewsRollupRepository, never()).deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("조회수 집계 맞추기 테스트 - 집계가 Views와 맞으면 아무것도 하지 않음")
+    void reconcile_upToDate() {
+        // stub
+        when(viewsRepository.sumViews()).thenReturn(7L);
+        when(viewsRollupRepository.sumViews()).thenReturn(7L);
+        // when
+        viewsRollupService.reconcile();
+        // then
+        Mockito.verify(viewsRepository, never()).findAll();
+        Mockito.verify(viewsRollupRepository, never()).findAll();
+    }
+}
@@ -12,16 +12,19 @@ import studio.studioeye.domain.menu.domain.MenuTitle;
 import studio.studioeye.domain.project.domain.ArtworkCategory;
 import studio.studioeye.domain.views.dao.ViewsRepository;
 import studio.studioeye.domain.views.dao.ViewsSummary;
+import studio.studioeye.domain.views.dao.ViewsSummaryImpl;
 import studio.studioeye.domain.views.domain.Views;
+import studio.studioeye.domain.views.domain.ViewsKey;
 import studio.studioeye.domain.views.dto.request.CreateViewsServiceRequestDto;
 import studio.studioeye.domain.views.dto.request.UpdateViewsServiceRequestDto;
 import studio.studioeye.global.common.response.ApiResponse;
 import studio.studioeye.global.exception.error.ErrorCode;
 
-import java.text.SimpleDateFormat;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +37,10 @@ class ViewsServiceTest {
     private ViewsService viewsService;
     @Mock
     private ViewsRepository viewsRepository;
+    @Mock
+    private ViewsCounter viewsCounter;
+    @Mock
+    private ViewsRollupService viewsRollupService;
     @Test
     @DisplayName("조회수 생성 성공 테스트")
     void createViewsSuccess() {
@@ -53,6 +60,7 @@ class ViewsServiceTest {
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("조회 수 등록을 완료했습니다.", response.getMessage());
         Mockito.verify(viewsRepository, times(1)).save(any(Views.class));
+        Mockito.verify(viewsRollupService, times(1)).addViews(new ViewsKey(YearMonth.of(year, month), menu, category), views);
     }
 
     @Test
@@ -369,18 +377,53 @@ class ViewsServiceTest {
             }
         });
         // stub
-        when(viewsRepository.findByYearAndMonthBetweenAndMenuAndCategory(startYear, startMonth, endYear, endMonth, menu, category)).thenReturn(savedViewsList);
+        when(viewsRollupService.retrieveMonthlyViews(YearMonth.of(startYear, startMonth), YearMonth.of(endYear, endMonth), menu, category)).thenReturn(savedViewsList);
         // when
         ApiResponse<List<ViewsSummary>> response = viewsService.retrieveAllMenuCategoryViewsByPeriod(startYear, startMonth, endYear, endMonth, menu, category);
         List<ViewsSummary> findViews = response.getData();
         // then
         assertNotNull(response);
         assertNotNull(findViews);
-        assertEquals(savedViewsList, findViews);
-        assertEquals(savedViewsList.size(), findViews.size());
+        assertEquals(5, findViews.size());
+        assertSame(savedViewsList.get(0), findViews.get(0));
+        assertSame(savedViewsList.get(1), findViews.get(1));
+        assertSame(savedViewsList.get(2), findViews.get(4));
+        assertEquals(9, findViews.get(2).getMonth());
+        assertEquals(0L, findViews.get(2).getViews());
+        assertEquals(10, findViews.get(3).getMonth());
+        assertEquals(0L, findViews.get(3).getViews());
         assertEquals(HttpStatus.OK, response.getStatus());
         assertEquals("조회수 목록을 성공적으로 조회했습니다.", response.getMessage());
-        Mockito.verify(viewsRepository, times(1)).findByYearAndMonthBetweenAndMenuAndCategory(any(Integer.class), any(Integer.class), any(Integer.class), any(Integer.class), any(MenuTitle.class), any(ArtworkCategory.class));
+        Mockito.verify(viewsRollupService, times(1)).retrieveMonthlyViews(any(YearMonth.class), any(YearMonth.class), any(MenuTitle.class), any(ArtworkCategory.class));
+    }
+
+    @Test
+    @DisplayName("기간(시작점(연도,월), 종료점(연도,월))으로 카테고리별, 메뉴별 전체 조회수 조회 성공 테스트 - 아직 반영되지 않은 조회수 합산")
+    void retrieveAllMenuCategoryViewsByPeriodSuccess_withPendingViews() {
+        // given
+        Integer startYear = 2024;
+        Integer startMonth = 10;
+        Integer endYear = 2024;
+        Integer endMonth = 11;
+        MenuTitle menu = MenuTitle.ARTWORK;
+        ArtworkCategory category = ArtworkCategory.DRAMA;
+
+        List<ViewsSummary> savedViewsList = new ArrayList<>();
+        savedViewsList.add(new ViewsSummaryImpl(2024, 10, 8L));
+        // stub
+        when(viewsRollupService.retrieveMonthlyViews(YearMonth.of(startYear, startMonth), YearMonth.of(endYear, endMonth), menu, category)).thenReturn(savedViewsList);
+        when(viewsCounter.pending(YearMonth.of(startYear, startMonth), YearMonth.of(endYear, endMonth), menu, category))
+                .thenReturn(Map.of(YearMonth.of(2024, 10), 2L, YearMonth.of(2024, 11), 5L));
+        // when
+        ApiResponse<List<ViewsSummary>> response = viewsService.retrieveAllMenuCategoryViewsByPeriod(startYear, startMonth, endYear, endMonth, menu, category);
+        List<ViewsSummary> findViews = response.getData();
+        // then
+        assertNotNull(findViews);
+        assertEquals(2, findViews.size());
+        assertEquals(10L, findViews.get(0).getViews());
+        assertEquals(11, findViews.get(1).getMonth());
+        assertEquals(5L, findViews.get(1).getViews());
+        assertEquals(HttpStatus.OK, response.getStatus());
     }
 
     @Test
@@ -401,7 +444,7 @@ class ViewsServiceTest {
         assertNull(findViews);
         assertEquals(ErrorCode.INVALID_VIEWS_MONTH.getStatus(), response.getStatus());
         assertEquals(ErrorCode.INVALID_VIEWS_MONTH.getMessage(), response.getMessage());
-        Mockito.verify(viewsRepository, never()).findByYearAndMonthBetweenAndMenuAndCategory(any(Integer.class), any(Integer.class), any(Integer.class), any(Integer.class), any(MenuTitle.class), any(ArtworkCategory.class));
+        Mockito.verify(viewsRollupService, never()).retrieveMonthlyViews(any(YearMonth.class), any(YearMonth.class), any(MenuTitle.class), any(ArtworkCategory.class));
     }
 
     @Test
@@ -422,62 +465,27 @@ class ViewsServiceTest {
         assertNull(findViews);
         assertEquals(ErrorCode.INVALID_PERIOD_FORMAT.getStatus(), response.getStatus());
         assertEquals(ErrorCode.INVALID_PERIOD_FORMAT.getMessage(), response.getMessage());
-        Mockito.verify(viewsRepository, never()).findByYearAndMonthBetweenAndMenuAndCategory(any(Integer.class), any(Integer.class), any(Integer.class), any(Integer.class), any(MenuTitle.class), any(ArtworkCategory.class));
-    }
-
-    @Test
-    @DisplayName("이번 월 조회수 1 상승 성공 테스트 - 이번 월 조회수 데이터가 없는 경우")
-    void updateThisMonthViewsSuccess_viewsNotExisted() {
-        // given
-        MenuTitle menu = MenuTitle.ABOUT;
-        ArtworkCategory category = ArtworkCategory.ALL;
-        UpdateViewsServiceRequestDto requestDto = new UpdateViewsServiceRequestDto(menu, category);
-        // when
-        ApiResponse<Views> response = viewsService.updateThisMonthViews(requestDto);
-        Views findViews = response.getData();
-        // then
-        assertNotNull(response);
-        assertNull(findViews);
-        assertEquals(HttpStatus.OK, response.getStatus());
-        assertTrue(
-                response.getMessage().equals("조회수를 성공적으로 수정했습니다.") ||
-                        response.getMessage().equals("조회 수 등록을 완료했습니다.")
-        );
-        Mockito.verify(viewsRepository, times(1)).save(any(Views.class));
+        Mockito.verify(viewsRollupService, never()).retrieveMonthlyViews(any(YearMonth.class), any(YearMonth.class), any(MenuTitle.class), any(ArtworkCategory.class));
     }
 
     @Test
-    @DisplayName("이번 월 조회수 1 상승 성공 테스트 - 이번 월 조회수 데이터가 이미 존재하는 경우")
-    void updateThisMonthViewsSuccess_alreadyViewsExisted() {
+    @DisplayName("이번 월 조회수 1 상승 성공 테스트 - DB에 바로 쓰지 않고 카운터에 누적")
+    void updateThisMonthViewsSuccess() {
         // given
         MenuTitle menu = MenuTitle.ABOUT;
         ArtworkCategory category = ArtworkCategory.ALL;
         UpdateViewsServiceRequestDto requestDto = new UpdateViewsServiceRequestDto(menu, category);
-        Views mockViews = Views.builder()
-                .year(2024)
-                .month(11)
-                .views(1L)
-                .menu(MenuTitle.ABOUT)
-                .category(category)
-                .createdAt(new Date())
-                .build();
-        // stub
-        when(viewsRepository.findByYearAndMonthAndMenuAndCategory(Integer.parseInt(
-                new SimpleDateFormat("yyyy").format(new Date().getTime())),
-                Integer.parseInt(new SimpleDateFormat("MM").format(new Date().getTime())),
-                requestDto.menu(), requestDto.category())).thenReturn(Optional.of(mockViews));
         // when
-        ApiResponse<Views> response = viewsService.updateThisMonthViews(requestDto);
+        ApiResponse<Void> response = viewsService.updateThisMonthViews(requestDto);
         Views findViews = response.getData();
         // then
         assertNotNull(response);
         assertNull(findViews);
         assertEquals(HttpStatus.OK, response.getStatus());
-        assertTrue(
-                response.getMessage().equals("조회수를 성공적으로 수정했습니다.") ||
-                        response.getMessage().equals("조회 수 등록을 완료했습니다.")
-        );
-        Mockito.verify(viewsRepository, times(1)).save(any(Views.class));
+        assertEquals("조회수를 성공적으로 수정했습니다.", response.getMessage());
+        Mockito.verify(viewsCounter, times(1)).increase(ViewsKey.ofThisMonth(menu, category));
+        Mockito.verify(viewsRepository, never()).findByYearAndMonthAndMenuAndCategory(any(Integer.class), any(Integer.class), any(MenuTitle.class), any(ArtworkCategory.class));
+        Mockito.verify(viewsRepository, never()).save(any(Views.class));
     }
 
     @Test
@@ -488,7 +496,7 @@ class ViewsServiceTest {
         ArtworkCategory category = ArtworkCategory.ENTERTAINMENT;
         UpdateViewsServiceRequestDto requestDto = new UpdateViewsServiceRequestDto(menu, category);
         // when
-        ApiResponse<Views> response = viewsService.updateThisMonthViews(requestDto);
+        ApiResponse<Void> response = viewsService.updateThisMonthViews(requestDto);
         Views findViews = response.getData();
         // then
         assertNotNull(response);
@@ -496,5 +504,6 @@ class ViewsServiceTest {
         assertEquals(ErrorCode.INVALID_VIEWS_CATEGORY.getStatus(), response.getStatus());
         assertEquals(ErrorCode.INVALID_VIEWS_CATEGORY.getMessage(), response.getMessage());
         Mockito.verify(viewsRepository, never()).save(any(Views.class));
+        Mockito.verify(viewsCounter, never()).increase(any(ViewsKey.class));
     }
 }
@@ -0,0 +1,112 @@
+package studio.studioeye.global.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import studio.studioeye.infrastructure.redis.RedisService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentVersionRegistryTest {
+
+    private static final String VERSION_KEY = "content:version";
+
+    @Mock
+    private RedisService redisService;
+
+    private ContentVersionRegistry contentVersionRegistry;
+    private final Map<String, String> stored = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        contentVersionRegistry = new ContentVersionRegistry(redisService);
+        // 매 조회마다 Redis를 다시 읽도록 한다.
+        ReflectionTestUtils.setField(contentVersionRegistry, "refreshMillis", -1L);
+        for (ContentAggregate aggregate : ContentAggregate.values()) {
+            stored.put(aggregate.name() + ":modified", "1000");
+        }
+        stored.put(ContentAggregate.FAQ.name(), "3");
+    }
+
+    @Test
+    @DisplayName("콘텐츠 버전 조회 테스트 - Redis에 저장된 버전과 수정 시각을 읽는다")
+    void current() {
+        // stub
+        when(redisService.getAllHashOps(VERSION_KEY)).thenAnswer(invocation -> new HashMap<>(stored));
+        // when
+        ContentVersion version = contentVersionRegistry.current(ContentAggregate.FAQ);
+        // then
+        assertEquals(new ContentVersion(3L, 1000L), version);
+        assertEquals(new ContentVersion(0L, 1000L), contentVersionRegistry.current(ContentAggregate.NEWS));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중 버전 증가 테스트 - 복구 후 갱신해도 로컬에서 올린 버전이 되돌아가지 않는다")
+    void increase_redisDown_notReverted() {
+        // given
+        when(redisService.getAllHashOps(VERSION_KEY)).thenAnswer(invocation -> new HashMap<>(stored));
+        ContentVersion before = contentVersionRegistry.current(ContentAggregate.FAQ);
+        // stub
+        when(redisService.incrementHashOps(VERSION_KEY, ContentAggregate.FAQ.name(), 1L))
+                .thenThrow(new IllegalStateException("redis down"))
+                .thenAnswer(invocation -> {
+                    long next = Long.parseLong(stored.get(ContentAggregate.FAQ.name())) + 1;
+                    stored.put(ContentAggregate.FAQ.name(), String.valueOf(next));
+                    return next;
+                });
+        // when
+        contentVersionRegistry.increase(ContentAggregate.FAQ);
+        ContentVersion after = contentVersionRegistry.current(ContentAggregate.FAQ);
+        // then
+        assertEquals(4L, after.version());
+        assertNotEquals(before.etag(), after.etag());
+        verify(redisService, times(2)).incrementHashOps(VERSION_KEY, ContentAggregate.FAQ.name(), 1L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중 조회 테스트 - 이전에 읽은 버전을 계속 쓴다")
+    void current_redisDown() {
+        // given
+        when(redisService.getAllHashOps(VERSION_KEY))
+                .thenAnswer(invocation -> new HashMap<>(stored))
+                .thenThrow(new IllegalStateException("redis down"));
+        ContentVersion before = contentVersionRegistry.current(ContentAggregate.FAQ);
+        // when
+        ContentVersion after = contentVersionRegistry.current(ContentAggregate.FAQ);
+        // then
+        assertEquals(before, after);
+    }
+
+    @Test
+    @DisplayName("인코딩별 ETag 테스트 - 원본의 ETag로는 gzip 표현에 304를 주지 않는다")
+    void checkNotModified_perEncoding() {
+        // given
+        ContentVersion version = new ContentVersion(3L, 1000L);
+        // when
+        boolean identityMatched = contentVersionRegistry.checkNotModified(version, "gzip", webRequest(version.etag()));
+        boolean gzipMatched = contentVersionRegistry.checkNotModified(version, "gzip", webRequest(version.etag("gzip")));
+        // then
+        assertFalse(identityMatched);
+        assertTrue(gzipMatched);
+    }
+
+    private static ServletWebRequest webRequest(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/faq");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
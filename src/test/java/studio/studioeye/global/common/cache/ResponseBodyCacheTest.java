@@ -0,0 +1,144 @@
+package studio.studioeye.global.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.WebRequest;
+import studio.studioeye.global.common.response.ApiResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseBodyCacheTest {
+
+    private static final ContentVersion VERSION = new ContentVersion(1L, 1_700_000_000_000L);
+
+    @Mock
+    private ContentVersionRegistry contentVersionRegistry;
+
+    private ResponseBodyCache responseBodyCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        responseBodyCache = new ResponseBodyCache(new ObjectMapper(), contentVersionRegistry);
+        ReflectionTestUtils.setField(responseBodyCache, "ttlMillis", 60_000L);
+    }
+
+    @Test
+    @DisplayName("응답 캐시 적중 테스트 - 같은 버전이면 두 번째 요청은 조회하지 않는다")
+    void write_cachedBody() throws IOException {
+        // stub
+        stubVersion(VERSION);
+        // when
+        MockHttpServletResponse first = write(null);
+        MockHttpServletResponse second = write(null);
+        // then
+        assertEquals(1, loads.get());
+        assertArrayEquals(first.getContentAsByteArray(), second.getContentAsByteArray());
+        assertTrue(second.getContentAsString(StandardCharsets.UTF_8).contains("FAQ 목록"));
+    }
+
+    @Test
+    @DisplayName("응답 캐시 무효화 테스트 - 변경 이벤트를 받으면 다음 요청에서 다시 조회한다")
+    void onContentChanged_evicts() throws IOException {
+        // stub
+        stubVersion(VERSION);
+        // when
+        write(null);
+        responseBodyCache.onContentChanged(new ContentChangedEvent(ContentAggregate.FAQ));
+        write(null);
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("응답 캐시 버전 테스트 - 다른 서버에서 버전이 오르면 다시 조회한다")
+    void write_reloadsOnNewVersion() throws IOException {
+        // stub
+        ContentVersion next = new ContentVersion(2L, VERSION.modifiedAt() + 1);
+        stubVersion(VERSION);
+        write(null);
+        stubVersion(next);
+        // when
+        write(null);
+        // then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("gzip 응답 테스트 - gzip을 받는 클라이언트에는 압축본을 내려준다")
+    void write_gzip() throws IOException {
+        // stub
+        stubVersion(VERSION);
+        // when
+        MockHttpServletResponse identity = write(null);
+        MockHttpServletResponse gzip = write("gzip, deflate");
+        // then
+        assertNull(identity.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzip.getHeader(HttpHeaders.VARY));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            assertEquals(identity.getContentAsString(StandardCharsets.UTF_8), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("조건부 요청 테스트 - 인코딩별 ETag로 비교하고 304에도 Vary를 내려준다")
+    void write_notModified() throws IOException {
+        // stub
+        when(contentVersionRegistry.current(ContentAggregate.FAQ)).thenReturn(VERSION);
+        when(contentVersionRegistry.checkNotModified(eq(VERSION), eq("gzip"), any(WebRequest.class))).thenReturn(true);
+        // when
+        MockHttpServletResponse response = write("gzip");
+        // then
+        assertEquals(0, loads.get());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 해석 테스트 - q=0으로 거부하면 gzip을 쓰지 않는다")
+    void acceptsGzip() {
+        assertTrue(ResponseBodyCache.acceptsGzip("gzip"));
+        assertTrue(ResponseBodyCache.acceptsGzip("br, GZIP;q=0.5"));
+        assertTrue(ResponseBodyCache.acceptsGzip("*"));
+        assertFalse(ResponseBodyCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseBodyCache.acceptsGzip("identity"));
+        assertFalse(ResponseBodyCache.acceptsGzip(null));
+    }
+
+    private void stubVersion(ContentVersion version) {
+        when(contentVersionRegistry.current(ContentAggregate.FAQ)).thenReturn(version);
+        when(contentVersionRegistry.checkNotModified(eq(version), any(), any(WebRequest.class))).thenReturn(false);
+    }
+
+    private MockHttpServletResponse write(String acceptEncoding) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/faq");
+        if (acceptEncoding != null) request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        responseBodyCache.write(ContentAggregate.FAQ, request, response, () -> {
+            loads.incrementAndGet();
+            return ApiResponse.ok("FAQ 목록을 성공적으로 조회했습니다.", List.of("질문"));
+        });
+        return response;
+    }
+}
@@ -0,0 +1,84 @@
+package studio.studioeye.global.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlySeriesTest {
+
+    @Test
+    @DisplayName("월 버킷 테스트 - 연도가 바뀌어도 시작 월부터 개월 수로 인덱스를 매긴다")
+    void indexOf_acrossYears() {
+        // given
+        MonthlySeries<Long> series = MonthlySeries.of(YearMonth.of(2023, 11), YearMonth.of(2024, 2));
+        // then
+        assertEquals(4, series.size());
+        assertEquals(0, series.indexOf(2023, 11));
+        assertEquals(1, series.indexOf(2023, 12));
+        assertEquals(2, series.indexOf(2024, 1));
+        assertEquals(3, series.indexOf(2024, 2));
+    }
+
+    @Test
+    @DisplayName("월 버킷 테스트 - 기간 밖의 달은 -1이고 저장하지 않는다")
+    void put_outOfRangeIgnored() {
+        // given
+        MonthlySeries<Long> series = MonthlySeries.of(YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+        // when
+        series.put(2023, 12, 5L);
+        series.put(2024, 4, 5L);
+        // then
+        assertEquals(-1, series.indexOf(2023, 12));
+        assertEquals(-1, series.indexOf(2024, 4));
+        assertNull(series.get(2023, 12));
+        assertEquals(List.of(0L, 0L, 0L), series.toList((year, month, views) -> views == null ? 0L : views));
+    }
+
+    @Test
+    @DisplayName("빈 달 채우기 테스트 - 값이 없는 달은 null로 넘겨 0으로 채우고 순서대로 돌려준다")
+    void toList_fillsGaps() {
+        // given
+        MonthlySeries<Long> series = MonthlySeries.of(YearMonth.of(2024, 11), YearMonth.of(2025, 2));
+        series.put(2024, 12, 7L);
+        series.put(2025, 2, 3L);
+        // when
+        List<String> filled = series.toList((year, month, views) -> year + "-" + month + ":" + (views == null ? 0L : views));
+        // then
+        assertEquals(List.of("2024-11:0", "2024-12:7", "2025-1:0", "2025-2:3"), filled);
+    }
+
+    @Test
+    @DisplayName("버킷 누적 테스트 - 같은 달은 처음 만든 버킷을 계속 쓴다")
+    void computeIfAbsent_reusesBucket() {
+        // given
+        MonthlySeries<StringBuilder> series = MonthlySeries.of(YearMonth.of(2024, 1), YearMonth.of(2024, 1));
+        // when
+        series.computeIfAbsent(2024, 1, StringBuilder::new).append("a");
+        series.computeIfAbsent(2024, 1, StringBuilder::new).append("b");
+        StringBuilder outside = series.computeIfAbsent(2024, 2, StringBuilder::new).append("c");
+        // then
+        assertEquals("ab", series.get(2024, 1).toString());
+        assertEquals("c", outside.toString());
+        assertNull(series.get(2024, 2));
+    }
+
+    @Test
+    @DisplayName("한 달 기간 테스트 - 시작과 종료가 같으면 버킷 하나")
+    void of_singleMonth() {
+        // when
+        MonthlySeries<Long> series = MonthlySeries.of(YearMonth.of(2024, 5), YearMonth.of(2024, 5));
+        // then
+        assertEquals(1, series.size());
+    }
+
+    @Test
+    @DisplayName("기간 검증 테스트 - 종료 월이 시작 월보다 앞서면 예외")
+    void of_invalidPeriod() {
+        assertThrows(IllegalArgumentException.class,
+                () -> MonthlySeries.of(YearMonth.of(2024, 5), YearMonth.of(2024, 4)));
+    }
+}
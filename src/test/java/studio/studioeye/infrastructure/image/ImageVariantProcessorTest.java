@@ -0,0 +1,124 @@
+package studio.studioeye.infrastructure.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageVariantProcessorTest {
+
+	private final ImageVariantProcessor processor = new ImageVariantProcessor(50_000_000L);
+
+	@Test
+	@DisplayName("썸네일 변환 테스트 - 목표 너비로 줄이고 가로세로 비율을 지킨다")
+	void resize_keepsAspectRatio() throws IOException {
+		// given
+		byte[] source = png(2000, 1000, BufferedImage.TYPE_INT_RGB);
+		// when
+		Optional<byte[]> thumbnail = processor.resize(new ByteArrayInputStream(source), 480);
+		// then
+		BufferedImage image = decode(thumbnail);
+		assertEquals(480, image.getWidth());
+		assertEquals(240, image.getHeight());
+	}
+
+	@Test
+	@DisplayName("썸네일 변환 테스트 - 목표 너비의 두 배보다 큰 원본도 건너뛰며 읽은 뒤 정확한 크기로 맞춘다")
+	void resize_subsampledSource() throws IOException {
+		// given
+		byte[] source = png(4001, 1999, BufferedImage.TYPE_INT_RGB);
+		// when
+		Optional<byte[]> thumbnail = processor.resize(new ByteArrayInputStream(source), 480);
+		// then
+		BufferedImage image = decode(thumbnail);
+		assertEquals(480, image.getWidth());
+		assertEquals(240, image.getHeight());
+	}
+
+	@Test
+	@DisplayName("썸네일 변환 테스트 - 목표 너비보다 작은 원본은 늘리지 않는다")
+	void resize_doesNotEnlarge() throws IOException {
+		// given
+		byte[] source = png(200, 100, BufferedImage.TYPE_INT_RGB);
+		// when
+		Optional<byte[]> thumbnail = processor.resize(new ByteArrayInputStream(source), 480);
+		// then
+		BufferedImage image = decode(thumbnail);
+		assertEquals(200, image.getWidth());
+		assertEquals(100, image.getHeight());
+	}
+
+	@Test
+	@DisplayName("썸네일 변환 테스트 - 투명한 원본도 흰 바탕으로 인코딩한다")
+	void resize_transparentSource() throws IOException {
+		// given
+		byte[] source = png(100, 100, BufferedImage.TYPE_INT_ARGB);
+		// when
+		Optional<byte[]> thumbnail = processor.resize(new ByteArrayInputStream(source), 50);
+		// then
+		BufferedImage image = decode(thumbnail);
+		assertFalse(image.getColorModel().hasAlpha());
+		assertEquals(50, image.getWidth());
+	}
+
+	@Test
+	@DisplayName("썸네일 변환 실패 테스트 - 이미지가 아니면 비어 있는 값을 돌려준다")
+	void resize_notAnImage() throws IOException {
+		// when
+		Optional<byte[]> thumbnail = processor.resize(
+				new ByteArrayInputStream("%PDF-1.4".getBytes(StandardCharsets.UTF_8)), 480);
+		// then
+		assertTrue(thumbnail.isEmpty());
+	}
+
+	@Test
+	@DisplayName("썸네일 변환 실패 테스트 - 픽셀 수가 한도를 넘으면 디코딩하지 않는다")
+	void resize_tooManyPixels() throws IOException {
+		// given
+		ImageVariantProcessor limited = new ImageVariantProcessor(100 * 100 - 1);
+		byte[] source = png(100, 100, BufferedImage.TYPE_INT_RGB);
+		// when
+		Optional<byte[]> thumbnail = limited.resize(new ByteArrayInputStream(source), 50);
+		// then
+		assertTrue(thumbnail.isEmpty());
+	}
+
+	@Test
+	@DisplayName("썸네일 형식 테스트 - 쓰는 확장자와 MIME 타입이 서로 맞고, 지울 때 쓰는 확장자 목록에 들어 있다")
+	void extensionMatchesContentType() {
+		// then
+		assertTrue(ImageVariantProcessor.EXTENSIONS.contains(processor.extension()));
+		assertEquals(processor.extension().equals(".webp") ? "image/webp" : "image/jpeg", processor.contentType());
+	}
+
+	private static byte[] png(int width, int height, int type) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, type);
+		Graphics2D graphics = image.createGraphics();
+		try {
+			graphics.setColor(Color.ORANGE);
+			graphics.fillRect(0, 0, width / 2, height);
+		} finally {
+			graphics.dispose();
+		}
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", output);
+		return output.toByteArray();
+	}
+
+	private static BufferedImage decode(Optional<byte[]> thumbnail) throws IOException {
+		assertTrue(thumbnail.isPresent());
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail.get()));
+		assertNotNull(image);
+		return image;
+	}
+}
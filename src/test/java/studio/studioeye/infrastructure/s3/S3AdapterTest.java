@@ -0,0 +1,196 @@
+package studio.studioeye.infrastructure.s3;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.infrastructure.redis.EmbeddedRedis;
+import studio.studioeye.infrastructure.redis.RedisService;
+import studio.studioeye.infrastructure.storage.BlobAttributes;
+import studio.studioeye.infrastructure.storage.InMemoryBlobStore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:s3_adapter;NON_KEYWORDS=USER",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// 삭제는 다른 스레드에서 커밋된 참조 수를 읽으므로 테스트 메서드를 트랜잭션으로 감싸지 않는다.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class S3AdapterTest {
+
+	@RegisterExtension
+	static EmbeddedRedis redis = new EmbeddedRedis();
+
+	@Autowired
+	private S3ObjectReferenceRepository referenceRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private CountingBlobStore blobStore;
+	private RedisService redisService;
+	private S3ReferenceCounter referenceCounter;
+	private ExecutorService deletionExecutor;
+	private S3Adapter s3Adapter;
+
+	@BeforeEach
+	void setUp() {
+		blobStore = new CountingBlobStore();
+		redisService = redis.redisService();
+		referenceCounter = new S3ReferenceCounter(referenceRepository, redisService, transactionManager);
+		VersionedAssetRegistry registry = new VersionedAssetRegistry(blobStore, redisService);
+		deletionExecutor = Executors.newSingleThreadExecutor();
+		S3ImageVariantGenerator variantGenerator = new S3ImageVariantGenerator(blobStore, new SimpleMeterRegistry(), Runnable::run, 480, 50_000_000L);
+		S3DeletionQueue deletionQueue = new S3DeletionQueue(blobStore, referenceCounter, registry, variantGenerator, redisService, deletionExecutor);
+		s3Adapter = new S3Adapter(blobStore, registry, referenceCounter, deletionQueue);
+		ReflectionTestUtils.setField(s3Adapter, "contentAddressed", true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		blobStore.allowDelete.countDown();
+		deletionExecutor.shutdownNow();
+		referenceRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("내용 주소 업로드 테스트 - 같은 내용은 이름이 달라도 한 객체를 함께 쓰고 한 번만 올린다")
+	void uploadFile_sameContentSharesObject() throws IOException {
+		// when
+		String first = s3Adapter.uploadFile(file("a.png", "same")).getData();
+		String second = s3Adapter.uploadFile(file("b.PNG", "same")).getData();
+		// then
+		String key = VersionedAssetRegistry.keyOf(first);
+		assertTrue(key.startsWith(S3ReferenceCounter.CONTENT_ADDRESSED_PREFIX));
+		assertTrue(key.endsWith(".png"));
+		assertEquals(first, second);
+		assertEquals(1, blobStore.puts.get());
+		assertEquals(2L, references(key));
+	}
+
+	@Test
+	@DisplayName("내용 주소 업로드 테스트 - 이름이 같아도 내용이 다르면 다른 객체로 올린다")
+	void uploadFile_differentContent() throws IOException {
+		// when
+		String first = s3Adapter.uploadFile(file("a.png", "one")).getData();
+		String second = s3Adapter.uploadFile(file("a.png", "two")).getData();
+		// then
+		assertNotEquals(first, second);
+		assertEquals(2, blobStore.puts.get());
+	}
+
+	@Test
+	@DisplayName("참조 해제 테스트 - 마지막 참조를 놓을 때만 객체를 지운다")
+	void releaseFile_deletesOnLastReference() throws Exception {
+		// given
+		String url = s3Adapter.uploadFile(file("a.png", "same")).getData();
+		s3Adapter.uploadFile(file("b.png", "same"));
+		String key = VersionedAssetRegistry.keyOf(url);
+		blobStore.allowDelete.countDown();
+		// when
+		s3Adapter.releaseFile(url);
+		awaitDeletions();
+		boolean keptAfterFirst = blobStore.stat(key).isPresent();
+		s3Adapter.releaseFile(url);
+		awaitDeletions();
+		// then
+		assertTrue(keptAfterFirst);
+		assertTrue(blobStore.stat(key).isEmpty());
+		assertFalse(referenceRepository.existsById(key));
+	}
+
+	@Test
+	@DisplayName("삭제·업로드 경합 테스트 - 삭제 중인 객체와 같은 내용을 올리면 삭제가 끝난 뒤 다시 올린다")
+	void uploadFile_waitsForDeletionInProgress() throws Exception {
+		// given
+		String url = s3Adapter.uploadFile(file("a.png", "same")).getData();
+		String key = VersionedAssetRegistry.keyOf(url);
+		s3Adapter.releaseFile(url);
+		assertTrue(blobStore.deleteStarted.await(5, TimeUnit.SECONDS));
+		// when
+		ExecutorService uploader = Executors.newSingleThreadExecutor();
+		Future<ApiResponse<String>> upload = uploader.submit(() -> s3Adapter.uploadFile(file("b.png", "same")));
+		Thread.sleep(200);
+		boolean finishedDuringDeletion = upload.isDone();
+		blobStore.allowDelete.countDown();
+		ApiResponse<String> response = upload.get(5, TimeUnit.SECONDS);
+		uploader.shutdown();
+		// then
+		assertFalse(finishedDuringDeletion);
+		assertEquals(HttpStatus.OK, response.getStatus());
+		assertTrue(blobStore.stat(key).isPresent());
+		assertEquals(2, blobStore.puts.get());
+		assertEquals(1L, references(key));
+	}
+
+	@Test
+	@DisplayName("같은 내용 비교 테스트 - 저장된 내용 주소 키와 새 파일의 해시가 같으면 다시 올리지 않아도 된다")
+	void isSameContent() throws IOException {
+		// given
+		String url = s3Adapter.uploadFile(file("a.png", "same")).getData();
+		// then
+		assertTrue(s3Adapter.isSameContent(url, file("renamed.png", "same")));
+		assertFalse(s3Adapter.isSameContent(url, file("a.png", "other")));
+	}
+
+	private long references(String key) {
+		return referenceRepository.findById(key).orElseThrow().getReferenceCount();
+	}
+
+	private void awaitDeletions() throws Exception {
+		deletionExecutor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+	}
+
+	private static MockMultipartFile file(String name, String content) {
+		return new MockMultipartFile("file", name, "image/png", content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	// PUT 횟수를 세고, 삭제는 allowDelete가 열릴 때까지 붙잡아 둔다.
+	private static class CountingBlobStore extends InMemoryBlobStore {
+
+		private final AtomicInteger puts = new AtomicInteger();
+		private final CountDownLatch deleteStarted = new CountDownLatch(1);
+		private final CountDownLatch allowDelete = new CountDownLatch(1);
+
+		CountingBlobStore() {
+			super("https://bucket/", 0);
+		}
+
+		@Override
+		public String put(String key, InputStream content, BlobAttributes attributes) {
+			puts.incrementAndGet();
+			return super.put(key, content, attributes);
+		}
+
+		@Override
+		public List<String> delete(List<String> keys) {
+			deleteStarted.countDown();
+			try {
+				allowDelete.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return super.delete(keys);
+		}
+	}
+}
@@ -0,0 +1,273 @@
+package studio.studioeye.infrastructure.s3;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import studio.studioeye.infrastructure.redis.EmbeddedRedis;
+import studio.studioeye.infrastructure.redis.RedisService;
+import studio.studioeye.infrastructure.storage.BlobAttributes;
+import studio.studioeye.infrastructure.storage.BlobStoreException;
+import studio.studioeye.infrastructure.storage.InMemoryBlobStore;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3DeletionQueueTest {
+
+	@RegisterExtension
+	static EmbeddedRedis redis = new EmbeddedRedis();
+
+	private static final String PENDING_DELETION_KEY = "s3:pending-deletions";
+
+	@Mock
+	private S3ReferenceCounter referenceCounter;
+	@Mock
+	private VersionedAssetRegistry versionedAssetRegistry;
+
+	private RedisService redisService;
+	private FailingBlobStore blobStore;
+	private S3ImageVariantGenerator variantGenerator;
+	private S3DeletionQueue deletionQueue;
+
+	@BeforeEach
+	void setUp() {
+		redisService = redis.redisService();
+		blobStore = new FailingBlobStore();
+		variantGenerator = new S3ImageVariantGenerator(blobStore, new SimpleMeterRegistry(), Runnable::run, 480, 50_000_000L);
+		deletionQueue = new S3DeletionQueue(blobStore, referenceCounter, versionedAssetRegistry, variantGenerator, redisService, Runnable::run);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("재시도 테스트 - 지우지 못한 내용 주소 객체는 Redis에 넣지 않고, 참조 수 0인 행을 읽어 다시 지운다")
+	void retryPendingDeletions_retriesUnreferencedFromDatabase() {
+		// given
+		store("cas/a.png", "uuid.png");
+		blobStore.failing = true;
+		// stub
+		stubClaimAll();
+		when(referenceCounter.findUnreferenced(S3DeletionQueue.MAX_KEYS_PER_REQUEST)).thenReturn(List.of("cas/a.png"));
+		// when
+		commit(() -> {
+			deletionQueue.release("cas/a.png");
+			deletionQueue.release("uuid.png");
+		});
+		Set<String> pendingAfterFailure = members(PENDING_DELETION_KEY);
+		blobStore.failing = false;
+		deletionQueue.retryPendingDeletions();
+		// then
+		assertTrue(pendingAfterFailure.contains("uuid.png"));
+		assertFalse(pendingAfterFailure.contains("cas/a.png"));
+		assertTrue(blobStore.stat("cas/a.png").isEmpty());
+		assertTrue(blobStore.stat("uuid.png").isEmpty());
+		assertTrue(members(PENDING_DELETION_KEY).isEmpty());
+		verify(referenceCounter).completeDeletion(anyString(), eq(List.of()));
+		verify(referenceCounter).completeDeletion(anyString(), eq(List.of("cas/a.png")));
+		verify(versionedAssetRegistry).forget("cas/a.png");
+		verify(referenceCounter, never()).discard(anyString());
+		verify(referenceCounter, never()).release(anyString());
+	}
+
+	@Test
+	@DisplayName("재시도 테스트 - 저장소가 계속 실패하면 한 번만 시도하고 다음 주기로 미룬다")
+	void retryPendingDeletions_stopsWhileStoreDown() {
+		// given
+		store("uuid-1.png", "uuid-2.png");
+		redisService.addSetValues(PENDING_DELETION_KEY, List.of("uuid-1.png", "uuid-2.png"));
+		blobStore.failing = true;
+		// when
+		deletionQueue.retryPendingDeletions();
+		// then
+		assertEquals(1, blobStore.deleteCalls.get());
+		assertEquals(Set.of("uuid-1.png", "uuid-2.png"), members(PENDING_DELETION_KEY));
+		verify(versionedAssetRegistry, never()).forget(anyString());
+	}
+
+	@Test
+	@DisplayName("재시도 테스트 - 삭제할 키를 잡지 못하면 참조를 세지 않는 키만 Redis에 남긴다")
+	void release_claimFailure() {
+		// given
+		store("cas/a.png", "uuid.png");
+		// stub
+		when(referenceCounter.claimUnreferenced(anyCollection(), anyString()))
+				.thenThrow(new CannotCreateTransactionException("connection refused"));
+		// when
+		commit(() -> {
+			deletionQueue.release("cas/a.png");
+			deletionQueue.release("uuid.png");
+		});
+		// then
+		assertTrue(blobStore.stat("cas/a.png").isPresent());
+		assertTrue(blobStore.stat("uuid.png").isPresent());
+		Set<String> pending = new HashSet<>(variantGenerator.variantKeysOf("uuid.png"));
+		pending.add("uuid.png");
+		assertEquals(pending, members(PENDING_DELETION_KEY));
+		verify(referenceCounter, never()).completeDeletion(anyString(), anyCollection());
+	}
+
+	@Test
+	@DisplayName("업로드 보상 테스트 - 내용 주소 객체는 참조를 놓은 뒤 참조가 없을 때만 지운다")
+	void discard_releasesReferenceBeforeDeleting() {
+		// given
+		store("cas/a.png", "cas/shared.png");
+		// stub
+		when(referenceCounter.claimUnreferenced(eq(List.of("cas/a.png")), anyString())).thenReturn(List.of("cas/a.png"));
+		when(referenceCounter.claimUnreferenced(eq(List.of("cas/shared.png")), anyString())).thenReturn(List.of());
+		// when
+		deletionQueue.discard("cas/a.png");
+		deletionQueue.discard("cas/shared.png");
+		// then
+		assertTrue(blobStore.stat("cas/a.png").isEmpty());
+		assertTrue(blobStore.stat("cas/shared.png").isPresent());
+		InOrder inOrder = inOrder(referenceCounter);
+		inOrder.verify(referenceCounter).discard("cas/a.png");
+		inOrder.verify(referenceCounter).claimUnreferenced(eq(List.of("cas/a.png")), anyString());
+		verify(referenceCounter).discard("cas/shared.png");
+	}
+
+	@Test
+	@DisplayName("업로드 보상 테스트 - 참조를 놓지 못하면 객체를 지우지 않는다")
+	void discard_keepsObjectWhenReleaseFails() {
+		// given
+		store("cas/a.png");
+		// stub
+		doThrow(new CannotCreateTransactionException("connection refused")).when(referenceCounter).discard("cas/a.png");
+		// when
+		deletionQueue.discard("cas/a.png");
+		// then
+		assertTrue(blobStore.stat("cas/a.png").isPresent());
+		verify(referenceCounter, never()).claimUnreferenced(anyCollection(), anyString());
+		assertTrue(members(PENDING_DELETION_KEY).isEmpty());
+	}
+
+	@Test
+	@DisplayName("썸네일 삭제 테스트 - 원본을 지울 때 목록을 읽지 않고 썸네일 키를 계산해 같은 요청으로 지운다")
+	void release_deletesVariantsWithoutListing() {
+		// given
+		store("uuid.png");
+		List<String> variantKeys = variantGenerator.variantKeysOf("uuid.png");
+		store(variantKeys.toArray(String[]::new));
+		store("variants/uuid.png.bak/480.webp");
+		// when
+		deletionQueue.release("uuid.png");
+		// then
+		assertTrue(blobStore.stat("uuid.png").isEmpty());
+		variantKeys.forEach(variantKey -> assertTrue(blobStore.stat(variantKey).isEmpty()));
+		assertTrue(blobStore.stat("variants/uuid.png.bak/480.webp").isPresent());
+		assertEquals(1, blobStore.deleteCalls.get());
+		assertEquals(0, blobStore.listCalls.get());
+	}
+
+	@Test
+	@DisplayName("썸네일 삭제 테스트 - 업로드 보상으로 지우는 객체는 썸네일 키를 붙이지 않는다")
+	void discard_skipsVariants() {
+		// given
+		store("uuid.png");
+		// when
+		deletionQueue.discard("uuid.png");
+		// then
+		assertTrue(blobStore.stat("uuid.png").isEmpty());
+		assertEquals(List.of("uuid.png"), blobStore.lastDeleted);
+	}
+
+	@Test
+	@DisplayName("참조 해제 테스트 - 트랜잭션이 롤백되면 참조를 놓지도 지우지도 않는다")
+	void release_rollback() {
+		// given
+		store("cas/a.png");
+		// when
+		TransactionSynchronizationManager.initSynchronization();
+		deletionQueue.release("cas/a.png");
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+		// then
+		assertTrue(blobStore.stat("cas/a.png").isPresent());
+		verifyNoInteractions(referenceCounter);
+	}
+
+	private void stubClaimAll() {
+		when(referenceCounter.claimUnreferenced(anyCollection(), anyString()))
+				.thenAnswer(invocation -> new ArrayList<String>(invocation.getArgument(0)));
+	}
+
+	private void store(String... keys) {
+		for (String key : keys) {
+			blobStore.put(key, new ByteArrayInputStream(new byte[]{1}), new BlobAttributes(1, "image/png", null, null));
+		}
+	}
+
+	// 트랜잭션 안에서 참조를 놓고 커밋한 것처럼 동기화 콜백을 부른다.
+	private void commit(Runnable releases) {
+		TransactionSynchronizationManager.initSynchronization();
+		releases.run();
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+	}
+
+	private void complete(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+
+	private Set<String> members(String key) {
+		Set<Object> members = redis.redisTemplate().opsForSet().members(key);
+		Set<String> result = new HashSet<>();
+		members.forEach(member -> result.add((String) member));
+		return result;
+	}
+
+	// failing이 켜져 있으면 DeleteObjects가 통째로 실패한다. 호출 횟수와 마지막으로 지운 키를 기록한다.
+	private static class FailingBlobStore extends InMemoryBlobStore {
+
+		private final AtomicInteger deleteCalls = new AtomicInteger();
+		private final AtomicInteger listCalls = new AtomicInteger();
+		private volatile List<String> lastDeleted;
+		private volatile boolean failing;
+
+		FailingBlobStore() {
+			super("https://bucket/", 0);
+		}
+
+		@Override
+		public List<String> delete(List<String> keys) {
+			deleteCalls.incrementAndGet();
+			lastDeleted = List.copyOf(keys);
+			if (failing) {
+				throw new BlobStoreException("S3 unavailable");
+			}
+			return super.delete(keys);
+		}
+
+		@Override
+		public List<String> list(String prefix) {
+			listCalls.incrementAndGet();
+			return super.list(prefix);
+		}
+	}
+}
@@ -0,0 +1,201 @@
+package studio.studioeye.infrastructure.s3;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.exception.error.ErrorCode;
+import studio.studioeye.infrastructure.redis.EmbeddedRedis;
+import studio.studioeye.infrastructure.storage.BlobStore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * presigned URL로 실제 S3 호환 저장소(MinIO)에 올리고 완료를 알리는 흐름을 확인한다. Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class S3PresignedUploaderTest {
+
+	private static final String BUCKET = "studio-eye";
+
+	@Container
+	static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+	@RegisterExtension
+	static EmbeddedRedis redis = new EmbeddedRedis();
+
+	private static AmazonS3Client amazonS3Client;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+	private S3PresignedUploader uploader;
+
+	@BeforeAll
+	static void createBucket() {
+		amazonS3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+				.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(minio.getS3URL(), "us-east-1"))
+				.withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(minio.getUserName(), minio.getPassword())))
+				.withPathStyleAccessEnabled(true)
+				.build();
+		amazonS3Client.createBucket(BUCKET);
+	}
+
+	@BeforeEach
+	void setUp() {
+		VersionedAssetRegistry registry = new VersionedAssetRegistry(mock(BlobStore.class), redis.redisService());
+		uploader = new S3PresignedUploader(amazonS3Client, registry, redis.redisService(), new ObjectMapper());
+		ReflectionTestUtils.setField(uploader, "bucket", BUCKET);
+		ReflectionTestUtils.setField(uploader, "accessKey", minio.getUserName());
+		ReflectionTestUtils.setField(uploader, "secretKey", minio.getPassword());
+		ReflectionTestUtils.setField(uploader, "region", "us-east-1");
+		ReflectionTestUtils.setField(uploader, "expirationSeconds", 600L);
+		ReflectionTestUtils.setField(uploader, "maxSizeMb", 1L);
+	}
+
+	@Test
+	@DisplayName("presigned 업로드 테스트 - 올린 객체를 uploads/ 아래로 옮기고 임시 객체를 지운다")
+	void complete_movesStagedObject() throws Exception {
+		// given
+		PresignedUploadTicket ticket = uploader.issue("report.PDF", "application/pdf");
+		// when
+		int status = post(ticket, "application/pdf", "report body".getBytes(StandardCharsets.UTF_8));
+		ApiResponse<UploadedFile> response = uploader.complete(ticket.ticket());
+		// then
+		assertEquals(204, status);
+		assertEquals("application/pdf", amazonS3Client.getObjectMetadata(BUCKET, "uploads/" + ticket.ticket() + ".pdf").getContentType());
+		assertEquals(HttpStatus.OK, response.getStatus());
+		assertEquals("report.PDF", response.getData().fileName());
+		String key = "uploads/" + ticket.ticket() + ".pdf";
+		assertTrue(response.getData().url().contains(key));
+		assertEquals("report body", amazonS3Client.getObjectAsString(BUCKET, key));
+		assertEquals(S3Adapter.IMMUTABLE_CACHE_CONTROL, amazonS3Client.getObjectMetadata(BUCKET, key).getCacheControl());
+		assertFalse(amazonS3Client.doesObjectExist(BUCKET, "staging/" + ticket.ticket()));
+	}
+
+	@Test
+	@DisplayName("presigned 업로드 테스트 - 올리기 전에 완료를 알리면 거절하고, 올린 뒤 같은 티켓으로 다시 알릴 수 있다")
+	void complete_beforeUpload() throws Exception {
+		// given
+		PresignedUploadTicket ticket = uploader.issue("a.png", "image/png");
+		// when
+		ApiResponse<UploadedFile> early = uploader.complete(ticket.ticket());
+		post(ticket, "image/png", "image".getBytes(StandardCharsets.UTF_8));
+		ApiResponse<UploadedFile> completed = uploader.complete(ticket.ticket());
+		// then
+		assertEquals(ErrorCode.NOT_UPLOADED_FILE.getStatus(), early.getStatus());
+		assertEquals(ErrorCode.NOT_UPLOADED_FILE.getMessage(), early.getMessage());
+		assertEquals(HttpStatus.OK, completed.getStatus());
+	}
+
+	@Test
+	@DisplayName("presigned 업로드 테스트 - 티켓은 한 번만 쓸 수 있다")
+	void complete_ticketIsSingleUse() throws Exception {
+		// given
+		PresignedUploadTicket ticket = uploader.issue("a.png", "image/png");
+		post(ticket, "image/png", "image".getBytes(StandardCharsets.UTF_8));
+		// when
+		ApiResponse<UploadedFile> first = uploader.complete(ticket.ticket());
+		ApiResponse<UploadedFile> second = uploader.complete(ticket.ticket());
+		// then
+		assertEquals(HttpStatus.OK, first.getStatus());
+		assertEquals(ErrorCode.INVALID_UPLOAD_TICKET.getStatus(), second.getStatus());
+		assertEquals(ErrorCode.INVALID_UPLOAD_TICKET.getMessage(), second.getMessage());
+	}
+
+	@Test
+	@DisplayName("presigned 업로드 테스트 - 최대 크기를 넘은 파일은 S3가 올리는 단계에서 거절하고 완료할 수 없다")
+	void post_tooLargeRejectedByPolicy() throws Exception {
+		// given
+		PresignedUploadTicket ticket = uploader.issue("a.png", "image/png");
+		// when
+		int status = post(ticket, "image/png", new byte[1024 * 1024 + 1]);
+		ApiResponse<UploadedFile> response = uploader.complete(ticket.ticket());
+		// then
+		assertEquals(400, status);
+		assertFalse(amazonS3Client.doesObjectExist(BUCKET, "staging/" + ticket.ticket()));
+		assertEquals(ErrorCode.NOT_UPLOADED_FILE.getStatus(), response.getStatus());
+	}
+
+	@Test
+	@DisplayName("presigned 업로드 테스트 - 서명한 Content-Type과 다르게 올리면 거절한다")
+	void post_contentTypeMismatchRejected() throws Exception {
+		// given
+		PresignedUploadTicket ticket = uploader.issue("a.png", "image/png");
+		// when
+		int status = post(ticket, "text/html", "<script></script>".getBytes(StandardCharsets.UTF_8));
+		// then
+		assertEquals(403, status);
+		assertFalse(amazonS3Client.doesObjectExist(BUCKET, "staging/" + ticket.ticket()));
+	}
+
+	@Test
+	@DisplayName("임시 객체 정리 테스트 - 기준 시각보다 먼저 올라온 staging/ 객체만 지운다")
+	void sweepStaging_deletesExpiredStagedObjects() {
+		// given
+		String staged = "staging/" + UUID.randomUUID();
+		String uploaded = "uploads/" + UUID.randomUUID() + ".png";
+		amazonS3Client.putObject(BUCKET, staged, "image");
+		amazonS3Client.putObject(BUCKET, uploaded, "image");
+		// when
+		uploader.sweepStagingBefore(Instant.now().minusSeconds(3600));
+		boolean keptBeforeCutoff = amazonS3Client.doesObjectExist(BUCKET, staged);
+		uploader.sweepStagingBefore(Instant.now().plusSeconds(3600));
+		// then
+		assertTrue(keptBeforeCutoff);
+		assertFalse(amazonS3Client.doesObjectExist(BUCKET, staged));
+		assertTrue(amazonS3Client.doesObjectExist(BUCKET, uploaded));
+	}
+
+	@Test
+	@DisplayName("presigned 업로드 테스트 - 발급하지 않은 티켓은 거절한다")
+	void complete_unknownTicket() {
+		// when
+		ApiResponse<UploadedFile> response = uploader.complete("unknown");
+		// then
+		assertEquals(ErrorCode.INVALID_UPLOAD_TICKET.getStatus(), response.getStatus());
+	}
+
+	// 클라이언트처럼 발급받은 필드를 모두 담고 파일을 마지막 필드로 붙여 multipart/form-data로 POST한다.
+	private int post(PresignedUploadTicket ticket, String contentType, byte[] body) throws IOException, InterruptedException {
+		String boundary = "----studio-eye-" + UUID.randomUUID();
+		ByteArrayOutputStream form = new ByteArrayOutputStream();
+		for (Map.Entry<String, String> field : ticket.fields().entrySet()) {
+			String value = field.getKey().equals("Content-Type") ? contentType : field.getValue();
+			form.writeBytes(("--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + field.getKey() + "\"\r\n\r\n"
+					+ value + "\r\n").getBytes(StandardCharsets.UTF_8));
+		}
+		form.writeBytes(("--" + boundary + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"upload\"\r\n"
+				+ "Content-Type: " + contentType + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+		form.writeBytes(body);
+		form.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+		HttpRequest request = HttpRequest.newBuilder(URI.create(ticket.uploadUrl()))
+				.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+				.POST(HttpRequest.BodyPublishers.ofByteArray(form.toByteArray()))
+				.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+}
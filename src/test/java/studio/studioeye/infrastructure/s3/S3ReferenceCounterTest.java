@@ -0,0 +1,201 @@
+package studio.studioeye.infrastructure.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import studio.studioeye.infrastructure.redis.EmbeddedRedis;
+import studio.studioeye.infrastructure.redis.RedisService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+		// user 테이블 이름이 H2 예약어로 읽히지 않게 한다.
+		"spring.datasource.url=jdbc:h2:mem:s3_reference;NON_KEYWORDS=USER",
+		"spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+// 여러 스레드가 커밋된 참조 수를 함께 보므로 테스트 메서드를 트랜잭션으로 감싸지 않는다.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class S3ReferenceCounterTest {
+
+	@RegisterExtension
+	static EmbeddedRedis redis = new EmbeddedRedis();
+
+	private static final String KEY = "cas/abc.png";
+	private static final String LEGACY_REFERENCE_COUNT_KEY = "s3:reference-count";
+	private static final int THREADS = 16;
+
+	@Autowired
+	private S3ObjectReferenceRepository referenceRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private RedisService redisService;
+	private S3ReferenceCounter referenceCounter;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		redisService = redis.redisService();
+		referenceCounter = new S3ReferenceCounter(referenceRepository, redisService, transactionManager);
+		executor = Executors.newFixedThreadPool(THREADS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+		referenceRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("참조 수 동시성 테스트 - 처음 보는 키를 동시에 늘려도 행은 하나이고 참조 수가 빠짐없이 늘어난다")
+	void retain_concurrent() throws Exception {
+		// when
+		runConcurrently(() -> {
+			referenceCounter.retain(KEY);
+			return null;
+		});
+		// then
+		assertEquals(THREADS, references(KEY));
+		assertEquals(1, referenceRepository.count());
+	}
+
+	@Test
+	@DisplayName("참조 해제 테스트 - 호출한 트랜잭션이 롤백되면 줄인 참조 수도 되돌린다")
+	void release_joinsCallerTransaction() {
+		// given
+		referenceCounter.retain(KEY);
+		referenceCounter.retain(KEY);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			referenceCounter.release(KEY);
+			status.setRollbackOnly();
+		});
+		long afterRollback = references(KEY);
+		transactionTemplate.executeWithoutResult(status -> referenceCounter.release(KEY));
+		// then
+		assertEquals(2L, afterRollback);
+		assertEquals(1L, references(KEY));
+	}
+
+	@Test
+	@DisplayName("참조 해제 테스트 - 저장하지 못한 참조는 호출한 트랜잭션이 롤백되어도 놓고, 0 아래로 내려가지 않는다")
+	void discard_commitsImmediately() {
+		// given
+		referenceCounter.retain(KEY);
+		// when
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			referenceCounter.discard(KEY);
+			status.setRollbackOnly();
+		});
+		referenceCounter.discard(KEY);
+		// then
+		assertEquals(0L, references(KEY));
+	}
+
+	@Test
+	@DisplayName("삭제 잡기 테스트 - 참조가 있거나 이미 잡힌 키는 잡지 않고, 없는 키는 지울 대상이 아니다")
+	void claimUnreferenced_skipsReferencedAndClaimed() {
+		// given
+		referenceCounter.retain("cas/referenced.png");
+		referenceCounter.retain("cas/free.png");
+		referenceCounter.discard("cas/free.png");
+		// when
+		List<String> claimed = referenceCounter.claimUnreferenced(
+				List.of("cas/referenced.png", "cas/free.png", "cas/unknown.png"), "token");
+		List<String> claimedAgain = referenceCounter.claimUnreferenced(List.of("cas/free.png"), "other");
+		// then
+		assertEquals(List.of("cas/free.png"), claimed);
+		assertTrue(claimedAgain.isEmpty());
+		assertTrue(referenceCounter.findUnreferenced(10).isEmpty());
+	}
+
+	@Test
+	@DisplayName("삭제 완료 테스트 - 지운 키의 행은 없애고, 지우지 못한 키는 풀어서 다시 지울 목록에 남긴다")
+	void completeDeletion() {
+		// given
+		for (String key : List.of("cas/a.png", "cas/b.png")) {
+			referenceCounter.retain(key);
+			referenceCounter.discard(key);
+		}
+		referenceCounter.claimUnreferenced(List.of("cas/a.png", "cas/b.png"), "token");
+		// when
+		referenceCounter.completeDeletion("other", List.of("cas/a.png", "cas/b.png"));
+		List<String> claimedByOther = referenceCounter.claimUnreferenced(List.of("cas/a.png"), "other");
+		referenceCounter.completeDeletion("token", List.of("cas/a.png"));
+		// then
+		assertTrue(claimedByOther.isEmpty());
+		assertFalse(referenceRepository.existsById("cas/a.png"));
+		assertEquals(List.of("cas/b.png"), referenceCounter.findUnreferenced(10));
+	}
+
+	@Test
+	@DisplayName("삭제 잡기 테스트 - 삭제 중인 키의 참조는 삭제가 끝날 때까지 기다렸다가 새 행으로 늘린다")
+	void retain_waitsForClaim() throws Exception {
+		// given
+		referenceCounter.retain(KEY);
+		referenceCounter.discard(KEY);
+		referenceCounter.claimUnreferenced(List.of(KEY), "token");
+		// when
+		Future<?> retain = executor.submit(() -> referenceCounter.retain(KEY));
+		Thread.sleep(200);
+		boolean retainedWhileClaimed = retain.isDone();
+		referenceCounter.completeDeletion("token", List.of(KEY));
+		retain.get(5, TimeUnit.SECONDS);
+		// then
+		assertFalse(retainedWhileClaimed);
+		assertEquals(1L, references(KEY));
+		assertNull(referenceRepository.findById(KEY).orElseThrow().getClaimToken());
+	}
+
+	@Test
+	@DisplayName("이전 참조 수 테스트 - Redis 해시에 남은 참조 수를 DB에 더하고 해시를 지운다")
+	void importLegacyCounts() {
+		// given
+		referenceCounter.retain(KEY);
+		redisService.setHashOps(LEGACY_REFERENCE_COUNT_KEY, Map.of(KEY, "2", "cas/legacy.png", "3", "cas/released.png", "0"));
+		// when
+		referenceCounter.importLegacyCounts();
+		referenceCounter.importLegacyCounts();
+		// then
+		assertEquals(3L, references(KEY));
+		assertEquals(3L, references("cas/legacy.png"));
+		assertFalse(referenceRepository.existsById("cas/released.png"));
+		assertTrue(redisService.getAllHashOps(LEGACY_REFERENCE_COUNT_KEY).isEmpty());
+	}
+
+	private long references(String key) {
+		return referenceRepository.findById(key).orElseThrow().getReferenceCount();
+	}
+
+	private <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+		CyclicBarrier barrier = new CyclicBarrier(THREADS);
+		List<Future<T>> futures = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			futures.add(executor.submit(() -> {
+				barrier.await();
+				return task.call();
+			}));
+		}
+		List<T> results = new ArrayList<>();
+		for (Future<T> future : futures) {
+			results.add(future.get(30, TimeUnit.SECONDS));
+		}
+		return results;
+	}
+}
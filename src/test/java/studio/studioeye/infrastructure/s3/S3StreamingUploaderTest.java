@@ -0,0 +1,184 @@
+package studio.studioeye.infrastructure.s3;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.exception.error.ErrorCode;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3StreamingUploaderTest {
+
+	// S3 멀티파트 업로드의 최소 파트 크기. 설정값이 더 작아도 이 크기로 올린다.
+	private static final int PART_SIZE = 5 * 1024 * 1024;
+
+	@Mock
+	private AmazonS3Client amazonS3Client;
+	@Mock
+	private S3Adapter s3Adapter;
+	@Mock
+	private VersionedAssetRegistry versionedAssetRegistry;
+
+	private S3StreamingUploader uploader;
+
+	@BeforeEach
+	void setUp() {
+		uploader = new S3StreamingUploader(amazonS3Client, s3Adapter, versionedAssetRegistry, 1, 1, 100);
+		ReflectionTestUtils.setField(uploader, "bucket", "bucket");
+	}
+
+	@Test
+	@DisplayName("스트리밍 업로드 테스트 - 파트 크기만큼 나눠 올리고, 키는 파일 이름이 아닌 서버가 만든 키를 쓴다")
+	void upload_splitsPartsWithGeneratedKey() throws Exception {
+		// given
+		byte[] content = randomBytes(PART_SIZE * 2 + 10);
+		// stub
+		stubMultipartUpload();
+		when(amazonS3Client.getUrl(eq("bucket"), anyString()))
+				.thenAnswer(invocation -> new URL("https://bucket/" + invocation.getArgument(1)));
+		when(versionedAssetRegistry.record(anyString(), anyString(), eq("etag")))
+				.thenAnswer(invocation -> invocation.getArgument(1) + "?v=etag");
+		// when
+		ApiResponse<String> response = uploader.upload(new ByteArrayInputStream(content), "report.PDF", "application/pdf");
+		// then
+		assertEquals(HttpStatus.OK, response.getStatus());
+		ArgumentCaptor<InitiateMultipartUploadRequest> initiate = ArgumentCaptor.forClass(InitiateMultipartUploadRequest.class);
+		verify(amazonS3Client).initiateMultipartUpload(initiate.capture());
+		String key = initiate.getValue().getKey();
+		assertNotEquals("report.PDF", key);
+		assertTrue(key.endsWith(".pdf"));
+		assertEquals("https://bucket/" + key + "?v=etag", response.getData());
+
+		ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+		verify(amazonS3Client, times(3)).uploadPart(parts.capture());
+		assertEquals(List.of(1, 2, 3), parts.getAllValues().stream().map(UploadPartRequest::getPartNumber).toList());
+		assertEquals(List.of((long) PART_SIZE, (long) PART_SIZE, 10L), parts.getAllValues().stream().map(UploadPartRequest::getPartSize).toList());
+		assertTrue(parts.getAllValues().stream().allMatch(part -> key.equals(part.getKey())));
+		verify(s3Adapter, never()).adoptStagedObject(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("스트리밍 업로드 테스트 - 같은 이름을 두 번 올려도 서로 다른 키에 올린다")
+	void upload_sameNameDifferentKeys() throws Exception {
+		// stub
+		stubMultipartUpload();
+		when(amazonS3Client.getUrl(eq("bucket"), anyString()))
+				.thenAnswer(invocation -> new URL("https://bucket/" + invocation.getArgument(1)));
+		when(versionedAssetRegistry.record(anyString(), anyString(), eq("etag")))
+				.thenAnswer(invocation -> invocation.getArgument(1));
+		// when
+		String first = uploader.upload(new ByteArrayInputStream(randomBytes(10)), "a.png", "image/png").getData();
+		String second = uploader.upload(new ByteArrayInputStream(randomBytes(10)), "a.png", "image/png").getData();
+		// then
+		assertNotEquals(first, second);
+	}
+
+	@Test
+	@DisplayName("스트리밍 업로드 테스트 - 내용 주소 모드에서는 임시 키에 올린 뒤 SHA-256으로 옮긴다")
+	void upload_contentAddressedAdoptsStagedObject() throws Exception {
+		// given
+		byte[] content = randomBytes(PART_SIZE + 1);
+		String sha256Hex = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		// stub
+		stubMultipartUpload();
+		when(s3Adapter.isContentAddressed()).thenReturn(true);
+		when(s3Adapter.adoptStagedObject(anyString(), eq(sha256Hex), eq("a.png")))
+				.thenReturn(ApiResponse.ok("S3 버킷에 이미지 업로드를 성공하였습니다.", "https://bucket/cas/" + sha256Hex + ".png"));
+		// when
+		ApiResponse<String> response = uploader.upload(new ByteArrayInputStream(content), "a.png", "image/png");
+		// then
+		assertEquals("https://bucket/cas/" + sha256Hex + ".png", response.getData());
+		ArgumentCaptor<String> stagingKey = ArgumentCaptor.forClass(String.class);
+		verify(s3Adapter).adoptStagedObject(stagingKey.capture(), eq(sha256Hex), eq("a.png"));
+		assertTrue(stagingKey.getValue().startsWith("staging/"));
+		verify(amazonS3Client, never()).getUrl(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("스트리밍 업로드 실패 테스트 - 파트 전송이 실패하면 멀티파트 업로드를 취소한다")
+	void upload_abortsOnPartFailure() {
+		// stub
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload-id");
+		when(amazonS3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+		when(amazonS3Client.uploadPart(any(UploadPartRequest.class))).thenThrow(new SdkClientException("timeout"));
+		// when
+		ApiResponse<String> response = uploader.upload(new ByteArrayInputStream(randomBytes(10)), "a.png", "image/png");
+		// then
+		assertEquals(ErrorCode.ERROR_S3_UPDATE_OBJECT.getStatus(), response.getStatus());
+		ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+		verify(amazonS3Client).abortMultipartUpload(abort.capture());
+		assertEquals("upload-id", abort.getValue().getUploadId());
+		verify(amazonS3Client, never()).completeMultipartUpload(any());
+	}
+
+	@Test
+	@DisplayName("스트리밍 업로드 실패 테스트 - 빈 본문이면 업로드를 시작하지 않는다")
+	void upload_emptyBody() {
+		// when
+		ApiResponse<String> response = uploader.upload(new ByteArrayInputStream(new byte[0]), "a.png", "image/png");
+		// then
+		assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getStatus(), response.getStatus());
+		verifyNoInteractions(amazonS3Client);
+	}
+
+	@Test
+	@DisplayName("스트리밍 업로드 테스트 - 버퍼는 업로드가 끝나면 돌려받아 다음 업로드에 다시 쓴다")
+	void upload_returnsBuffer() {
+		// when
+		uploader.upload(new ByteArrayInputStream(new byte[0]), "a.png", "image/png");
+		ApiResponse<String> response = uploader.upload(new ByteArrayInputStream(new byte[0]), "a.png", "image/png");
+		// then
+		assertEquals(ErrorCode.NOT_EXIST_IMAGE_FILE.getStatus(), response.getStatus());
+	}
+
+	private void stubMultipartUpload() {
+		InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+		initiated.setUploadId("upload-id");
+		when(amazonS3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+		when(amazonS3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+			UploadPartRequest request = invocation.getArgument(0);
+			UploadPartResult result = new UploadPartResult();
+			result.setPartNumber(request.getPartNumber());
+			result.setETag("part-" + request.getPartNumber());
+			return result;
+		});
+		CompleteMultipartUploadResult completed = new CompleteMultipartUploadResult();
+		completed.setETag("etag");
+		when(amazonS3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenReturn(completed);
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(42).nextBytes(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,136 @@
+package studio.studioeye.infrastructure.s3;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import studio.studioeye.global.common.response.ApiResponse;
+import studio.studioeye.global.exception.error.ErrorCode;
+import studio.studioeye.infrastructure.storage.InMemoryBlobStore;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class S3UploadPipelineTest {
+
+	private static final int FILES = 4;
+
+	private ExecutorService executor;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(FILES);
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("동시 업로드 테스트 - 파일들을 동시에 올리고 URL은 요청한 순서대로 돌려준다")
+	void uploadAll_concurrentInOrder() throws IOException {
+		// given
+		S3Adapter s3Adapter = mock(S3Adapter.class);
+		// 모든 업로드가 동시에 들어와야 장벽을 넘는다. 순차로 돌면 시간 초과로 실패한다.
+		CyclicBarrier barrier = new CyclicBarrier(FILES);
+		when(s3Adapter.uploadFile(any(MultipartFile.class))).thenAnswer(invocation -> {
+			barrier.await(5, TimeUnit.SECONDS);
+			MultipartFile file = invocation.getArgument(0);
+			return ApiResponse.ok("ok", "https://bucket/" + file.getOriginalFilename());
+		});
+		S3UploadPipeline pipeline = new S3UploadPipeline(s3Adapter, meterRegistry, executor);
+		// when
+		ApiResponse<List<String>> response = pipeline.uploadAll(files("image"));
+		// then
+		assertEquals(HttpStatus.OK, response.getStatus());
+		assertEquals(List.of("https://bucket/image-0.png", "https://bucket/image-1.png",
+				"https://bucket/image-2.png", "https://bucket/image-3.png"), response.getData());
+		verify(s3Adapter, never()).discardFile(anyString());
+		assertEquals(FILES, meterRegistry.get("s3.upload").tag("outcome", "success").timer().count());
+	}
+
+	@Test
+	@DisplayName("업로드 실패 보상 테스트 - 하나가 실패하면 이번 묶음이 올린 URL만 지운다")
+	void uploadAll_rollbackUploadedOnly() throws IOException {
+		// given
+		S3Adapter s3Adapter = mock(S3Adapter.class);
+		when(s3Adapter.uploadFile(any(MultipartFile.class))).thenAnswer(invocation -> {
+			MultipartFile file = invocation.getArgument(0);
+			if (file.getOriginalFilename().equals("image-2.png")) {
+				return ApiResponse.withError(ErrorCode.ERROR_S3_UPDATE_OBJECT);
+			}
+			return ApiResponse.ok("ok", "https://bucket/" + file.getOriginalFilename());
+		});
+		when(s3Adapter.discardFile(anyString())).thenAnswer(invocation -> ApiResponse.ok("ok", invocation.getArgument(0)));
+		S3UploadPipeline pipeline = new S3UploadPipeline(s3Adapter, meterRegistry, executor);
+		// when
+		ApiResponse<List<String>> response = pipeline.uploadAll(files("image"));
+		// then
+		assertEquals(ErrorCode.ERROR_S3_UPDATE_OBJECT.getStatus(), response.getStatus());
+		verify(s3Adapter, never()).discardFile("https://bucket/image-2.png");
+		// 실패가 알려진 뒤 시작하는 업로드는 건너뛰므로, 올라간 만큼만 지운다.
+		verify(s3Adapter, atMost(FILES - 1)).discardFile(anyString());
+		assertEquals(1, meterRegistry.get("s3.upload.batch").tag("outcome", "failure").timer().count());
+	}
+
+	@Test
+	@DisplayName("업로드 실패 보상 테스트 - 같은 이름으로 동시에 올린 다른 묶음의 객체는 지우지 않는다")
+	void uploadAll_rollbackKeepsOtherBatch() throws Exception {
+		// given
+		InMemoryBlobStore blobStore = new InMemoryBlobStore("https://bucket/", 0);
+		VersionedAssetRegistry registry = mock(VersionedAssetRegistry.class);
+		when(registry.record(anyString(), anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+		S3DeletionQueue deletionQueue = new S3DeletionQueue(blobStore, mock(S3ReferenceCounter.class), registry,
+				mock(S3ImageVariantGenerator.class), null, Runnable::run);
+		S3Adapter s3Adapter = new S3Adapter(blobStore, registry, mock(S3ReferenceCounter.class), deletionQueue);
+		S3UploadPipeline pipeline = new S3UploadPipeline(s3Adapter, meterRegistry, executor);
+		List<MultipartFile> failingBatch = files("image");
+		failingBatch.set(FILES - 1, brokenFile("image-" + (FILES - 1) + ".png"));
+		// when
+		Future<ApiResponse<List<String>>> succeeded = Executors.newSingleThreadExecutor()
+				.submit(() -> pipeline.uploadAll(files("image")));
+		ApiResponse<List<String>> failed = pipeline.uploadAll(failingBatch);
+		ApiResponse<List<String>> kept = succeeded.get(5, TimeUnit.SECONDS);
+		// then
+		assertEquals(ErrorCode.ERROR_S3_UPDATE_OBJECT.getStatus(), failed.getStatus());
+		assertEquals(HttpStatus.OK, kept.getStatus());
+		assertEquals(FILES, Set.copyOf(kept.getData()).size());
+		for (String url : kept.getData()) {
+			String key = VersionedAssetRegistry.keyOf(url);
+			assertTrue(blobStore.stat(key).isPresent(), key);
+		}
+	}
+
+	private static List<MultipartFile> files(String prefix) {
+		List<MultipartFile> files = new ArrayList<>(FILES);
+		for (int i = 0; i < FILES; i++) {
+			files.add(new MockMultipartFile("files", prefix + "-" + i + ".png", "image/png", new byte[]{(byte) i}));
+		}
+		return files;
+	}
+
+	private static MultipartFile brokenFile(String fileName) {
+		return new MockMultipartFile("files", fileName, "image/png", new byte[]{1}) {
+			@Override
+			public InputStream getInputStream() throws IOException {
+				throw new IOException("연결이 끊겼습니다.");
+			}
+		};
+	}
+}
@@ -0,0 +1,147 @@
+package studio.studioeye.infrastructure.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import studio.studioeye.infrastructure.redis.EmbeddedRedis;
+import studio.studioeye.infrastructure.storage.BlobMetadata;
+import studio.studioeye.infrastructure.storage.BlobStore;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VersionedAssetRegistryTest {
+
+	@RegisterExtension
+	static EmbeddedRedis redis = new EmbeddedRedis();
+
+	private static final String KEY = "logo.png";
+	private static final String URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/" + KEY;
+	private static final String ETAG = "\"0123456789abcdef0123456789abcdef\"";
+
+	@Mock
+	private BlobStore blobStore;
+
+	// 같은 Redis를 쓰는 두 서버
+	private VersionedAssetRegistry nodeA;
+	private VersionedAssetRegistry nodeB;
+
+	@BeforeEach
+	void setUp() {
+		nodeA = registry(60_000L);
+		nodeB = registry(60_000L);
+	}
+
+	@Test
+	@DisplayName("버전 공유 테스트 - 한 서버에서 기록한 버전을 다른 서버도 같은 URL로 내려준다")
+	void record_sharedAcrossNodes() {
+		// when
+		String recorded = nodeA.record(KEY, URL, ETAG);
+		String other = nodeB.versionedUrl(URL);
+		// then
+		assertEquals(URL + "?v=0123456789abcdef", recorded);
+		assertEquals(recorded, other);
+		verify(blobStore, never()).stat(KEY);
+	}
+
+	@Test
+	@DisplayName("기존 객체 버전 테스트 - 메타데이터는 한 번만 읽고 다른 서버는 Redis 값을 쓴다")
+	void versionedUrl_legacyObject() {
+		// stub
+		when(blobStore.stat(KEY)).thenReturn(Optional.of(new BlobMetadata(10L, "image/png", ETAG)));
+		// when
+		String first = nodeA.versionedUrl(URL);
+		String second = nodeB.versionedUrl(URL);
+		// then
+		assertEquals(URL + "?v=0123456789abcdef", first);
+		assertEquals(first, second);
+		verify(blobStore, times(1)).stat(KEY);
+	}
+
+	@Test
+	@DisplayName("버전 갱신 테스트 - 같은 키에 새 내용을 올리면 모든 서버의 URL이 바뀐다")
+	void record_overwrites() {
+		// given
+		nodeA.record(KEY, URL, ETAG);
+		// when
+		nodeB.record(KEY, URL, "\"fedcba9876543210fedcba9876543210\"");
+		// then
+		assertEquals(URL + "?v=fedcba9876543210", nodeA.versionedUrl(URL));
+	}
+
+	@Test
+	@DisplayName("조회 실패 캐시 테스트 - 메타데이터가 없는 키는 TTL 동안 다시 HEAD 요청하지 않는다")
+	void versionedUrl_negativeLookupCached() {
+		// stub
+		when(blobStore.stat(KEY)).thenReturn(Optional.empty());
+		// when
+		String first = nodeA.versionedUrl(URL);
+		String second = nodeA.versionedUrl(URL);
+		// then
+		assertEquals(URL, first);
+		assertEquals(URL, second);
+		verify(blobStore, times(1)).stat(KEY);
+	}
+
+	@Test
+	@DisplayName("조회 실패 캐시 테스트 - 다른 서버가 버전을 기록하면 캐시와 관계없이 바로 쓴다")
+	void versionedUrl_negativeLookupOverriddenByRecord() {
+		// given
+		when(blobStore.stat(KEY)).thenReturn(Optional.empty());
+		nodeA.versionedUrl(URL);
+		// when
+		nodeB.record(KEY, URL, ETAG);
+		// then
+		assertEquals(URL + "?v=0123456789abcdef", nodeA.versionedUrl(URL));
+		verify(blobStore, times(1)).stat(KEY);
+	}
+
+	@Test
+	@DisplayName("조회 실패 캐시 테스트 - TTL이 지나면 다시 읽는다")
+	void versionedUrl_negativeLookupExpires() {
+		// given
+		VersionedAssetRegistry registry = registry(0L);
+		when(blobStore.stat(KEY)).thenReturn(Optional.empty());
+		// when
+		registry.versionedUrl(URL);
+		registry.versionedUrl(URL);
+		// then
+		verify(blobStore, times(2)).stat(KEY);
+	}
+
+	@Test
+	@DisplayName("내용 비교 테스트 - 기록된 버전과 MD5가 같으면 같은 내용이다")
+	void matchesContent() {
+		// given
+		nodeA.record(KEY, URL, ETAG);
+		// then
+		assertTrue(nodeB.matchesContent(KEY, "0123456789abcdef0123456789abcdef"));
+		assertFalse(nodeB.matchesContent(KEY, "fedcba9876543210fedcba9876543210"));
+	}
+
+	@Test
+	@DisplayName("버전 삭제 테스트 - 삭제한 객체는 버전 없이 내려준다")
+	void forget() {
+		// given
+		nodeA.record(KEY, URL, ETAG);
+		when(blobStore.stat(KEY)).thenReturn(Optional.empty());
+		// when
+		nodeA.forget(KEY);
+		// then
+		assertEquals(URL, nodeB.versionedUrl(URL));
+	}
+
+	private VersionedAssetRegistry registry(long negativeTtlMillis) {
+		VersionedAssetRegistry registry = new VersionedAssetRegistry(blobStore, redis.redisService());
+		ReflectionTestUtils.setField(registry, "negativeTtlMillis", negativeTtlMillis);
+		return registry;
+	}
+}
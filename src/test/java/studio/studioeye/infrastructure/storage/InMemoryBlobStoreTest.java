@@ -0,0 +1,131 @@
+package studio.studioeye.infrastructure.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryBlobStoreTest {
+
+	private static final byte[] CONTENT = "studio-eye".getBytes(StandardCharsets.UTF_8);
+
+	private final InMemoryBlobStore blobStore = new InMemoryBlobStore("http://localhost/storage", 0);
+
+	@Test
+	@DisplayName("저장 테스트 - 내용과 Content-Type을 저장하고 ETag로 MD5(16진수)를 돌려준다")
+	void put_storesContentAndMetadata() throws Exception {
+		// when
+		String eTag = blobStore.put("images/a.png", new ByteArrayInputStream(CONTENT), attributes(null));
+
+		// then
+		assertEquals(HexFormat.of().formatHex(md5(CONTENT)), eTag);
+		assertEquals(new BlobMetadata(CONTENT.length, "image/png", eTag), blobStore.stat("images/a.png").orElseThrow());
+		try (InputStream inputStream = blobStore.open("images/a.png")) {
+			assertArrayEquals(CONTENT, inputStream.readAllBytes());
+		}
+	}
+
+	@Test
+	@DisplayName("저장 테스트 - Content-MD5가 맞으면 받고, 맞지 않으면 거절하고 기존 객체를 그대로 둔다")
+	void put_checksContentMd5() throws Exception {
+		// given
+		String contentMd5 = Base64.getEncoder().encodeToString(md5(CONTENT));
+		blobStore.put("a.png", new ByteArrayInputStream(CONTENT), attributes(contentMd5));
+
+		// when & then
+		assertThrows(BlobStoreException.class,
+				() -> blobStore.put("a.png", new ByteArrayInputStream("broken".getBytes(StandardCharsets.UTF_8)), attributes(contentMd5)));
+		try (InputStream inputStream = blobStore.open("a.png")) {
+			assertArrayEquals(CONTENT, inputStream.readAllBytes());
+		}
+	}
+
+	@Test
+	@DisplayName("조회 테스트 - 없는 키는 정보가 비어 있고, 열면 예외를 던진다")
+	void statAndOpen_missingKey() {
+		// when & then
+		assertTrue(blobStore.stat("missing.png").isEmpty());
+		assertThrows(BlobStoreException.class, () -> blobStore.open("missing.png"));
+	}
+
+	@Test
+	@DisplayName("복사 테스트 - 내용과 메타데이터를 복사하고, 원본이 없으면 예외를 던진다")
+	void copy_copiesBlob() throws Exception {
+		// given
+		String eTag = blobStore.put("a.png", new ByteArrayInputStream(CONTENT), attributes(null));
+
+		// when
+		String copied = blobStore.copy("a.png", "copies/b.png");
+
+		// then
+		assertEquals(eTag, copied);
+		assertEquals(blobStore.stat("a.png"), blobStore.stat("copies/b.png"));
+		assertThrows(BlobStoreException.class, () -> blobStore.copy("missing.png", "c.png"));
+		assertTrue(blobStore.stat("c.png").isEmpty());
+	}
+
+	@Test
+	@DisplayName("삭제 테스트 - 지운 키는 조회되지 않고, 없는 키도 실패로 돌려주지 않는다")
+	void delete_removesKeys() {
+		// given
+		blobStore.put("a.png", new ByteArrayInputStream(CONTENT), attributes(null));
+
+		// when
+		List<String> failed = blobStore.delete(List.of("a.png", "missing.png"));
+
+		// then
+		assertTrue(failed.isEmpty());
+		assertTrue(blobStore.stat("a.png").isEmpty());
+	}
+
+	@Test
+	@DisplayName("목록 테스트 - 접두사로 시작하는 키만 정렬해 돌려준다")
+	void list_returnsKeysWithPrefix() {
+		// given
+		for (String key : List.of("variants/a.png/960.webp", "variants/a.png/480.webp", "variants/a.png.bak/480.webp", "a.png", "w.png")) {
+			blobStore.put(key, new ByteArrayInputStream(CONTENT), attributes(null));
+		}
+
+		// when & then
+		assertEquals(List.of("variants/a.png/480.webp", "variants/a.png/960.webp"), blobStore.list("variants/a.png/"));
+		assertEquals(List.of(), blobStore.list("missing/"));
+	}
+
+	@Test
+	@DisplayName("비우기 테스트 - 저장한 객체를 모두 지운다")
+	void clear_removesAllBlobs() {
+		// given
+		blobStore.put("a.png", new ByteArrayInputStream(CONTENT), attributes(null));
+		blobStore.put("images/b.png", new ByteArrayInputStream(CONTENT), attributes(null));
+
+		// when
+		blobStore.clear();
+
+		// then
+		assertTrue(blobStore.stat("a.png").isEmpty());
+		assertEquals(List.of(), blobStore.list(""));
+	}
+
+	@Test
+	@DisplayName("URL 테스트 - 기본 주소 뒤에 키를 조각마다 인코딩해 붙인다")
+	void url_encodesEachSegment() {
+		// when & then
+		assertEquals("http://localhost/storage/images/a%20b/%ED%95%9C.png", blobStore.url("images/a b/한.png"));
+	}
+
+	private static BlobAttributes attributes(String contentMd5) {
+		return new BlobAttributes(-1, "image/png", null, contentMd5);
+	}
+
+	private static byte[] md5(byte[] content) throws Exception {
+		return MessageDigest.getInstance("MD5").digest(content);
+	}
+}
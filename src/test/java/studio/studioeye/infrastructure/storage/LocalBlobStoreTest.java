@@ -0,0 +1,220 @@
+package studio.studioeye.infrastructure.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalBlobStoreTest {
+
+	private static final byte[] CONTENT = "studio-eye".getBytes(StandardCharsets.UTF_8);
+
+	@TempDir
+	private Path root;
+
+	private LocalBlobStore blobStore;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		blobStore = new LocalBlobStore(root.resolve("storage").toString(), "http://localhost/storage/", 0);
+	}
+
+	@Test
+	@DisplayName("저장 테스트 - 내용과 Content-Type을 저장하고 ETag로 MD5(16진수)를 돌려준다")
+	void put_storesContentAndMetadata() throws Exception {
+		// when
+		String eTag = blobStore.put("images/a.png", new ByteArrayInputStream(CONTENT), attributes("image/png", null));
+
+		// then
+		assertEquals(md5Hex(CONTENT), eTag);
+		BlobMetadata metadata = blobStore.stat("images/a.png").orElseThrow();
+		assertEquals(CONTENT.length, metadata.contentLength());
+		assertEquals("image/png", metadata.contentType());
+		assertEquals(eTag, metadata.eTag());
+		try (InputStream inputStream = blobStore.open("images/a.png")) {
+			assertArrayEquals(CONTENT, inputStream.readAllBytes());
+		}
+		assertTemporaryDirectoryEmpty();
+	}
+
+	@Test
+	@DisplayName("저장 테스트 - 같은 키에 다시 쓰면 내용을 덮어쓴다")
+	void put_overwritesExistingKey() throws Exception {
+		// given
+		blobStore.put("a.txt", new ByteArrayInputStream(CONTENT), attributes("text/plain", null));
+		byte[] updated = "updated".getBytes(StandardCharsets.UTF_8);
+
+		// when
+		blobStore.put("a.txt", new ByteArrayInputStream(updated), attributes("text/plain", null));
+
+		// then
+		try (InputStream inputStream = blobStore.open("a.txt")) {
+			assertArrayEquals(updated, inputStream.readAllBytes());
+		}
+		assertEquals(md5Hex(updated), blobStore.stat("a.txt").orElseThrow().eTag());
+	}
+
+	@Test
+	@DisplayName("저장 실패 테스트 - Content-MD5가 맞지 않으면 거절하고 기존 객체와 tmp/를 그대로 둔다")
+	void put_rejectsContentMd5Mismatch() throws Exception {
+		// given
+		blobStore.put("a.txt", new ByteArrayInputStream(CONTENT), attributes("text/plain", null));
+		String wrongMd5 = Base64.getEncoder().encodeToString(MessageDigest.getInstance("MD5").digest("other".getBytes(StandardCharsets.UTF_8)));
+
+		// when & then
+		assertThrows(BlobStoreException.class,
+				() -> blobStore.put("a.txt", new ByteArrayInputStream("broken".getBytes(StandardCharsets.UTF_8)), attributes("text/plain", wrongMd5)));
+		try (InputStream inputStream = blobStore.open("a.txt")) {
+			assertArrayEquals(CONTENT, inputStream.readAllBytes());
+		}
+		assertTemporaryDirectoryEmpty();
+	}
+
+	@Test
+	@DisplayName("저장 실패 테스트 - 읽는 도중 실패하면 반쯤 쓴 파일을 키 경로에 남기지 않는다")
+	void put_failedStreamLeavesNoPartialObject() {
+		// given
+		InputStream failing = new InputStream() {
+			private int remaining = 1024;
+
+			@Override
+			public int read() throws IOException {
+				if (remaining-- == 0) {
+					throw new IOException("연결이 끊겼습니다.");
+				}
+				return 'a';
+			}
+		};
+
+		// when & then
+		assertThrows(BlobStoreException.class, () -> blobStore.put("partial.txt", failing, attributes("text/plain", null)));
+		assertTrue(blobStore.stat("partial.txt").isEmpty());
+		assertTemporaryDirectoryEmpty();
+	}
+
+	@Test
+	@DisplayName("키 검사 테스트 - ../로 저장소 밖을 가리키거나 비어 있는 키는 거절한다")
+	void resolve_rejectsKeysOutsideRoot() {
+		// when & then
+		assertThrows(BlobStoreException.class,
+				() -> blobStore.put("../escape.txt", new ByteArrayInputStream(CONTENT), attributes("text/plain", null)));
+		assertThrows(BlobStoreException.class,
+				() -> blobStore.put("images/../../escape.txt", new ByteArrayInputStream(CONTENT), attributes("text/plain", null)));
+		assertThrows(BlobStoreException.class,
+				() -> blobStore.put("", new ByteArrayInputStream(CONTENT), attributes("text/plain", null)));
+		assertThrows(BlobStoreException.class, () -> blobStore.stat("../metadata/a.txt"));
+		assertThrows(BlobStoreException.class, () -> blobStore.open("../../secret"));
+		assertFalse(Files.exists(root.resolve("storage").resolve("escape.txt")));
+		assertFalse(Files.exists(root.resolve("escape.txt")));
+	}
+
+	@Test
+	@DisplayName("정보 조회 테스트 - 없는 키는 비어 있고, 저장소를 거치지 않은 파일은 ETag를 계산한다")
+	void stat_missingAndForeignFiles() throws Exception {
+		// given
+		Path foreign = root.resolve("storage").resolve("objects").resolve("foreign.txt");
+		Files.write(foreign, CONTENT);
+
+		// when
+		BlobMetadata metadata = blobStore.stat("foreign.txt").orElseThrow();
+
+		// then
+		assertTrue(blobStore.stat("missing.txt").isEmpty());
+		assertEquals(md5Hex(CONTENT), metadata.eTag());
+		assertNull(metadata.contentType());
+	}
+
+	@Test
+	@DisplayName("복사 테스트 - 내용과 메타데이터를 함께 복사하고 새 객체의 ETag를 돌려준다")
+	void copy_copiesContentAndMetadata() throws Exception {
+		// given
+		String eTag = blobStore.put("a.png", new ByteArrayInputStream(CONTENT), attributes("image/png", null));
+
+		// when
+		String copied = blobStore.copy("a.png", "copies/b.png");
+
+		// then
+		assertEquals(eTag, copied);
+		BlobMetadata metadata = blobStore.stat("copies/b.png").orElseThrow();
+		assertEquals("image/png", metadata.contentType());
+		try (InputStream inputStream = blobStore.open("copies/b.png")) {
+			assertArrayEquals(CONTENT, inputStream.readAllBytes());
+		}
+		assertTemporaryDirectoryEmpty();
+	}
+
+	@Test
+	@DisplayName("복사 실패 테스트 - 원본이 없으면 예외를 던지고 대상을 만들지 않는다")
+	void copy_missingSourceThrows() {
+		// when & then
+		assertThrows(BlobStoreException.class, () -> blobStore.copy("missing.png", "b.png"));
+		assertTrue(blobStore.stat("b.png").isEmpty());
+		assertTemporaryDirectoryEmpty();
+	}
+
+	@Test
+	@DisplayName("삭제 테스트 - 내용과 메타데이터를 지우고, 없는 키는 지운 것으로 본다")
+	void delete_removesObjectsAndIgnoresMissingKeys() {
+		// given
+		blobStore.put("a.txt", new ByteArrayInputStream(CONTENT), attributes("text/plain", null));
+
+		// when
+		List<String> failed = blobStore.delete(List.of("a.txt", "missing.txt"));
+
+		// then
+		assertTrue(failed.isEmpty());
+		assertTrue(blobStore.stat("a.txt").isEmpty());
+		assertFalse(Files.exists(root.resolve("storage").resolve("metadata").resolve("a.txt")));
+	}
+
+	@Test
+	@DisplayName("목록 테스트 - 접두사로 시작하는 키만 정렬해 돌려준다")
+	void list_returnsKeysWithPrefix() {
+		// given
+		for (String key : List.of("variants/a.png/960.webp", "variants/a.png/480.webp", "variants/a.png.bak/480.webp", "a.png")) {
+			blobStore.put(key, new ByteArrayInputStream(CONTENT), attributes("image/webp", null));
+		}
+
+		// when & then
+		assertEquals(List.of("variants/a.png/480.webp", "variants/a.png/960.webp"), blobStore.list("variants/a.png/"));
+		assertEquals(List.of("variants/a.png.bak/480.webp"), blobStore.list("variants/a.png.b"));
+		assertEquals(List.of(), blobStore.list("missing/"));
+	}
+
+	@Test
+	@DisplayName("URL 테스트 - 경로 구분자는 두고 조각마다 인코딩한다")
+	void url_encodesEachSegment() {
+		// when & then
+		assertEquals("http://localhost/storage/images/a%20b/%ED%95%9C.png", blobStore.url("images/a b/한.png"));
+	}
+
+	private void assertTemporaryDirectoryEmpty() {
+		try (Stream<Path> files = Files.list(root.resolve("storage").resolve("tmp"))) {
+			assertEquals(0, files.count());
+		} catch (IOException e) {
+			fail(e);
+		}
+	}
+
+	private static BlobAttributes attributes(String contentType, String contentMd5) {
+		return new BlobAttributes(-1, contentType, null, contentMd5);
+	}
+
+	private static String md5Hex(byte[] content) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+	}
+}